@@ -19,6 +19,9 @@ import java.util.Collection;
 import java.util.Iterator;
 
 import net.automatalib.automaton.Automaton;
+import net.automatalib.common.util.mapping.BooleanMapping;
+import net.automatalib.common.util.mapping.FloatMapping;
+import net.automatalib.common.util.mapping.IntMapping;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.graph.Graph;
 import net.automatalib.graph.concept.NodeIDs;
@@ -42,6 +45,21 @@ public abstract class AbstractAutomatonGraphView<S, A extends Automaton<S, ?, ?>
         return automaton.createDynamicStateMapping();
     }
 
+    @Override
+    public IntMapping<S> createStaticNodeIntMapping() {
+        return automaton.createStaticStateIntMapping();
+    }
+
+    @Override
+    public BooleanMapping<S> createStaticNodeBooleanMapping() {
+        return automaton.createStaticStateBooleanMapping();
+    }
+
+    @Override
+    public FloatMapping<S> createStaticNodeFloatMapping() {
+        return automaton.createStaticStateFloatMapping();
+    }
+
     @Override
     public int size() {
         return automaton.size();
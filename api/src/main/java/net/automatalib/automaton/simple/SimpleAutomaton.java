@@ -23,6 +23,12 @@ import net.automatalib.automaton.concept.StateIDs;
 import net.automatalib.automaton.helper.SimpleStateIDs;
 import net.automatalib.automaton.helper.StateIDGrowingMapping;
 import net.automatalib.automaton.helper.StateIDStaticMapping;
+import net.automatalib.common.util.mapping.ArrayFloatMapping;
+import net.automatalib.common.util.mapping.ArrayIntMapping;
+import net.automatalib.common.util.mapping.BitSetBooleanMapping;
+import net.automatalib.common.util.mapping.BooleanMapping;
+import net.automatalib.common.util.mapping.FloatMapping;
+import net.automatalib.common.util.mapping.IntMapping;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.ts.simple.SimpleTS;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -59,6 +65,21 @@ public interface SimpleAutomaton<S, I> extends SimpleTS<S, I>, Iterable<S>, Fini
         return new StateIDGrowingMapping<>(stateIDs(), size());
     }
 
+    @Override
+    default IntMapping<S> createStaticStateIntMapping() {
+        return new ArrayIntMapping<>(stateIDs()::getStateId, size());
+    }
+
+    @Override
+    default BooleanMapping<S> createStaticStateBooleanMapping() {
+        return new BitSetBooleanMapping<>(stateIDs()::getStateId, size());
+    }
+
+    @Override
+    default FloatMapping<S> createStaticStateFloatMapping() {
+        return new ArrayFloatMapping<>(stateIDs()::getStateId, size());
+    }
+
     default StateIDs<S> stateIDs() {
         return new SimpleStateIDs<>(this);
     }
@@ -19,8 +19,14 @@ import java.util.Iterator;
 import java.util.Objects;
 
 import net.automatalib.common.util.collection.IteratorUtil;
+import net.automatalib.common.util.mapping.BooleanMapping;
+import net.automatalib.common.util.mapping.FloatMapping;
+import net.automatalib.common.util.mapping.IntMapping;
+import net.automatalib.common.util.mapping.MapFloatMapping;
+import net.automatalib.common.util.mapping.MapIntMapping;
 import net.automatalib.common.util.mapping.MapMapping;
 import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.common.util.mapping.SetBooleanMapping;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -82,4 +88,34 @@ public interface IndefiniteSimpleGraph<N> extends Iterable<N> {
         return new MapMapping<>();
     }
 
+    /**
+     * Creates an {@link IntMapping} allowing to associate (unboxed) {@code int}s with this graph's nodes. The returned
+     * mapping is however only guaranteed to work correctly if the graph is not modified.
+     *
+     * @return the mutable mapping
+     */
+    default IntMapping<N> createStaticNodeIntMapping() {
+        return new MapIntMapping<>();
+    }
+
+    /**
+     * Creates a {@link BooleanMapping} allowing to associate (unboxed) {@code boolean}s, e.g., visited flags, with this
+     * graph's nodes. The returned mapping is however only guaranteed to work correctly if the graph is not modified.
+     *
+     * @return the mutable mapping
+     */
+    default BooleanMapping<N> createStaticNodeBooleanMapping() {
+        return new SetBooleanMapping<>();
+    }
+
+    /**
+     * Creates a {@link FloatMapping} allowing to associate (unboxed) {@code float}s with this graph's nodes. The
+     * returned mapping is however only guaranteed to work correctly if the graph is not modified.
+     *
+     * @return the mutable mapping
+     */
+    default FloatMapping<N> createStaticNodeFloatMapping() {
+        return new MapFloatMapping<>();
+    }
+
 }
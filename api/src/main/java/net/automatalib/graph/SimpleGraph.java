@@ -19,6 +19,12 @@ import java.util.Collection;
 import java.util.Iterator;
 
 import net.automatalib.automaton.concept.FiniteRepresentation;
+import net.automatalib.common.util.mapping.ArrayFloatMapping;
+import net.automatalib.common.util.mapping.ArrayIntMapping;
+import net.automatalib.common.util.mapping.BitSetBooleanMapping;
+import net.automatalib.common.util.mapping.BooleanMapping;
+import net.automatalib.common.util.mapping.FloatMapping;
+import net.automatalib.common.util.mapping.IntMapping;
 import net.automatalib.graph.concept.NodeIDs;
 import net.automatalib.graph.helper.SimpleNodeIDs;
 import net.automatalib.visualization.DefaultVisualizationHelper;
@@ -43,6 +49,21 @@ public interface SimpleGraph<N> extends IndefiniteSimpleGraph<N>, FiniteRepresen
         return new SimpleNodeIDs<>(this);
     }
 
+    @Override
+    default IntMapping<N> createStaticNodeIntMapping() {
+        return new ArrayIntMapping<>(nodeIDs()::getNodeId, size());
+    }
+
+    @Override
+    default BooleanMapping<N> createStaticNodeBooleanMapping() {
+        return new BitSetBooleanMapping<>(nodeIDs()::getNodeId, size());
+    }
+
+    @Override
+    default FloatMapping<N> createStaticNodeFloatMapping() {
+        return new ArrayFloatMapping<>(nodeIDs()::getNodeId, size());
+    }
+
     /**
      * Returns the {@link VisualizationHelper} that contains information for displaying this graph.
      *
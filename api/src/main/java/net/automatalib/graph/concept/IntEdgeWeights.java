@@ -0,0 +1,42 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.graph.concept;
+
+/**
+ * Integer edge weights concept. Allows to associate an integral <i>weight</i> with the edges in a graph. Algorithms may
+ * use this information to select more efficient implementations (e.g., bucket-based priority queues).
+ *
+ * @param <E>
+ *         edge class
+ */
+@FunctionalInterface
+public interface IntEdgeWeights<E> extends EdgeWeights<E> {
+
+    /**
+     * Retrieves the integral weight of an edge.
+     *
+     * @param edge
+     *         the edge
+     *
+     * @return the weight of the given edge
+     */
+    int getIntEdgeWeight(E edge);
+
+    @Override
+    default float getEdgeWeight(E edge) {
+        return getIntEdgeWeight(edge);
+    }
+}
@@ -19,8 +19,14 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
+import net.automatalib.common.util.mapping.BooleanMapping;
+import net.automatalib.common.util.mapping.FloatMapping;
+import net.automatalib.common.util.mapping.IntMapping;
+import net.automatalib.common.util.mapping.MapFloatMapping;
+import net.automatalib.common.util.mapping.MapIntMapping;
 import net.automatalib.common.util.mapping.MapMapping;
 import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.common.util.mapping.SetBooleanMapping;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -122,4 +128,36 @@ public interface SimpleTS<S, I> {
         return new MapMapping<>();
     }
 
+    /**
+     * Creates an {@link IntMapping} allowing to associate (unboxed) {@code int}s with this transition system's states.
+     * The returned mapping is however only guaranteed to work correctly if the transition system is not modified.
+     *
+     * @return the mutable mapping
+     */
+    default IntMapping<S> createStaticStateIntMapping() {
+        return new MapIntMapping<>();
+    }
+
+    /**
+     * Creates a {@link BooleanMapping} allowing to associate (unboxed) {@code boolean}s, e.g., visited flags, with this
+     * transition system's states. The returned mapping is however only guaranteed to work correctly if the transition
+     * system is not modified.
+     *
+     * @return the mutable mapping
+     */
+    default BooleanMapping<S> createStaticStateBooleanMapping() {
+        return new SetBooleanMapping<>();
+    }
+
+    /**
+     * Creates a {@link FloatMapping} allowing to associate (unboxed) {@code float}s with this transition system's
+     * states. The returned mapping is however only guaranteed to work correctly if the transition system is not
+     * modified.
+     *
+     * @return the mutable mapping
+     */
+    default FloatMapping<S> createStaticStateFloatMapping() {
+        return new MapFloatMapping<>();
+    }
+
 }
@@ -0,0 +1,175 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A word that is canonicalized by a {@link WordPool}. Each pooled word is a node of the pool's prefix trie, i.e., it
+ * only references its longest proper prefix (its parent) and its last symbol. The hash code of a pooled word is
+ * computed incrementally upon creation (consistent with {@link Word#hashCode()}) and equality among words of the same
+ * pool is an identity check.
+ * <p>
+ * Since pooled words do not store their symbols contiguously, random access to a symbol walks up the trie and
+ * iteration materializes the symbols into a fresh array.
+ *
+ * @param <I>
+ *         input symbol class
+ */
+final class PooledWord<I> extends Word<I> {
+
+    private static final int HASH_FACTOR = 89;
+
+    final WordPool<I> pool;
+    final int id;
+    final int hash;
+    boolean member;
+
+    private final @Nullable PooledWord<I> parent;
+    private final @Nullable I symbol;
+    private final int length;
+
+    // only accessed by the pool
+    private @Nullable Map<@Nullable I, PooledWord<I>> children;
+
+    /**
+     * Constructor. Creates the (pooled) empty word.
+     */
+    PooledWord(WordPool<I> pool, int id) {
+        this.pool = pool;
+        this.id = id;
+        this.hash = 5; // the hash of the empty word, see Word#hashCode()
+        this.parent = null;
+        this.symbol = null;
+        this.length = 0;
+    }
+
+    private PooledWord(WordPool<I> pool, int id, PooledWord<I> parent, @Nullable I symbol) {
+        this.pool = pool;
+        this.id = id;
+        this.hash = parent.hash * HASH_FACTOR + Objects.hashCode(symbol);
+        this.parent = parent;
+        this.symbol = symbol;
+        this.length = parent.length + 1;
+    }
+
+    @Nullable PooledWord<I> getChild(@Nullable Object sym) {
+        return children == null ? null : children.get(sym);
+    }
+
+    PooledWord<I> getOrCreateChild(@Nullable I sym, List<PooledWord<I>> words) {
+        if (children == null) {
+            children = new HashMap<>();
+        }
+
+        PooledWord<I> child = children.get(sym);
+        if (child == null) {
+            child = new PooledWord<>(pool, words.size(), this, sym);
+            children.put(sym, child);
+            words.add(child);
+        }
+
+        return child;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public I getSymbol(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        return ancestor(index + 1).symbol;
+    }
+
+    @Override
+    public Iterator<I> iterator() {
+        return Arrays.asList(getSymbols()).iterator();
+    }
+
+    @Override
+    public Spliterator<I> spliterator() {
+        return Arrays.spliterator(getSymbols());
+    }
+
+    @Override
+    public void writeToArray(int offset, @Nullable Object[] array, int tgtOffset, int length) {
+        @Nullable PooledWord<I> curr = ancestor(offset + length);
+        for (int i = tgtOffset + length - 1; i >= tgtOffset; i--) {
+            assert curr != null;
+            array[i] = curr.symbol;
+            curr = curr.parent;
+        }
+    }
+
+    @Override
+    protected Word<I> subWordInternal(int fromIndex, int toIndex) {
+        if (fromIndex == 0) {
+            return ancestor(toIndex);
+        }
+        return super.subWordInternal(fromIndex, toIndex);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof PooledWord) {
+            final PooledWord<?> that = (PooledWord<?>) other;
+            if (that.pool == pool || that.hash != hash) {
+                return false;
+            }
+        }
+        return super.equals(other);
+    }
+
+    /**
+     * Returns the prefix of the given length, which is an ancestor of this word in the trie.
+     */
+    private PooledWord<I> ancestor(int prefixLength) {
+        @Nullable PooledWord<I> curr = this;
+        for (int i = length; i > prefixLength; i--) {
+            assert curr != null;
+            curr = curr.parent;
+        }
+        assert curr != null;
+        return curr;
+    }
+
+    @SuppressWarnings("unchecked")
+    private I[] getSymbols() {
+        final @Nullable Object[] result = new Object[length];
+        writeToArray(0, result, 0, length);
+        return (I[]) result;
+    }
+}
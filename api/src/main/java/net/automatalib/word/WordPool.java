@@ -0,0 +1,192 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A pool that canonicalizes (hash-conses) {@link Word}s. All words of a pool are stored in a shared prefix trie, so
+ * equal words are represented by a single object and words with common prefixes share their storage. Each pooled word
+ * has a stable {@link #getId(Word) id} and caches its {@link Word#hashCode() hash code}, and equality between words of
+ * the same pool is an identity check. This makes pooled words cheap keys for (learning) caches that store large
+ * numbers of (partially) equal words, e.g., queries of test suites or suffixes of characterizing sets.
+ * <p>
+ * Pooled words behave like regular words, i.e., they are {@link Word#equals(Object) equal} to regular words with the
+ * same symbols. Taking a {@link Word#prefix(int) prefix} of a pooled word yields the respective pooled word (without
+ * re-interning it). All other operations, e.g., {@link Word#append(Object) appending} a symbol, yield regular words
+ * which have to be {@link #intern(Word) interned} explicitly in order to be pooled.
+ * <p>
+ * Additionally, this class is a {@link java.util.Set} of the words that have been explicitly {@link #add(Word) added}
+ * to it (in the order of their addition). Hence, it can directly be passed as the output collection to methods that
+ * compute sets of words, such as covers or characterizing sets. Note that the set only supports the addition of
+ * words.
+ * <p>
+ * This class is not thread-safe, i.e., concurrent invocations of its methods require external synchronization. The
+ * pooled words themselves never modify the pool and may be shared among threads.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class WordPool<I> extends AbstractSet<Word<I>> {
+
+    private final PooledWord<I> root;
+    private final List<PooledWord<I>> words;
+    private final List<Word<I>> members;
+
+    /**
+     * Default constructor.
+     */
+    public WordPool() {
+        this.root = new PooledWord<>(this, 0);
+        this.words = new ArrayList<>();
+        this.members = new ArrayList<>();
+        this.words.add(root);
+    }
+
+    /**
+     * Returns the canonical representative of the given word. The returned word is equal to the given one and
+     * identical to the results of all other invocations with equal words.
+     *
+     * @param word
+     *         the word to canonicalize
+     *
+     * @return the canonical representative of the given word
+     */
+    public Word<I> intern(Word<? extends I> word) {
+        return internInternal(word);
+    }
+
+    /**
+     * Returns the (stable) id of the given word. Ids are assigned consecutively (starting with {@code 0} for the empty
+     * word) in the order in which words and their prefixes are {@link #intern(Word) interned} for the first time.
+     *
+     * @param word
+     *         the word whose id should be returned. If it has not been pooled yet, it is interned first.
+     *
+     * @return the id of the given word
+     */
+    public int getId(Word<? extends I> word) {
+        return internInternal(word).id;
+    }
+
+    /**
+     * Returns the pooled word with the given id.
+     *
+     * @param id
+     *         the id of the word
+     *
+     * @return the pooled word with the given id
+     *
+     * @throws IndexOutOfBoundsException
+     *         if no word with the given id exists
+     *
+     * @see #getId(Word)
+     */
+    public Word<I> getWord(int id) {
+        return words.get(id);
+    }
+
+    /**
+     * Returns the number of pooled words, i.e., all interned words including their prefixes. Note that this may be
+     * larger than the {@link #size() number of added words}.
+     *
+     * @return the number of pooled words
+     */
+    public int getNumWords() {
+        return words.size();
+    }
+
+    /**
+     * Adds the canonical representative of the given word to the set of this pool.
+     *
+     * @param word
+     *         the word to add
+     *
+     * @return {@code true} if the word has not been added before, {@code false} otherwise
+     */
+    @Override
+    public boolean add(Word<I> word) {
+        final PooledWord<I> pooled = internInternal(word);
+
+        if (pooled.member) {
+            return false;
+        }
+
+        pooled.member = true;
+        members.add(pooled);
+        return true;
+    }
+
+    /**
+     * Checks whether an equal word has been {@link #add(Word) added} to this pool. This method does not pool the given
+     * word.
+     */
+    @Override
+    public boolean contains(@Nullable Object o) {
+        final PooledWord<I> pooled = lookup(o);
+        return pooled != null && pooled.member;
+    }
+
+    @Override
+    public Iterator<Word<I>> iterator() {
+        return Collections.unmodifiableList(members).iterator();
+    }
+
+    @Override
+    public int size() {
+        return members.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private PooledWord<I> internInternal(Word<? extends I> word) {
+        if (word instanceof PooledWord && ((PooledWord<?>) word).pool == this) {
+            return (PooledWord<I>) word;
+        }
+
+        PooledWord<I> curr = root;
+        for (I sym : word) {
+            curr = curr.getOrCreateChild(sym, words);
+        }
+        return curr;
+    }
+
+    private @Nullable PooledWord<I> lookup(@Nullable Object o) {
+        if (!(o instanceof Word)) {
+            return null;
+        }
+
+        if (o instanceof PooledWord && ((PooledWord<?>) o).pool == this) {
+            @SuppressWarnings("unchecked")
+            final PooledWord<I> pooled = (PooledWord<I>) o;
+            return pooled;
+        }
+
+        @Nullable PooledWord<I> curr = root;
+        for (Object sym : (Word<?>) o) {
+            curr = curr.getChild(sym);
+            if (curr == null) {
+                return null;
+            }
+        }
+        return curr;
+    }
+}
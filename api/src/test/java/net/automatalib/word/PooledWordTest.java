@@ -0,0 +1,94 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class PooledWordTest extends AbstractNonemptyWordTest {
+
+    private final WordPool<Object> pool = new WordPool<>();
+    private final WordPool<Object> otherPool = new WordPool<>();
+
+    @Override
+    protected Word<Object> testWord() {
+        return pool.intern(Word.fromSymbols(1, 3, 3, 7));
+    }
+
+    @Override
+    protected List<Word<Object>> equalWords() {
+        return Arrays.asList(Word.fromSymbols(1, 3, 3, 7),
+                             pool.intern(new SharedWord<>(new Object[] {2, 1, 3, 3, 7}, 1, 4)),
+                             otherPool.intern(Word.fromSymbols(1, 3, 3, 7)));
+    }
+
+    @Override
+    protected List<Word<Object>> unequalWords() {
+        return Arrays.asList(pool.intern(Word.fromSymbols(1, 3, 3)),
+                             pool.intern(Word.fromSymbols(1, 3, 3, 7, 9)),
+                             otherPool.intern(Word.fromSymbols(1, 3, 3, 8)),
+                             Word.epsilon(),
+                             Word.fromSymbols(2, 4));
+    }
+
+    @Override
+    protected List<Word<Object>> realPrefixes() {
+        return Arrays.asList(Word.epsilon(),
+                             pool.intern(Word.fromSymbols(1, 3)),
+                             Word.fromSymbols(1, 3, 3),
+                             Word.fromLetter(1));
+    }
+
+    @Override
+    protected List<Word<Object>> realSuffixes() {
+        return Arrays.asList(Word.epsilon(),
+                             pool.intern(Word.fromSymbols(3, 7)),
+                             Word.fromSymbols(3, 3, 7),
+                             Word.fromLetter(7));
+    }
+
+    @Test
+    public void testHashCode() {
+        for (Word<Object> w : all) {
+            Assert.assertEquals(w.hashCode(), Word.fromList(w.asList()).hashCode());
+        }
+    }
+
+    @Test
+    public void testPooledOperations() {
+        Assert.assertSame(testWord.prefix(2), pool.intern(Word.fromSymbols(1, 3)));
+        Assert.assertSame(pool.intern(testWord.prefix(-1).append(7)), testWord);
+        Assert.assertSame(testWord.subWord(0, 0), pool.intern(Word.epsilon()));
+
+        final Object[] array = new Object[3];
+        testWord.writeToArray(1, array, 0, 3);
+        Assert.assertEquals(array, new Object[] {3, 3, 7});
+    }
+
+    @Test
+    public void testAppendDoesNotPool() {
+        final int numWords = pool.getNumWords();
+        final Word<Object> appended = testWord.append(9);
+
+        Assert.assertFalse(appended instanceof PooledWord);
+        Assert.assertEquals(appended, Word.fromSymbols(1, 3, 3, 7, 9));
+        Assert.assertEquals(pool.getNumWords(), numWords);
+    }
+}
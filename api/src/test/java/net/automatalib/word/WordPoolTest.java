@@ -0,0 +1,88 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.word;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class WordPoolTest {
+
+    @Test
+    public void testInterning() {
+        final WordPool<Character> pool = new WordPool<>();
+
+        final Word<Character> abc = pool.intern(Word.fromString("abc"));
+        final Word<Character> abd = pool.intern(Word.fromString("abd"));
+
+        Assert.assertEquals(abc, Word.fromString("abc"));
+        Assert.assertSame(pool.intern(Word.fromString("abc")), abc);
+        Assert.assertSame(pool.intern(abc), abc);
+        Assert.assertSame(pool.intern(Word.fromString("ab").append('c')), abc);
+        Assert.assertSame(abc.prefix(2), abd.prefix(2));
+        Assert.assertNotEquals(abc, abd);
+
+        // epsilon, a, ab, abc, abd
+        Assert.assertEquals(pool.getNumWords(), 5);
+        Assert.assertEquals(pool.getId(Word.epsilon()), 0);
+        Assert.assertEquals(pool.getId(Word.fromString("abc")), 3);
+        Assert.assertSame(pool.getWord(4), abd);
+        Assert.assertEquals(pool.getNumWords(), 5);
+
+        // interning does not add words to the set
+        Assert.assertTrue(pool.isEmpty());
+        Assert.assertFalse(pool.contains(abc));
+    }
+
+    @Test
+    public void testSet() {
+        final WordPool<Integer> pool = new WordPool<>();
+
+        Assert.assertTrue(pool.add(Word.fromSymbols(1, 2)));
+        Assert.assertTrue(pool.add(Word.fromSymbols(1)));
+        Assert.assertFalse(pool.add(Word.fromSymbols(1, 2)));
+        Assert.assertTrue(pool.add(Word.epsilon()));
+
+        Assert.assertEquals(pool.size(), 3);
+        Assert.assertTrue(pool.contains(Word.fromSymbols(1, 2)));
+        Assert.assertFalse(pool.contains(Word.fromSymbols(2)));
+        Assert.assertFalse(pool.contains(Word.fromSymbols(1, 2, 3)));
+        Assert.assertFalse(pool.contains("12"));
+
+        // lookups do not pool words
+        Assert.assertEquals(pool.getNumWords(), 3);
+
+        // insertion order
+        Assert.assertEquals(pool, Arrays.asList(Word.fromSymbols(1, 2), Word.fromSymbols(1), Word.epsilon()));
+
+        final Iterator<Word<Integer>> iter = pool.iterator();
+        iter.next();
+        Assert.assertThrows(UnsupportedOperationException.class, iter::remove);
+    }
+
+    @Test
+    public void testNullSymbols() {
+        final WordPool<Integer> pool = new WordPool<>();
+        final Word<Integer> word = Word.fromSymbols(1, null, 3);
+
+        Assert.assertTrue(pool.add(word));
+        Assert.assertTrue(pool.contains(Word.fromSymbols(1, null, 3)));
+        Assert.assertEquals(pool.intern(word).hashCode(), word.hashCode());
+        Assert.assertNull(pool.intern(word).getSymbol(1));
+    }
+}
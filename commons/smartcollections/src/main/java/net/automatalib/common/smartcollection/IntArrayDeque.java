@@ -0,0 +1,207 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.smartcollection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import net.automatalib.common.util.array.ArrayUtil;
+
+/**
+ * A double-ended queue of primitive {@code int} values, backed by a growable ring buffer. Contrary to an
+ * {@link java.util.ArrayDeque ArrayDeque} of {@link Integer}s (or a {@link SmartDeque}), no objects are allocated per
+ * element, which makes this class suitable for work-lists and stacks of (state or node) ids.
+ */
+public class IntArrayDeque {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private int[] elements;
+    private int head;
+    private int size;
+
+    /**
+     * Default constructor. Initializes the deque with a default capacity.
+     */
+    public IntArrayDeque() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor. Initializes the deque with the given capacity.
+     *
+     * @param initialCapacity
+     *         the initial capacity of the deque
+     */
+    public IntArrayDeque(int initialCapacity) {
+        this.elements = new int[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Inserts the given value at the front of this deque.
+     *
+     * @param value
+     *         the value to insert
+     */
+    public void addFirst(int value) {
+        ensureCapacity(size + 1);
+        head = head == 0 ? elements.length - 1 : head - 1;
+        elements[head] = value;
+        size++;
+    }
+
+    /**
+     * Inserts the given value at the end of this deque.
+     *
+     * @param value
+     *         the value to insert
+     */
+    public void addLast(int value) {
+        ensureCapacity(size + 1);
+        elements[index(size)] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the first value of this deque.
+     *
+     * @return the first value of this deque
+     *
+     * @throws NoSuchElementException
+     *         if this deque is empty
+     */
+    public int removeFirst() {
+        checkNonEmpty();
+        final int result = elements[head];
+        head = index(1);
+        size--;
+        return result;
+    }
+
+    /**
+     * Removes and returns the last value of this deque.
+     *
+     * @return the last value of this deque
+     *
+     * @throws NoSuchElementException
+     *         if this deque is empty
+     */
+    public int removeLast() {
+        checkNonEmpty();
+        size--;
+        return elements[index(size)];
+    }
+
+    /**
+     * Returns (but does not remove) the first value of this deque.
+     *
+     * @return the first value of this deque
+     *
+     * @throws NoSuchElementException
+     *         if this deque is empty
+     */
+    public int peekFirst() {
+        checkNonEmpty();
+        return elements[head];
+    }
+
+    /**
+     * Returns (but does not remove) the last value of this deque.
+     *
+     * @return the last value of this deque
+     *
+     * @throws NoSuchElementException
+     *         if this deque is empty
+     */
+    public int peekLast() {
+        checkNonEmpty();
+        return elements[index(size - 1)];
+    }
+
+    /**
+     * Returns the {@code idx}-th value of this deque (counted from the front).
+     *
+     * @param idx
+     *         the index of the value
+     *
+     * @return the {@code idx}-th value of this deque
+     *
+     * @throws IndexOutOfBoundsException
+     *         if {@code idx} is not within {@code [0, size())}
+     */
+    public int get(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException("Index: " + idx + ", Size: " + size);
+        }
+        return elements[index(idx)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values from this deque. The capacity of the deque is retained.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the values of this deque (from front to back) as an array.
+     *
+     * @return the values of this deque
+     */
+    public int[] toArray() {
+        final int[] result = new int[size];
+        final int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, result, 0, firstPart);
+        System.arraycopy(elements, 0, result, firstPart, size - firstPart);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private int index(int offset) {
+        final int idx = head + offset;
+        return idx >= elements.length ? idx - elements.length : idx;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            final int[] newElements = new int[ArrayUtil.computeNewCapacity(elements.length, capacity)];
+            final int firstPart = Math.min(size, elements.length - head);
+            System.arraycopy(elements, head, newElements, 0, firstPart);
+            System.arraycopy(elements, 0, newElements, firstPart, size - firstPart);
+            elements = newElements;
+            head = 0;
+        }
+    }
+
+    private void checkNonEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.smartcollection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary min-heap of primitive {@code int} ids from the range {@code [0, capacity)}, ordered by an external
+ * {@link IdComparator}. The comparator usually looks up the priorities of the ids in (primitive) arrays that are
+ * maintained by the caller. Since the heap tracks the position of each id, the priority of a contained id may be
+ * changed at any time, as long as the heap is notified via {@link #decreaseKey(int)} or {@link #update(int)}.
+ * <p>
+ * Additionally, the queue keeps track of whether an id has been {@link #wasInserted(int) inserted} at all (until the
+ * next {@link #clear()}), which allows algorithms such as Dijkstra's to use the queue as their set of discovered ids.
+ */
+public class IntIndexedPriorityQueue {
+
+    private static final int NOT_INSERTED = -1;
+    private static final int EXTRACTED = -2;
+
+    private final IdComparator comparator;
+    private final int[] heap;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity
+     *         the number of ids (i.e., ids must be from the range {@code [0, capacity)})
+     * @param comparator
+     *         the comparator for ordering the ids
+     */
+    public IntIndexedPriorityQueue(int capacity, IdComparator comparator) {
+        this.comparator = comparator;
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, NOT_INSERTED);
+    }
+
+    /**
+     * Inserts the given id into the queue.
+     *
+     * @param id
+     *         the id to insert
+     *
+     * @throws IllegalArgumentException
+     *         if the id is already contained in the queue
+     */
+    public void insert(int id) {
+        if (positions[id] >= 0) {
+            throw new IllegalArgumentException("Id " + id + " is already contained in the queue");
+        }
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Notifies the queue that the priority of the given id has decreased (i.e., it compares less than before). If the
+     * id is not contained in the queue (anymore), this method does nothing.
+     *
+     * @param id
+     *         the id whose priority has decreased
+     */
+    public void decreaseKey(int id) {
+        final int pos = positions[id];
+        if (pos >= 0) {
+            siftUp(pos);
+        }
+    }
+
+    /**
+     * Notifies the queue that the priority of the given id has changed in an arbitrary direction. If the id is not
+     * contained in the queue (anymore), this method does nothing.
+     *
+     * @param id
+     *         the id whose priority has changed
+     */
+    public void update(int id) {
+        final int pos = positions[id];
+        if (pos >= 0) {
+            siftDown(siftUp(pos));
+        }
+    }
+
+    /**
+     * Removes the given id from the queue.
+     *
+     * @param id
+     *         the id to remove
+     *
+     * @return {@code true} if the id was contained in the queue, {@code false} otherwise
+     */
+    public boolean remove(int id) {
+        final int pos = positions[id];
+        if (pos < 0) {
+            return false;
+        }
+
+        positions[id] = EXTRACTED;
+        size--;
+        if (pos < size) {
+            heap[pos] = heap[size];
+            positions[heap[pos]] = pos;
+            siftDown(siftUp(pos));
+        }
+        return true;
+    }
+
+    /**
+     * Returns (but does not remove) the minimal id of the queue.
+     *
+     * @return the minimal id
+     *
+     * @throws NoSuchElementException
+     *         if the queue is empty
+     */
+    public int peekMin() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the minimal id of the queue.
+     *
+     * @return the minimal id
+     *
+     * @throws NoSuchElementException
+     *         if the queue is empty
+     */
+    public int extractMin() {
+        final int min = peekMin();
+        positions[min] = EXTRACTED;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Returns whether the given id is currently contained in the queue.
+     *
+     * @param id
+     *         the id to check
+     *
+     * @return {@code true} if the id is contained in the queue, {@code false} otherwise
+     */
+    public boolean contains(int id) {
+        return positions[id] >= 0;
+    }
+
+    /**
+     * Returns whether the given id has been inserted into the queue since its construction (or the last call to
+     * {@link #clear()}), regardless of whether it has been removed afterward.
+     *
+     * @param id
+     *         the id to check
+     *
+     * @return {@code true} if the id has been inserted, {@code false} otherwise
+     */
+    public boolean wasInserted(int id) {
+        return positions[id] != NOT_INSERTED;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all ids from the queue and resets the information about {@link #wasInserted(int) inserted} ids.
+     */
+    public void clear() {
+        Arrays.fill(positions, NOT_INSERTED);
+        size = 0;
+    }
+
+    private int siftUp(int pos) {
+        final int id = heap[pos];
+        int i = pos;
+
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            final int parentId = heap[parent];
+            if (comparator.compare(parentId, id) <= 0) {
+                break;
+            }
+            heap[i] = parentId;
+            positions[parentId] = i;
+            i = parent;
+        }
+
+        heap[i] = id;
+        positions[id] = i;
+        return i;
+    }
+
+    private void siftDown(int pos) {
+        final int id = heap[pos];
+        int i = pos;
+
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && comparator.compare(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            final int childId = heap[child];
+            if (comparator.compare(id, childId) <= 0) {
+                break;
+            }
+            heap[i] = childId;
+            positions[childId] = i;
+            i = child;
+        }
+
+        heap[i] = id;
+        positions[id] = i;
+    }
+
+    /**
+     * A comparator for primitive {@code int} ids.
+     */
+    @FunctionalInterface
+    public interface IdComparator {
+
+        /**
+         * Compares the two given ids.
+         *
+         * @param id1
+         *         the first id
+         * @param id2
+         *         the second id
+         *
+         * @return a negative integer, zero, or a positive integer if the first id is less than, equal to, or greater
+         * than the second id
+         */
+        int compare(int id1, int id2);
+    }
+}
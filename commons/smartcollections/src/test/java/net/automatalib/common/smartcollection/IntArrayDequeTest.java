@@ -0,0 +1,83 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.smartcollection;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class IntArrayDequeTest {
+
+    private static final int SIZE = 1000;
+
+    @Test
+    public void testDequeOps() {
+        final IntArrayDeque deque = new IntArrayDeque(2);
+        final Deque<Integer> reference = new ArrayDeque<>();
+        final Random random = new Random(42);
+
+        Assert.assertTrue(deque.isEmpty());
+        Assert.assertThrows(NoSuchElementException.class, deque::removeFirst);
+        Assert.assertThrows(NoSuchElementException.class, deque::peekLast);
+
+        for (int i = 0; i < 10 * SIZE; i++) {
+            final int value = random.nextInt();
+            switch (random.nextInt(5)) {
+                case 0:
+                    deque.addFirst(value);
+                    reference.addFirst(value);
+                    break;
+                case 1:
+                    deque.addLast(value);
+                    reference.addLast(value);
+                    break;
+                case 2:
+                    if (!reference.isEmpty()) {
+                        Assert.assertEquals(deque.removeFirst(), (int) reference.removeFirst());
+                    }
+                    break;
+                case 3:
+                    if (!reference.isEmpty()) {
+                        Assert.assertEquals(deque.removeLast(), (int) reference.removeLast());
+                    }
+                    break;
+                default:
+                    if (!reference.isEmpty()) {
+                        Assert.assertEquals(deque.peekFirst(), (int) reference.peekFirst());
+                        Assert.assertEquals(deque.peekLast(), (int) reference.peekLast());
+                    }
+            }
+
+            Assert.assertEquals(deque.size(), reference.size());
+        }
+
+        final int[] expected = reference.stream().mapToInt(Integer::intValue).toArray();
+        Assert.assertEquals(deque.toArray(), expected);
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(deque.get(i), expected[i]);
+        }
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> deque.get(expected.length));
+
+        deque.clear();
+        Assert.assertTrue(deque.isEmpty());
+        Assert.assertEquals(deque.toArray(), new int[0]);
+    }
+}
@@ -0,0 +1,85 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.smartcollection;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class IntIndexedPriorityQueueTest {
+
+    private static final int SIZE = 1000;
+
+    @Test
+    public void testQueueOps() {
+        final double[] keys = new double[SIZE];
+        final IntIndexedPriorityQueue pq =
+                new IntIndexedPriorityQueue(SIZE, (i1, i2) -> Double.compare(keys[i1], keys[i2]));
+        final Random random = new Random(42);
+
+        Assert.assertFalse(pq.wasInserted(0));
+
+        for (int i = 0; i < SIZE; i++) {
+            keys[i] = random.nextDouble();
+            pq.insert(i);
+        }
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> pq.insert(0));
+
+        // change keys in both directions
+        for (int i = 0; i < SIZE; i += 3) {
+            keys[i] = random.nextDouble();
+            pq.update(i);
+        }
+        for (int i = 1; i < SIZE; i += 3) {
+            keys[i] /= 2;
+            pq.decreaseKey(i);
+        }
+
+        // remove some ids
+        for (int i = 2; i < SIZE; i += 3) {
+            Assert.assertTrue(pq.remove(i));
+            Assert.assertFalse(pq.remove(i));
+            Assert.assertFalse(pq.contains(i));
+            Assert.assertTrue(pq.wasInserted(i));
+        }
+
+        double last = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        while (!pq.isEmpty()) {
+            final int min = pq.extractMin();
+            Assert.assertTrue(keys[min] >= last);
+            Assert.assertTrue(pq.wasInserted(min));
+            Assert.assertFalse(pq.contains(min));
+            last = keys[min];
+            count++;
+        }
+
+        Assert.assertEquals(count, SIZE - SIZE / 3);
+        Assert.assertThrows(NoSuchElementException.class, pq::extractMin);
+
+        // extracted ids are final
+        keys[0] = -1;
+        pq.decreaseKey(0);
+        Assert.assertTrue(pq.isEmpty());
+
+        pq.clear();
+        Assert.assertFalse(pq.wasInserted(0));
+    }
+}
@@ -0,0 +1,195 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A lock-free implementation of a disjoint set (union-find) data structure for integers that may be accessed by
+ * multiple threads concurrently. The implementation follows the randomized concurrent algorithm described in the paper
+ * <a href="https://doi.org/10.1145/3087801.3087822"><i>A Randomized Concurrent Algorithm for Disjoint Set Union</i>
+ * (S. Jayanti, R. Tarjan; Proc. PODC 2016)</a>: the parent pointers are stored in an {@link AtomicIntegerArray}, roots
+ * are linked via compare-and-set according to a fixed (pseudo-random) total order of the elements, and paths are
+ * shortened by (compare-and-set-based) path splitting.
+ * <p>
+ * All operations are linearizable. In particular, {@link #union(int, int)} returns {@code true} for exactly one of
+ * several concurrent invocations that unite the same two sets.
+ */
+public class ConcurrentUnionFind implements IntDisjointSets {
+
+    private final AtomicIntegerArray p;
+
+    /**
+     * Initializes the disjoint-set data structure.
+     *
+     * @param n
+     *         the overall size of the domain
+     */
+    public ConcurrentUnionFind(int n) {
+        p = new AtomicIntegerArray(n);
+
+        for (int i = 0; i < n; i++) {
+            p.set(i, i);
+        }
+    }
+
+    @Override
+    public int size() {
+        return p.length();
+    }
+
+    /**
+     * Checks if two elements are in the same set. If the sets are modified concurrently, the result reflects the state
+     * of the data structure at some point during the execution of this method.
+     *
+     * @param x
+     *         the first element
+     * @param y
+     *         the second element
+     *
+     * @return {@code true} if {@code x} and {@code y} are in the same set, {@code false} otherwise
+     */
+    @Override
+    public boolean equivalent(int x, int y) {
+        int rx = x;
+        int ry = y;
+
+        while (true) {
+            rx = find(rx);
+            ry = find(ry);
+            if (rx == ry) {
+                return true;
+            }
+            // if rx is still a root, rx and ry have been roots of different sets when ry was found
+            if (p.get(rx) == rx) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Finds the set of a given element, and splits the path to the root node (i.e., every visited node is re-linked to
+     * its grandparent).
+     *
+     * @param x
+     *         the element
+     *
+     * @return the identifier of the set which contains the given element
+     */
+    @Override
+    public int find(int x) {
+        int curr = x;
+
+        while (true) {
+            final int parent = p.get(curr);
+            final int grandParent = p.get(parent);
+            if (parent == grandParent) {
+                return parent;
+            }
+            // a failing CAS means another thread has already shortened the path
+            p.compareAndSet(curr, parent, grandParent);
+            curr = parent;
+        }
+    }
+
+    /**
+     * Unites the sets containing the two given elements.
+     *
+     * @param x
+     *         the first element
+     * @param y
+     *         the second element
+     */
+    @Override
+    public boolean union(int x, int y) {
+        int rx = x;
+        int ry = y;
+
+        while (true) {
+            rx = find(rx);
+            ry = find(ry);
+
+            if (rx == ry) {
+                return false;
+            } else if (precedes(rx, ry)) {
+                if (p.compareAndSet(rx, rx, ry)) {
+                    return true;
+                }
+            } else if (p.compareAndSet(ry, ry, rx)) {
+                return true;
+            }
+            // one of the roots has been linked concurrently, retry
+        }
+    }
+
+    /**
+     * Unites two given sets. Note that the behavior of this method is not specified if the given parameters are normal
+     * elements and no set identifiers. If one of the sets is modified concurrently, the sets are united via
+     * {@link #union(int, int)}.
+     *
+     * @param x
+     *         the first set
+     * @param y
+     *         the second set
+     *
+     * @return the identifier of the resulting set
+     */
+    @Override
+    public int link(int x, int y) {
+        if (x == y) {
+            return x;
+        }
+
+        final int child;
+        final int root;
+
+        if (precedes(x, y)) {
+            child = x;
+            root = y;
+        } else {
+            child = y;
+            root = x;
+        }
+
+        if (p.compareAndSet(child, child, root)) {
+            return root;
+        }
+
+        union(x, y);
+        return find(x);
+    }
+
+    /**
+     * The (pseudo-random) linking order of the elements: elements that precede others are linked below them. Since
+     * {@link #mix(int)} is a bijection, this is a total order.
+     */
+    private static boolean precedes(int x, int y) {
+        return mix(x) < mix(y);
+    }
+
+    /**
+     * A bijective scrambling of the given value (the finalization step of MurmurHash3).
+     */
+    private static int mix(int x) {
+        int h = x;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
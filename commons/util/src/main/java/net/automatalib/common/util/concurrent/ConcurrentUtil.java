@@ -0,0 +1,147 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.concurrent;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import net.automatalib.common.util.exception.ExceptionUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Utility methods for concurrent computations.
+ */
+public final class ConcurrentUtil {
+
+    private ConcurrentUtil() {
+        // prevent instantiation
+    }
+
+    /**
+     * Waits for the given future to complete and returns its result. Unchecked exceptions (and errors) of the
+     * computation are re-thrown as is. Checked exceptions of the computation as well as interruptions of the waiting
+     * thread are passed to the given {@code wrapper} whose result is thrown instead. In case of an interruption, the
+     * interrupt flag of the current thread is restored.
+     *
+     * @param future
+     *         the future to wait for
+     * @param wrapper
+     *         the function for translating checked exceptions (or {@link InterruptedException}s) into the exception to
+     *         throw
+     * @param <T>
+     *         result type
+     * @param <X>
+     *         exception type
+     *
+     * @return the result of the future
+     *
+     * @throws X
+     *         if the computation has thrown a checked exception or the current thread has been interrupted
+     */
+    public static <T, X extends Exception> T await(Future<T> future, Function<? super Exception, ? extends X> wrapper)
+            throws X {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw wrapper.apply(ie);
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            ExceptionUtil.throwIfUnchecked(cause);
+            throw wrapper.apply(cause instanceof Exception ? (Exception) cause : ee);
+        }
+    }
+
+    /**
+     * Executes the given task for all indices in {@code [0, count)} using a temporary {@link ForkJoinPool} of the
+     * given parallelism. See {@link #forAll(ForkJoinPool, int, IntConsumer)} for details.
+     *
+     * @param parallelism
+     *         the maximum number of threads to use. If {@code parallelism <= 1}, the indices are processed sequentially
+     *         in the calling thread
+     * @param count
+     *         the number of indices
+     * @param task
+     *         the task to execute for each index
+     */
+    public static void forAll(int parallelism, int count, IntConsumer task) {
+        if (parallelism <= 1 || count <= 1) {
+            forAll(null, count, task);
+            return;
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            forAll(pool, count, task);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Executes the given task for all indices in {@code [0, count)} and returns once all indices have been processed.
+     * The index range is recursively bisected so that idle threads of the given pool can steal the processing of
+     * sub-ranges. Hence, the task must support concurrent invocations for distinct indices. Exceptions thrown by the
+     * task are re-thrown in the calling thread.
+     *
+     * @param pool
+     *         the pool to use. If {@code null} (or {@code count <= 1}), the indices are processed sequentially in the
+     *         calling thread
+     * @param count
+     *         the number of indices
+     * @param task
+     *         the task to execute for each index
+     */
+    public static void forAll(@Nullable ForkJoinPool pool, int count, IntConsumer task) {
+        if (pool == null || count <= 1) {
+            for (int i = 0; i < count; i++) {
+                task.accept(i);
+            }
+        } else {
+            pool.invoke(new RangeAction(0, count, task));
+        }
+    }
+
+    private static final class RangeAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int lower;
+        private final int upper;
+        private final transient IntConsumer task;
+
+        RangeAction(int lower, int upper, IntConsumer task) {
+            this.lower = lower;
+            this.upper = upper;
+            this.task = task;
+        }
+
+        @Override
+        protected void compute() {
+            if (upper - lower == 1) {
+                task.accept(lower);
+            } else {
+                final int mid = (lower + upper) >>> 1;
+                invokeAll(new RangeAction(lower, mid, task), new RangeAction(mid, upper, task));
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.io;
+
+/**
+ * A chunk of (binary) data read by a {@link LineChunkReader}. Unless it is the last chunk of the input, a chunk always
+ * ends with a complete line, i.e., directly after a {@code '\n'} character.
+ */
+public final class LineChunk {
+
+    private final byte[] data;
+    private final int length;
+    private final long offset;
+    private final long firstLine;
+
+    LineChunk(byte[] data, int length, long offset, long firstLine) {
+        this.data = data;
+        this.length = length;
+        this.offset = offset;
+        this.firstLine = firstLine;
+    }
+
+    /**
+     * Returns the backing array of this chunk. Only the first {@link #getLength()} bytes are valid.
+     *
+     * @return the backing array of this chunk
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Returns the number of valid bytes of this chunk.
+     *
+     * @return the number of valid bytes of this chunk
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the position of the first byte of this chunk in the complete input.
+     *
+     * @return the position of the first byte of this chunk in the complete input
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the (0-based) index of the line at the beginning of this chunk in the complete input.
+     *
+     * @return the (0-based) index of the line at the beginning of this chunk in the complete input
+     */
+    public long getFirstLine() {
+        return firstLine;
+    }
+}
@@ -0,0 +1,244 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.common.util.concurrent.ScalingThreadPoolExecutor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A utility class for reading line-based (textual) formats in large, binary chunks. Each chunk (except the last one)
+ * ends at a line boundary so that the chunks can be parsed independently of each other, e.g., in parallel via
+ * {@link #parseRemaining(int, ChunkParser)}.
+ * <p>
+ * Reading is done via bulk reads of the underlying channel, which avoids the per-character overhead of
+ * {@link java.io.Reader}-based parsing. Note that this class does not close the underlying channel.
+ */
+public final class LineChunkReader {
+
+    /**
+     * The default (minimal) size of a chunk in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+
+    private final ReadableByteChannel channel;
+    private final int chunkSize;
+
+    private byte[] carry;
+    private int carryLength;
+    private long offset;
+    private long line;
+    private boolean eof;
+
+    public LineChunkReader(ReadableByteChannel channel) {
+        this(channel, DEFAULT_CHUNK_SIZE);
+    }
+
+    public LineChunkReader(ReadableByteChannel channel, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.channel = channel;
+        this.chunkSize = chunkSize;
+        this.carry = new byte[0];
+    }
+
+    /**
+     * Reads the next chunk of the input.
+     *
+     * @return the next chunk, or {@code null} if the input has been read completely
+     *
+     * @throws IOException
+     *         if reading from the underlying channel fails
+     */
+    public @Nullable LineChunk next() throws IOException {
+        if (eof && carryLength == 0) {
+            return null;
+        }
+
+        byte[] buffer = Arrays.copyOf(carry, Math.max(chunkSize, carryLength));
+        int length = carryLength;
+        int searchFrom = 0;
+
+        while (true) {
+            length = fill(buffer, length);
+
+            final int end = lastLineEnd(buffer, searchFrom, length);
+
+            if (end > 0 || eof) {
+                final int chunkLength = end > 0 && !eof ? end : length;
+                final LineChunk result = new LineChunk(buffer, chunkLength, offset, line);
+
+                carryLength = length - chunkLength;
+                carry = Arrays.copyOfRange(buffer, chunkLength, length);
+                offset += chunkLength;
+                line += countLines(buffer, chunkLength);
+
+                return chunkLength == 0 ? null : result;
+            }
+
+            // the current line does not fit into the buffer
+            searchFrom = length;
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+    }
+
+    /**
+     * Parses all remaining chunks of the input via the given parser. If {@code parallelism > 1}, up to
+     * {@code parallelism} chunks are parsed concurrently while the next chunks are read. The results are returned in
+     * the order of the chunks in the input.
+     *
+     * @param parallelism
+     *         the maximum number of chunks that are parsed concurrently
+     * @param parser
+     *         the parser for the individual chunks
+     * @param <R>
+     *         result type
+     * @param <E>
+     *         exception type
+     *
+     * @return the parse results of the individual chunks
+     *
+     * @throws IOException
+     *         if reading from the underlying channel fails
+     * @throws E
+     *         if parsing a chunk fails
+     */
+    public <R, E extends Exception> List<R> parseRemaining(int parallelism, ChunkParser<? extends R, E> parser)
+            throws IOException, E {
+        final List<R> result = new ArrayList<>();
+
+        if (parallelism <= 1) {
+            LineChunk chunk;
+            while ((chunk = next()) != null) {
+                result.add(parser.parse(chunk, 0));
+            }
+            return result;
+        }
+
+        final ExecutorService executor = new ScalingThreadPoolExecutor(0, parallelism, 60, TimeUnit.SECONDS);
+        final List<Future<? extends R>> futures = new ArrayList<>();
+        // bound the number of chunks held in memory
+        final int window = 2 * parallelism;
+
+        try {
+            LineChunk chunk;
+            while ((chunk = next()) != null) {
+                if (futures.size() - result.size() >= window) {
+                    result.add(await(futures.get(result.size())));
+                }
+                final LineChunk c = chunk;
+                futures.add(executor.submit(() -> parser.parse(c, 0)));
+            }
+
+            for (int i = result.size(); i < futures.size(); i++) {
+                result.add(await(futures.get(i)));
+            }
+
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, E extends Exception> R await(Future<? extends R> future) throws IOException, E {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ie);
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            // the chunk parser may only throw exceptions of type E
+            throw (E) cause;
+        }
+    }
+
+    private int fill(byte[] buffer, int length) throws IOException {
+        final ByteBuffer bb = ByteBuffer.wrap(buffer, length, buffer.length - length);
+
+        while (bb.hasRemaining()) {
+            if (channel.read(bb) < 0) {
+                eof = true;
+                break;
+            }
+        }
+
+        return bb.position();
+    }
+
+    private static int lastLineEnd(byte[] buffer, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            if (buffer[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static long countLines(byte[] buffer, int length) {
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] == '\n') {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A parser for a single {@link LineChunk}.
+     *
+     * @param <R>
+     *         result type
+     * @param <E>
+     *         exception type
+     */
+    @FunctionalInterface
+    public interface ChunkParser<R, E extends Exception> {
+
+        /**
+         * Parses the given chunk, starting at the given position.
+         *
+         * @param chunk
+         *         the chunk to parse
+         * @param from
+         *         the (inclusive) index of the first byte to parse
+         *
+         * @return the parse result
+         *
+         * @throws E
+         *         if the chunk cannot be parsed
+         */
+        R parse(LineChunk chunk, int from) throws E;
+    }
+}
@@ -0,0 +1,57 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.mapping;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * An {@link IntMapping} that stores its values in an {@code int} array. The array index of a key is determined by a
+ * given function, e.g., the state ids of an automaton.
+ *
+ * @param <D>
+ *         domain type
+ */
+public final class ArrayIntMapping<D> implements IntMapping<D> {
+
+    private final ToIntFunction<? super D> index;
+    private final int[] storage;
+
+    /**
+     * Constructor.
+     *
+     * @param index
+     *         the function that maps keys to indices in {@code [0, size)}
+     * @param size
+     *         the number of keys
+     */
+    public ArrayIntMapping(ToIntFunction<? super D> index, int size) {
+        this.index = index;
+        this.storage = new int[size];
+    }
+
+    @Override
+    public int getInt(D elem) {
+        return storage[index.applyAsInt(elem)];
+    }
+
+    @Override
+    public int putInt(D key, int value) {
+        final int idx = index.applyAsInt(key);
+        final int old = storage[idx];
+        storage[idx] = value;
+        return old;
+    }
+}
@@ -0,0 +1,58 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.mapping;
+
+import java.util.BitSet;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link BooleanMapping} that stores its values in a {@link BitSet}. The bit index of a key is determined by a given
+ * function, e.g., the state ids of an automaton.
+ *
+ * @param <D>
+ *         domain type
+ */
+public final class BitSetBooleanMapping<D> implements BooleanMapping<D> {
+
+    private final ToIntFunction<? super D> index;
+    private final BitSet storage;
+
+    /**
+     * Constructor.
+     *
+     * @param index
+     *         the function that maps keys to (non-negative) indices
+     * @param size
+     *         the expected number of keys
+     */
+    public BitSetBooleanMapping(ToIntFunction<? super D> index, int size) {
+        this.index = index;
+        this.storage = new BitSet(size);
+    }
+
+    @Override
+    public boolean getBoolean(D elem) {
+        return storage.get(index.applyAsInt(elem));
+    }
+
+    @Override
+    public boolean putBoolean(D key, boolean value) {
+        final int idx = index.applyAsInt(key);
+        final boolean old = storage.get(idx);
+        storage.set(idx, value);
+        return old;
+    }
+}
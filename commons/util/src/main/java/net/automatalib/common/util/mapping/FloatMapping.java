@@ -0,0 +1,61 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.mapping;
+
+/**
+ * A {@link MutableMapping} whose range are (primitive) {@code float}s. Implementations store their values without
+ * boxing and map keys whose value has not been set explicitly to {@code 0}.
+ * <p>
+ * The boxed {@link #get(Object)} and {@link #put(Object, Float)} methods are only provided for compatibility with
+ * generic code and delegate to their primitive counterparts.
+ *
+ * @param <D>
+ *         domain type
+ */
+public interface FloatMapping<D> extends MutableMapping<D, Float> {
+
+    /**
+     * Returns the value {@code elem} maps to.
+     *
+     * @param elem
+     *         object from the domain
+     *
+     * @return the value {@code elem} maps to, or {@code 0} if no value has been set
+     */
+    float getFloat(D elem);
+
+    /**
+     * Sets the value {@code key} maps to.
+     *
+     * @param key
+     *         object from the domain
+     * @param value
+     *         the new value
+     *
+     * @return the previous value {@code key} mapped to
+     */
+    float putFloat(D key, float value);
+
+    @Override
+    default Float get(D elem) {
+        return getFloat(elem);
+    }
+
+    @Override
+    default Float put(D key, Float value) {
+        return putFloat(key, value);
+    }
+}
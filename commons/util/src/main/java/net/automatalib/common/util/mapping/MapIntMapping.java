@@ -0,0 +1,42 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.mapping;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An {@link IntMapping} that is backed by a {@link HashMap}. This is the fallback for domains that do not provide
+ * integer indices and, contrary to {@link ArrayIntMapping}, boxes its values.
+ *
+ * @param <D>
+ *         domain type
+ */
+public final class MapIntMapping<D> implements IntMapping<D> {
+
+    private final Map<D, Integer> map = new HashMap<>();
+
+    @Override
+    public int getInt(D elem) {
+        return map.getOrDefault(elem, 0);
+    }
+
+    @Override
+    public int putInt(D key, int value) {
+        final Integer old = map.put(key, value);
+        return old == null ? 0 : old;
+    }
+}
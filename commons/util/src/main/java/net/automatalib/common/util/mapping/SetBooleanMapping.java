@@ -0,0 +1,41 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.mapping;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A {@link BooleanMapping} that is backed by a {@link HashSet} of all keys that map to {@code true}. This is the
+ * fallback for domains that do not provide integer indices.
+ *
+ * @param <D>
+ *         domain type
+ */
+public final class SetBooleanMapping<D> implements BooleanMapping<D> {
+
+    private final Set<D> set = new HashSet<>();
+
+    @Override
+    public boolean getBoolean(D elem) {
+        return set.contains(elem);
+    }
+
+    @Override
+    public boolean putBoolean(D key, boolean value) {
+        return value ? !set.add(key) : set.remove(key);
+    }
+}
@@ -0,0 +1,138 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ConcurrentUnionFindTest {
+
+    private static final int SIZE = 10_000;
+    private static final int NUM_UNIONS = 8192; // a power of two so that odd strides permute the pairs
+    private static final int NUM_THREADS = 4;
+
+    @Test
+    public void testSequential() {
+        final Random random = new Random(42);
+        final IntDisjointSets expected = new UnionFind(SIZE);
+        final IntDisjointSets actual = new ConcurrentUnionFind(SIZE);
+
+        Assert.assertEquals(actual.size(), SIZE);
+
+        for (int i = 0; i < NUM_UNIONS; i++) {
+            final int x = random.nextInt(SIZE);
+            final int y = random.nextInt(SIZE);
+            Assert.assertEquals(actual.union(x, y), expected.union(x, y));
+        }
+
+        final int r1 = actual.find(0);
+        final int r2 = actual.find(1);
+        if (r1 != r2) {
+            final int r = actual.link(r1, r2);
+            Assert.assertTrue(r == r1 || r == r2);
+            expected.union(0, 1);
+        }
+
+        assertSamePartition(actual, expected);
+    }
+
+    @Test(timeOut = 10_000)
+    public void testConcurrent() throws InterruptedException, ExecutionException {
+        final Random random = new Random(42);
+        final int[][] pairs = new int[NUM_UNIONS][];
+
+        for (int i = 0; i < NUM_UNIONS; i++) {
+            pairs[i] = new int[] {random.nextInt(SIZE), random.nextInt(SIZE)};
+        }
+
+        final IntDisjointSets expected = new UnionFind(SIZE);
+        int expectedUnions = 0;
+        for (int[] pair : pairs) {
+            if (expected.union(pair[0], pair[1])) {
+                expectedUnions++;
+            }
+        }
+
+        final ConcurrentUnionFind actual = new ConcurrentUnionFind(SIZE);
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        final CountDownLatch latch = new CountDownLatch(NUM_THREADS);
+        final List<Future<Integer>> futures = new ArrayList<>(NUM_THREADS);
+
+        try {
+            for (int t = 0; t < NUM_THREADS; t++) {
+                final int offset = t;
+                futures.add(executor.submit(() -> {
+                    latch.countDown();
+                    latch.await();
+
+                    // every thread processes all pairs (in different orders) to provoke conflicting unions
+                    int unions = 0;
+                    for (int i = 0; i < NUM_UNIONS; i++) {
+                        final int[] pair = pairs[(i * (2 * offset + 1)) % NUM_UNIONS];
+                        if (actual.union(pair[0], pair[1])) {
+                            unions++;
+                        }
+                        actual.equivalent(pair[1], pair[0]);
+                    }
+                    return unions;
+                }));
+            }
+
+            int actualUnions = 0;
+            for (Future<Integer> f : futures) {
+                actualUnions += f.get();
+            }
+
+            // linearizability: each merge of two sets is reported exactly once
+            Assert.assertEquals(actualUnions, expectedUnions);
+            assertSamePartition(actual, expected);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertSamePartition(IntDisjointSets actual, IntDisjointSets expected) {
+        final int[] expectedToActual = new int[SIZE];
+        final int[] actualToExpected = new int[SIZE];
+        Arrays.fill(expectedToActual, -1);
+        Arrays.fill(actualToExpected, -1);
+
+        for (int i = 0; i < SIZE; i++) {
+            final int e = expected.find(i);
+            final int a = actual.find(i);
+
+            if (expectedToActual[e] < 0) {
+                expectedToActual[e] = a;
+            }
+            if (actualToExpected[a] < 0) {
+                actualToExpected[a] = e;
+            }
+
+            Assert.assertEquals(expectedToActual[e], a);
+            Assert.assertEquals(actualToExpected[a], e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.concurrent;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ConcurrentUtilTest {
+
+    @Test
+    public void testAwait() throws IOException {
+        Assert.assertEquals(ConcurrentUtil.await(CompletableFuture.completedFuture(42), IOException::new).intValue(),
+                            42);
+
+        // unchecked exceptions are re-thrown as is
+        final Future<?> unchecked = failedFuture(new IllegalArgumentException());
+        Assert.assertThrows(IllegalArgumentException.class, () -> ConcurrentUtil.await(unchecked, IOException::new));
+        final Future<?> error = failedFuture(new AssertionError());
+        Assert.assertThrows(AssertionError.class, () -> ConcurrentUtil.await(error, IOException::new));
+
+        // checked exceptions are wrapped
+        final IOException cause = new IOException();
+        final Future<?> checked = failedFuture(cause);
+        try {
+            ConcurrentUtil.await(checked, IllegalStateException::new);
+            Assert.fail("Exception expected");
+        } catch (IllegalStateException ise) {
+            Assert.assertSame(ise.getCause(), cause);
+        }
+    }
+
+    @Test
+    public void testAwaitInterrupted() {
+        Thread.currentThread().interrupt();
+        try {
+            ConcurrentUtil.await(new CompletableFuture<>(), IllegalStateException::new);
+            Assert.fail("Exception expected");
+        } catch (IllegalStateException ise) {
+            Assert.assertTrue(ise.getCause() instanceof InterruptedException);
+            Assert.assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void testForAll() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (int count : new int[] {0, 1, 2, 1000}) {
+                checkForAll(count, task -> ConcurrentUtil.forAll(null, count, task));
+                checkForAll(count, task -> ConcurrentUtil.forAll(pool, count, task));
+                checkForAll(count, task -> ConcurrentUtil.forAll(1, count, task));
+                checkForAll(count, task -> ConcurrentUtil.forAll(4, count, task));
+            }
+
+            Assert.assertThrows(IllegalArgumentException.class, () -> ConcurrentUtil.forAll(pool, 100, i -> {
+                if (i == 42) {
+                    throw new IllegalArgumentException();
+                }
+            }));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void checkForAll(int count, Consumer<IntConsumer> forAll) {
+        final AtomicIntegerArray visits = new AtomicIntegerArray(count);
+        forAll.accept(visits::incrementAndGet);
+
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(visits.get(i), 1);
+        }
+    }
+
+    private static Future<?> failedFuture(Throwable t) {
+        final CompletableFuture<?> result = new CompletableFuture<>();
+        result.completeExceptionally(t);
+        return result;
+    }
+}
@@ -0,0 +1,123 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LineChunkReaderTest {
+
+    @Test
+    public void testChunkBoundaries() throws IOException {
+        final String input = buildInput(100, 7);
+        final LineChunkReader reader = createReader(input, 16);
+
+        final StringBuilder sb = new StringBuilder();
+        long expectedOffset = 0;
+        long expectedLine = 0;
+
+        LineChunk chunk;
+        while ((chunk = reader.next()) != null) {
+            final String content = new String(chunk.getData(), 0, chunk.getLength(), StandardCharsets.UTF_8);
+
+            Assert.assertEquals(chunk.getOffset(), expectedOffset);
+            Assert.assertEquals(chunk.getFirstLine(), expectedLine);
+            Assert.assertTrue(content.endsWith("\n"));
+
+            sb.append(content);
+            expectedOffset += chunk.getLength();
+            expectedLine += content.chars().filter(c -> c == '\n').count();
+        }
+
+        Assert.assertEquals(sb.toString(), input);
+    }
+
+    @Test
+    public void testLongLinesAndMissingNewline() throws IOException {
+        final String input = buildInput(3, 100) + "trailing";
+        final LineChunkReader reader = createReader(input, 8);
+
+        final List<String> chunks = new ArrayList<>();
+
+        LineChunk chunk;
+        while ((chunk = reader.next()) != null) {
+            chunks.add(new String(chunk.getData(), 0, chunk.getLength(), StandardCharsets.UTF_8));
+        }
+
+        Assert.assertEquals(String.join("", chunks), input);
+        for (int i = 0; i < chunks.size() - 1; i++) {
+            Assert.assertTrue(chunks.get(i).endsWith("\n"));
+        }
+        Assert.assertTrue(chunks.get(chunks.size() - 1).endsWith("trailing"));
+    }
+
+    @Test
+    public void testParseRemaining() throws IOException {
+        final String input = buildInput(1000, 5);
+
+        final List<Integer> sequential = createReader(input, 64).parseRemaining(1, LineChunkReaderTest::countLines);
+        final List<Integer> parallel = createReader(input, 64).parseRemaining(4, LineChunkReaderTest::countLines);
+
+        Assert.assertEquals(parallel, sequential);
+        Assert.assertEquals(sequential.stream().mapToInt(Integer::intValue).sum(), 1000);
+    }
+
+    @Test
+    public void testParseRemainingException() throws IOException {
+        final String input = buildInput(1000, 5);
+        final LineChunkReader reader = createReader(input, 64);
+
+        Assert.assertThrows(IllegalStateException.class, () -> reader.parseRemaining(4, (chunk, from) -> {
+            if (chunk.getFirstLine() > 500) {
+                throw new IllegalStateException();
+            }
+            return null;
+        }));
+    }
+
+    private static LineChunkReader createReader(String input, int chunkSize) {
+        final byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        return new LineChunkReader(Channels.newChannel(new ByteArrayInputStream(bytes)), chunkSize);
+    }
+
+    private static String buildInput(int lines, int lineLength) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            for (int j = 0; j < lineLength; j++) {
+                sb.append((char) ('a' + (i + j) % 26));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static int countLines(LineChunk chunk, int from) {
+        int result = 0;
+        for (int i = from; i < chunk.getLength(); i++) {
+            if (chunk.getData()[i] == '\n') {
+                result++;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,102 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.common.util.mapping;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PrimitiveMappingTest {
+
+    private static final List<String> DOMAIN = Arrays.asList("a", "b", "c", "d");
+
+    @Test
+    public void testIntMappings() {
+        checkIntMapping(new ArrayIntMapping<>(DOMAIN::indexOf, DOMAIN.size()));
+        checkIntMapping(new MapIntMapping<>());
+    }
+
+    @Test
+    public void testBooleanMappings() {
+        checkBooleanMapping(new BitSetBooleanMapping<>(DOMAIN::indexOf, DOMAIN.size()));
+        checkBooleanMapping(new SetBooleanMapping<>());
+    }
+
+    @Test
+    public void testFloatMappings() {
+        checkFloatMapping(new ArrayFloatMapping<>(DOMAIN::indexOf, DOMAIN.size()));
+        checkFloatMapping(new MapFloatMapping<>());
+    }
+
+    private static void checkIntMapping(IntMapping<String> mapping) {
+        for (String s : DOMAIN) {
+            Assert.assertEquals(mapping.getInt(s), 0);
+        }
+
+        Assert.assertEquals(mapping.putInt("a", 3), 0);
+        Assert.assertEquals(mapping.putInt("c", -1), 0);
+        Assert.assertEquals(mapping.putInt("a", 5), 3);
+
+        Assert.assertEquals(mapping.getInt("a"), 5);
+        Assert.assertEquals(mapping.getInt("b"), 0);
+        Assert.assertEquals(mapping.getInt("c"), -1);
+
+        // boxed access
+        Assert.assertEquals(mapping.put("d", 7), Integer.valueOf(0));
+        Assert.assertEquals(mapping.get("d"), Integer.valueOf(7));
+        Assert.assertEquals(mapping.apply("a"), Integer.valueOf(5));
+    }
+
+    private static void checkBooleanMapping(BooleanMapping<String> mapping) {
+        for (String s : DOMAIN) {
+            Assert.assertFalse(mapping.getBoolean(s));
+        }
+
+        Assert.assertFalse(mapping.putBoolean("a", true));
+        Assert.assertTrue(mapping.putBoolean("a", true));
+        Assert.assertFalse(mapping.putBoolean("b", false));
+        Assert.assertFalse(mapping.putBoolean("c", true));
+        Assert.assertTrue(mapping.putBoolean("c", false));
+
+        Assert.assertTrue(mapping.getBoolean("a"));
+        Assert.assertFalse(mapping.getBoolean("b"));
+        Assert.assertFalse(mapping.getBoolean("c"));
+
+        // boxed access
+        Assert.assertEquals(mapping.put("d", Boolean.TRUE), Boolean.FALSE);
+        Assert.assertEquals(mapping.get("d"), Boolean.TRUE);
+    }
+
+    private static void checkFloatMapping(FloatMapping<String> mapping) {
+        for (String s : DOMAIN) {
+            Assert.assertEquals(mapping.getFloat(s), 0f);
+        }
+
+        Assert.assertEquals(mapping.putFloat("a", 1.5f), 0f);
+        Assert.assertEquals(mapping.putFloat("a", 2.5f), 1.5f);
+        Assert.assertEquals(mapping.putFloat("b", Float.POSITIVE_INFINITY), 0f);
+
+        Assert.assertEquals(mapping.getFloat("a"), 2.5f);
+        Assert.assertEquals(mapping.getFloat("b"), Float.POSITIVE_INFINITY);
+        Assert.assertEquals(mapping.getFloat("c"), 0f);
+
+        // boxed access
+        Assert.assertEquals(mapping.put("d", 4f), Float.valueOf(0f));
+        Assert.assertEquals(mapping.get("d"), Float.valueOf(4f));
+    }
+}
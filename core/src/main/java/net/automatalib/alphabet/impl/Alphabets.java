@@ -29,12 +29,20 @@ import net.automatalib.common.util.collection.CollectionUtil;
  */
 public final class Alphabets {
 
+    /**
+     * Alphabets up to this size are searched linearly, larger alphabets use a {@link HashedArrayAlphabet hash index}.
+     */
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
     private Alphabets() {
         // prevent instantiation
     }
 
     @SafeVarargs
     public static <T> Alphabet<T> fromArray(T... symbols) {
+        if (symbols.length > LINEAR_SEARCH_THRESHOLD) {
+            return new HashedArrayAlphabet<>(symbols);
+        }
         return new ArrayAlphabet<>(symbols);
     }
 
@@ -48,16 +56,21 @@ public final class Alphabets {
 
     public static Alphabet<Integer> integers(int startInclusive, int endInclusive) {
         List<Integer> lst = CollectionUtil.intRange(startInclusive, endInclusive + 1);
-        return fromList(lst);
+        // ranges support constant-time index look-ups
+        return new ListAlphabet<>(lst);
     }
 
     public static <T> Alphabet<T> fromList(List<? extends T> list) {
+        if (list.size() > LINEAR_SEARCH_THRESHOLD) {
+            return new HashedArrayAlphabet<>(list);
+        }
         return new ListAlphabet<>(list);
     }
 
     public static Alphabet<Character> characters(char startInclusive, char endInclusive) {
         List<Character> lst = CollectionUtil.charRange(startInclusive, (char) (endInclusive + 1));
-        return fromList(lst);
+        // ranges support constant-time index look-ups
+        return new ListAlphabet<>(lst);
     }
 
     public static Alphabet<String> closedCharStringRange(char startInclusive, char endInclusive) {
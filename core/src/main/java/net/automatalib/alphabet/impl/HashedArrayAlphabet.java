@@ -0,0 +1,138 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.alphabet.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An array-based alphabet implementation with a precomputed hash index for symbol to index look-ups. The index is an
+ * open-addressing (linear probing) table of symbol indices together with the cached hash codes of the symbols, so a
+ * look-up usually requires a single identity check or {@link Object#equals(Object) equality} check, independent of
+ * the size of the alphabet.
+ * <p>
+ * If a symbol occurs multiple times, its first occurrence determines its index. {@code null} symbols are supported.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class HashedArrayAlphabet<I> extends AbstractAlphabet<I> {
+
+    private static final int EMPTY = -1;
+
+    private final @Nullable Object[] symbols;
+    private final int[] table;
+    private final int[] hashes;
+    private final int mask;
+
+    @SafeVarargs
+    public HashedArrayAlphabet(I... symbols) {
+        this(Arrays.asList(symbols));
+    }
+
+    public HashedArrayAlphabet(Collection<? extends I> symbols) {
+        this.symbols = symbols.toArray();
+
+        // a load factor of at most 0.5 keeps probe sequences short
+        final int capacity = Integer.highestOneBit(Math.max(this.symbols.length, 1) * 2 - 1) << 1;
+        this.table = new int[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+
+        Arrays.fill(table, EMPTY);
+
+        for (int i = 0; i < this.symbols.length; i++) {
+            final Object sym = this.symbols[i];
+            final int hash = hash(sym);
+
+            int pos = hash & mask;
+            while (table[pos] != EMPTY && !matches(pos, sym, hash)) {
+                pos = (pos + 1) & mask;
+            }
+
+            if (table[pos] == EMPTY) {
+                table[pos] = i;
+                hashes[pos] = hash;
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public I getSymbol(int index) {
+        if (index < 0 || index >= symbols.length) {
+            throw new IllegalArgumentException("Index not within its expected bounds");
+        }
+        return (I) symbols[index];
+    }
+
+    @Override
+    public int getSymbolIndex(I symbol) {
+        final int idx = getSymbolIndexInternal(symbol);
+
+        if (idx >= 0) {
+            return idx;
+        }
+
+        throw new IllegalArgumentException("Alphabet does not contain the queried symbol");
+    }
+
+    private int getSymbolIndexInternal(@Nullable Object symbol) {
+        final int hash = hash(symbol);
+        int pos = hash & mask;
+        int idx;
+
+        while ((idx = table[pos]) != EMPTY) {
+            if (matches(pos, symbol, hash)) {
+                return idx;
+            }
+            pos = (pos + 1) & mask;
+        }
+
+        return EMPTY;
+    }
+
+    private boolean matches(int pos, @Nullable Object symbol, int hash) {
+        final Object candidate = symbols[table[pos]];
+        return candidate == symbol || (hashes[pos] == hash && symbol != null && symbol.equals(candidate));
+    }
+
+    private static int hash(@Nullable Object symbol) {
+        if (symbol == null) {
+            return 0;
+        }
+        // spread the higher bits, as we only use the lower bits for addressing
+        final int h = symbol.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public void writeToArray(int offset, @Nullable Object[] array, int tgtOfs, int num) {
+        System.arraycopy(symbols, offset, array, tgtOfs, num);
+    }
+
+    @Override
+    public boolean containsSymbol(I symbol) {
+        return getSymbolIndexInternal(symbol) != EMPTY;
+    }
+
+    @Override
+    public int size() {
+        return symbols.length;
+    }
+}
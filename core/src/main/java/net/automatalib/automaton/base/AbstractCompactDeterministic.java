@@ -131,6 +131,75 @@ public abstract class AbstractCompactDeterministic<I, T, SP, TP> extends Abstrac
         super.clear();
     }
 
+    /**
+     * Sets the transitions of a contiguous range of (existing) states in bulk. The successor of state
+     * {@code firstState + i} for the input symbol with index {@code j} is given by {@code successors[i * numInputs() +
+     * j]} ({@link #INVALID_STATE} denoting an undefined transition) and its transition property by the same index of
+     * {@code properties}. This method overrides all previously defined transitions of the affected states.
+     *
+     * @param firstState
+     *         the (inclusive) id of the first state whose transitions should be set
+     * @param numStates
+     *         the number of states whose transitions should be set
+     * @param successors
+     *         the successor ids (in state-major order). Only the first {@code numStates * numInputs()} entries are
+     *         read
+     * @param properties
+     *         the transition properties (in the same order as {@code successors}), may be {@code null} if all
+     *         transitions should have a {@code null} property
+     *
+     * @throws IndexOutOfBoundsException
+     *         if the given range does not denote existing states
+     * @throws IllegalArgumentException
+     *         if the given arrays contain less than {@code numStates * numInputs()} entries
+     */
+    public final void setTransitions(int firstState,
+                                     int numStates,
+                                     int[] successors,
+                                     @Nullable TP @Nullable [] properties) {
+        final int length = numStates * numInputs();
+
+        if (firstState < 0 || numStates < 0 || firstState + numStates > size()) {
+            throw new IndexOutOfBoundsException("Invalid state range [" + firstState + ", " +
+                                                (firstState + numStates) + ')');
+        }
+        if (successors.length < length || (properties != null && properties.length < length)) {
+            throw new IllegalArgumentException("Insufficient transition data for " + numStates + " states");
+        }
+
+        storeTransitions(toMemoryIndex(firstState, 0), length, successors, properties);
+    }
+
+    /**
+     * Copies the given (already validated) transition data of {@link #setTransitions(int, int, int[], Object[])} into
+     * the transition storage, starting at the given memory location.
+     * <p>
+     * The default implementation delegates to {@link #setTransition(int, int, int, Object)} but subclasses may
+     * override this method to copy the data directly into their array-based transition storage.
+     *
+     * @param offset
+     *         the memory location of the first transition
+     * @param length
+     *         the number of transitions to copy
+     * @param successors
+     *         the successor ids
+     * @param properties
+     *         the transition properties, may be {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    protected void storeTransitions(int offset,
+                                    int length,
+                                    int[] successors,
+                                    @Nullable Object @Nullable [] properties) {
+        final int numInputs = numInputs();
+
+        for (int i = 0; i < length; i++) {
+            final int idx = offset + i;
+            final TP property = properties == null ? null : (TP) properties[i];
+            setTransition(idx / numInputs, idx % numInputs, successors[i], property);
+        }
+    }
+
     @Override
     public FullIntAbstraction<T, SP, TP> fullIntAbstraction(Alphabet<I> alphabet) {
         if (Objects.equals(getInputAlphabet(), alphabet)) {
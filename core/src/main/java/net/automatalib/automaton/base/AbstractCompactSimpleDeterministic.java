@@ -116,6 +116,14 @@ public abstract class AbstractCompactSimpleDeterministic<I, SP>
         transitions[toMemoryIndex(state, inputIdx)] = succ;
     }
 
+    @Override
+    protected void storeTransitions(int offset,
+                                    int length,
+                                    int[] successors,
+                                    @Nullable Object @Nullable [] properties) {
+        System.arraycopy(successors, 0, transitions, offset, length);
+    }
+
     @Override
     public void clear() {
         Arrays.fill(transitions, 0, size() * numInputs(), AbstractCompact.INVALID_STATE);
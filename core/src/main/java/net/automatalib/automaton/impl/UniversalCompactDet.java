@@ -131,6 +131,19 @@ public class UniversalCompactDet<I, SP, TP> extends AbstractCompactDeterministic
         transitionProperties[idx] = property;
     }
 
+    @Override
+    protected void storeTransitions(int offset,
+                                    int length,
+                                    int[] successors,
+                                    @Nullable Object @Nullable [] properties) {
+        System.arraycopy(successors, 0, transitions, offset, length);
+        if (properties == null) {
+            Arrays.fill(transitionProperties, offset, offset + length, null);
+        } else {
+            System.arraycopy(properties, 0, transitionProperties, offset, length);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public SP getStateProperty(int state) {
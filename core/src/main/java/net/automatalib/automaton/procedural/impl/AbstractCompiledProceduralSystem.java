@@ -0,0 +1,355 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.procedural.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjIntConsumer;
+
+import net.automatalib.alphabet.ProceduralInputAlphabet;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton;
+import net.automatalib.common.util.concurrent.ConcurrentUtil;
+import net.automatalib.common.util.concurrent.ScalingThreadPoolExecutor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Base class for the compiled (i.e., flattened) representations of procedural systems. The states of all procedures
+ * are numbered globally and their transitions are stored in a single integer array that is indexed by the global state
+ * id and the {@link ProceduralInputAlphabet#getSymbolIndex(Object) index} of the input symbol. Words are evaluated by
+ * means of an integer array-based call stack which is re-used across evaluations, so that evaluating a word does not
+ * allocate any objects per symbol.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+abstract class AbstractCompiledProceduralSystem<I> {
+
+    /**
+     * Marker for the (unique) initial configuration in which no procedure has been called yet.
+     */
+    static final int INIT = -1;
+    /**
+     * Marker for the (unique) configuration in which the initial procedure has terminated.
+     */
+    static final int TERM = -2;
+    /**
+     * Marker for the (unique) sink configuration.
+     */
+    static final int SINK = -3;
+
+    /**
+     * Trace marker for the output of the initial call.
+     */
+    static final int INITIAL_TRANSITION = -1;
+    /**
+     * Trace marker for the output of undefined transitions.
+     */
+    static final int ERROR_TRANSITION = -2;
+
+    private static final byte INTERNAL = 0;
+    private static final byte CALL = 1;
+    private static final byte RETURN = 2;
+
+    private final ProceduralInputAlphabet<I> alphabet;
+    private final byte[] symbolTypes;
+    private final int numSymbols;
+    private final int initialCall;
+    private final int[] initialStates;
+    private final int[] transitions;
+
+    AbstractCompiledProceduralSystem(ProceduralInputAlphabet<I> alphabet, @Nullable I initialCall, Tables tables) {
+        this.alphabet = alphabet;
+        this.numSymbols = alphabet.size();
+        this.symbolTypes = new byte[numSymbols];
+
+        for (int i = 0; i < numSymbols; i++) {
+            final I sym = alphabet.getSymbol(i);
+            if (alphabet.isCallSymbol(sym)) {
+                this.symbolTypes[i] = CALL;
+            } else if (alphabet.isReturnSymbol(sym)) {
+                this.symbolTypes[i] = RETURN;
+            } else {
+                this.symbolTypes[i] = INTERNAL;
+            }
+        }
+
+        this.initialCall = initialCall == null || !alphabet.isCallSymbol(initialCall) ?
+                -1 :
+                alphabet.getSymbolIndex(initialCall);
+        this.initialStates = tables.initialStates;
+        this.transitions = tables.transitions;
+    }
+
+    /**
+     * Evaluates the given input and returns the reached configuration, i.e., either the global id of the current
+     * procedural state (in which case the current call stack is stored in the given workspace) or one of the markers
+     * {@link #INIT}, {@link #TERM}, {@link #SINK}. If {@code trace} is set, the index of the transition taken for
+     * each input symbol (or one of the markers {@link #INITIAL_TRANSITION}, {@link #ERROR_TRANSITION}) is stored in
+     * the trace of the given workspace.
+     */
+    final int evaluate(Iterable<? extends I> input, Workspace ws, boolean trace) {
+        int state = INIT;
+        int depth = 0;
+        int pos = 0;
+
+        for (I sym : input) {
+            if (state == SINK || state == TERM) {
+                if (!trace) {
+                    return SINK;
+                }
+                state = SINK;
+                ws.trace(pos++, ERROR_TRANSITION);
+                continue;
+            }
+
+            int taken = ERROR_TRANSITION;
+
+            if (!alphabet.containsSymbol(sym)) {
+                state = SINK;
+            } else {
+                final int symIdx = alphabet.getSymbolIndex(sym);
+
+                switch (symbolTypes[symIdx]) {
+                    case INTERNAL: {
+                        if (state == INIT) {
+                            state = SINK;
+                            break;
+                        }
+                        final int t = state * numSymbols + symIdx;
+                        final int next = transitions[t];
+                        if (next < 0) {
+                            state = SINK;
+                        } else {
+                            taken = t;
+                            state = next;
+                        }
+                        break;
+                    }
+                    case CALL: {
+                        final int next = initialStates[symIdx];
+                        if (next < 0) {
+                            state = SINK;
+                        } else if (state == INIT) {
+                            if (symIdx == initialCall) {
+                                ws.push(depth++, TERM);
+                                taken = INITIAL_TRANSITION;
+                                state = next;
+                            } else {
+                                state = SINK;
+                            }
+                        } else {
+                            final int t = state * numSymbols + symIdx;
+                            final int succ = transitions[t];
+                            if (succ < 0) {
+                                state = SINK;
+                            } else {
+                                ws.push(depth++, succ);
+                                taken = t;
+                                state = next;
+                            }
+                        }
+                        break;
+                    }
+                    case RETURN: {
+                        if (state == INIT) {
+                            state = SINK;
+                            break;
+                        }
+                        final int t = state * numSymbols + symIdx;
+                        if (transitions[t] < 0) {
+                            state = SINK;
+                        } else {
+                            taken = t;
+                            state = ws.stack[--depth];
+                        }
+                        break;
+                    }
+                    default:
+                        throw new IllegalStateException("Unknown symbol type " + symbolTypes[symIdx]);
+                }
+            }
+
+            if (trace) {
+                ws.trace(pos++, taken);
+            } else if (state == SINK) {
+                return SINK;
+            }
+        }
+
+        ws.length = pos;
+        return state;
+    }
+
+    /**
+     * Evaluates the given task for all indices in {@code [0, size)}. If {@code parallelism > 1}, the indices are split
+     * into (at most) {@code parallelism} contiguous blocks that are evaluated concurrently. Each block uses its own
+     * {@link Workspace}.
+     */
+    static void forEach(int size, int parallelism, ObjIntConsumer<Workspace> task) {
+        final int numBlocks = Math.min(size, parallelism);
+
+        if (numBlocks <= 1) {
+            final Workspace ws = new Workspace();
+            for (int i = 0; i < size; i++) {
+                task.accept(ws, i);
+            }
+            return;
+        }
+
+        final ExecutorService executor = new ScalingThreadPoolExecutor(0, numBlocks, 60, TimeUnit.SECONDS);
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>(numBlocks);
+            final int blockSize = (size + numBlocks - 1) / numBlocks;
+
+            for (int b = 0; b < numBlocks; b++) {
+                final int from = b * blockSize;
+                final int to = Math.min(size, from + blockSize);
+                futures.add(executor.submit(() -> {
+                    final Workspace ws = new Workspace();
+                    for (int i = from; i < to; i++) {
+                        task.accept(ws, i);
+                    }
+                }));
+            }
+
+            for (Future<?> f : futures) {
+                ConcurrentUtil.await(f, IllegalStateException::new);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Re-usable (per-thread) memory for evaluating words.
+     */
+    static final class Workspace {
+
+        private int[] stack = new int[16];
+        private int[] trace = new int[16];
+        private int length;
+
+        int[] getTrace() {
+            return trace;
+        }
+
+        int getLength() {
+            return length;
+        }
+
+        private void push(int depth, int value) {
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            stack[depth] = value;
+        }
+
+        private void trace(int pos, int value) {
+            if (pos == trace.length) {
+                trace = Arrays.copyOf(trace, trace.length * 2);
+            }
+            trace[pos] = value;
+        }
+    }
+
+    /**
+     * The flattened transition tables of a procedural system.
+     */
+    static final class Tables {
+
+        final int numSymbols;
+        final int numStates;
+        final int[] initialStates;
+        final int[] transitions;
+        final boolean[] accepting;
+
+        /**
+         * The indices of all internal symbols and all call symbols for which a procedure exists.
+         */
+        final int[] proceduralSymbols;
+        /**
+         * The indices of all return symbols.
+         */
+        final int[] returnSymbols;
+
+        private final int[] offsets;
+
+        <I> Tables(ProceduralInputAlphabet<I> alphabet,
+                   Map<I, ? extends SimpleDeterministicAutomaton<?, I>> procedures) {
+            this.numSymbols = alphabet.size();
+            this.initialStates = new int[numSymbols];
+            this.offsets = new int[numSymbols];
+
+            Arrays.fill(this.initialStates, -1);
+            Arrays.fill(this.offsets, -1);
+
+            int n = 0;
+            for (Entry<I, ? extends SimpleDeterministicAutomaton<?, I>> e : procedures.entrySet()) {
+                final I call = e.getKey();
+                if (!alphabet.isCallSymbol(call)) {
+                    continue;
+                }
+                final int callIdx = alphabet.getSymbolIndex(call);
+                final int init = initialStateId(e.getValue());
+                this.offsets[callIdx] = n;
+                if (init >= 0) {
+                    this.initialStates[callIdx] = n + init;
+                }
+                n += e.getValue().size();
+            }
+
+            final int[] procSyms = new int[numSymbols];
+            final int[] retSyms = new int[numSymbols];
+            int numProc = 0;
+            int numRet = 0;
+
+            for (int i = 0; i < numSymbols; i++) {
+                final I sym = alphabet.getSymbol(i);
+                if (alphabet.isInternalSymbol(sym) || (alphabet.isCallSymbol(sym) && offsets[i] >= 0)) {
+                    procSyms[numProc++] = i;
+                } else if (alphabet.isReturnSymbol(sym)) {
+                    retSyms[numRet++] = i;
+                }
+            }
+
+            this.proceduralSymbols = Arrays.copyOf(procSyms, numProc);
+            this.returnSymbols = Arrays.copyOf(retSyms, numRet);
+            this.numStates = n;
+            this.transitions = new int[Math.multiplyExact(numStates, numSymbols)];
+            Arrays.fill(this.transitions, -1);
+            this.accepting = new boolean[numStates];
+        }
+
+        /**
+         * Returns the global id of the first state of the procedure of the given call symbol.
+         */
+        int getOffset(int callIdx) {
+            return offsets[callIdx];
+        }
+
+        private static <S, I> int initialStateId(SimpleDeterministicAutomaton<S, I> procedure) {
+            final S init = procedure.getInitialState();
+            return init == null ? -1 : procedure.stateIDs().getStateId(init);
+        }
+    }
+}
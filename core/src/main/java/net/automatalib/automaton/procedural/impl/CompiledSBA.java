@@ -0,0 +1,140 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.procedural.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import net.automatalib.alphabet.ProceduralInputAlphabet;
+import net.automatalib.automaton.concept.Output;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.fsa.DFA;
+import net.automatalib.automaton.procedural.SBA;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A compiled representation of an {@link SBA} that is optimized for (repeatedly) evaluating words. Upon construction,
+ * the procedures of the given {@link SBA} are flattened into integer-indexed transition tables so that the evaluation
+ * of a word neither needs to look up procedures nor allocates any objects per input symbol. Furthermore,
+ * {@link #accepts(List, int)} allows one to evaluate a batch of words in parallel.
+ * <p>
+ * Note that this class only captures the state of the given {@link SBA} at construction time, i.e., subsequent changes
+ * to the procedures are not reflected. Instances of this class are immutable and can be safely shared between threads.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class CompiledSBA<I> extends AbstractCompiledProceduralSystem<I> implements Output<I, Boolean> {
+
+    private final boolean[] accepting;
+
+    /**
+     * Constructor.
+     *
+     * @param sba
+     *         the {@link SBA} to compile
+     */
+    public CompiledSBA(SBA<?, I> sba) {
+        this(sba.getInputAlphabet(), sba.getInitialProcedure(), compile(sba));
+    }
+
+    private CompiledSBA(ProceduralInputAlphabet<I> alphabet, @Nullable I initialCall, Tables tables) {
+        super(alphabet, initialCall, tables);
+        this.accepting = tables.accepting;
+    }
+
+    /**
+     * Returns whether the given word is accepted by the compiled {@link SBA}.
+     *
+     * @param input
+     *         the input word
+     *
+     * @return {@code true} if the word is accepted, {@code false} otherwise
+     */
+    public boolean accepts(Iterable<? extends I> input) {
+        return accepts(input, new Workspace());
+    }
+
+    /**
+     * Returns for each of the given words whether it is accepted by the compiled {@link SBA}.
+     *
+     * @param inputs
+     *         the input words
+     * @param parallelism
+     *         the maximum number of threads used for evaluating the words. Values {@code <= 1} evaluate the words
+     *         sequentially in the calling thread
+     *
+     * @return an array whose {@code i}-th entry denotes whether the {@code i}-th word of {@code inputs} is accepted
+     */
+    public boolean[] accepts(List<? extends Iterable<? extends I>> inputs, int parallelism) {
+        final boolean[] result = new boolean[inputs.size()];
+        forEach(inputs.size(), parallelism, (ws, i) -> result[i] = accepts(inputs.get(i), ws));
+        return result;
+    }
+
+    @Override
+    public Boolean computeOutput(Iterable<? extends I> input) {
+        return accepts(input);
+    }
+
+    private boolean accepts(Iterable<? extends I> input, Workspace ws) {
+        final int state = evaluate(input, ws, false);
+        return state == INIT || state == TERM || (state >= 0 && accepting[state]);
+    }
+
+    private static <I> Tables compile(SBA<?, I> sba) {
+        final ProceduralInputAlphabet<I> alphabet = sba.getInputAlphabet();
+        final Map<I, DFA<?, I>> procedures = sba.getProcedures();
+        final Tables tables = new Tables(alphabet, procedures);
+
+        for (Entry<I, DFA<?, I>> e : procedures.entrySet()) {
+            if (alphabet.isCallSymbol(e.getKey())) {
+                compile(alphabet, tables, tables.getOffset(alphabet.getSymbolIndex(e.getKey())), e.getValue());
+            }
+        }
+
+        return tables;
+    }
+
+    private static <S, I> void compile(ProceduralInputAlphabet<I> alphabet,
+                                       Tables tables,
+                                       int offset,
+                                       DFA<S, I> procedure) {
+        final StateIDs<S> ids = procedure.stateIDs();
+        final int[] transitions = tables.transitions;
+
+        for (S s : procedure) {
+            final int src = offset + ids.getStateId(s);
+            final int base = src * tables.numSymbols;
+
+            tables.accepting[src] = procedure.isAccepting(s);
+
+            // only transitions into accepting states are valid
+            for (int i : tables.proceduralSymbols) {
+                transitions[base + i] = getSuccessorId(procedure, ids, offset, s, alphabet.getSymbol(i));
+            }
+            for (int i : tables.returnSymbols) {
+                transitions[base + i] = getSuccessorId(procedure, ids, offset, s, alphabet.getSymbol(i));
+            }
+        }
+    }
+
+    private static <S, I> int getSuccessorId(DFA<S, I> procedure, StateIDs<S> ids, int offset, S state, I input) {
+        final S succ = procedure.getSuccessor(state, input);
+        return succ != null && procedure.isAccepting(succ) ? offset + ids.getStateId(succ) : -1;
+    }
+}
@@ -0,0 +1,194 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.procedural.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import net.automatalib.alphabet.ProceduralInputAlphabet;
+import net.automatalib.automaton.concept.Output;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.procedural.SPMM;
+import net.automatalib.automaton.transducer.MealyMachine;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A compiled representation of an {@link SPMM} that is optimized for (repeatedly) evaluating words. Upon construction,
+ * the procedures of the given {@link SPMM} are flattened into integer-indexed transition (and output) tables so that
+ * the evaluation of a word neither needs to look up procedures nor allocates any objects per input symbol (except for
+ * the output word). Furthermore, {@link #computeOutputs(List, int)} allows one to evaluate a batch of words in
+ * parallel.
+ * <p>
+ * Note that this class only captures the state of the given {@link SPMM} at construction time, i.e., subsequent
+ * changes to the procedures are not reflected. Instances of this class are immutable and can be safely shared between
+ * threads.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <O>
+ *         output symbol type
+ */
+public class CompiledSPMM<I, O> extends AbstractCompiledProceduralSystem<I> implements Output<I, Word<O>> {
+
+    private final O initialOutput;
+    private final O errorOutput;
+    private final @Nullable Object[] outputs;
+
+    /**
+     * Constructor.
+     *
+     * @param spmm
+     *         the {@link SPMM} to compile
+     */
+    public CompiledSPMM(SPMM<?, I, ?, O> spmm) {
+        this(spmm, compile(spmm));
+    }
+
+    private CompiledSPMM(SPMM<?, I, ?, O> spmm, OutputTables tables) {
+        super(spmm.getInputAlphabet(), spmm.getInitialProcedure(), tables.tables);
+        this.initialOutput = getInitialOutput(spmm);
+        this.errorOutput = spmm.getErrorOutput();
+        this.outputs = tables.outputs;
+    }
+
+    /**
+     * Computes the output of the compiled {@link SPMM} for the given word.
+     *
+     * @param input
+     *         the input word
+     *
+     * @return the output word
+     */
+    @Override
+    public Word<O> computeOutput(Iterable<? extends I> input) {
+        return computeOutput(input, new Workspace());
+    }
+
+    /**
+     * Computes the outputs of the compiled {@link SPMM} for the given words.
+     *
+     * @param inputs
+     *         the input words
+     * @param parallelism
+     *         the maximum number of threads used for evaluating the words. Values {@code <= 1} evaluate the words
+     *         sequentially in the calling thread
+     *
+     * @return a list whose {@code i}-th entry is the output of the {@code i}-th word of {@code inputs}
+     */
+    public List<Word<O>> computeOutputs(List<? extends Iterable<? extends I>> inputs, int parallelism) {
+        // each index is set by exactly one thread and setting elements does not structurally modify the list
+        final List<Word<O>> result = new ArrayList<>(Collections.nCopies(inputs.size(), Word.epsilon()));
+        forEach(inputs.size(), parallelism, (ws, i) -> result.set(i, computeOutput(inputs.get(i), ws)));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Word<O> computeOutput(Iterable<? extends I> input, Workspace ws) {
+        evaluate(input, ws, true);
+
+        final int length = ws.getLength();
+        final int[] trace = ws.getTrace();
+        final WordBuilder<O> result = new WordBuilder<>(length);
+
+        for (int i = 0; i < length; i++) {
+            final int t = trace[i];
+            if (t == INITIAL_TRANSITION) {
+                result.append(initialOutput);
+            } else if (t == ERROR_TRANSITION) {
+                result.append(errorOutput);
+            } else {
+                result.append((O) outputs[t]);
+            }
+        }
+
+        return result.toWord();
+    }
+
+    private static <S, I, T, O> O getInitialOutput(SPMM<S, I, T, O> spmm) {
+        final S init = spmm.getInitialState();
+        final I initialCall = spmm.getInitialProcedure();
+        if (init == null || initialCall == null) {
+            return spmm.getErrorOutput();
+        }
+        final T t = spmm.getTransition(init, initialCall);
+        return t == null ? spmm.getErrorOutput() : spmm.getTransitionOutput(t);
+    }
+
+    private static <I, O> OutputTables compile(SPMM<?, I, ?, O> spmm) {
+        final ProceduralInputAlphabet<I> alphabet = spmm.getInputAlphabet();
+        final Map<I, MealyMachine<?, I, ?, O>> procedures = spmm.getProcedures();
+        final Tables tables = new Tables(alphabet, procedures);
+        final @Nullable Object[] outputs = new Object[tables.transitions.length];
+        final O errorOutput = spmm.getErrorOutput();
+
+        for (Entry<I, MealyMachine<?, I, ?, O>> e : procedures.entrySet()) {
+            if (alphabet.isCallSymbol(e.getKey())) {
+                final int offset = tables.getOffset(alphabet.getSymbolIndex(e.getKey()));
+                compile(alphabet, tables, outputs, errorOutput, offset, e.getValue());
+            }
+        }
+
+        return new OutputTables(tables, outputs);
+    }
+
+    private static <S, I, T, O> void compile(ProceduralInputAlphabet<I> alphabet,
+                                             Tables tables,
+                                             @Nullable Object[] outputs,
+                                             O errorOutput,
+                                             int offset,
+                                             MealyMachine<S, I, T, O> procedure) {
+        final StateIDs<S> ids = procedure.stateIDs();
+        final int numProcSymbols = tables.proceduralSymbols.length;
+        final int numReturnSymbols = tables.returnSymbols.length;
+        final int[] symbols = Arrays.copyOf(tables.proceduralSymbols, numProcSymbols + numReturnSymbols);
+        System.arraycopy(tables.returnSymbols, 0, symbols, numProcSymbols, numReturnSymbols);
+
+        for (S s : procedure) {
+            final int base = (offset + ids.getStateId(s)) * tables.numSymbols;
+
+            for (int i : symbols) {
+                final T t = procedure.getTransition(s, alphabet.getSymbol(i));
+
+                // transitions with an error output are treated as undefined
+                if (t != null) {
+                    final O output = procedure.getTransitionOutput(t);
+                    if (!Objects.equals(errorOutput, output)) {
+                        tables.transitions[base + i] = offset + ids.getStateId(procedure.getSuccessor(t));
+                        outputs[base + i] = output;
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class OutputTables {
+
+        private final Tables tables;
+        private final @Nullable Object[] outputs;
+
+        OutputTables(Tables tables, @Nullable Object[] outputs) {
+            this.tables = tables;
+            this.outputs = outputs;
+        }
+    }
+}
@@ -157,6 +157,19 @@ public class CompactMealy<I, O> extends AbstractCompactDeterministic<I, CompactT
         outputs[idx] = property;
     }
 
+    @Override
+    protected void storeTransitions(int offset,
+                                    int length,
+                                    int[] successors,
+                                    @Nullable Object @Nullable [] properties) {
+        System.arraycopy(successors, 0, transitions, offset, length);
+        if (properties == null) {
+            Arrays.fill(outputs, offset, offset + length, null);
+        } else {
+            System.arraycopy(properties, 0, outputs, offset, length);
+        }
+    }
+
     @Override
     public void clear() {
         int endIdx = size() * numInputs();
@@ -0,0 +1,405 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.vpa.impl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.automatalib.alphabet.VPAlphabet;
+import net.automatalib.automaton.vpa.OneSEVPA;
+import net.automatalib.common.util.array.ArrayUtil;
+import net.automatalib.common.util.collection.CollectionUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A compact implementation for 1-SEVPAs. Locations are represented by their (consecutive) integer ids and both the
+ * internal and the return transitions are stored in flat {@code int} arrays. Undefined transitions are represented by
+ * {@link #UNDEFINED}.
+ * <p>
+ * Return transitions are indexed by {@code (loc * numReturns + retSymIdx) * (capacity * numCalls) + stackSym}, i.e.,
+ * for a fixed location and return symbol, the successors of all stack symbols are stored consecutively. Since the size
+ * of this table is quadratic in the capacity, exceeding the maximum array size results in an
+ * {@link ArithmeticException}.
+ *
+ * @param <I>
+ *         input symbol type
+ */
+public class CompactOneSEVPA<I> extends AbstractSEVPA<Integer, I> implements OneSEVPA<Integer, I> {
+
+    public static final int UNDEFINED = -1;
+
+    private static final int DEFAULT_SIZE = 10;
+
+    private final int numInternals;
+    private final int numCalls;
+    private final int numReturns;
+
+    private int size;
+    private int capacity;
+    private int initialLocation = UNDEFINED;
+
+    private boolean[] accepting;
+    private int[] internalSuccessors;
+    private int[] returnSuccessors;
+
+    public CompactOneSEVPA(VPAlphabet<I> alphabet) {
+        this(alphabet, DEFAULT_SIZE);
+    }
+
+    public CompactOneSEVPA(VPAlphabet<I> alphabet, int capacity) {
+        super(alphabet);
+        this.numInternals = alphabet.getNumInternals();
+        this.numCalls = alphabet.getNumCalls();
+        this.numReturns = alphabet.getNumReturns();
+        this.capacity = Math.max(capacity, 1);
+        this.accepting = new boolean[this.capacity];
+        this.internalSuccessors = new int[Math.multiplyExact(this.capacity, numInternals)];
+        this.returnSuccessors = new int[returnTableSize(this.capacity)];
+
+        Arrays.fill(this.internalSuccessors, UNDEFINED);
+        Arrays.fill(this.returnSuccessors, UNDEFINED);
+    }
+
+    /**
+     * Creates a compact copy of the given 1-SEVPA, restricted to the symbols of the given alphabet. Location ids
+     * of the copy coincide with the {@link OneSEVPA#getLocationId(Object) location ids} of the source.
+     *
+     * @param sevpa
+     *         the source SEVPA
+     * @param alphabet
+     *         the alphabet of the copy
+     * @param <L>
+     *         location type of the source
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the compact copy
+     */
+    public static <L, I> CompactOneSEVPA<I> copyOf(OneSEVPA<L, ? super I> sevpa, VPAlphabet<I> alphabet) {
+        final int n = sevpa.size();
+        final CompactOneSEVPA<I> result = new CompactOneSEVPA<>(alphabet, n);
+
+        for (int i = 0; i < n; i++) {
+            result.addLocation(sevpa.isAcceptingLocation(sevpa.getLocation(i)));
+        }
+
+        result.setInitialLocation(sevpa.getLocationId(sevpa.getInitialLocation()));
+
+        // resolve the (source-specific) stack symbols of all (location, call symbol) pairs once
+        final int[] stackSyms = new int[n * result.numCalls];
+        for (int c = 0; c < result.numCalls; c++) {
+            final I callSym = alphabet.getCallSymbol(c);
+            for (int s = 0; s < n; s++) {
+                stackSyms[s * result.numCalls + c] = sevpa.encodeStackSym(sevpa.getLocation(s), callSym);
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            final L loc = sevpa.getLocation(i);
+
+            for (int j = 0; j < result.numInternals; j++) {
+                final L succ = sevpa.getInternalSuccessor(loc, alphabet.getInternalSymbol(j));
+                if (succ != null) {
+                    result.internalSuccessors[i * result.numInternals + j] = sevpa.getLocationId(succ);
+                }
+            }
+
+            for (int r = 0; r < result.numReturns; r++) {
+                final I retSym = alphabet.getReturnSymbol(r);
+                final int offset = result.getReturnOffset(i, r);
+
+                for (int s = 0; s < stackSyms.length; s++) {
+                    final L succ = sevpa.getReturnSuccessor(loc, retSym, stackSyms[s]);
+                    if (succ != null) {
+                        result.returnSuccessors[offset + s] = sevpa.getLocationId(succ);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds a new location and makes it the initial location.
+     *
+     * @param accepting
+     *         whether the new location is accepting
+     *
+     * @return the id of the new location
+     */
+    public int addInitialLocation(boolean accepting) {
+        final int loc = addLocation(accepting);
+        setInitialLocation(loc);
+        return loc;
+    }
+
+    /**
+     * Adds a new location. Its transitions are initially {@link #UNDEFINED undefined}.
+     *
+     * @param accepting
+     *         whether the new location is accepting
+     *
+     * @return the id of the new location
+     */
+    public int addLocation(boolean accepting) {
+        ensureCapacity(size + 1);
+        this.accepting[size] = accepting;
+        return size++;
+    }
+
+    /**
+     * Sets the initial location.
+     *
+     * @param loc
+     *         the id of the new initial location
+     */
+    public void setInitialLocation(int loc) {
+        this.initialLocation = loc;
+    }
+
+    /**
+     * Sets the acceptance of the given location.
+     *
+     * @param loc
+     *         the id of the location
+     * @param accepting
+     *         whether the location should be accepting
+     */
+    public void setAccepting(int loc, boolean accepting) {
+        this.accepting[loc] = accepting;
+    }
+
+    /**
+     * Sets the internal successor of the given location.
+     *
+     * @param loc
+     *         the source location
+     * @param intSym
+     *         the internal symbol
+     * @param succ
+     *         the id of the successor location, or {@link #UNDEFINED} to remove the transition
+     */
+    public void setInternalSuccessor(int loc, I intSym, int succ) {
+        setInternalSuccessor(loc, alphabet.getInternalSymbolIndex(intSym), succ);
+    }
+
+    /**
+     * Sets the internal successor of the given location.
+     *
+     * @param loc
+     *         the source location
+     * @param intSymIdx
+     *         the index of the internal symbol
+     * @param succ
+     *         the id of the successor location, or {@link #UNDEFINED} to remove the transition
+     */
+    public void setInternalSuccessor(int loc, int intSymIdx, int succ) {
+        internalSuccessors[loc * numInternals + intSymIdx] = succ;
+    }
+
+    /**
+     * Sets the return successor of the given location.
+     *
+     * @param loc
+     *         the source location
+     * @param retSym
+     *         the return symbol
+     * @param stackSym
+     *         the stack symbol, see {@link #encodeStackSym(int, int)}
+     * @param succ
+     *         the id of the successor location, or {@link #UNDEFINED} to remove the transition
+     */
+    public void setReturnSuccessor(int loc, I retSym, int stackSym, int succ) {
+        setReturnSuccessor(loc, alphabet.getReturnSymbolIndex(retSym), stackSym, succ);
+    }
+
+    /**
+     * Sets the return successor of the given location.
+     *
+     * @param loc
+     *         the source location
+     * @param retSymIdx
+     *         the index of the return symbol
+     * @param stackSym
+     *         the stack symbol, see {@link #encodeStackSym(int, int)}
+     * @param succ
+     *         the id of the successor location, or {@link #UNDEFINED} to remove the transition
+     */
+    public void setReturnSuccessor(int loc, int retSymIdx, int stackSym, int succ) {
+        returnSuccessors[getReturnOffset(loc, retSymIdx) + stackSym] = succ;
+    }
+
+    /**
+     * Returns the internal successor of the given location.
+     *
+     * @param loc
+     *         the source location
+     * @param intSymIdx
+     *         the index of the internal symbol
+     *
+     * @return the id of the successor location, or {@link #UNDEFINED} if the transition is undefined
+     */
+    public int getInternalSuccessor(int loc, int intSymIdx) {
+        return internalSuccessors[loc * numInternals + intSymIdx];
+    }
+
+    /**
+     * Returns the return successor of the given location.
+     *
+     * @param loc
+     *         the source location
+     * @param retSymIdx
+     *         the index of the return symbol
+     * @param stackSym
+     *         the stack symbol, see {@link #encodeStackSym(int, int)}
+     *
+     * @return the id of the successor location, or {@link #UNDEFINED} if the transition is undefined
+     */
+    public int getReturnSuccessor(int loc, int retSymIdx, int stackSym) {
+        return returnSuccessors[getReturnOffset(loc, retSymIdx) + stackSym];
+    }
+
+    /**
+     * Returns the stack symbol that is pushed when reading a call symbol in the given location.
+     *
+     * @param srcLoc
+     *         the id of the location in which the call symbol is read
+     * @param callSymIdx
+     *         the index of the call symbol
+     *
+     * @return the stack symbol
+     */
+    public int encodeStackSym(int srcLoc, int callSymIdx) {
+        return srcLoc * numCalls + callSymIdx;
+    }
+
+    /**
+     * Returns whether the given location is accepting.
+     *
+     * @param loc
+     *         the id of the location
+     *
+     * @return {@code true} if the location is accepting, {@code false} otherwise
+     */
+    public boolean isAcceptingLocation(int loc) {
+        return accepting[loc];
+    }
+
+    /**
+     * Returns the id of the initial location.
+     *
+     * @return the id of the initial location, or {@link #UNDEFINED} if no initial location has been set
+     */
+    public int getIntInitialLocation() {
+        return initialLocation;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @Nullable Integer getInternalSuccessor(Integer loc, I intSym) {
+        return toLocation(getInternalSuccessor(loc.intValue(), alphabet.getInternalSymbolIndex(intSym)));
+    }
+
+    @Override
+    public @Nullable Integer getReturnSuccessor(Integer loc, I retSym, int stackSym) {
+        return toLocation(getReturnSuccessor(loc.intValue(), alphabet.getReturnSymbolIndex(retSym), stackSym));
+    }
+
+    @Override
+    public Integer getLocation(int id) {
+        return id;
+    }
+
+    @Override
+    public int getLocationId(Integer loc) {
+        return loc;
+    }
+
+    @Override
+    public List<Integer> getLocations() {
+        return CollectionUtil.intRange(0, size);
+    }
+
+    @Override
+    public boolean isAcceptingLocation(Integer loc) {
+        return isAcceptingLocation(loc.intValue());
+    }
+
+    @Override
+    public Integer getInitialLocation() {
+        return initialLocation;
+    }
+
+    private int getReturnOffset(int loc, int retSymIdx) {
+        // cannot overflow for valid arguments, because the offset is smaller than the (checked) size of the table
+        return (loc * numReturns + retSymIdx) * (capacity * numCalls);
+    }
+
+    private int returnTableSize(int cap) {
+        return Math.multiplyExact(Math.multiplyExact(cap, numReturns), Math.multiplyExact(cap, numCalls));
+    }
+
+    private boolean fitsReturnTable(int cap) {
+        final long rows = (long) cap * numReturns;
+        final long rowLength = (long) cap * numCalls;
+        return rowLength == 0 || rows <= Integer.MAX_VALUE / rowLength;
+    }
+
+    private static @Nullable Integer toLocation(int loc) {
+        return loc == UNDEFINED ? null : loc;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= capacity) {
+            return;
+        }
+
+        int newCapacity = ArrayUtil.computeNewCapacity(capacity, required);
+        if (!fitsReturnTable(newCapacity)) {
+            // the return table grows quadratically, so fall back to the required capacity if the regular growth is too
+            // large
+            newCapacity = required;
+        }
+
+        // determine the sizes before modifying any state, so that a failed growth leaves the automaton intact
+        final int internalsSize = Math.multiplyExact(newCapacity, numInternals);
+        final int returnsSize = returnTableSize(newCapacity);
+
+        this.accepting = Arrays.copyOf(accepting, newCapacity);
+
+        final int[] newInternals = Arrays.copyOf(internalSuccessors, internalsSize);
+        Arrays.fill(newInternals, capacity * numInternals, newInternals.length, UNDEFINED);
+        this.internalSuccessors = newInternals;
+
+        // the row length of the return table depends on the capacity, so re-layout the existing rows
+        final int oldRow = capacity * numCalls;
+        final int newRow = newCapacity * numCalls;
+        final int[] newReturns = new int[returnsSize];
+        Arrays.fill(newReturns, UNDEFINED);
+
+        for (int row = 0; row < capacity * numReturns; row++) {
+            System.arraycopy(returnSuccessors, row * oldRow, newReturns, row * newRow, oldRow);
+        }
+
+        this.returnSuccessors = newReturns;
+        this.capacity = newCapacity;
+    }
+}
@@ -25,6 +25,7 @@ import net.automatalib.common.util.collection.CollectionUtil;
 import net.automatalib.graph.MutableGraph;
 import net.automatalib.graph.MutableGraph.IntAbstraction;
 import net.automatalib.graph.concept.NodeIDs;
+import net.automatalib.graph.impl.CSRGraph;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public abstract class AbstractCompactGraph<E extends CompactEdge<EP>, NP, EP>
@@ -138,4 +139,16 @@ public abstract class AbstractCompactGraph<E extends CompactEdge<EP>, NP, EP>
         return edge.getProperty();
     }
 
+    /**
+     * Returns an immutable copy of this graph in compressed sparse row format. Node ids of the copy coincide with the
+     * node ids of this graph. Subsequent modifications of this graph are not reflected in the copy.
+     *
+     * @return the immutable copy of this graph
+     *
+     * @see CSRGraph#copyOf(net.automatalib.graph.UniversalGraph)
+     */
+    public CSRGraph<NP, EP> freeze() {
+        return CSRGraph.copyOf(this);
+    }
+
 }
@@ -0,0 +1,234 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.graph.impl;
+
+import java.util.Collection;
+import java.util.List;
+
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.graph.UniversalGraph;
+import net.automatalib.graph.concept.NodeIDs;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable graph that stores its edges in compressed sparse row (CSR) format. Nodes are represented by the
+ * (consecutive) integers {@code 0, ..., size()-1} and edges by the integers {@code 0, ..., getNumEdges()-1}. The
+ * outgoing edges of node {@code n} are the edges {@code getEdgeStart(n)} (inclusive) to {@code getEdgeEnd(n)}
+ * (exclusive), and the target of each edge is stored in a flat {@code int} array. Node and edge properties are stored
+ * in parallel arrays.
+ * <p>
+ * Due to the flat representation, this graph can be traversed without chasing any object pointers. Several graph
+ * algorithms (see, e.g., {@code net.automatalib.util.graph.Graphs}) provide specialized implementations for this
+ * class. Instances can be obtained via {@link #copyOf(UniversalGraph)} or
+ * {@link net.automatalib.graph.base.AbstractCompactGraph#freeze()}.
+ *
+ * @param <NP>
+ *         node property type
+ * @param <EP>
+ *         edge property type
+ */
+public final class CSRGraph<@Nullable NP, @Nullable EP>
+        implements UniversalGraph<Integer, Integer, NP, EP>, UniversalGraph.IntAbstraction<Integer, NP, EP>,
+                   NodeIDs<Integer> {
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final @Nullable Object[] nodeProperties;
+    private final @Nullable Object[] edgeProperties;
+
+    private CSRGraph(int[] offsets,
+                     int[] targets,
+                     @Nullable Object[] nodeProperties,
+                     @Nullable Object[] edgeProperties) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.nodeProperties = nodeProperties;
+        this.edgeProperties = edgeProperties;
+    }
+
+    /**
+     * Creates an immutable CSR copy of the given graph. The nodes of the copy are identified by the
+     * {@link UniversalGraph#nodeIDs() node ids} of the original graph and edges are numbered in the order of their
+     * source nodes and (within a node) in the iteration order of {@link UniversalGraph#getOutgoingEdges(Object)}.
+     *
+     * @param graph
+     *         the graph to copy
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     * @param <NP>
+     *         node property type
+     * @param <EP>
+     *         edge property type
+     *
+     * @return the CSR copy of the given graph
+     */
+    public static <N, E, @Nullable NP, @Nullable EP> CSRGraph<NP, EP> copyOf(UniversalGraph<N, E, NP, EP> graph) {
+        final NodeIDs<N> ids = graph.nodeIDs();
+        final int n = graph.size();
+
+        final int[] offsets = new int[n + 1];
+        final Object[] nodeProperties = new Object[n];
+
+        for (int i = 0; i < n; i++) {
+            final N node = ids.getNode(i);
+            offsets[i + 1] = offsets[i] + graph.getOutgoingEdges(node).size();
+            nodeProperties[i] = graph.getNodeProperty(node);
+        }
+
+        final int m = offsets[n];
+        final int[] targets = new int[m];
+        final Object[] edgeProperties = new Object[m];
+
+        int e = 0;
+        for (int i = 0; i < n; i++) {
+            for (E edge : graph.getOutgoingEdges(ids.getNode(i))) {
+                targets[e] = ids.getNodeId(graph.getTarget(edge));
+                edgeProperties[e] = graph.getEdgeProperty(edge);
+                e++;
+            }
+        }
+
+        return new CSRGraph<>(offsets, targets, nodeProperties, edgeProperties);
+    }
+
+    /**
+     * Returns the number of edges of this graph. Edge ids range from {@code 0} (inclusive) to this value (exclusive).
+     *
+     * @return the number of edges
+     */
+    public int getNumEdges() {
+        return targets.length;
+    }
+
+    /**
+     * Returns the id of the first outgoing edge of the given node.
+     *
+     * @param node
+     *         the node
+     *
+     * @return the id of the first outgoing edge
+     */
+    public int getEdgeStart(int node) {
+        return offsets[node];
+    }
+
+    /**
+     * Returns the id after the last outgoing edge of the given node.
+     *
+     * @param node
+     *         the node
+     *
+     * @return the (exclusive) upper bound on the ids of the outgoing edges
+     */
+    public int getEdgeEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    /**
+     * Returns the target node of the given edge.
+     *
+     * @param edge
+     *         the edge id
+     *
+     * @return the target node
+     */
+    public int getEdgeTarget(int edge) {
+        return targets[edge];
+    }
+
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public Collection<Integer> getNodes() {
+        return CollectionUtil.intRange(0, size());
+    }
+
+    @Override
+    public NodeIDs<Integer> nodeIDs() {
+        return this;
+    }
+
+    @Override
+    public int getNodeId(Integer node) {
+        return node;
+    }
+
+    @Override
+    public Integer getNode(int id) {
+        if (id < 0 || id >= size()) {
+            throw new IllegalArgumentException();
+        }
+        return id;
+    }
+
+    @Override
+    public List<Integer> getOutgoingEdges(Integer node) {
+        return getOutgoingEdges(node.intValue());
+    }
+
+    @Override
+    public List<Integer> getOutgoingEdges(int node) {
+        return CollectionUtil.intRange(offsets[node], offsets[node + 1]);
+    }
+
+    @Override
+    public Integer getTarget(Integer edge) {
+        return targets[edge];
+    }
+
+    @Override
+    public int getIntTarget(Integer edge) {
+        return targets[edge];
+    }
+
+    @Override
+    public boolean isConnected(int source, int target) {
+        for (int e = offsets[source]; e < offsets[source + 1]; e++) {
+            if (targets[e] == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isConnected(Integer source, Integer target) {
+        return isConnected(source.intValue(), target.intValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public NP getNodeProperty(Integer node) {
+        return (NP) nodeProperties[node];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public NP getNodeProperty(int node) {
+        return (NP) nodeProperties[node];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public EP getEdgeProperty(Integer edge) {
+        return (EP) edgeProperties[edge];
+    }
+}
@@ -0,0 +1,121 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.alphabet.impl.basic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.alphabet.impl.ArrayAlphabet;
+import net.automatalib.alphabet.impl.HashedArrayAlphabet;
+import net.automatalib.alphabet.impl.ListAlphabet;
+import net.automatalib.alphabet.impl.util.AlphabetTestUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class HashedArrayAlphabetTest extends AbstractAlphabetTest<Integer, HashedArrayAlphabet<Integer>> {
+
+    @Override
+    protected List<Integer> getAlphabetSymbols() {
+        return AlphabetTestUtil.CONTAINED_SYMBOLS_LIST;
+    }
+
+    @Override
+    protected List<Integer> getNonAlphabetSymbols() {
+        return AlphabetTestUtil.NON_CONTAINED_SYMBOLS_LIST;
+    }
+
+    @Override
+    protected HashedArrayAlphabet<Integer> getAlphabet() {
+        return new HashedArrayAlphabet<>(AlphabetTestUtil.CONTAINED_SYMBOLS_ARR);
+    }
+
+    @Test
+    public void testDuplicatesAndNull() {
+        final HashedArrayAlphabet<String> alphabet = new HashedArrayAlphabet<>("a", null, "b", "a", null);
+
+        Assert.assertEquals(alphabet.size(), 5);
+        Assert.assertEquals(alphabet.getSymbolIndex("a"), 0);
+        Assert.assertEquals(alphabet.getSymbolIndex(null), 1);
+        Assert.assertEquals(alphabet.getSymbolIndex("b"), 2);
+        Assert.assertNull(alphabet.getSymbol(4));
+        Assert.assertFalse(alphabet.containsSymbol("c"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> alphabet.getSymbolIndex("c"));
+    }
+
+    @Test
+    public void testFactories() {
+        Assert.assertTrue(Alphabets.fromArray(1, 2, 3) instanceof ArrayAlphabet);
+        Assert.assertTrue(Alphabets.fromList(Arrays.asList(1, 2, 3)) instanceof ListAlphabet);
+        Assert.assertTrue(Alphabets.fromArray(symbols(100).toArray()) instanceof HashedArrayAlphabet);
+        Assert.assertTrue(Alphabets.fromList(symbols(100)) instanceof HashedArrayAlphabet);
+
+        // ranges provide arithmetic index look-ups
+        Assert.assertTrue(Alphabets.integers(0, 100) instanceof ListAlphabet);
+        Assert.assertTrue(Alphabets.characters('a', 'z') instanceof ListAlphabet);
+    }
+
+    /**
+     * Checks that the number of (expensive) symbol comparisons per look-up does not depend on the size of the alphabet.
+     */
+    @Test
+    public void testComparisonsPerLookup() {
+        for (int size : new int[] {10, 300, 3000}) {
+            final List<CountingSymbol> symbols = symbols(size);
+            final Alphabet<CountingSymbol> alphabet = new HashedArrayAlphabet<>(symbols);
+            CountingSymbol.comparisons = 0;
+
+            for (int i = 0; i < size; i++) {
+                // use equal but non-identical symbols to enforce equality checks
+                Assert.assertEquals(alphabet.getSymbolIndex(new CountingSymbol(i)), i);
+            }
+
+            Assert.assertTrue(CountingSymbol.comparisons <= size, "size " + size + ": " + CountingSymbol.comparisons);
+        }
+    }
+
+    private static List<CountingSymbol> symbols(int size) {
+        final List<CountingSymbol> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new CountingSymbol(i));
+        }
+        return result;
+    }
+
+    private static final class CountingSymbol {
+
+        private static int comparisons;
+
+        private final int id;
+
+        CountingSymbol(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            comparisons++;
+            return o instanceof CountingSymbol && ((CountingSymbol) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+}
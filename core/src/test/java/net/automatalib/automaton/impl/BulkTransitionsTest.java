@@ -0,0 +1,104 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.automaton.impl;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class BulkTransitionsTest {
+
+    private static final Alphabet<Integer> ALPHABET = Alphabets.integers(0, 2);
+    private static final int SIZE = 10;
+
+    @Test
+    public void testCompactDFA() {
+        final CompactDFA<Integer> dfa = new CompactDFA<>(ALPHABET);
+        checkBulkTransitions(dfa, null, null);
+    }
+
+    @Test
+    public void testCompactMealy() {
+        final CompactMealy<Integer, String> mealy = new CompactMealy<>(ALPHABET);
+        checkBulkTransitions(mealy, null, new String[SIZE * ALPHABET.size()]);
+    }
+
+    @Test
+    public void testUniversalCompactDet() {
+        final UniversalCompactDet<Integer, Boolean, String> automaton = new UniversalCompactDet<>(ALPHABET);
+        checkBulkTransitions(automaton, Boolean.TRUE, new String[SIZE * ALPHABET.size()]);
+    }
+
+    @Test(expectedExceptions = IndexOutOfBoundsException.class)
+    public void testInvalidRange() {
+        final CompactDFA<Integer> dfa = new CompactDFA<>(ALPHABET);
+        dfa.addState();
+        dfa.setTransitions(0, 2, new int[2 * ALPHABET.size()], null);
+    }
+
+    private static <SP, TP> void checkBulkTransitions(AbstractCompactDeterministic<Integer, ?, SP, TP> automaton,
+                                                      SP stateProperty,
+                                                      TP[] properties) {
+        final Random random = new Random(42);
+        final int numInputs = ALPHABET.size();
+        final int[] successors = new int[SIZE * numInputs];
+
+        for (int i = 0; i < successors.length; i++) {
+            successors[i] = random.nextInt(SIZE + 1) - 1;
+        }
+
+        if (properties != null) {
+            for (int i = 0; i < properties.length; i++) {
+                @SuppressWarnings("unchecked")
+                final TP prop = (TP) Integer.toString(i);
+                properties[i] = prop;
+            }
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            automaton.addIntState(stateProperty);
+            // pre-existing transitions must be overridden
+            automaton.setTransition(i, 0, i, null);
+        }
+
+        // set the upper half of the states first, to check the offset computation
+        final int half = SIZE / 2;
+        final int[] upperSuccessors = new int[(SIZE - half) * numInputs];
+        System.arraycopy(successors, half * numInputs, upperSuccessors, 0, upperSuccessors.length);
+        final TP[] upperProperties =
+                properties == null ? null : Arrays.copyOfRange(properties, half * numInputs, properties.length);
+
+        automaton.setTransitions(half, SIZE - half, upperSuccessors, upperProperties);
+        automaton.setTransitions(0, half, successors, properties);
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < numInputs; i++) {
+                final int idx = s * numInputs + i;
+                Assert.assertEquals(automaton.getSuccessor(s, i), successors[idx]);
+                if (properties != null && successors[idx] >= 0) {
+                    Assert.assertEquals(automaton.getTransitionProperty(s, i), properties[idx]);
+                }
+            }
+        }
+    }
+}
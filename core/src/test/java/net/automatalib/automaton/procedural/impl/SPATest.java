@@ -15,6 +15,9 @@
  */
 package net.automatalib.automaton.procedural.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import net.automatalib.alphabet.Alphabet;
@@ -26,6 +29,7 @@ import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.FastDFA;
 import net.automatalib.automaton.fsa.impl.FastDFAState;
 import net.automatalib.automaton.procedural.SPA;
+import net.automatalib.common.util.collection.IterableUtil;
 import net.automatalib.word.Word;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -78,6 +82,30 @@ public class SPATest {
         Assert.assertFalse(spa.computeOutput(Word.fromString("SaUcRaR")));
     }
 
+    @Test
+    public void testCompiledSPA() {
+        final SPA<?, Character> spa = new StackSPA<>(ALPHABET, 'S', SUB_MODELS);
+        final CompiledSPA<Character> compiled = new CompiledSPA<>(spa);
+
+        final List<Word<Character>> words = new ArrayList<>();
+        for (List<Character> w : IterableUtil.allTuples(Arrays.asList('a', 'b', 'c', 'd', 'R', 'S', 'T', 'U'), 0, 5)) {
+            words.add(Word.fromList(w));
+        }
+        words.add(Word.fromString("SaSRaR"));
+        words.add(Word.fromString("SbSTcRRbR"));
+        words.add(Word.fromString("SaTaRaR"));
+        words.add(Word.fromString("SaUcRaR"));
+
+        final boolean[] batch = compiled.accepts(words, 4);
+
+        for (int i = 0; i < words.size(); i++) {
+            final Word<Character> w = words.get(i);
+            final boolean expected = spa.accepts(w);
+            Assert.assertEquals(compiled.accepts(w), expected, w.toString());
+            Assert.assertEquals(batch[i], expected, w.toString());
+        }
+    }
+
     @Test
     public void testEmptySPA() {
         final SPA<?, Character> spa = new EmptySPA<>(ALPHABET);
@@ -15,6 +15,9 @@
  */
 package net.automatalib.automaton.procedural.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import net.automatalib.alphabet.Alphabet;
@@ -26,6 +29,7 @@ import net.automatalib.automaton.transducer.MealyMachine;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
 import net.automatalib.automaton.transducer.impl.FastMealy;
 import net.automatalib.automaton.transducer.impl.FastMealyState;
+import net.automatalib.common.util.collection.IterableUtil;
 import net.automatalib.word.Word;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -148,6 +152,27 @@ public class SPMMTest {
         Assert.assertEquals(spmm.computeOutput(i12), o12);
     }
 
+    @Test
+    public void testCompiledSPMM() {
+        final CompiledSPMM<Character, Character> compiled = new CompiledSPMM<>(spmm);
+
+        final List<Word<Character>> words = new ArrayList<>();
+        for (List<Character> w : IterableUtil.allTuples(Arrays.asList('a', 'b', 'c', 'd', 'R', 'S', 'T', 'U'), 0, 5)) {
+            words.add(Word.fromList(w));
+        }
+        words.add(Word.fromString("SaSTcRRaR"));
+        words.add(Word.fromString("SaSbaRcRabc"));
+
+        final List<Word<Character>> batch = compiled.computeOutputs(words, 4);
+
+        for (int i = 0; i < words.size(); i++) {
+            final Word<Character> w = words.get(i);
+            final Word<Character> expected = spmm.computeOutput(w);
+            Assert.assertEquals(compiled.computeOutput(w), expected, w.toString());
+            Assert.assertEquals(batch.get(i), expected, w.toString());
+        }
+    }
+
     @Test
     public void testEmptySPMM() {
         final Word<Character> i1 = Word.fromString("SaSTcRRaR");
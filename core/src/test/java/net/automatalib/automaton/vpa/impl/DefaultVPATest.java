@@ -15,6 +15,7 @@
  */
 package net.automatalib.automaton.vpa.impl;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 
@@ -57,6 +58,67 @@ public class DefaultVPATest {
         checkBracketWord(vpa);
     }
 
+    /**
+     * Tests the language of correctly matched brace-words, which can be described by the EBNF
+     * {@code S -> ( S ) | [ S ] | () | []}.
+     */
+    @Test
+    public void testBracketLanguageCompactOneSevpa() {
+
+        final Alphabet<Character> callAlphabet = Alphabets.fromArray('(', '[');
+        final Alphabet<Character> returnAlphabet = Alphabets.fromArray(')', ']');
+        final VPAlphabet<Character> alphabet =
+                new DefaultVPAlphabet<>(Collections.emptyList(), callAlphabet, returnAlphabet);
+
+        // start with a small capacity, so that adding locations requires re-organizing the return transitions
+        final CompactOneSEVPA<Character> vpa = new CompactOneSEVPA<>(alphabet, 1);
+
+        final int init = vpa.addInitialLocation(false);
+        final int accepting = vpa.addLocation(true);
+
+        final int parenSym = vpa.encodeStackSym(init, callAlphabet.getSymbolIndex('('));
+        final int bracketSym = vpa.encodeStackSym(init, callAlphabet.getSymbolIndex('['));
+
+        vpa.setReturnSuccessor(init, (Character) ')', parenSym, accepting);
+        vpa.setReturnSuccessor(init, (Character) ']', bracketSym, accepting);
+        vpa.setReturnSuccessor(accepting, (Character) ')', parenSym, accepting);
+        vpa.setReturnSuccessor(accepting, (Character) ']', bracketSym, accepting);
+
+        final int sink = vpa.addLocation(false);
+
+        Assert.assertEquals(vpa.size(), 3);
+        Assert.assertEquals(vpa.getLocations(), Arrays.asList(init, accepting, sink));
+        Assert.assertEquals(vpa.getReturnSuccessor(sink, 0, vpa.encodeStackSym(init, 0)), CompactOneSEVPA.UNDEFINED);
+        Assert.assertNull(vpa.getReturnSuccessor((Integer) sink, (Character) ')', vpa.encodeStackSym(init, 0)));
+
+        checkBracketWord(vpa);
+
+        final DefaultOneSEVPA<Character> defaultVPA = new DefaultOneSEVPA<>(alphabet);
+        final Location defaultInit = defaultVPA.addInitialLocation(false);
+        final Location defaultAccepting = defaultVPA.addLocation(true);
+
+        for (int i = 0; i < callAlphabet.size(); i++) {
+            final Character r = returnAlphabet.getSymbol(i);
+            final int stackSym = defaultVPA.encodeStackSym(defaultInit, i);
+            defaultVPA.setReturnSuccessor(defaultInit, r, stackSym, defaultAccepting);
+            defaultVPA.setReturnSuccessor(defaultAccepting, r, stackSym, defaultAccepting);
+        }
+
+        final CompactOneSEVPA<Character> copy = CompactOneSEVPA.copyOf(defaultVPA, alphabet);
+        Assert.assertEquals(copy.size(), defaultVPA.size());
+        checkBracketWord(copy);
+    }
+
+    @Test
+    public void testCompactOneSevpaCapacityOverflow() {
+        final VPAlphabet<Character> alphabet = new DefaultVPAlphabet<>(Collections.emptyList(),
+                                                                       Alphabets.fromArray('(', '['),
+                                                                       Alphabets.fromArray(')', ']'));
+
+        // the return table would require 4 * 50,000^2 entries
+        Assert.assertThrows(ArithmeticException.class, () -> new CompactOneSEVPA<>(alphabet, 50_000));
+    }
+
     /**
      * Tests the language of correctly matched brace-words, which can be described by the EBNF
      * {@code S -> ( S ) | [ S ] | () | []}.
@@ -0,0 +1,76 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.graph.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.graph.base.CompactEdge;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CSRGraphTest {
+
+    @Test
+    public void testFreeze() {
+        final Random random = new Random(42);
+        final CompactGraph<Integer, Character> graph = new CompactGraph<>();
+
+        for (int i = 0; i < 50; i++) {
+            graph.addNode(i * i);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            graph.connect(random.nextInt(50), random.nextInt(50), (Character) (char) ('a' + random.nextInt(26)));
+        }
+
+        final CSRGraph<Integer, Character> frozen = graph.freeze();
+
+        Assert.assertEquals(frozen.size(), graph.size());
+        Assert.assertEquals(frozen.getNumEdges(), 200);
+
+        for (int n = 0; n < graph.size(); n++) {
+            Assert.assertEquals(frozen.getNodeProperty(n), graph.getNodeProperty(n));
+
+            final List<Integer> expectedTargets = new ArrayList<>();
+            final List<Character> expectedProperties = new ArrayList<>();
+            for (CompactEdge<Character> e : graph.getOutgoingEdges(n)) {
+                expectedTargets.add(graph.getIntTarget(e));
+                expectedProperties.add(graph.getEdgeProperty(e));
+            }
+
+            final List<Integer> actualTargets = new ArrayList<>();
+            final List<Character> actualProperties = new ArrayList<>();
+            for (Integer e : frozen.getOutgoingEdges(n)) {
+                actualTargets.add(frozen.getTarget(e));
+                actualProperties.add(frozen.getEdgeProperty(e));
+            }
+
+            Assert.assertEquals(actualTargets, expectedTargets);
+            Assert.assertEquals(actualProperties, expectedProperties);
+            Assert.assertEquals(frozen.getEdgeEnd(n) - frozen.getEdgeStart(n), expectedTargets.size());
+
+            for (int m = 0; m < graph.size(); m++) {
+                Assert.assertEquals(frozen.isConnected(n, m), expectedTargets.contains(m));
+            }
+        }
+
+        // modifications of the original graph are not reflected
+        graph.connect(0, 1, (Character) 'z');
+        Assert.assertEquals(frozen.getNumEdges(), 200);
+    }
+}
@@ -18,14 +18,22 @@ package net.automatalib.modelchecker.ltsmin;
 import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import net.automatalib.common.setting.AutomataLibSettings;
 import net.automatalib.common.util.IOUtil;
 import net.automatalib.common.util.collection.CollectionUtil;
-import net.automatalib.common.util.process.ProcessUtil;
+import net.automatalib.common.util.concurrent.ScalingThreadPoolExecutor;
 import net.automatalib.exception.FormatException;
 import net.automatalib.exception.ModelCheckingException;
 import net.automatalib.modelchecking.ModelChecker;
@@ -129,6 +137,142 @@ public abstract class AbstractLTSmin<I, A, R> implements ModelChecker<I, A, Stri
         return string2Input;
     }
 
+    /**
+     * Converts the FSM representation of a found counterexample into the actual counterexample type.
+     *
+     * @param fsm
+     *         the file containing the FSM representation of the counterexample
+     * @param hypothesis
+     *         the hypothesis that has been checked
+     * @param inputs
+     *         the inputs which have been regarded for checking
+     *
+     * @return the counterexample
+     *
+     * @throws IOException
+     *         when {@code fsm} can not be read.
+     * @throws FormatException
+     *         when {@code fsm} is invalid.
+     */
+    protected abstract R fsm2CounterExample(File fsm, A hypothesis, Collection<? extends I> inputs)
+            throws IOException, FormatException;
+
+    @Override
+    public @Nullable R findCounterExample(A hypothesis, Collection<? extends I> inputs, String property) {
+        final File fsm = findCounterExampleFSM(hypothesis, inputs, property);
+
+        if (fsm == null) {
+            return null;
+        }
+
+        return parseCounterExample(fsm, hypothesis, inputs);
+    }
+
+    /**
+     * Checks multiple properties on the same hypothesis. The hypothesis is serialized only once and the individual
+     * properties are checked concurrently by at most {@code parallelism} LTSmin processes.
+     * LTSmin processes of checks that are still running when this method returns (e.g. because a counterexample has
+     * been found or the calling thread has been interrupted) are destroyed before returning.
+     *
+     * @param hypothesis
+     *         the hypothesis to check
+     * @param inputs
+     *         the inputs which should be regarded for checking
+     * @param properties
+     *         the properties that should be checked
+     * @param parallelism
+     *         the maximum number of concurrently running LTSmin processes
+     * @param stopAtFirstViolation
+     *         whether to cancel all remaining checks as soon as a counterexample has been found
+     *
+     * @return a list containing the counterexample for the i-th property at index i, or {@code null} if no
+     * counterexample could be found for this property. If {@code stopAtFirstViolation} is set, properties whose checks
+     * have been cancelled are also associated with {@code null}.
+     *
+     * @throws ModelCheckingException
+     *         if any of the properties cannot be checked.
+     */
+    public List<@Nullable R> findCounterExamples(A hypothesis,
+                                                 Collection<? extends I> inputs,
+                                                 List<String> properties,
+                                                 int parallelism,
+                                                 boolean stopAtFirstViolation) {
+
+        for (String p : properties) {
+            try {
+                verifyFormula(p);
+            } catch (FormatException fe) {
+                throw new ModelCheckingException(fe);
+            }
+        }
+
+        final List<@Nullable R> result = new ArrayList<>(Collections.nCopies(properties.size(), null));
+
+        if (properties.isEmpty()) {
+            return result;
+        }
+
+        final File etf = automaton2ETF(hypothesis, inputs);
+        final ExecutorService executor =
+                new ScalingThreadPoolExecutor(0, Math.max(1, parallelism), 60L, TimeUnit.SECONDS);
+        final ProcessGroup processes = new ProcessGroup();
+
+        try {
+            final CompletionService<@Nullable R> completionService = new ExecutorCompletionService<>(executor);
+            final List<Future<@Nullable R>> futures = new ArrayList<>(properties.size());
+
+            for (String p : properties) {
+                futures.add(completionService.submit(() -> {
+                    final File fsm = findCounterExampleFSM(etf, p, processes);
+                    return fsm == null ? null : parseCounterExample(fsm, hypothesis, inputs);
+                }));
+            }
+
+            for (int i = 0; i < properties.size(); i++) {
+                final R ce = completionService.take().get();
+                if (stopAtFirstViolation && ce != null) {
+                    for (Future<@Nullable R> f : futures) {
+                        f.cancel(true);
+                    }
+                    break;
+                }
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                final Future<@Nullable R> f = futures.get(i);
+                if (f.isDone() && !f.isCancelled()) {
+                    result.set(i, f.get());
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ModelCheckingException(ie);
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ModelCheckingException(ee);
+        } finally {
+            // cancelling a task does not terminate the LTSmin process it waits for, so kill them explicitly
+            processes.destroyAll();
+            executor.shutdownNow();
+            try {
+                // wait for the workers of cancelled checks to release the ETF file
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            if (!keepFiles && !etf.delete()) {
+                logFileWarning(etf);
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Finds a counterexample for the given {@code formula}, and given {@code hypothesis} in FSM format.
      *
@@ -152,11 +296,34 @@ public abstract class AbstractLTSmin<I, A, R> implements ModelChecker<I, A, Stri
             throw new ModelCheckingException(fe);
         }
 
-        final File etf;
+        final File etf = automaton2ETF(hypothesis, inputs);
+
+        try {
+            return findCounterExampleFSM(etf, formula, new ProcessGroup());
+        } finally {
+            if (!keepFiles && !etf.delete()) {
+                logFileWarning(etf);
+            }
+        }
+    }
+
+    private R parseCounterExample(File fsm, A hypothesis, Collection<? extends I> inputs) {
+        try {
+            return fsm2CounterExample(fsm, hypothesis, inputs);
+        } catch (IOException | FormatException e) {
+            throw new ModelCheckingException(e);
+        } finally {
+            // check if we must keep the FSM
+            if (!keepFiles && !fsm.delete()) {
+                logFileWarning(fsm);
+            }
+        }
+    }
 
+    private File automaton2ETF(A hypothesis, Collection<? extends I> inputs) {
         try {
             // create the ETF that will contain the LTS of the hypothesis
-            etf = File.createTempFile("automaton2etf", ".etf");
+            final File etf = File.createTempFile("automaton2etf", ".etf");
 
             try {
                 // write to the ETF file
@@ -167,9 +334,14 @@ public abstract class AbstractLTSmin<I, A, R> implements ModelChecker<I, A, Stri
                 }
                 throw mce;
             }
+
+            return etf;
         } catch (IOException ioe) {
             throw new ModelCheckingException(ioe);
         }
+    }
+
+    private @Nullable File findCounterExampleFSM(File etf, String formula, ProcessGroup processes) {
 
         final File ltlFile;
 
@@ -196,8 +368,8 @@ public abstract class AbstractLTSmin<I, A, R> implements ModelChecker<I, A, Stri
             // create the GCF that will possibly contain the counterexample
             gcf = File.createTempFile("etf2gcf", ".gcf");
         } catch (IOException ioe) {
-            if (!keepFiles && !etf.delete()) {
-                logFileWarning(etf);
+            if (!keepFiles && !ltlFile.delete()) {
+                logFileWarning(ltlFile);
             }
             throw new ModelCheckingException(ioe);
         }
@@ -225,7 +397,7 @@ public abstract class AbstractLTSmin<I, A, R> implements ModelChecker<I, A, Stri
         ltsminCommandLine.addAll(getExtraCommandLineOptions());
 
         try {
-            final int ltsminExitValue = runCommandLine(ltsminCommandLine);
+            final int ltsminExitValue = processes.run(ltsminCommandLine);
 
             if (ltsminExitValue == 0) {
                 // we have not found a counterexample
@@ -254,7 +426,7 @@ public abstract class AbstractLTSmin<I, A, R> implements ModelChecker<I, A, Stri
                     convertCommandLine.add("-v");
                 }
 
-                final int convertExitValue = runCommandLine(convertCommandLine);
+                final int convertExitValue = processes.run(convertCommandLine);
 
                 // check the conversion is successful
                 if (convertExitValue != 0) {
@@ -269,9 +441,6 @@ public abstract class AbstractLTSmin<I, A, R> implements ModelChecker<I, A, Stri
             }
         } finally {
             if (!keepFiles) {
-                if (!etf.delete()) {
-                    logFileWarning(etf);
-                }
                 if (!ltlFile.delete()) {
                     logFileWarning(ltlFile);
                 }
@@ -282,15 +451,6 @@ public abstract class AbstractLTSmin<I, A, R> implements ModelChecker<I, A, Stri
         }
     }
 
-    private static int runCommandLine(List<String> commandLine) {
-        try {
-            LOGGER.debug("Invoking LTSmin binary as: {}", String.join(" ", commandLine));
-            return ProcessUtil.invokeProcess(commandLine, LOGGER::debug);
-        } catch (IOException | InterruptedException e) {
-            throw new ModelCheckingException(e);
-        }
-    }
-
     private static void logFileWarning(File file) {
         LOGGER.warn("Could not delete file: '{}'", file.getAbsolutePath());
     }
@@ -0,0 +1,137 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.modelchecker.ltsmin;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.common.util.process.ProcessUtil;
+import net.automatalib.exception.ModelCheckingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A group of system processes that can be destroyed as a whole. Interrupting (or cancelling) a thread that waits for
+ * the termination of a process does not terminate the process itself. Hence, threads that run processes on behalf of
+ * some other thread register them with a shared group which can then be {@link #destroyAll() destroyed} by the owner.
+ * Once destroyed, the group refuses (and kills) any process that is started afterward.
+ */
+final class ProcessGroup {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessGroup.class);
+
+    private final Set<Process> processes = new HashSet<>();
+    private boolean destroyed;
+
+    /**
+     * Runs the given command line, blocking until the invoked process terminates. The output of the process is
+     * forwarded to the debug log.
+     *
+     * @param commandLine
+     *         the command line to execute
+     *
+     * @return the exit value of the process
+     *
+     * @throws ModelCheckingException
+     *         if the process could not be started, if the group has already been destroyed, or if the calling thread
+     *         has been interrupted while waiting for the process
+     */
+    int run(List<String> commandLine) {
+        LOGGER.debug("Invoking LTSmin binary as: {}", String.join(" ", commandLine));
+
+        final Process process;
+        try {
+            process = ProcessUtil.buildProcess(commandLine.toArray(new String[0]), null, LOGGER::debug, LOGGER::debug);
+        } catch (IOException ioe) {
+            throw new ModelCheckingException(ioe);
+        }
+
+        if (!register(process)) {
+            throw new ModelCheckingException("Process group has already been destroyed");
+        }
+
+        try {
+            return process.waitFor();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new ModelCheckingException(ie);
+        } finally {
+            process.destroyForcibly();
+            unregister(process);
+        }
+    }
+
+    /**
+     * Forcibly destroys all currently running processes of this group and waits for their termination. Processes that
+     * are started after this method has been called are destroyed immediately.
+     */
+    void destroyAll() {
+        final List<Process> running;
+
+        synchronized (this) {
+            destroyed = true;
+            running = new ArrayList<>(processes);
+            processes.clear();
+        }
+
+        for (Process p : running) {
+            p.destroyForcibly();
+        }
+
+        boolean interrupted = false;
+
+        for (Process p : running) {
+            while (true) {
+                try {
+                    p.waitFor(1, TimeUnit.MINUTES);
+                    break;
+                } catch (InterruptedException ie) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of currently running processes of this group.
+     *
+     * @return the number of currently running processes of this group
+     */
+    synchronized int size() {
+        return processes.size();
+    }
+
+    private synchronized boolean register(Process process) {
+        if (destroyed) {
+            process.destroyForcibly();
+            return false;
+        }
+        processes.add(process);
+        return true;
+    }
+
+    private synchronized void unregister(Process process) {
+        processes.remove(process);
+    }
+}
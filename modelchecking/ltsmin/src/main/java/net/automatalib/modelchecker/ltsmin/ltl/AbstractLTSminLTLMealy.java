@@ -23,15 +23,11 @@ import java.util.function.Function;
 import net.automatalib.automaton.transducer.MealyMachine;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
 import net.automatalib.exception.FormatException;
-import net.automatalib.exception.ModelCheckingException;
 import net.automatalib.modelchecker.ltsmin.LTSminLTLParser;
 import net.automatalib.modelchecker.ltsmin.LTSminMealy;
 import net.automatalib.modelchecking.Lasso.MealyLasso;
 import net.automatalib.modelchecking.ModelCheckerLasso.MealyModelCheckerLasso;
 import net.automatalib.modelchecking.impl.MealyLassoImpl;
-import org.checkerframework.checker.nullness.qual.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * An LTL model checker using LTSmin for Mealy machines.
@@ -45,8 +41,6 @@ public abstract class AbstractLTSminLTLMealy<I, O>
         extends AbstractLTSminLTL<I, MealyMachine<?, I, ?, O>, MealyLasso<I, O>>
         implements MealyModelCheckerLasso<I, O, String>, LTSminMealy<I, O, MealyLasso<I, O>> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractLTSminLTLMealy.class);
-
     private final Function<String, O> string2Output;
     private Collection<? super O> skipOutputs;
 
@@ -113,26 +107,11 @@ public abstract class AbstractLTSminLTLMealy<I, O>
     }
 
     @Override
-    public @Nullable MealyLasso<I, O> findCounterExample(MealyMachine<?, I, ?, O> automaton,
-                                                         Collection<? extends I> inputs,
-                                                         String property) {
-        final File fsm = findCounterExampleFSM(automaton, inputs, property);
-
-        if (fsm == null) {
-            return null;
-        }
-
-        try {
-            final CompactMealy<I, O> mealy = fsm2Mealy(fsm, automaton, inputs);
+    protected MealyLasso<I, O> fsm2CounterExample(File fsm,
+                                                  MealyMachine<?, I, ?, O> automaton,
+                                                  Collection<? extends I> inputs) throws IOException, FormatException {
+        final CompactMealy<I, O> mealy = fsm2Mealy(fsm, automaton, inputs);
 
-            return new MealyLassoImpl<>(mealy, inputs, computeUnfolds(automaton.size()));
-        } catch (IOException | FormatException e) {
-            throw new ModelCheckingException(e);
-        } finally {
-            // check if we must keep the FSM
-            if (!isKeepFiles() && !fsm.delete()) {
-                LOGGER.warn("Could not delete file: '{}'", fsm.getAbsolutePath());
-            }
-        }
+        return new MealyLassoImpl<>(mealy, inputs, computeUnfolds(automaton.size()));
     }
 }
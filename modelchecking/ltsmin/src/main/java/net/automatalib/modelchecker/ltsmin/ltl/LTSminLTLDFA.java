@@ -24,16 +24,12 @@ import de.learnlib.tooling.annotation.builder.GenerateBuilder;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.exception.FormatException;
-import net.automatalib.exception.ModelCheckingException;
 import net.automatalib.modelchecker.ltsmin.LTSminDFA;
 import net.automatalib.modelchecker.ltsmin.LTSminLTLParser;
 import net.automatalib.modelchecking.Lasso.DFALasso;
 import net.automatalib.modelchecking.ModelCheckerLasso.DFAModelCheckerLasso;
 import net.automatalib.modelchecking.impl.DFALassoImpl;
 import net.automatalib.serialization.fsm.parser.FSM2DFAParser;
-import org.checkerframework.checker.nullness.qual.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * An LTL model checker using LTSmin for DFAs.
@@ -44,8 +40,6 @@ import org.slf4j.LoggerFactory;
 public class LTSminLTLDFA<I> extends AbstractLTSminLTL<I, DFA<?, I>, DFALasso<I>>
         implements DFAModelCheckerLasso<I, String>, LTSminDFA<I, DFALasso<I>> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(LTSminLTLDFA.class);
-
     /**
      * The index in the FSM state vector for accept/reject.
      */
@@ -75,25 +69,11 @@ public class LTSminLTLDFA<I> extends AbstractLTSminLTL<I, DFA<?, I>, DFALasso<I>
      * @see AbstractLTSminLTL#findCounterExample(Object, Collection, Object)
      */
     @Override
-    public @Nullable DFALasso<I> findCounterExample(DFA<?, I> automaton, Collection<? extends I> inputs, String property) {
-        final File fsm = findCounterExampleFSM(automaton, inputs, property);
-
-        if (fsm == null) {
-            return null;
-        }
-
-        try {
-            final CompactDFA<I> dfa =
-                    FSM2DFAParser.getParser(inputs, getString2Input(), LABEL_NAME, LABEL_VALUE).readModel(fsm);
+    protected DFALasso<I> fsm2CounterExample(File fsm, DFA<?, I> automaton, Collection<? extends I> inputs)
+            throws IOException, FormatException {
+        final CompactDFA<I> dfa =
+                FSM2DFAParser.getParser(inputs, getString2Input(), LABEL_NAME, LABEL_VALUE).readModel(fsm);
 
-            return new DFALassoImpl<>(dfa, inputs, computeUnfolds(automaton.size()));
-        } catch (IOException | FormatException e) {
-            throw new ModelCheckingException(e);
-        } finally {
-            // check if we must keep the FSM
-            if (!isKeepFiles() && !fsm.delete()) {
-                LOGGER.warn("Could not delete file: '{}'", fsm.getAbsolutePath());
-            }
-        }
+        return new DFALassoImpl<>(dfa, inputs, computeUnfolds(automaton.size()));
     }
 }
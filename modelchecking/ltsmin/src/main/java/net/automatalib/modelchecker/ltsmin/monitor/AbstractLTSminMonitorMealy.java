@@ -31,8 +31,6 @@ import net.automatalib.modelchecker.ltsmin.LTSminMealy;
 import net.automatalib.modelchecker.ltsmin.ltl.AbstractLTSminLTL;
 import net.automatalib.word.Word;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * A monitor model checker using LTSmin for Mealy machines.
@@ -46,8 +44,6 @@ public abstract class AbstractLTSminMonitorMealy<I, O>
         extends AbstractLTSminMonitor<I, MealyMachine<?, I, ?, O>, MealyMachine<?, I, ?, O>>
         implements LTSminMealy<I, O, MealyMachine<?, I, ?, O>> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractLTSminMonitorMealy.class);
-
     private final Function<String, O> string2Output;
     private Collection<? super O> skipOutputs;
 
@@ -113,66 +109,52 @@ public abstract class AbstractLTSminMonitorMealy<I, O>
      * @see AbstractLTSmin#findCounterExample(Object, Collection, Object)
      */
     @Override
-    public @Nullable MealyMachine<?, I, ?, O> findCounterExample(MealyMachine<?, I, ?, O> automaton,
-                                                                 Collection<? extends I> inputs,
-                                                                 String property) {
-        final File fsm = findCounterExampleFSM(automaton, inputs, property);
-
-        if (fsm == null) {
-            return null;
-        }
-
-        try {
-            final CompactMealy<I, O> result = fsm2Mealy(fsm, automaton, inputs);
-            final Integer deadlock = result.getStates()
-                                           .stream()
-                                           .filter(s -> inputs.stream()
-                                                              .allMatch(i -> result.getSuccessor(s, i) == null))
-                                           .findFirst()
-                                           .orElseThrow(() -> new ModelCheckingException("No deadlock found"));
-
-            return new MealyMachine<Integer, I, CompactTransition<O>, O>() {
-
-                @Override
-                @SuppressWarnings("nullness") // TODO XXX FIXME: Returning non-null values would currently break PropertyOracles in LearnLib. We should rethink a clean API here.
-                public Word<O> computeStateOutput(Integer state, Iterable<? extends I> input) {
-                    final Integer succ = getSuccessor(state, input);
-
-                    return deadlock.equals(succ) ? MealyMachine.super.computeStateOutput(state, input) : null;
-                }
-
-                @Override
-                public @Nullable Integer getInitialState() {
-                    return result.getInitialState();
-                }
-
-                @Override
-                public Integer getSuccessor(CompactTransition<O> transition) {
-                    return result.getSuccessor(transition);
-                }
-
-                @Override
-                public @Nullable CompactTransition<O> getTransition(Integer state, I input) {
-                    return result.getTransition(state, input);
-                }
-
-                @Override
-                public O getTransitionOutput(CompactTransition<O> transition) {
-                    return result.getTransitionOutput(transition);
-                }
-
-                @Override
-                public Collection<Integer> getStates() {
-                    return result.getStates();
-                }
-            };
-        } catch (IOException | FormatException e) {
-            throw new ModelCheckingException(e);
-        } finally {
-            // check if we must keep the FSM
-            if (!isKeepFiles() && !fsm.delete()) {
-                LOGGER.warn("Could not delete file: '{}'", fsm.getAbsolutePath());
+    protected MealyMachine<?, I, ?, O> fsm2CounterExample(File fsm,
+                                                          MealyMachine<?, I, ?, O> automaton,
+                                                          Collection<? extends I> inputs)
+            throws IOException, FormatException {
+        final CompactMealy<I, O> result = fsm2Mealy(fsm, automaton, inputs);
+        final Integer deadlock = result.getStates()
+                                       .stream()
+                                       .filter(s -> inputs.stream()
+                                                          .allMatch(i -> result.getSuccessor(s, i) == null))
+                                       .findFirst()
+                                       .orElseThrow(() -> new ModelCheckingException("No deadlock found"));
+
+        return new MealyMachine<Integer, I, CompactTransition<O>, O>() {
+
+            @Override
+            @SuppressWarnings("nullness") // TODO XXX FIXME: Returning non-null values would currently break PropertyOracles in LearnLib. We should rethink a clean API here.
+            public Word<O> computeStateOutput(Integer state, Iterable<? extends I> input) {
+                final Integer succ = getSuccessor(state, input);
+
+                return deadlock.equals(succ) ? MealyMachine.super.computeStateOutput(state, input) : null;
+            }
+
+            @Override
+            public @Nullable Integer getInitialState() {
+                return result.getInitialState();
+            }
+
+            @Override
+            public Integer getSuccessor(CompactTransition<O> transition) {
+                return result.getSuccessor(transition);
+            }
+
+            @Override
+            public @Nullable CompactTransition<O> getTransition(Integer state, I input) {
+                return result.getTransition(state, input);
+            }
+
+            @Override
+            public O getTransitionOutput(CompactTransition<O> transition) {
+                return result.getTransitionOutput(transition);
+            }
+
+            @Override
+            public Collection<Integer> getStates() {
+                return result.getStates();
             }
-        }
+        };
     }
 }
@@ -24,14 +24,10 @@ import de.learnlib.tooling.annotation.builder.GenerateBuilder;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.exception.FormatException;
-import net.automatalib.exception.ModelCheckingException;
 import net.automatalib.modelchecker.ltsmin.AbstractLTSmin;
 import net.automatalib.modelchecker.ltsmin.LTSminDFA;
 import net.automatalib.modelchecker.ltsmin.LTSminLTLParser;
 import net.automatalib.serialization.fsm.parser.FSM2DFAParser;
-import org.checkerframework.checker.nullness.qual.Nullable;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * A monitor model checker using LTSmin for DFAs.
@@ -42,8 +38,6 @@ import org.slf4j.LoggerFactory;
 public class LTSminMonitorDFA<I> extends AbstractLTSminMonitor<I, DFA<?, I>, DFA<?, I>>
         implements LTSminDFA<I, DFA<?, I>> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(LTSminMonitorDFA.class);
-
     @GenerateBuilder(defaults = BuilderDefaults.class)
     public LTSminMonitorDFA(boolean keepFiles, Function<String, I> string2Input) {
         super(keepFiles, string2Input);
@@ -60,30 +54,16 @@ public class LTSminMonitorDFA<I> extends AbstractLTSminMonitor<I, DFA<?, I>, DFA
      * @see AbstractLTSmin#findCounterExample(Object, Collection, Object)
      */
     @Override
-    public @Nullable DFA<?, I> findCounterExample(DFA<?, I> automaton, Collection<? extends I> inputs, String property) {
-        final File fsm = findCounterExampleFSM(automaton, inputs, property);
+    protected DFA<?, I> fsm2CounterExample(File fsm, DFA<?, I> automaton, Collection<? extends I> inputs)
+            throws IOException, FormatException {
+        final CompactDFA<I> result =
+                FSM2DFAParser.getParser(inputs, getString2Input(), LABEL_NAME, LABEL_VALUE).readModel(fsm);
 
-        if (fsm == null) {
-            return null;
+        for (Integer state : result) {
+            final boolean deadlocks = inputs.stream().noneMatch(i -> result.getSuccessor(state, i) != null);
+            result.setAccepting(state, deadlocks);
         }
 
-        try {
-            final CompactDFA<I> result =
-                    FSM2DFAParser.getParser(inputs, getString2Input(), LABEL_NAME, LABEL_VALUE).readModel(fsm);
-
-            for (Integer state : result) {
-                final boolean deadlocks = inputs.stream().noneMatch(i -> result.getSuccessor(state, i) != null);
-                result.setAccepting(state, deadlocks);
-            }
-
-            return result;
-        } catch (IOException | FormatException e) {
-            throw new ModelCheckingException(e);
-        } finally {
-            // check if we must keep the FSM
-            if (!isKeepFiles() && !fsm.delete()) {
-                LOGGER.warn("Could not delete file: '{}'", fsm.getAbsolutePath());
-            }
-        }
+        return result;
     }
 }
@@ -15,6 +15,10 @@
  */
 package net.automatalib.modelchecker.ltsmin;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.concept.DetOutputAutomaton;
@@ -88,6 +92,29 @@ public abstract class AbstractLTSminTest<A, R extends Output<String, ?>> {
         Assert.assertEquals(counterExample.computeOutput(input), ce.computeOutput(input));
     }
 
+    @Test
+    public void testFindCounterExamples() {
+        final List<String> properties = Arrays.asList("true", falseProperty, "true", falseProperty);
+        final List<R> ces = getModelChecker().findCounterExamples(automaton, alphabet, properties, 2, false);
+
+        Assert.assertEquals(ces.size(), properties.size());
+        Assert.assertNull(ces.get(0));
+        Assert.assertNull(ces.get(2));
+
+        for (R ce : Arrays.asList(ces.get(1), ces.get(3))) {
+            Assert.assertNotNull(ce);
+            Assert.assertEquals(counterExample.computeOutput(input), ce.computeOutput(input));
+        }
+
+        final List<String> single = Collections.singletonList(falseProperty);
+        final List<R> firstCE = getModelChecker().findCounterExamples(automaton, alphabet, single, 2, true);
+        Assert.assertNotNull(firstCE.get(0));
+
+        // no LTSmin process of cancelled checks must outlive the call
+        getModelChecker().findCounterExamples(automaton, alphabet, properties, 2, true);
+        Assert.assertTrue(ProcessHandle.current().descendants().noneMatch(ProcessHandle::isAlive));
+    }
+
     /**
      * It appears that the input buffer of LTSmin for input formulae is limited to 8192 (2^13) bytes. As a result, we
      * need to pass longer formulae as a file. This test checks for compatibility with long formulae.
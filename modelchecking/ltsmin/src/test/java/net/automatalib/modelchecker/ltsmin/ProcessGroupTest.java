@@ -0,0 +1,75 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.modelchecker.ltsmin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import net.automatalib.exception.ModelCheckingException;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+public class ProcessGroupTest {
+
+    private static final int NUM_PROCESSES = 3;
+    private static final List<String> SLEEP = Arrays.asList("sleep", "60");
+
+    @Test(timeOut = 30000)
+    public void testDestroyAll() throws Exception {
+        if (System.getProperty("os.name").startsWith("Windows")) {
+            throw new SkipException("Test requires the 'sleep' binary");
+        }
+
+        final ProcessGroup group = new ProcessGroup();
+        final ExecutorService executor = Executors.newFixedThreadPool(NUM_PROCESSES);
+
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>(NUM_PROCESSES);
+            for (int i = 0; i < NUM_PROCESSES; i++) {
+                futures.add(executor.submit(() -> group.run(SLEEP)));
+            }
+
+            while (group.size() < NUM_PROCESSES) {
+                for (Future<Integer> f : futures) {
+                    if (f.isDone()) {
+                        f.get(); // propagate start-up failures
+                    }
+                }
+                Thread.sleep(10);
+            }
+
+            group.destroyAll();
+
+            Assert.assertEquals(group.size(), 0);
+            Assert.assertTrue(ProcessHandle.current().descendants().noneMatch(ProcessHandle::isAlive));
+
+            for (Future<Integer> f : futures) {
+                Assert.assertNotEquals(f.get().intValue(), 0);
+            }
+
+            // processes started after the destruction are refused
+            Assert.assertThrows(ModelCheckingException.class, () -> group.run(SLEEP));
+            Assert.assertTrue(ProcessHandle.current().descendants().noneMatch(ProcessHandle::isAlive));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
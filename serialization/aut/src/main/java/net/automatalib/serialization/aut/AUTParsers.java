@@ -63,7 +63,8 @@ public final class AUTParsers {
 
     /**
      * Constructs a {@link InputModelDeserializer} that reads an automaton description and writes it into a given
-     * {@link MutableAutomaton}.
+     * {@link MutableAutomaton}. The input is parsed sequentially, see
+     * {@link #parser(Function, AutomatonCreator, int)} for parsing (large) inputs concurrently.
      *
      * @param inputTransformer
      *         the transformer of String representatives to alphabet symbols
@@ -79,6 +80,32 @@ public final class AUTParsers {
     public static <I, A extends MutableAutomaton<Integer, I, Integer, ?, ?>> InputModelDeserializer<I, A> parser(
             Function<String, I> inputTransformer,
             AutomatonCreator<A, I> creator) {
-        return new InternalAUTParser<>(inputTransformer, creator);
+        return parser(inputTransformer, creator, 1);
+    }
+
+    /**
+     * Constructs a {@link InputModelDeserializer} that reads an automaton description and writes it into a given
+     * {@link MutableAutomaton}. The input is read in large chunks of which up to {@code parallelism} many are parsed
+     * concurrently.
+     *
+     * @param inputTransformer
+     *         the transformer of String representatives to alphabet symbols
+     * @param creator
+     *         the creator to construct the concrete automaton instance
+     * @param parallelism
+     *         the maximum number of chunks that are parsed concurrently. Values {@code <= 1} parse the input
+     *         sequentially
+     * @param <I>
+     *         input symbol type
+     * @param <A>
+     *         (concrete) automaton type
+     *
+     * @return a {@link InputModelDeserializer} that reads an automaton description
+     */
+    public static <I, A extends MutableAutomaton<Integer, I, Integer, ?, ?>> InputModelDeserializer<I, A> parser(
+            Function<String, I> inputTransformer,
+            AutomatonCreator<A, I> creator,
+            int parallelism) {
+        return new InternalAUTParser<>(inputTransformer, creator, parallelism);
     }
 }
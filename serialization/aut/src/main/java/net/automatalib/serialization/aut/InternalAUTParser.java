@@ -15,265 +15,412 @@
  */
 package net.automatalib.serialization.aut;
 
-import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Function;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.MutableAutomaton;
-import net.automatalib.common.util.HashUtil;
-import net.automatalib.common.util.IOUtil;
+import net.automatalib.automaton.base.AbstractCompactSimpleNondet;
+import net.automatalib.common.util.io.LineChunk;
+import net.automatalib.common.util.io.LineChunkReader;
 import net.automatalib.exception.FormatException;
 import net.automatalib.serialization.InputModelData;
 import net.automatalib.serialization.InputModelDeserializer;
 
+/**
+ * A byte-level parser for the AUT format. The input is read in large chunks (see {@link LineChunkReader}) whose
+ * transitions are tokenized directly on their binary representation and, if requested, in parallel. Labels are
+ * only decoded once per chunk and transitions are collected in primitive arrays before constructing the automaton.
+ *
+ * @param <I>
+ *         input symbol type
+ * @param <A>
+ *         automaton type
+ */
 class InternalAUTParser<I, A extends MutableAutomaton<Integer, I, Integer, ?, ?>>
         implements InputModelDeserializer<I, A> {
 
     private final Function<String, I> inputTransformer;
     private final AutomatonCreator<A, I> creator;
-    private final Set<String> alphabetSymbols;
-    private final Map<Integer, Map<String, Set<Integer>>> transitionMap;
+    private final int parallelism;
+    private final int chunkSize;
 
-    private int initialState;
-    private int numStates;
-    private char[] currentLineContent;
-    private int currentLine;
-    private int currentPos;
+    InternalAUTParser(Function<String, I> inputTransformer, AutomatonCreator<A, I> creator, int parallelism) {
+        this(inputTransformer, creator, parallelism, LineChunkReader.DEFAULT_CHUNK_SIZE);
+    }
 
-    InternalAUTParser(Function<String, I> inputTransformer, AutomatonCreator<A, I> creator) {
+    InternalAUTParser(Function<String, I> inputTransformer,
+                      AutomatonCreator<A, I> creator,
+                      int parallelism,
+                      int chunkSize) {
         this.inputTransformer = inputTransformer;
         this.creator = creator;
-        this.alphabetSymbols = new HashSet<>();
-        this.transitionMap = new HashMap<>();
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
     }
 
     @Override
     public InputModelData<I, A> readModel(InputStream is) throws IOException, FormatException {
+        // do not close the channel, since this would close the stream
+        return readModel(new LineChunkReader(Channels.newChannel(is), chunkSize));
+    }
 
-        try (BufferedReader br = new BufferedReader(IOUtil.asNonClosingUTF8Reader(is))) {
-            // parsing
-            parseHeader(br);
-            while (parseTransition(br)) {
-                // consume transitions
-            }
+    @Override
+    public InputModelData<I, A> readModel(File f) throws IOException, FormatException {
+        try (FileChannel channel = FileChannel.open(f.toPath(), StandardOpenOption.READ)) {
+            return readModel(new LineChunkReader(channel, chunkSize));
+        }
+    }
 
-            // automaton construction
-            final Map<String, I> inputMap = new HashMap<>(HashUtil.capacity(this.alphabetSymbols.size()));
-            for (String s : this.alphabetSymbols) {
-                inputMap.put(s, inputTransformer.apply(s));
-            }
-            final Alphabet<I> alphabet = Alphabets.fromCollection(inputMap.values());
+    private InputModelData<I, A> readModel(LineChunkReader reader) throws IOException, FormatException {
+        final LineChunk first = reader.next();
+
+        if (first == null) {
+            throw new FormatException("In line 0, col 0: Missing description");
+        }
+
+        // parsing
+        final LineParser headerParser = new LineParser(first, 0, first.getFirstLine(), 0);
+        headerParser.parseHeader();
 
-            final A result = creator.createAutomaton(alphabet, numStates);
+        final int initialState = headerParser.initialState;
+        final int numStates = headerParser.numStates;
+        final List<TransitionChunk> chunks = new ArrayList<>();
 
-            for (int i = 0; i < numStates; i++) {
-                result.addState();
+        chunks.add(parseTransitions(first, headerParser.nextLine, headerParser.line + 1, numStates));
+        chunks.addAll(reader.parseRemaining(parallelism,
+                                            (c, from) -> parseTransitions(c, from, c.getFirstLine(), numStates)));
+
+        // automaton construction
+        final Map<String, Integer> labelIds = new LinkedHashMap<>();
+        final List<int[]> chunkLabelIds = new ArrayList<>(chunks.size());
+
+        for (TransitionChunk chunk : chunks) {
+            final List<String> labels = chunk.labels;
+            final int[] ids = new int[labels.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = labelIds.computeIfAbsent(labels.get(i), k -> labelIds.size());
             }
+            chunkLabelIds.add(ids);
+        }
+
+        final Map<String, I> inputMap = new HashMap<>();
+        for (String s : labelIds.keySet()) {
+            inputMap.put(s, inputTransformer.apply(s));
+        }
+
+        final List<I> symbols = new ArrayList<>(labelIds.size());
+        for (String s : labelIds.keySet()) {
+            symbols.add(inputMap.get(s));
+        }
+
+        final Alphabet<I> alphabet = Alphabets.fromCollection(symbols);
+        final A result = creator.createAutomaton(alphabet, numStates);
+
+        for (int i = 0; i < numStates; i++) {
+            result.addState();
+        }
+        result.setInitial(initialState, true);
 
-            for (Map.Entry<Integer, Map<String, Set<Integer>>> outgoing : transitionMap.entrySet()) {
-                final Integer src = outgoing.getKey();
-                for (Map.Entry<String, Set<Integer>> targets : outgoing.getValue().entrySet()) {
-                    final String input = targets.getKey();
-                    final Set<Integer> tgts = targets.getValue();
-                    for (Integer tgt : tgts) {
-                        result.addTransition(src, inputMap.get(input), tgt);
+        if (result instanceof AbstractCompactSimpleNondet) {
+            final AbstractCompactSimpleNondet<I, ?> compact = (AbstractCompactSimpleNondet<I, ?>) result;
+            final int[] symbolIndices = new int[symbols.size()];
+            for (int i = 0; i < symbolIndices.length; i++) {
+                symbolIndices[i] = alphabet.getSymbolIndex(symbols.get(i));
+            }
+            for (int c = 0; c < chunks.size(); c++) {
+                final TransitionChunk chunk = chunks.get(c);
+                final int[] ids = chunkLabelIds.get(c);
+                final int[] transitions = chunk.transitions;
+                for (int i = 0; i < chunk.size; i += 3) {
+                    compact.addTransition(transitions[i], symbolIndices[ids[transitions[i + 1]]], transitions[i + 2]);
+                }
+            }
+        } else {
+            for (int c = 0; c < chunks.size(); c++) {
+                final TransitionChunk chunk = chunks.get(c);
+                final int[] ids = chunkLabelIds.get(c);
+                final int[] transitions = chunk.transitions;
+                for (int i = 0; i < chunk.size; i += 3) {
+                    final Integer src = transitions[i];
+                    final I input = symbols.get(ids[transitions[i + 1]]);
+                    final Integer tgt = transitions[i + 2];
+                    if (!result.getSuccessors(src, input).contains(tgt)) {
+                        result.addTransition(src, input, tgt);
                     }
                 }
             }
-            result.setInitial(initialState, true);
-
-            return new InputModelData<>(result, alphabet);
-        } finally {
-            // cleanup
-            initialState = 0;
-            numStates = 0;
-            currentLineContent = null;
-            currentLine = 0;
-            currentPos = 0;
-            alphabetSymbols.clear();
-            transitionMap.clear();
         }
+
+        return new InputModelData<>(result, alphabet);
     }
 
-    private void parseHeader(BufferedReader reader) throws IOException, FormatException {
-        final String line = reader.readLine();
+    private static TransitionChunk parseTransitions(LineChunk chunk, int from, long firstLine, int numStates)
+            throws FormatException {
+        return new LineParser(chunk, from, firstLine, numStates).parseTransitions();
+    }
 
-        if (line == null) {
-            throw new FormatException(buildErrorMessage("Missing description"));
-        }
+    /**
+     * The (primitive) transitions of a single chunk. Transitions are stored as (source, label, target) triples where
+     * the label refers to the index of the chunk-local label list.
+     */
+    private static final class TransitionChunk {
+
+        private final int[] transitions;
+        private final int size;
+        private final List<String> labels;
 
-        currentLineContent = line.toCharArray();
-        currentPos = 0;
-
-        shiftToNextNonWhitespace();
-        verifyDesAndShift();
-        verifyLBracketAndShift();
-        initialState = parseNumberAndShift();
-        verifyCommaAndShift();
-        parseNumberAndShift(); // ignore number of transitions
-        verifyCommaAndShift();
-        numStates = parseNumberAndShift(); // store number of states
-        if (numStates < 1) {
-            throw new FormatException("Number of states must be >= 1");
+        TransitionChunk(int[] transitions, int size, List<String> labels) {
+            this.transitions = transitions;
+            this.size = size;
+            this.labels = labels;
         }
-        verifyRBracketAndShift();
     }
 
-    private boolean parseTransition(BufferedReader reader) throws IOException, FormatException {
-        final String line = reader.readLine();
+    /**
+     * A line-based tokenizer that operates on the binary representation of a {@link LineChunk}.
+     */
+    private static final class LineParser {
 
-        if (line == null) {
-            return false;
-        }
+        private static final int EOL = -1;
 
-        currentLineContent = line.toCharArray();
-        currentLine++;
-        currentPos = 0;
-
-        final int start;
-        final String label;
-        final int dest;
-
-        shiftToNextNonWhitespace();
-        verifyLBracketAndShift();
-        start = parseNumberAndShift();
-        verifyCommaAndShift();
-        label = parseLabelAndShift();
-        verifyCommaAndShift();
-        dest = parseNumberAndShift();
-        verifyRBracketAndShift();
-
-        alphabetSymbols.add(label);
-        transitionMap.computeIfAbsent(start, k -> new HashMap<>())
-                     .computeIfAbsent(label, k -> new HashSet<>())
-                     .add(dest);
-
-        return true;
-    }
+        private final byte[] data;
+        private final int length;
+        private final int stateBound;
+
+        private long line;
+        private int lineStart;
+        private int lineEnd;
+        private int pos;
+        private int nextLine;
 
-    private void verifyDesAndShift() throws FormatException {
+        private int initialState;
+        private int numStates;
 
-        if (currentLineContent[currentPos] != 'd' || currentLineContent[currentPos + 1] != 'e' ||
-            currentLineContent[currentPos + 2] != 's') {
-            throw new FormatException(buildErrorMessage("Missing 'des' keyword"));
+        LineParser(LineChunk chunk, int from, long firstLine, int stateBound) {
+            this.data = chunk.getData();
+            this.length = chunk.getLength();
+            this.stateBound = stateBound;
+            this.nextLine = from;
+            this.line = firstLine - 1;
         }
 
-        currentPos += 3;
-        shiftToNextNonWhitespace();
-    }
+        void parseHeader() throws FormatException {
+            if (!advanceLine()) {
+                throw new FormatException(buildErrorMessage("Missing description"));
+            }
 
-    private void verifyLBracketAndShift() throws FormatException {
-        verifySymbolAndShift('(');
-    }
+            shiftToNextNonWhitespace();
+            verifyDesAndShift();
+            verifySymbolAndShift('(');
+            initialState = parseNumberAndShift();
+            verifySymbolAndShift(',');
+            parseNumberAndShift(); // ignore number of transitions
+            verifySymbolAndShift(',');
+            numStates = parseNumberAndShift(); // store number of states
+            if (numStates < 1) {
+                throw new FormatException("Number of states must be >= 1");
+            }
+            if (initialState >= numStates) {
+                throw new FormatException(buildErrorMessage("Invalid initial state " + initialState));
+            }
+            verifySymbolAndShift(')');
+        }
 
-    private void verifyRBracketAndShift() throws FormatException {
-        verifySymbolAndShift(')');
-    }
+        TransitionChunk parseTransitions() throws FormatException {
+            final LabelTable labels = new LabelTable();
+            // estimate roughly 16 bytes per transition
+            int[] transitions = new int[Math.max(3, 3 * ((length - nextLine) / 16))];
+            int size = 0;
 
-    private void verifyCommaAndShift() throws FormatException {
-        verifySymbolAndShift(',');
-    }
+            while (advanceLine()) {
+                shiftToNextNonWhitespace();
 
-    private void verifySymbolAndShift(char symbol) throws FormatException {
+                if (pos == lineEnd) {
+                    continue; // skip empty lines
+                }
+
+                verifySymbolAndShift('(');
+                final int src = parseStateAndShift();
+                verifySymbolAndShift(',');
+                final int label = parseLabelAndShift(labels);
+                verifySymbolAndShift(',');
+                final int tgt = parseStateAndShift();
+                verifySymbolAndShift(')');
 
-        if (currentLineContent[currentPos] != symbol) {
-            throw new FormatException(buildErrorMessage("Expected: " + symbol));
+                if (size + 3 > transitions.length) {
+                    transitions = Arrays.copyOf(transitions, transitions.length * 2);
+                }
+
+                transitions[size++] = src;
+                transitions[size++] = label;
+                transitions[size++] = tgt;
+            }
+
+            return new TransitionChunk(transitions, size, labels.getLabels());
         }
 
-        currentPos++;
-        shiftToNextNonWhitespace();
-    }
+        private boolean advanceLine() {
+            if (nextLine >= length) {
+                return false;
+            }
+
+            line++;
+            lineStart = nextLine;
+            pos = nextLine;
+
+            int end = nextLine;
+            while (end < length && data[end] != '\n') {
+                end++;
+            }
 
-    private void shiftToNextNonWhitespace() {
-        while (currentPos < currentLineContent.length && Character.isWhitespace(currentLineContent[currentPos])) {
-            currentPos++;
+            lineEnd = end;
+            nextLine = end + 1;
+            return true;
         }
-    }
 
-    private int parseNumberAndShift() throws FormatException {
+        private int peek() {
+            return pos < lineEnd ? data[pos] & 0xFF : EOL;
+        }
 
-        final StringBuilder sb = new StringBuilder();
+        private void verifyDesAndShift() throws FormatException {
+            if (pos + 2 >= lineEnd || data[pos] != 'd' || data[pos + 1] != 'e' || data[pos + 2] != 's') {
+                throw new FormatException(buildErrorMessage("Missing 'des' keyword"));
+            }
 
-        char sym = currentLineContent[currentPos];
+            pos += 3;
+            shiftToNextNonWhitespace();
+        }
 
-        while (Character.isDigit(sym)) {
-            sb.append(sym);
-            currentPos++;
-            sym = currentLineContent[currentPos];
+        private void verifySymbolAndShift(char symbol) throws FormatException {
+            if (peek() != symbol) {
+                throw new FormatException(buildErrorMessage("Expected: " + symbol));
+            }
+
+            pos++;
+            shiftToNextNonWhitespace();
         }
 
-        if (sb.length() == 0) {
-            throw new FormatException(buildErrorMessage("Expected a positive number"));
+        private void shiftToNextNonWhitespace() {
+            while (pos < lineEnd && isWhitespace(data[pos])) {
+                pos++;
+            }
         }
 
-        // forward pointer
-        shiftToNextNonWhitespace();
-        return Integer.parseInt(sb.toString());
-    }
+        private int parseStateAndShift() throws FormatException {
+            final int start = pos;
+            final int state = parseNumberAndShift();
 
-    private String parseLabelAndShift() throws FormatException {
+            if (state >= stateBound) {
+                pos = start;
+                throw new FormatException(buildErrorMessage("Invalid state " + state));
+            }
 
-        if (currentLineContent[currentPos] == '"') {
-            return parseQuotedLabelAndShift();
-        } else {
-            return parseNormalLabelAndShift();
+            return state;
         }
-    }
 
-    private String parseQuotedLabelAndShift() {
-        int openingIndex = currentPos;
-        int closingIndex = currentLineContent.length - 1;
+        private int parseNumberAndShift() throws FormatException {
+            final int start = pos;
+            long result = 0;
+
+            while (pos < lineEnd && isDigit(data[pos])) {
+                result = result * 10 + (data[pos] - '0');
+                if (result > Integer.MAX_VALUE) {
+                    pos = start;
+                    throw new FormatException(buildErrorMessage("Number too large"));
+                }
+                pos++;
+            }
+
+            if (pos == start) {
+                throw new FormatException(buildErrorMessage("Expected a positive number"));
+            }
 
-        // find terminating "
-        while (currentLineContent[closingIndex--] != '"') {
-            // consume characters
+            // forward pointer
+            shiftToNextNonWhitespace();
+            return (int) result;
         }
 
-        // skip terminating " as well
-        currentPos = closingIndex + 2;
-        shiftToNextNonWhitespace();
+        private int parseLabelAndShift(LabelTable labels) throws FormatException {
+            if (peek() == '"') {
+                return parseQuotedLabelAndShift(labels);
+            } else {
+                return parseNormalLabelAndShift(labels);
+            }
+        }
 
-        return new String(currentLineContent, openingIndex + 1, closingIndex - openingIndex);
-    }
+        private int parseQuotedLabelAndShift(LabelTable labels) throws FormatException {
+            final int openingIndex = pos;
+            int closingIndex = lineEnd - 1;
 
-    private String parseNormalLabelAndShift() throws FormatException {
+            // find terminating "
+            while (data[closingIndex] != '"') {
+                closingIndex--;
+            }
 
-        final char firstChar = currentLineContent[currentPos];
+            if (closingIndex == openingIndex) {
+                throw new FormatException(buildErrorMessage("Unterminated label"));
+            }
 
-        if (currentLineContent[currentPos] == '*') {
-            currentPos++;
+            // skip terminating " as well
+            pos = closingIndex + 1;
             shiftToNextNonWhitespace();
-            return "*";
-        } else if (Character.isLetter(firstChar)) {
-            int startIdx = currentPos;
 
-            while (isValidIdentifier()) {
-                currentPos++;
-            }
+            return labels.intern(data, openingIndex + 1, closingIndex);
+        }
 
-            int endIdx = currentPos;
+        private int parseNormalLabelAndShift(LabelTable labels) throws FormatException {
+            final int startIdx = pos;
+            final int firstChar = peek();
+
+            if (firstChar == '*') {
+                pos++;
+            } else if (isLetter(firstChar)) {
+                while (pos < lineEnd && isIdentifierPart(data[pos])) {
+                    pos++;
+                }
+            } else {
+                throw new FormatException(buildErrorMessage("Invalid unquoted label"));
+            }
 
+            final int endIdx = pos;
             shiftToNextNonWhitespace();
-            return new String(currentLineContent, startIdx, endIdx - startIdx);
-        } else {
-            throw new FormatException(buildErrorMessage("Invalid unquoted label"));
+            return labels.intern(data, startIdx, endIdx);
         }
-    }
 
-    private boolean isValidIdentifier() {
-        final char currentChar = currentLineContent[currentPos];
-        return Character.isLetterOrDigit(currentChar) || currentChar == '_';
-    }
+        private String buildErrorMessage(String desc) {
+            return "In line " + line + ", col " + (pos - lineStart) + ": " + desc;
+        }
+
+        private static boolean isWhitespace(byte b) {
+            // the ASCII subset of Character#isWhitespace
+            return b == ' ' || (b >= '\t' && b <= '\r') || (b >= 0x1C && b <= 0x1F);
+        }
 
-    private String buildErrorMessage(String desc) {
-        return "In line " + currentLine + ", col " + currentPos + ": " + desc;
+        private static boolean isDigit(byte b) {
+            return b >= '0' && b <= '9';
+        }
+
+        private static boolean isLetter(int b) {
+            // treat (multibyte) non-ASCII characters as letters
+            return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || b >= 0x80;
+        }
+
+        private static boolean isIdentifierPart(byte b) {
+            return isLetter(b & 0xFF) || isDigit(b) || b == '_';
+        }
     }
 }
@@ -0,0 +1,113 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.aut;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A simple (open-addressing) hash table that assigns consecutive ids to byte sequences. This allows to identify
+ * recurring labels without decoding (and allocating) a {@link String} for each occurrence.
+ */
+final class LabelTable {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private byte[][] keys;
+    private int[] ids;
+    private final List<String> labels;
+
+    LabelTable() {
+        this.keys = new byte[INITIAL_CAPACITY][];
+        this.ids = new int[INITIAL_CAPACITY];
+        this.labels = new ArrayList<>();
+    }
+
+    int intern(byte[] data, int from, int to) {
+        final int hash = hash(data, from, to);
+        int mask = keys.length - 1;
+        int idx = hash & mask;
+
+        byte[] key;
+        while ((key = keys[idx]) != null) {
+            if (equals(key, data, from, to)) {
+                return ids[idx];
+            }
+            idx = (idx + 1) & mask;
+        }
+
+        final int id = labels.size();
+        keys[idx] = Arrays.copyOfRange(data, from, to);
+        ids[idx] = id;
+        labels.add(new String(data, from, to - from, StandardCharsets.UTF_8));
+
+        // keep the load factor below 0.5
+        if (2 * labels.size() > keys.length) {
+            rehash();
+        }
+
+        return id;
+    }
+
+    List<String> getLabels() {
+        return labels;
+    }
+
+    private void rehash() {
+        final byte[][] oldKeys = keys;
+        final int[] oldIds = ids;
+
+        keys = new byte[oldKeys.length * 2][];
+        ids = new int[oldIds.length * 2];
+
+        final int mask = keys.length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            final byte[] key = oldKeys[i];
+            if (key != null) {
+                int idx = hash(key, 0, key.length) & mask;
+                while (keys[idx] != null) {
+                    idx = (idx + 1) & mask;
+                }
+                keys[idx] = key;
+                ids[idx] = oldIds[i];
+            }
+        }
+    }
+
+    private static boolean equals(byte[] key, byte[] data, int from, int to) {
+        if (key.length != to - from) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != data[from + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(byte[] data, int from, int to) {
+        int h = 1;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + data[i];
+        }
+        // spread higher bits
+        return h ^ (h >>> 16);
+    }
+}
@@ -20,6 +20,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Random;
@@ -29,6 +30,7 @@ import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.automaton.simple.SimpleAutomaton;
 import net.automatalib.common.util.io.UnclosableInputStream;
 import net.automatalib.common.util.io.UnclosableOutputStream;
@@ -117,6 +119,34 @@ public class AUTSerializationTest {
         equalityTest(automaton, deserialized, alphabet);
     }
 
+    @Test
+    public void chunkedSerializationTest() throws Exception {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 4);
+        final Random random = new Random(0);
+        final DFA<Integer, Integer> automaton = RandomAutomata.randomDFA(random, 500, alphabet, false);
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new AUTWriter<Integer>().writeModel(baos, automaton, alphabet);
+        final byte[] bytes = baos.toByteArray();
+
+        for (int parallelism : new int[] {1, 4}) {
+            final InternalAUTParser<Integer, CompactNFA<Integer>> parser =
+                    new InternalAUTParser<>(Integer::parseInt, new CompactNFA.Creator<>(), parallelism, 64);
+            final SimpleAutomaton<Integer, Integer> deserialized =
+                    parser.readModel(new ByteArrayInputStream(bytes)).model;
+
+            Assert.assertEquals(deserialized.size(), automaton.size());
+            equalityTest(automaton, deserialized, alphabet);
+        }
+
+        // corrupt a transition in a later chunk
+        final String corrupted = new String(bytes, StandardCharsets.UTF_8) + "(1, 2, 3\n";
+        final byte[] corruptedBytes = corrupted.getBytes(StandardCharsets.UTF_8);
+        final InternalAUTParser<Integer, CompactNFA<Integer>> parser =
+                new InternalAUTParser<>(Integer::parseInt, new CompactNFA.Creator<>(), 4, 64);
+        Assert.assertThrows(FormatException.class, () -> parser.readModel(new ByteArrayInputStream(corruptedBytes)));
+    }
+
     private <S, I> void equalityTest(SimpleAutomaton<S, I> src, SimpleAutomaton<S, I> target, Alphabet<I> inputs) {
         for (S s : src.getStates()) {
             for (I i : inputs) {
@@ -0,0 +1,280 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.dot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import net.automatalib.common.util.concurrent.ConcurrentUtil;
+import net.automatalib.common.util.concurrent.ScalingThreadPoolExecutor;
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.graph.UndirectedGraph;
+import net.automatalib.visualization.VisualizationHelper.NodeAttrs;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A writer that renders a {@link Graph} in the GraphVIZ DOT format directly to a {@link WritableByteChannel}. The nodes
+ * (and their outgoing edges) are split into chunks which are rendered into separate buffers (potentially in parallel)
+ * and written to the channel in the order of the graph's nodes. Hence, the output is identical to the one of
+ * {@link GraphDOT#write(Graph, Appendable)}.
+ *
+ * @param <N>
+ *         node type
+ * @param <E>
+ *         edge type
+ */
+final class DOTChannelWriter<N, E> {
+
+    private static final int CHUNK_SIZE = 1 << 12;
+
+    private final Graph<N, E> graph;
+    private final DOTVisualizationHelper<N, ? super E> dotHelper;
+    private final WritableByteChannel channel;
+    private final boolean directed;
+    private final List<N> nodes;
+    private final MutableMapping<N, @Nullable String> nodeNames;
+
+    private DOTChannelWriter(Graph<N, E> graph,
+                             DOTVisualizationHelper<N, ? super E> dotHelper,
+                             WritableByteChannel channel) {
+        this.graph = graph;
+        this.dotHelper = dotHelper;
+        this.channel = channel;
+        this.directed = !(graph instanceof UndirectedGraph);
+        this.nodes = new ArrayList<>(graph.getNodes());
+        this.nodeNames = graph.createStaticNodeMapping();
+    }
+
+    static <N, E> void write(Graph<N, E> graph,
+                             DOTVisualizationHelper<N, ? super E> dotHelper,
+                             WritableByteChannel channel,
+                             int parallelism) throws IOException {
+
+        final DOTChannelWriter<N, E> writer = new DOTChannelWriter<>(graph, dotHelper, channel);
+
+        if (parallelism <= 1) {
+            writer.write(null, 0);
+        } else {
+            final ExecutorService executor = new ScalingThreadPoolExecutor(0, parallelism, 60, TimeUnit.SECONDS);
+            try {
+                // bound the number of chunks held in memory
+                writer.write(executor, 2 * parallelism);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void write(@Nullable ExecutorService executor, int window) throws IOException {
+        final StringBuilder sb = new StringBuilder();
+
+        GraphDOT.writeRawHeader(sb, directed);
+        GraphDOT.writeRawPreamble(sb, dotHelper);
+        writeFully(sb);
+
+        final Set<String> initialNodes = new HashSet<>();
+        final int numChunks = (nodes.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final int[] idCounter = {0};
+
+        process(executor, window, numChunks, this::renderNodes, chunk -> {
+            for (int i = 0; i < chunk.params.length; i++) {
+                final String params = chunk.params[i];
+                if (params == null) {
+                    continue;
+                }
+                final String id = "s" + idCounter[0]++;
+                if (chunk.initial.get(i)) {
+                    initialNodes.add(id);
+                }
+                sb.append('\t').append(id).append(params).append(';').append(System.lineSeparator());
+                nodeNames.put(nodes.get(chunk.offset + i), id);
+            }
+            writeFully(sb);
+        });
+
+        process(executor, window, numChunks, this::renderEdges, this::writeFully);
+
+        GraphDOT.writeRawPostamble(sb, dotHelper, initialNodes, "");
+        GraphDOT.writeRawFooter(sb);
+        writeFully(sb);
+    }
+
+    private NodeChunk renderNodes(int chunk) throws IOException {
+        final int offset = chunk * CHUNK_SIZE;
+        final int length = Math.min(CHUNK_SIZE, nodes.size() - offset);
+
+        final @Nullable String[] params = new String[length];
+        final BitSet initial = new BitSet();
+        final Map<String, String> props = new HashMap<>();
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < length; i++) {
+            props.clear();
+            if (!dotHelper.getNodeProperties(nodes.get(offset + i), props)) {
+                continue;
+            }
+
+            // remove potential attributes that are no valid DOT attributes
+            if (Boolean.parseBoolean(props.remove(NodeAttrs.INITIAL))) {
+                initial.set(i);
+            }
+
+            sb.setLength(0);
+            GraphDOT.appendParams(props, sb);
+            params[i] = sb.toString();
+        }
+
+        return new NodeChunk(offset, params, initial);
+    }
+
+    private byte[] renderEdges(int chunk) throws IOException {
+        final int offset = chunk * CHUNK_SIZE;
+        final int end = Math.min(offset + CHUNK_SIZE, nodes.size());
+
+        final Map<String, String> props = new HashMap<>();
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = offset; i < end; i++) {
+            final N node = nodes.get(i);
+            final String srcId = nodeNames.get(node);
+            if (srcId == null) {
+                continue;
+            }
+            final Collection<E> outEdges = graph.getOutgoingEdges(node);
+            for (E e : outEdges) {
+                final N tgt = graph.getTarget(e);
+                final String tgtId = nodeNames.get(tgt);
+                if (tgtId == null) {
+                    continue;
+                }
+
+                if (!directed && tgtId.compareTo(srcId) < 0) {
+                    continue;
+                }
+
+                props.clear();
+                if (!dotHelper.getEdgeProperties(node, e, tgt, props)) {
+                    continue;
+                }
+
+                sb.append('\t').append(srcId).append(directed ? " -> " : " -- ").append(tgtId);
+                GraphDOT.appendParams(props, sb);
+                sb.append(';').append(System.lineSeparator());
+            }
+        }
+
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void writeFully(StringBuilder sb) throws IOException {
+        writeFully(sb.toString().getBytes(StandardCharsets.UTF_8));
+        sb.setLength(0);
+    }
+
+    private void writeFully(byte[] bytes) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Renders the given number of chunks and passes the results to the given consumer in the order of the chunks. If
+     * an executor is given, up to {@code window} chunks are rendered ahead of the consumer. The first chunk is always
+     * rendered by the calling thread before any other chunk is submitted, so that visualization helpers which lazily
+     * initialize their state on the first query (such as the {@code DefaultVisualizationHelper}) publish it safely to
+     * the worker threads.
+     */
+    private static <R> void process(@Nullable ExecutorService executor,
+                                    int window,
+                                    int numChunks,
+                                    ChunkRenderer<R> renderer,
+                                    ChunkConsumer<? super R> consumer) throws IOException {
+        if (executor == null) {
+            for (int i = 0; i < numChunks; i++) {
+                consumer.accept(renderer.render(i));
+            }
+            return;
+        }
+
+        if (numChunks == 0) {
+            return;
+        }
+
+        // prime the helpers on the calling thread (submitting a task happens-before its execution)
+        consumer.accept(renderer.render(0));
+
+        final Queue<Future<R>> pending = new ArrayDeque<>(window);
+
+        for (int i = 1; i < numChunks; i++) {
+            if (pending.size() >= window) {
+                consumer.accept(await(pending.remove()));
+            }
+            final int chunk = i;
+            pending.add(executor.submit((Callable<R>) () -> renderer.render(chunk)));
+        }
+
+        while (!pending.isEmpty()) {
+            consumer.accept(await(pending.remove()));
+        }
+    }
+
+    private static <R> R await(Future<R> future) throws IOException {
+        return ConcurrentUtil.await(future, e -> e instanceof IOException ? (IOException) e : new IOException(e));
+    }
+
+    @FunctionalInterface
+    private interface ChunkRenderer<R> {
+
+        R render(int chunk) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer<R> {
+
+        void accept(R result) throws IOException;
+    }
+
+    private static final class NodeChunk {
+
+        private final int offset;
+        private final @Nullable String[] params;
+        private final BitSet initial;
+
+        NodeChunk(int offset, @Nullable String[] params, BitSet initial) {
+            this.offset = offset;
+            this.params = params;
+            this.initial = initial;
+        }
+    }
+}
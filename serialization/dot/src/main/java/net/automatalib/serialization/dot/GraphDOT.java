@@ -17,9 +17,11 @@ package net.automatalib.serialization.dot;
 
 import java.io.Flushable;
 import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -211,6 +213,158 @@ public final class GraphDOT {
         writeRaw(graph, a, toDOTVisualizationHelper(helpers));
     }
 
+    /**
+     * Renders an {@link Automaton} in the GraphVIZ DOT format and writes the (UTF-8 encoded) result directly to the
+     * given channel. See {@link #write(Graph, WritableByteChannel, int, List)} for details.
+     *
+     * @param automaton
+     *         the automaton to render
+     * @param inputAlphabet
+     *         the input alphabet to consider
+     * @param channel
+     *         the channel to write to
+     * @param parallelism
+     *         the maximum number of threads used for rendering. Values {@code <= 1} render the automaton sequentially
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     * @param <T>
+     *         transition type
+     *
+     * @throws IOException
+     *         if writing to {@code channel} fails
+     */
+    public static <S, I, T> void write(Automaton<S, I, T> automaton,
+                                       Collection<? extends I> inputAlphabet,
+                                       WritableByteChannel channel,
+                                       int parallelism) throws IOException {
+        write(automaton.transitionGraphView(inputAlphabet), channel, parallelism);
+    }
+
+    /**
+     * Renders a {@link Graph} in the GraphVIZ DOT format and writes the (UTF-8 encoded) result directly to the given
+     * channel. See {@link #write(Graph, WritableByteChannel, int, List)} for details.
+     *
+     * @param graph
+     *         the graph to render
+     * @param channel
+     *         the channel to write to
+     * @param parallelism
+     *         the maximum number of threads used for rendering. Values {@code <= 1} render the graph sequentially
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     *
+     * @throws IOException
+     *         if writing to {@code channel} fails
+     */
+    public static <N, E> void write(Graph<N, E> graph, WritableByteChannel channel, int parallelism)
+            throws IOException {
+        DOTChannelWriter.write(graph, toDOTVisualizationHelper(graph.getVisualizationHelper()), channel, parallelism);
+    }
+
+    /**
+     * Renders a {@link Graph} in the GraphVIZ DOT format and writes the (UTF-8 encoded) result directly to the given
+     * channel. This method is intended for exporting large graphs: The nodes and edges are rendered in chunks (using
+     * up to {@code parallelism} threads) whose buffers are written to the channel in order. Hence, the output is
+     * identical to the one of {@link #write(Graph, Appendable, List)}.
+     * <p>
+     * Note that for {@code parallelism > 1}, the graph and the visualization helpers are queried concurrently and
+     * therefore need to support concurrent read access. Helpers may lazily initialize their state on the first query,
+     * because the first chunk of nodes (and edges) is always rendered by the calling thread. The given channel is not
+     * closed.
+     *
+     * @param graph
+     *         the graph to render
+     * @param channel
+     *         the channel to write to
+     * @param parallelism
+     *         the maximum number of threads used for rendering. Values {@code <= 1} render the graph sequentially
+     * @param additionalHelpers
+     *         additional helpers for providing visualization properties
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     *
+     * @throws IOException
+     *         if writing to {@code channel} fails
+     */
+    public static <N, E> void write(Graph<N, E> graph,
+                                    WritableByteChannel channel,
+                                    int parallelism,
+                                    List<VisualizationHelper<N, ? super E>> additionalHelpers) throws IOException {
+
+        final List<VisualizationHelper<N, ? super E>> helpers = new ArrayList<>(additionalHelpers.size() + 1);
+
+        helpers.add(graph.getVisualizationHelper());
+        helpers.addAll(additionalHelpers);
+
+        DOTChannelWriter.write(graph, toDOTVisualizationHelper(helpers), channel, parallelism);
+    }
+
+    /**
+     * Renders the neighbourhood of the given states of an {@link Automaton} in the GraphVIZ DOT format. See
+     * {@link #writeNeighbourhood(Graph, Collection, int, Appendable)} for details.
+     *
+     * @param automaton
+     *         the automaton to render
+     * @param inputAlphabet
+     *         the input alphabet to consider
+     * @param states
+     *         the states whose neighbourhood should be rendered
+     * @param radius
+     *         the maximum number of transitions between a given state and a rendered state
+     * @param a
+     *         the appendable to write to
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     * @param <T>
+     *         transition type
+     *
+     * @throws IOException
+     *         if writing to {@code a} fails
+     */
+    public static <S, I, T> void writeNeighbourhood(Automaton<S, I, T> automaton,
+                                                    Collection<? extends I> inputAlphabet,
+                                                    Collection<? extends S> states,
+                                                    int radius,
+                                                    Appendable a) throws IOException {
+        writeNeighbourhood(automaton.transitionGraphView(inputAlphabet), states, radius, a);
+    }
+
+    /**
+     * Renders the neighbourhood of the given nodes of a {@link Graph} in the GraphVIZ DOT format. Only nodes that can
+     * be reached from the given nodes via at most {@code radius} (outgoing) edges and the edges between them are
+     * rendered. This allows one to inspect (parts of) graphs that are too large to be rendered as a whole.
+     *
+     * @param graph
+     *         the graph to render
+     * @param nodes
+     *         the nodes whose neighbourhood should be rendered
+     * @param radius
+     *         the maximum number of edges between a given node and a rendered node
+     * @param a
+     *         the appendable to write to
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     *
+     * @throws IOException
+     *         if writing to {@code a} fails
+     */
+    public static <N, E> void writeNeighbourhood(Graph<N, E> graph,
+                                                 Collection<? extends N> nodes,
+                                                 int radius,
+                                                 Appendable a) throws IOException {
+        write(graph, a, Collections.singletonList(new NeighbourhoodVisualizationHelper<>(graph, nodes, radius)));
+    }
+
     /**
      * Renders a list of {@link Graph}s as clusters (subgraphs) in the GraphVIZ DOT format. Note that any markup
      * information for each cluster must be provided by the respective graph's
@@ -291,7 +445,7 @@ public final class GraphDOT {
         }
     }
 
-    private static void writeRawHeader(Appendable a, boolean directed) throws IOException {
+    static void writeRawHeader(Appendable a, boolean directed) throws IOException {
         if (directed) {
             a.append("di");
         }
@@ -305,26 +459,9 @@ public final class GraphDOT {
                                             boolean directed,
                                             String idPrefix) throws IOException {
 
-        Map<String, String> props = new HashMap<>();
-
-        dotHelper.getGlobalNodeProperties(props);
-        if (!props.isEmpty()) {
-            a.append('\t').append("node");
-            appendParams(props, a);
-            a.append(';').append(System.lineSeparator());
-        }
-
-        props.clear();
-        dotHelper.getGlobalEdgeProperties(props);
-        if (!props.isEmpty()) {
-            a.append('\t').append("edge");
-            appendParams(props, a);
-            a.append(';').append(System.lineSeparator());
-        }
-
-        dotHelper.writePreamble(a);
-        a.append(System.lineSeparator());
+        writeRawPreamble(a, dotHelper);
 
+        Map<String, String> props = new HashMap<>();
         MutableMapping<N, @Nullable String> nodeNames = graph.createStaticNodeMapping();
         Set<String> initialNodes = new HashSet<>();
 
@@ -385,6 +522,35 @@ public final class GraphDOT {
             }
         }
 
+        writeRawPostamble(a, dotHelper, initialNodes, idPrefix);
+    }
+
+    static void writeRawPreamble(Appendable a, DOTVisualizationHelper<?, ?> dotHelper) throws IOException {
+        final Map<String, String> props = new HashMap<>();
+
+        dotHelper.getGlobalNodeProperties(props);
+        if (!props.isEmpty()) {
+            a.append('\t').append("node");
+            appendParams(props, a);
+            a.append(';').append(System.lineSeparator());
+        }
+
+        props.clear();
+        dotHelper.getGlobalEdgeProperties(props);
+        if (!props.isEmpty()) {
+            a.append('\t').append("edge");
+            appendParams(props, a);
+            a.append(';').append(System.lineSeparator());
+        }
+
+        dotHelper.writePreamble(a);
+        a.append(System.lineSeparator());
+    }
+
+    static void writeRawPostamble(Appendable a,
+                                  DOTVisualizationHelper<?, ?> dotHelper,
+                                  Set<String> initialNodes,
+                                  String idPrefix) throws IOException {
         if (!initialNodes.isEmpty()) {
             a.append(System.lineSeparator());
             renderInitialArrowTip(initialNodes, idPrefix, a);
@@ -394,11 +560,11 @@ public final class GraphDOT {
         dotHelper.writePostamble(a);
     }
 
-    private static void writeRawFooter(Appendable a) throws IOException {
+    static void writeRawFooter(Appendable a) throws IOException {
         a.append('}').append(System.lineSeparator());
     }
 
-    private static void appendParams(Map<String, String> params, Appendable a) throws IOException {
+    static void appendParams(Map<String, String> params, Appendable a) throws IOException {
         if (params.isEmpty()) {
             return;
         }
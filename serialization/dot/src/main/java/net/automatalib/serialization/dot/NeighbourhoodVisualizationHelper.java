@@ -0,0 +1,75 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.dot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.graph.Graph;
+import net.automatalib.visualization.VisualizationHelper;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link VisualizationHelper} that only shows nodes which are reachable from a given set of nodes within a given
+ * number of steps. Since edges are only rendered if both of their incident nodes are rendered, this restricts the
+ * visualization to the neighbourhood of the given nodes.
+ *
+ * @param <N>
+ *         node type
+ * @param <E>
+ *         edge type
+ */
+final class NeighbourhoodVisualizationHelper<N, E> implements VisualizationHelper<N, E> {
+
+    private final MutableMapping<N, @Nullable Boolean> visible;
+
+    NeighbourhoodVisualizationHelper(Graph<N, E> graph, Collection<? extends N> nodes, int radius) {
+        this.visible = graph.createStaticNodeMapping();
+
+        List<N> layer = new ArrayList<>(nodes.size());
+        for (N n : nodes) {
+            if (visible.put(n, Boolean.TRUE) == null) {
+                layer.add(n);
+            }
+        }
+
+        for (int i = 0; i < radius && !layer.isEmpty(); i++) {
+            final List<N> next = new ArrayList<>();
+            for (N n : layer) {
+                for (E e : graph.getOutgoingEdges(n)) {
+                    final N tgt = graph.getTarget(e);
+                    if (visible.put(tgt, Boolean.TRUE) == null) {
+                        next.add(tgt);
+                    }
+                }
+            }
+            layer = next;
+        }
+    }
+
+    @Override
+    public boolean getNodeProperties(N node, Map<String, String> properties) {
+        return visible.get(node) != null;
+    }
+
+    @Override
+    public boolean getEdgeProperties(N src, E edge, N tgt, Map<String, String> properties) {
+        return true;
+    }
+}
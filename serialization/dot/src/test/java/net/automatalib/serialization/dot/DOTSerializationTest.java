@@ -15,15 +15,24 @@
  */
 package net.automatalib.serialization.dot;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import net.automatalib.automaton.fsa.impl.CompactDFA;
@@ -43,6 +52,7 @@ import net.automatalib.graph.Graph;
 import net.automatalib.graph.ProceduralModalProcessGraph;
 import net.automatalib.graph.base.CompactEdge;
 import net.automatalib.graph.impl.CompactGraph;
+import net.automatalib.graph.impl.CompactSimpleGraph;
 import net.automatalib.graph.impl.DefaultCFMPS;
 import net.automatalib.ts.modal.impl.CompactMTS;
 import net.automatalib.visualization.DefaultVisualizationHelper;
@@ -225,6 +235,132 @@ public class DOTSerializationTest {
         checkDOTOutput(writer, DOTSerializationUtil.EMPTY_RESOURCE);
     }
 
+    @Test
+    public void testChannelExport() throws IOException {
+
+        final CompactDFA<String> dfa = DOTSerializationUtil.DFA;
+        final CompactMealy<String, String> mealy = DOTSerializationUtil.MEALY;
+        final CompactGraph<String, String> graph = DOTSerializationUtil.GRAPH;
+
+        final List<VisualizationHelper<Integer, ? super CompactEdge<String>>> helpers =
+                Arrays.asList(new RedTransitionHelper<>(),
+                              new PreambleHelper<>(),
+                              new PropertyHelper<>(graph::getNodeProperty, graph::getEdgeProperty));
+
+        for (int parallelism : new int[] {1, 4}) {
+            checkDOTOutput(channelWriter(c -> GraphDOT.write(dfa, dfa.getInputAlphabet(), c, parallelism)),
+                           DOTSerializationUtil.DFA_RESOURCE);
+            checkDOTOutput(channelWriter(c -> GraphDOT.write(mealy, mealy.getInputAlphabet(), c, parallelism)),
+                           DOTSerializationUtil.MEALY_RESOURCE);
+            checkDOTOutput(channelWriter(c -> GraphDOT.write(graph, c, parallelism, helpers)),
+                           DOTSerializationUtil.GRAPH_RESOURCE);
+            checkDOTOutput(channelWriter(c -> GraphDOT.write(graph,
+                                                             c,
+                                                             parallelism,
+                                                             Collections.singletonList(new NullHelper<>()))),
+                           DOTSerializationUtil.EMPTY_RESOURCE);
+        }
+    }
+
+    @Test
+    public void testLargeChannelExport() throws IOException {
+
+        final int size = 10_000;
+        final CompactDFA<String> dfa = new CompactDFA<>(DOTSerializationUtil.STRING_ALPHABET);
+
+        for (int i = 0; i < size; i++) {
+            dfa.addState(i % 3 == 0);
+        }
+        dfa.setInitialState(0);
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < dfa.numInputs(); j++) {
+                dfa.setTransition(i, j, (i * 7 + j) % size);
+            }
+        }
+
+        final StringWriter expected = new StringWriter();
+        GraphDOT.write(dfa, dfa.getInputAlphabet(), expected, new RedTransitionHelper<>());
+
+        final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        GraphDOT.write(dfa.transitionGraphView(dfa.getInputAlphabet()),
+                       Channels.newChannel(actual),
+                       4,
+                       Collections.singletonList(new RedTransitionHelper<>()));
+
+        Assert.assertEquals(new String(actual.toByteArray(), StandardCharsets.UTF_8), expected.toString());
+    }
+
+    @Test
+    public void testParallelChannelExportWithInitialNodes() throws IOException {
+
+        final int size = 10_000;
+        final Thread caller = Thread.currentThread();
+        final AtomicInteger queries = new AtomicInteger();
+
+        // the default helper lazily computes its initial nodes on the first query
+        final CompactSimpleGraph<String> graph = new CompactSimpleGraph<String>() {
+
+            @Override
+            public VisualizationHelper<Integer, CompactEdge<String>> getVisualizationHelper() {
+                return new DefaultVisualizationHelper<Integer, CompactEdge<String>>() {
+
+                    @Override
+                    protected Collection<Integer> initialNodes() {
+                        queries.incrementAndGet();
+                        Assert.assertSame(Thread.currentThread(), caller);
+                        return Arrays.asList(0, size / 2, size - 1);
+                    }
+                };
+            }
+        };
+
+        for (int i = 0; i < size; i++) {
+            graph.addIntNode(null);
+        }
+
+        for (int i = 0; i < size; i++) {
+            graph.connect(i, (i * 7 + 1) % size, "a");
+        }
+
+        final StringWriter expected = new StringWriter();
+        GraphDOT.write(graph, expected);
+
+        final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        GraphDOT.write(graph, Channels.newChannel(actual), 4);
+
+        Assert.assertEquals(new String(actual.toByteArray(), StandardCharsets.UTF_8), expected.toString());
+        Assert.assertEquals(queries.get(), 2);
+    }
+
+    @Test
+    public void testNeighbourhoodExport() throws IOException {
+
+        final CompactDFA<String> dfa = DOTSerializationUtil.DFA;
+        final Integer init = dfa.getInitialState();
+        Assert.assertNotNull(init);
+
+        final Set<Integer> expectedStates = new HashSet<>();
+        expectedStates.add(init);
+        for (String i : dfa.getInputAlphabet()) {
+            expectedStates.addAll(dfa.getSuccessors(init, i));
+        }
+
+        final StringWriter writer = new StringWriter();
+        GraphDOT.writeNeighbourhood(dfa, dfa.getInputAlphabet(), Collections.singleton(init), 1, writer);
+
+        final String dot = writer.toString();
+        final long numNodes = dot.lines().filter(l -> l.matches("\\ts\\d+( \\[.*)?;")).count();
+        final long numEdges = dot.lines().filter(l -> l.matches("\\ts\\d+ -> s\\d+.*")).count();
+
+        Assert.assertEquals(numNodes, (long) expectedStates.size());
+        Assert.assertTrue(numEdges > 0);
+
+        final StringWriter fullWriter = new StringWriter();
+        GraphDOT.writeNeighbourhood(dfa, dfa.getInputAlphabet(), Collections.singleton(init), dfa.size(), fullWriter);
+        checkDOTOutput(w -> w.write(fullWriter.toString()), DOTSerializationUtil.DFA_RESOURCE);
+    }
+
     @Test
     public void doNotCloseOutputStreamTest() throws IOException {
         DOTSerializationProvider.<Integer, CompactEdge<String>>getInstance()
@@ -246,11 +382,24 @@ public class DOTSerializationTest {
         }
     }
 
+    private static ThrowingWriter channelWriter(ThrowingChannelWriter writer) {
+        return w -> {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            writer.write(Channels.newChannel(baos));
+            w.write(new String(baos.toByteArray(), StandardCharsets.UTF_8));
+        };
+    }
+
     private interface ThrowingWriter {
 
         void write(Writer w) throws IOException;
     }
 
+    private interface ThrowingChannelWriter {
+
+        void write(WritableByteChannel c) throws IOException;
+    }
+
     private static final class RedTransitionHelper<E> implements VisualizationHelper<Integer, E> {
 
         @Override
@@ -31,7 +31,6 @@ import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.transducer.MealyMachine;
 import net.automatalib.automaton.transducer.MutableMealyMachine;
-import net.automatalib.common.util.IOUtil;
 import net.automatalib.common.util.Pair;
 import net.automatalib.exception.FormatException;
 import net.automatalib.serialization.ModelDeserializer;
@@ -161,9 +160,29 @@ public abstract class AbstractFSM2MealyParser<I, O, A extends MutableMealyMachin
      *         (see {@link #parse(Reader)}).
      */
     protected A parseMealy(Reader reader) throws IOException, FormatException {
-
         parse(reader);
+        return constructMealy();
+    }
+
+    /**
+     * Constructs the actual {@link MealyMachine}, using {@link #states}, and {@link #transitions}.
+     *
+     * @param is
+     *         the input stream providing the contents of the FSM file
+     *
+     * @return the Mealy machine defined in the FSM source.
+     *
+     * @throws FSMFormatException
+     *         (see {@link #parse(InputStream)}).
+     * @throws IOException
+     *         (see {@link #parse(InputStream)}).
+     */
+    protected A parseMealy(InputStream is) throws IOException, FormatException {
+        parse(is);
+        return constructMealy();
+    }
 
+    private A constructMealy() {
         // create the alphabet
         final Alphabet<I> alphabet;
 
@@ -202,8 +221,6 @@ public abstract class AbstractFSM2MealyParser<I, O, A extends MutableMealyMachin
 
     @Override
     public A readModel(InputStream is) throws IOException, FormatException {
-        try (Reader r = IOUtil.asNonClosingUTF8Reader(is)) {
-            return parseMealy(r);
-        }
+        return parseMealy(is);
     }
 }
@@ -16,13 +16,17 @@
 package net.automatalib.serialization.fsm.parser;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StreamTokenizer;
+import java.nio.channels.Channels;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Function;
 
+import net.automatalib.common.util.IOUtil;
+import net.automatalib.common.util.io.LineChunkReader;
 import net.automatalib.exception.FormatException;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -221,11 +225,49 @@ public abstract class AbstractFSMParser<I> {
      * @throws IOException when FSM source could not be read.
      */
     protected void parse(Reader reader) throws IOException, FormatException {
+        parse(getStreamTokenizer(reader));
+    }
+
+    /**
+     * Parses the FSM file line-by-line (see {@link #parse(Reader)}). Instead of decoding the input via a
+     * {@link Reader}, this method reads the (UTF-8 encoded) input in large binary chunks and tokenizes it directly,
+     * which is considerably faster for large files. The produced tokens are the same as those of the tokenizer
+     * returned by {@link #getStreamTokenizer(Reader)}. If a subclass overrides {@link #getStreamTokenizer(Reader)},
+     * the input is decoded via a {@link Reader} instead, so that the customized tokenizer is used. The given stream is
+     * not closed.
+     *
+     * @param is
+     *         the source of the FSM file
+     *
+     * @throws FormatException when the FSM source is invalid.
+     * @throws IOException when FSM source could not be read.
+     */
+    protected void parse(InputStream is) throws IOException, FormatException {
+        if (hasCustomTokenizer()) {
+            try (Reader r = IOUtil.asNonClosingUTF8Reader(is)) {
+                parse(r);
+            }
+        } else {
+            parse(new FSMTokenizer(new LineChunkReader(Channels.newChannel(is))));
+        }
+    }
+
+    private boolean hasCustomTokenizer() {
+        for (Class<?> c = getClass(); c != AbstractFSMParser.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("getStreamTokenizer", Reader.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // check the superclass
+            }
+        }
+        return false;
+    }
+
+    private void parse(StreamTokenizer streamTokenizer) throws IOException, FormatException {
         Part part = Part.DATA_DEFINITION;
         partLineNumber = 0;
 
-        final StreamTokenizer streamTokenizer = getStreamTokenizer(reader);
-
         while (streamTokenizer.nextToken() != StreamTokenizer.TT_EOF) {
             streamTokenizer.pushBack();
             switch (part) {
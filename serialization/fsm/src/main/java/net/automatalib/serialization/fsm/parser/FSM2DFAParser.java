@@ -17,7 +17,6 @@ package net.automatalib.serialization.fsm.parser;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.Reader;
 import java.io.StreamTokenizer;
 import java.util.Collection;
 import java.util.HashMap;
@@ -32,7 +31,6 @@ import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.MutableDFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
-import net.automatalib.common.util.IOUtil;
 import net.automatalib.common.util.Pair;
 import net.automatalib.exception.FormatException;
 import net.automatalib.serialization.ModelDeserializer;
@@ -309,16 +307,19 @@ public final class FSM2DFAParser<I, A extends MutableDFA<Integer, I>> extends Ab
     /**
      * Constructs the actual {@link DFA}.
      *
+     * @param is
+     *         the input stream providing the contents of the FSM file
+     *
      * @return the DFA represented by the FSM file.
      *
      * @throws FSMFormatException
-     *         see {@link #parse(Reader)}.
+     *         see {@link #parse(InputStream)}.
      * @throws IOException
-     *         see {@link #parse(Reader)}.
+     *         see {@link #parse(InputStream)}.
      */
-    private A parseDFA(Reader reader) throws IOException, FormatException {
+    private A parseDFA(InputStream is) throws IOException, FormatException {
 
-        parse(reader);
+        parse(is);
 
         final Alphabet<I> alphabet;
 
@@ -353,9 +354,7 @@ public final class FSM2DFAParser<I, A extends MutableDFA<Integer, I>> extends Ab
 
     @Override
     public A readModel(InputStream is) throws IOException, FormatException {
-        try (Reader r = IOUtil.asNonClosingUTF8Reader(is)) {
-            return parseDFA(r);
-        }
+        return parseDFA(is);
     }
 
     /**
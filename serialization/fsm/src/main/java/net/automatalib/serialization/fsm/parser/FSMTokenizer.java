@@ -0,0 +1,275 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.fsm.parser;
+
+import java.io.IOException;
+import java.io.StreamTokenizer;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import net.automatalib.common.util.io.LineChunk;
+import net.automatalib.common.util.io.LineChunkReader;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A tokenizer for the FSM format that reads large binary chunks via a {@link LineChunkReader} and decodes (UTF-8)
+ * characters on the fly instead of reading the input character by character via a {@link java.io.Reader}.
+ * <p>
+ * The tokenizer only supports the tokens required by the FSM format, which match those of the tokenizer configured by
+ * {@link AbstractFSMParser#getStreamTokenizer(java.io.Reader)}:
+ * <ul>
+ *     <li>{@link #TT_WORD words} consisting of ASCII letters and digits, {@code '-'}, {@code '_'}, and all characters
+ *     beyond the Latin-1 range. Numbers are words as well.</li>
+ *     <li>quoted strings (token type {@code '"'}) that end at the closing quote or at a line break. A backslash escapes
+ *     the following character, where {@code \n}, {@code \r}, and {@code \t} denote the respective control
+ *     characters.</li>
+ *     <li>{@link #TT_EOL line breaks} ({@code \n}, {@code \r}, or {@code \r\n}).</li>
+ *     <li>all other (non-whitespace) characters as single-character tokens.</li>
+ * </ul>
+ * It only extends {@link StreamTokenizer} so that it can be passed to the parsing methods of {@link AbstractFSMParser}.
+ */
+final class FSMTokenizer extends StreamTokenizer {
+
+    private static final int QUOTE = '"';
+    private static final int ESCAPE = '\\';
+    private static final int NONE = -2;
+    private static final int REPLACEMENT_CHAR = 0xFFFD;
+
+    private final LineChunkReader reader;
+
+    private byte[] data;
+    private int pos;
+    private int limit;
+    private int lowSurrogate = NONE;
+
+    // a character that has been read but belongs to the next token
+    private int lookahead = NONE;
+    // whether a '\n' directly following a '\r' should be ignored
+    private boolean skipLineFeed;
+    private boolean pushedBack;
+    private int line = 1;
+    private char[] token = new char[32];
+
+    FSMTokenizer(LineChunkReader reader) {
+        super(new StringReader(""));
+        this.reader = reader;
+        this.data = new byte[0];
+    }
+
+    @Override
+    public int nextToken() throws IOException {
+        if (pushedBack) {
+            pushedBack = false;
+            return ttype;
+        }
+
+        sval = null;
+
+        int c = nextChar();
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (c == '\n') {
+                c = nextChar();
+            }
+        }
+
+        while (isWhitespace(c) && !isLineBreak(c)) {
+            c = nextChar();
+        }
+
+        if (c < 0) {
+            ttype = TT_EOF;
+        } else if (isLineBreak(c)) {
+            skipLineFeed = c == '\r';
+            line++;
+            ttype = TT_EOL;
+        } else if (isWordChar(c)) {
+            sval = readWord(c);
+            ttype = TT_WORD;
+        } else if (c == QUOTE) {
+            sval = readQuoted();
+            ttype = QUOTE;
+        } else {
+            ttype = c;
+        }
+
+        return ttype;
+    }
+
+    @Override
+    public void pushBack() {
+        pushedBack = true;
+    }
+
+    @Override
+    public int lineno() {
+        return line;
+    }
+
+    @Override
+    public String toString() {
+        final String value;
+        if (ttype == TT_EOF) {
+            value = "EOF";
+        } else if (ttype == TT_EOL) {
+            value = "EOL";
+        } else if (sval != null) {
+            value = sval;
+        } else {
+            value = "'" + (char) ttype + "'";
+        }
+        return "Token[" + value + "], line " + line;
+    }
+
+    private String readWord(int first) throws IOException {
+        int length = 0;
+        int c = first;
+
+        do {
+            length = append(length, c);
+            c = nextChar();
+        } while (isWordChar(c));
+
+        lookahead = c;
+        return new String(token, 0, length);
+    }
+
+    private String readQuoted() throws IOException {
+        int length = 0;
+        int c = nextChar();
+
+        while (c >= 0 && c != QUOTE && !isLineBreak(c)) {
+            if (c == ESCAPE) {
+                c = nextChar();
+                if (c < 0 || isLineBreak(c)) {
+                    break;
+                }
+                length = append(length, unescape(c));
+            } else {
+                length = append(length, c);
+            }
+            c = nextChar();
+        }
+
+        // line breaks terminate (unclosed) strings but constitute tokens of their own
+        if (isLineBreak(c)) {
+            lookahead = c;
+        }
+
+        return new String(token, 0, length);
+    }
+
+    private int append(int length, int c) {
+        if (length == token.length) {
+            token = Arrays.copyOf(token, length * 2);
+        }
+        token[length] = (char) c;
+        return length + 1;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c >= 0 && c <= ' ';
+    }
+
+    private static boolean isLineBreak(int c) {
+        return c == '\n' || c == '\r';
+    }
+
+    private static boolean isWordChar(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_' ||
+               c > 0xFF;
+    }
+
+    private static int unescape(int c) {
+        switch (c) {
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            default:
+                return c;
+        }
+    }
+
+    private int nextChar() throws IOException {
+        if (lookahead != NONE) {
+            final int c = lookahead;
+            lookahead = NONE;
+            return c;
+        }
+        return decode();
+    }
+
+    private int decode() throws IOException {
+        if (lowSurrogate != NONE) {
+            final int c = lowSurrogate;
+            lowSurrogate = NONE;
+            return c;
+        }
+
+        final int b = readByte();
+
+        if (b < 0x80) {
+            return b; // includes EOF
+        }
+
+        // decode UTF-8 (multi-byte) sequences
+        final int numBytes;
+        int cp;
+
+        if (b >= 0xC2 && b <= 0xDF) {
+            numBytes = 1;
+            cp = b & 0x1F;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            numBytes = 2;
+            cp = b & 0x0F;
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            numBytes = 3;
+            cp = b & 0x07;
+        } else {
+            return REPLACEMENT_CHAR;
+        }
+
+        for (int i = 0; i < numBytes; i++) {
+            if (pos >= limit || (data[pos] & 0xC0) != 0x80) {
+                return REPLACEMENT_CHAR;
+            }
+            cp = (cp << 6) | (data[pos++] & 0x3F);
+        }
+
+        if (Character.isSupplementaryCodePoint(cp)) {
+            lowSurrogate = Character.lowSurrogate(cp);
+            return Character.highSurrogate(cp);
+        }
+
+        return cp;
+    }
+
+    private int readByte() throws IOException {
+        if (pos >= limit) {
+            final @Nullable LineChunk chunk = reader.next();
+            if (chunk == null) {
+                return -1;
+            }
+            data = chunk.getData();
+            limit = chunk.getLength();
+            pos = 0;
+        }
+        return data[pos++] & 0xFF;
+    }
+}
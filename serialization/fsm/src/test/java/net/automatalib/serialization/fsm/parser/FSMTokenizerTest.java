@@ -0,0 +1,166 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.fsm.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StreamTokenizer;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.Function;
+
+import net.automatalib.common.util.io.LineChunkReader;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FSMTokenizerTest {
+
+    private static final int QUOTE = '"';
+
+    private static final String[] FRAGMENTS = {"a",
+                                               "Z",
+                                               "0",
+                                               "42",
+                                               "-",
+                                               "---",
+                                               "_",
+                                               "(",
+                                               ")",
+                                               "\"",
+                                               "\\\"",
+                                               "\\\\",
+                                               "\\n",
+                                               "\n",
+                                               "\r",
+                                               "\r\n",
+                                               " ",
+                                               "\t",
+                                               ",",
+                                               "é",
+                                               "€",
+                                               "😀"};
+
+    @Test
+    public void testEquivalence() throws IOException {
+        final Random random = new Random(42);
+        final AbstractFSMParser<String> parser = new DummyParser();
+
+        for (int i = 0; i < 200; i++) {
+            final StringBuilder sb = new StringBuilder();
+            final int length = random.nextInt(200);
+            for (int j = 0; j < length; j++) {
+                sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+
+            final String input = sb.toString();
+            final StreamTokenizer expected = parser.getStreamTokenizer(new StringReader(input));
+            final byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+            final LineChunkReader reader =
+                    new LineChunkReader(Channels.newChannel(new ByteArrayInputStream(bytes)), 16);
+            final StreamTokenizer actual = new FSMTokenizer(reader);
+
+            int token;
+            do {
+                token = expected.nextToken();
+                Assert.assertEquals(actual.nextToken(), token, input);
+                Assert.assertEquals(actual.sval, expected.sval, input);
+                Assert.assertEquals(actual.lineno(), expected.lineno(), input);
+
+                if (random.nextInt(8) == 0) {
+                    expected.pushBack();
+                    actual.pushBack();
+                }
+            } while (token != StreamTokenizer.TT_EOF);
+        }
+    }
+
+    @Test
+    public void testQuotedStrings() throws IOException {
+        final String input = "\"a b\" \"\\\"\\\\\\t\" \"open\nx";
+        final byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        final StreamTokenizer tokenizer =
+                new FSMTokenizer(new LineChunkReader(Channels.newChannel(new ByteArrayInputStream(bytes))));
+
+        Assert.assertEquals(tokenizer.nextToken(), QUOTE);
+        Assert.assertEquals(tokenizer.sval, "a b");
+        Assert.assertEquals(tokenizer.nextToken(), QUOTE);
+        Assert.assertEquals(tokenizer.sval, "\"\\\t");
+        Assert.assertEquals(tokenizer.nextToken(), QUOTE);
+        Assert.assertEquals(tokenizer.sval, "open");
+        Assert.assertEquals(tokenizer.nextToken(), StreamTokenizer.TT_EOL);
+        Assert.assertEquals(tokenizer.nextToken(), StreamTokenizer.TT_WORD);
+        Assert.assertEquals(tokenizer.sval, "x");
+        Assert.assertEquals(tokenizer.lineno(), 2);
+        Assert.assertEquals(tokenizer.nextToken(), StreamTokenizer.TT_EOF);
+    }
+
+    @Test
+    public void testCustomTokenizer() throws Exception {
+        final byte[] bytes = "a\n".getBytes(StandardCharsets.UTF_8);
+
+        final DummyParser parser = new DummyParser();
+        parser.parse(new ByteArrayInputStream(bytes));
+        Assert.assertTrue(parser.tokenizer instanceof FSMTokenizer);
+
+        final DummyParser customParser = new CustomParser();
+        customParser.parse(new ByteArrayInputStream(bytes));
+        Assert.assertNotNull(customParser.tokenizer);
+        Assert.assertFalse(customParser.tokenizer instanceof FSMTokenizer);
+    }
+
+    private static class DummyParser extends AbstractFSMParser<String> {
+
+        @Nullable StreamTokenizer tokenizer;
+
+        DummyParser() {
+            super(null, Function.identity());
+        }
+
+        @Override
+        protected void parseDataDefinition(StreamTokenizer streamTokenizer) {
+            this.tokenizer = streamTokenizer;
+        }
+
+        @Override
+        protected void checkDataDefinitions(StreamTokenizer streamTokenizer) {}
+
+        @Override
+        protected void parseStateVector(StreamTokenizer streamTokenizer) {}
+
+        @Override
+        protected void checkStateVectors(StreamTokenizer streamTokenizer) {}
+
+        @Override
+        protected void parseTransition(StreamTokenizer streamTokenizer) {}
+
+        @Override
+        protected void checkTransitions(StreamTokenizer streamTokenizer) {}
+    }
+
+    private static final class CustomParser extends DummyParser {
+
+        @Override
+        protected StreamTokenizer getStreamTokenizer(Reader reader) {
+            final StreamTokenizer streamTokenizer = super.getStreamTokenizer(reader);
+            streamTokenizer.wordChars(',', ',');
+            return streamTokenizer;
+        }
+    }
+}
@@ -19,24 +19,36 @@ import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.MutableAutomaton;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
 import net.automatalib.common.util.io.NonClosingInputStream;
 import net.automatalib.exception.FormatException;
 import net.automatalib.serialization.InputModelData;
 import net.automatalib.serialization.InputModelDeserializer;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Abstract deserializer for the SAF (simple automaton format).
+ * <p>
+ * If the model is deterministic and the automaton provided by the {@link AutomatonCreator} is an (initially empty)
+ * {@link AbstractCompactDeterministic compact automaton}, states are added via their primitive representation and
+ * transitions are copied in bulk into the array-based storage of the automaton (see
+ * {@link AbstractCompactDeterministic#setTransitions(int, int, int[], Object[])}). For models without transition
+ * properties (e.g., DFAs), the (binary) transition table is read in large chunks and decoded directly.
  */
 abstract class AbstractSAFInput<S, I, T, SP, TP, A extends MutableAutomaton<S, I, T, SP, TP>>
         implements InputModelDeserializer<I, A> {
 
     private static final AutomatonType[] TYPES = AutomatonType.values();
+    private static final int BULK_CHUNK_SIZE = 1 << 16;
 
     private final AutomatonType expectedType;
     private final AutomatonCreator<? extends A, I> creator;
@@ -58,12 +70,17 @@ abstract class AbstractSAFInput<S, I, T, SP, TP, A extends MutableAutomaton<S, I
     @Override
     public InputModelData<I, A> readModel(InputStream is) throws IOException, FormatException {
         try (DataInputStream in = new DataInputStream(new NonClosingInputStream(is))) {
-            final AutomatonType type = readHeader(in);
+            final int typeByte = readHeader(in);
+            final AutomatonType type = toType(typeByte & ~SAFBlocks.VERSION_2_FLAG);
 
             if (type != expectedType) {
                 throw new FormatException();
             }
 
+            if ((typeByte & SAFBlocks.VERSION_2_FLAG) != 0) {
+                return readBlockModel(in, type);
+            }
+
             final int alphabetSize = in.readInt();
 
             if (alphabetSize <= 0) {
@@ -71,20 +88,109 @@ abstract class AbstractSAFInput<S, I, T, SP, TP, A extends MutableAutomaton<S, I
             }
 
             final Alphabet<I> alphabet = getAlphabet(alphabetSize);
-            final A automaton = readAutomatonBody(in, alphabet, type.isDeterministic(), creator, spDecoder, tpDecoder);
+            final A automaton = readAutomatonBody(in, alphabet, type, creator, spDecoder, tpDecoder);
 
             return new InputModelData<>(automaton, alphabet);
         }
     }
 
-    private AutomatonType readHeader(DataInput in) throws IOException, FormatException {
+    private InputModelData<I, A> readBlockModel(DataInput in, AutomatonType type) throws IOException, FormatException {
+        final SAFBlocks.Header header = SAFBlocks.Header.read(in);
+        final Alphabet<I> alphabet = getAlphabet(header.alphabetSize);
+        final A automaton = creator.createAutomaton(alphabet, header.numStates);
+        final AbstractCompactDeterministic<I, ?, SP, TP> compact = asCompact(automaton, alphabet, type);
+        final int numBlocks = SAFBlocks.numBlocks(header.numStates, header.blockSize);
+        final List<List<? extends SP>> stateProperties = new ArrayList<>(numBlocks);
+        final List<S> stateList = compact == null ? new ArrayList<>(header.numStates) : Collections.emptyList();
+
+        for (int b = 0; b < numBlocks; b++) {
+            final int size = Math.min(header.blockSize, header.numStates - b * header.blockSize);
+            final byte[] raw = SAFBlocks.readChunk(in, header.compression);
+            final List<? extends SP> props = SAFBlocks.decodeStateProperties(raw, size, spDecoder);
+            if (compact == null) {
+                for (SP p : props) {
+                    stateList.add(automaton.addState(p));
+                }
+            } else {
+                for (SP p : props) {
+                    compact.addIntState(p);
+                }
+            }
+            stateProperties.add(props);
+        }
+
+        for (int init : header.initialStates) {
+            if (compact == null) {
+                automaton.setInitial(stateList.get(init), true);
+            } else {
+                compact.setInitialState(checkState(init, header.numStates));
+            }
+        }
+
+        for (int b = 0; b < numBlocks; b++) {
+            final byte[] raw = SAFBlocks.readChunk(in, header.compression);
+            final SAFStateRange<? extends SP, ? extends TP> range = SAFBlocks.decodeTransitions(raw,
+                                                                                              b * header.blockSize,
+                                                                                              stateProperties.get(b),
+                                                                                              header.numStates,
+                                                                                              header.alphabetSize,
+                                                                                              type.isDeterministic(),
+                                                                                              tpDecoder);
+            if (compact == null) {
+                addTransitions(automaton, alphabet, stateList, range);
+            } else {
+                setTransitions(compact, range);
+            }
+            // allow the decoded properties to be collected
+            stateProperties.set(b, Collections.emptyList());
+        }
+
+        // skip the footer (index), since we read the blocks sequentially
+        return new InputModelData<>(automaton, alphabet);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setTransitions(AbstractCompactDeterministic<I, ?, SP, TP> compact,
+                                SAFStateRange<? extends SP, ? extends TP> range) {
+        final int lower = range.getLowerBound();
+        final int size = range.getUpperBound() - lower;
+        final int[] successors = range.getDeterministicSuccessors();
+
+        compact.setTransitions(lower, size, successors, (TP[]) range.getDeterministicTransitionProperties());
+    }
+
+    private void addTransitions(MutableAutomaton<S, I, ?, ?, TP> automaton,
+                                Alphabet<I> alphabet,
+                                List<S> stateList,
+                                SAFStateRange<? extends SP, ? extends TP> range) {
+        final int numInputs = alphabet.size();
+
+        for (int s = range.getLowerBound(); s < range.getUpperBound(); s++) {
+            final S state = stateList.get(s);
+            for (int j = 0; j < numInputs; j++) {
+                final int numSuccs = range.getNumSuccessors(s, j);
+                if (numSuccs > 0) {
+                    final I sym = alphabet.getSymbol(j);
+                    for (int k = 0; k < numSuccs; k++) {
+                        final S succ = stateList.get(range.getSuccessor(s, j, k));
+                        automaton.addTransition(state, sym, succ, range.getTransitionProperty(s, j, k));
+                    }
+                }
+            }
+        }
+    }
+
+    private int readHeader(DataInput in) throws IOException, FormatException {
         final int headerSize = 4;
         byte[] header = new byte[headerSize];
         in.readFully(header);
         if (header[0] != 'S' || header[1] != 'A' || header[2] != 'F') {
             throw new FormatException();
         }
-        byte type = header[3];
+        return header[3];
+    }
+
+    static AutomatonType toType(int type) throws FormatException {
         if (type < 0 || type >= TYPES.length) {
             throw new FormatException();
         }
@@ -93,15 +199,20 @@ abstract class AbstractSAFInput<S, I, T, SP, TP, A extends MutableAutomaton<S, I
 
     private A readAutomatonBody(DataInput in,
                                 Alphabet<I> alphabet,
-                                boolean deterministic,
+                                AutomatonType type,
                                 AutomatonCreator<? extends A, I> creator,
                                 BlockPropertyDecoder<? extends SP> spDecoder,
-                                SinglePropertyDecoder<? extends TP> tpDecoder) throws IOException {
+                                SinglePropertyDecoder<? extends TP> tpDecoder) throws IOException, FormatException {
         int numStates = in.readInt();
         A result = creator.createAutomaton(alphabet, numStates);
 
-        if (deterministic) {
-            decodeBodyDet(in, result, alphabet, numStates, spDecoder, tpDecoder);
+        if (type.isDeterministic()) {
+            final AbstractCompactDeterministic<I, ?, SP, TP> compact = asCompact(result, alphabet, type);
+            if (compact == null) {
+                decodeBodyDet(in, result, alphabet, numStates, spDecoder, tpDecoder);
+            } else {
+                decodeBodyCompact(in, compact, numStates, type.hasTransitionProperties(), spDecoder, tpDecoder);
+            }
         } else {
             decodeBodyNondet(in, result, alphabet, numStates, spDecoder, tpDecoder);
         }
@@ -109,6 +220,79 @@ abstract class AbstractSAFInput<S, I, T, SP, TP, A extends MutableAutomaton<S, I
         return result;
     }
 
+    @SuppressWarnings("unchecked")
+    private @Nullable AbstractCompactDeterministic<I, ?, SP, TP> asCompact(A automaton,
+                                                                          Alphabet<I> alphabet,
+                                                                          AutomatonType type) {
+        if (type.isDeterministic() && automaton instanceof AbstractCompactDeterministic && automaton.size() == 0) {
+            final AbstractCompactDeterministic<I, ?, SP, TP> compact =
+                    (AbstractCompactDeterministic<I, ?, SP, TP>) automaton;
+            if (compact.numInputs() == alphabet.size()) {
+                return compact;
+            }
+        }
+        return null;
+    }
+
+    private void decodeBodyCompact(DataInput in,
+                                   AbstractCompactDeterministic<I, ?, SP, TP> result,
+                                   int numStates,
+                                   boolean transitionProperties,
+                                   BlockPropertyDecoder<? extends SP> spDecoder,
+                                   SinglePropertyDecoder<? extends TP> tpDecoder) throws IOException, FormatException {
+        final int initStateId = in.readInt();
+
+        spDecoder.start(in);
+        for (int i = 0; i < numStates; i++) {
+            result.addIntState(spDecoder.readProperty(in));
+        }
+        spDecoder.finish(in);
+
+        result.setInitialState(checkState(initStateId, numStates));
+
+        final int numInputs = result.numInputs();
+        final int chunkStates = Math.max(1, Math.min(numStates, BULK_CHUNK_SIZE / Math.max(1, numInputs)));
+        final int[] successors = new int[chunkStates * numInputs];
+
+        if (transitionProperties) {
+            @SuppressWarnings("unchecked")
+            final @Nullable TP[] properties = (TP[]) new Object[successors.length];
+
+            for (int first = 0; first < numStates; first += chunkStates) {
+                final int n = Math.min(chunkStates, numStates - first);
+                final int length = n * numInputs;
+                for (int i = 0; i < length; i++) {
+                    final int tgt = in.readInt();
+                    successors[i] = tgt;
+                    properties[i] = tgt == SAFBlocks.NO_SUCCESSOR ? null : tpDecoder.readProperty(in);
+                }
+                SAFBlocks.checkSuccessors(successors, length, numStates);
+                result.setTransitions(first, n, successors, properties);
+            }
+        } else {
+            // without transition properties, the transition table is a plain sequence of (big-endian) integers
+            final byte[] buffer = new byte[successors.length * Integer.BYTES];
+            final IntBuffer view = ByteBuffer.wrap(buffer).asIntBuffer();
+
+            for (int first = 0; first < numStates; first += chunkStates) {
+                final int n = Math.min(chunkStates, numStates - first);
+                final int length = n * numInputs;
+                in.readFully(buffer, 0, length * Integer.BYTES);
+                view.clear();
+                view.get(successors, 0, length);
+                SAFBlocks.checkSuccessors(successors, length, numStates);
+                result.setTransitions(first, n, successors, null);
+            }
+        }
+    }
+
+    private static int checkState(int state, int numStates) throws FormatException {
+        if (state < 0 || state >= numStates) {
+            throw new FormatException("Invalid state: " + state);
+        }
+        return state;
+    }
+
     private void decodeBodyDet(DataInput in,
                                MutableAutomaton<S, I, ?, SP, TP> result,
                                Alphabet<I> alphabet,
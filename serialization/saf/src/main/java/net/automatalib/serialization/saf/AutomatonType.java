@@ -16,17 +16,23 @@
 package net.automatalib.serialization.saf;
 
 enum AutomatonType {
-    DFA(true),
-    NFA(false),
-    MEALY(true);
+    DFA(true, false),
+    NFA(false, false),
+    MEALY(true, true);
 
     private final boolean deterministic;
+    private final boolean transitionProperties;
 
-    AutomatonType(boolean deterministic) {
+    AutomatonType(boolean deterministic, boolean transitionProperties) {
         this.deterministic = deterministic;
+        this.transitionProperties = transitionProperties;
     }
 
     boolean isDeterministic() {
         return deterministic;
     }
+
+    boolean hasTransitionProperties() {
+        return transitionProperties;
+    }
 }
@@ -0,0 +1,159 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An unsynchronized {@link DataInput} that directly reads from a given byte array.
+ */
+final class ByteArrayDataInput implements DataInput {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int pos;
+
+    ByteArrayDataInput(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    ByteArrayDataInput(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.pos = offset;
+        this.limit = offset + length;
+    }
+
+    int position() {
+        return pos;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        ensureAvailable(len);
+        System.arraycopy(buffer, pos, b, off, len);
+        pos += len;
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        final int skipped = Math.max(0, Math.min(n, limit - pos));
+        pos += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        ensureAvailable(1);
+        return buffer[pos++];
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        return (short) readUnsignedShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        ensureAvailable(2);
+        final int result = ((buffer[pos] & 0xFF) << 8) | (buffer[pos + 1] & 0xFF);
+        pos += 2;
+        return result;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return (char) readUnsignedShort();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        ensureAvailable(4);
+        final int result = ((buffer[pos] & 0xFF) << 24) | ((buffer[pos + 1] & 0xFF) << 16) |
+                           ((buffer[pos + 2] & 0xFF) << 8) | (buffer[pos + 3] & 0xFF);
+        pos += 4;
+        return result;
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    @Override
+    public @Nullable String readLine() {
+        if (pos >= limit) {
+            return null;
+        }
+
+        final StringBuilder sb = new StringBuilder();
+
+        while (pos < limit) {
+            final char c = (char) (buffer[pos++] & 0xFF);
+            if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (pos < limit && buffer[pos] == '\n') {
+                    pos++;
+                }
+                break;
+            }
+            sb.append(c);
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    private void ensureAvailable(int n) throws EOFException {
+        if (limit - pos < n) {
+            throw new EOFException();
+        }
+    }
+}
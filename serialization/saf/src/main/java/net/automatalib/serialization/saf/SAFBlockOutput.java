@@ -0,0 +1,193 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Set;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.UniversalAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.io.NonClosingOutputStream;
+import net.automatalib.serialization.InputModelSerializer;
+
+/**
+ * Serializer for the block-based (second) revision of the SAF format.
+ *
+ * @see SAFBlocks
+ */
+class SAFBlockOutput<S, I, T, SP, TP, M extends UniversalAutomaton<S, I, T, SP, TP>>
+        implements InputModelSerializer<I, M> {
+
+    private final AutomatonType expectedType;
+    private final SAFCompression compression;
+    private final int blockSize;
+    private final BlockPropertyEncoder<? super SP> spEncoder;
+    private final SinglePropertyEncoder<? super TP> tpEncoder;
+
+    SAFBlockOutput(AutomatonType expectedType,
+                   SAFCompression compression,
+                   int blockSize,
+                   BlockPropertyEncoder<? super SP> spEncoder,
+                   SinglePropertyEncoder<? super TP> tpEncoder) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.expectedType = expectedType;
+        this.compression = compression;
+        this.blockSize = blockSize;
+        this.spEncoder = spEncoder;
+        this.tpEncoder = tpEncoder;
+    }
+
+    @Override
+    public void writeModel(OutputStream os, M model, Alphabet<I> alphabet) throws IOException {
+        final CountingOutputStream counter =
+                new CountingOutputStream(new BufferedOutputStream(new NonClosingOutputStream(os)));
+
+        try (DataOutputStream out = new DataOutputStream(counter)) {
+            final int numStates = model.size();
+            final int numBlocks = SAFBlocks.numBlocks(numStates, blockSize);
+            final StateIDs<S> ids = model.stateIDs();
+            final Set<S> initials = model.getInitialStates();
+
+            if (expectedType.isDeterministic() && initials.size() != 1) {
+                throw new IllegalArgumentException();
+            }
+
+            out.writeByte('S');
+            out.writeByte('A');
+            out.writeByte('F');
+            out.writeByte(expectedType.ordinal() | SAFBlocks.VERSION_2_FLAG);
+            out.writeByte(compression.ordinal());
+            SAFBlocks.writeVarLong(out, alphabet.size());
+            SAFBlocks.writeVarLong(out, numStates);
+            SAFBlocks.writeVarLong(out, blockSize);
+            SAFBlocks.writeVarLong(out, initials.size());
+            for (S init : initials) {
+                SAFBlocks.writeVarLong(out, ids.getStateId(init));
+            }
+
+            final long[] propOffsets = new long[numBlocks];
+            final long[] transOffsets = new long[numBlocks];
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            final DataOutputStream blockOut = new DataOutputStream(buffer);
+
+            for (int b = 0; b < numBlocks; b++) {
+                buffer.reset();
+                encodeStateProperties(blockOut, model, ids, b);
+                blockOut.flush();
+                out.flush();
+                propOffsets[b] = counter.count;
+                SAFBlocks.writeChunk(out, buffer.toByteArray(), buffer.size(), compression);
+            }
+
+            for (int b = 0; b < numBlocks; b++) {
+                buffer.reset();
+                encodeTransitions(blockOut, model, alphabet, ids, b);
+                blockOut.flush();
+                out.flush();
+                transOffsets[b] = counter.count;
+                SAFBlocks.writeChunk(out, buffer.toByteArray(), buffer.size(), compression);
+            }
+
+            out.flush();
+            final long footerOffset = counter.count;
+            SAFBlocks.writeVarLong(out, numBlocks);
+            for (int b = 0; b < numBlocks; b++) {
+                out.writeLong(propOffsets[b]);
+                out.writeLong(transOffsets[b]);
+            }
+            out.writeLong(footerOffset);
+        }
+    }
+
+    private void encodeStateProperties(DataOutput out, M model, StateIDs<S> ids, int block) throws IOException {
+        final int lower = block * blockSize;
+        final int upper = Math.min(model.size(), lower + blockSize);
+
+        spEncoder.start(out);
+        for (int i = lower; i < upper; i++) {
+            spEncoder.encodeProperty(out, model.getStateProperty(ids.getState(i)));
+        }
+        spEncoder.finish(out);
+    }
+
+    private void encodeTransitions(DataOutput out, M model, Alphabet<I> alphabet, StateIDs<S> ids, int block)
+            throws IOException {
+        final int lower = block * blockSize;
+        final int upper = Math.min(model.size(), lower + blockSize);
+        final int numInputs = alphabet.size();
+        final boolean deterministic = expectedType.isDeterministic();
+
+        for (int i = lower; i < upper; i++) {
+            final S state = ids.getState(i);
+            for (int j = 0; j < numInputs; j++) {
+                final Collection<T> transitions = model.getTransitions(state, alphabet.getSymbol(j));
+
+                if (deterministic) {
+                    if (transitions.size() > 1) {
+                        throw new IllegalArgumentException("Not deterministic");
+                    } else if (transitions.isEmpty()) {
+                        SAFBlocks.writeVarLong(out, 0);
+                    } else {
+                        final T t = transitions.iterator().next();
+                        final int succ = ids.getStateId(model.getSuccessor(t));
+                        SAFBlocks.writeVarLong(out, SAFBlocks.zigZag((long) succ - i) + 1);
+                        tpEncoder.writeProperty(out, model.getTransitionProperty(t));
+                    }
+                } else {
+                    SAFBlocks.writeVarLong(out, transitions.size());
+                    long prev = i;
+                    for (T t : transitions) {
+                        final int succ = ids.getStateId(model.getSuccessor(t));
+                        SAFBlocks.writeVarLong(out, SAFBlocks.zigZag(succ - prev));
+                        tpEncoder.writeProperty(out, model.getTransitionProperty(t));
+                        prev = succ;
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import net.automatalib.exception.FormatException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Utility methods for the block-based (second) revision of the SAF format.
+ * <p>
+ * A model in this format is laid out as follows:
+ * <pre>
+ * header:    'S' 'A' 'F' (type | VERSION_2_FLAG)
+ *            compression (byte), #inputs, #states, block size, #initial states, initial states... (varints)
+ * blocks:    state properties of block 0 ... state properties of block n-1
+ *            transitions of block 0 ... transitions of block n-1
+ * footer:    #blocks (varint), (state property offset, transition offset) per block (longs)
+ *            offset of the footer (long)
+ * </pre>
+ * Each block is stored as its uncompressed length, its stored length (both varints), followed by the (potentially
+ * compressed) payload. Within a block, successors are encoded as zig-zag varints relative to the source state (or, for
+ * non-deterministic automata, relative to the previous successor) so that local transition structures encode to very
+ * few bytes.
+ */
+final class SAFBlocks {
+
+    static final int VERSION_2_FLAG = 0x40;
+    static final int DEFAULT_BLOCK_SIZE = 1 << 12;
+    static final int NO_SUCCESSOR = -1;
+
+    private static final SAFCompression[] COMPRESSIONS = SAFCompression.values();
+
+    private SAFBlocks() {
+        // prevent instantiation
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        long v = value;
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final byte b = in.readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        final long result = readVarLong(in);
+        if (result < 0 || result > Integer.MAX_VALUE) {
+            throw new IOException("Varint out of range: " + result);
+        }
+        return (int) result;
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int numBlocks(int numStates, int blockSize) {
+        return (numStates + blockSize - 1) / blockSize;
+    }
+
+    static void writeChunk(DataOutput out, byte[] raw, int length, SAFCompression compression) throws IOException {
+        writeVarLong(out, length);
+
+        switch (compression) {
+            case NONE:
+                writeVarLong(out, length);
+                out.write(raw, 0, length);
+                break;
+            case DEFLATE:
+                final Deflater deflater = new Deflater();
+                try {
+                    deflater.setInput(raw, 0, length);
+                    deflater.finish();
+                    byte[] buffer = new byte[Math.max(64, length + length / 8 + 64)];
+                    int size = 0;
+                    while (!deflater.finished()) {
+                        if (size == buffer.length) {
+                            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                        }
+                        size += deflater.deflate(buffer, size, buffer.length - size);
+                    }
+                    writeVarLong(out, size);
+                    out.write(buffer, 0, size);
+                } finally {
+                    deflater.end();
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown compression " + compression);
+        }
+    }
+
+    static byte[] readChunk(DataInput in, SAFCompression compression) throws IOException {
+        final int rawLength = readVarInt(in);
+        final int storedLength = readVarInt(in);
+        final byte[] stored = new byte[storedLength];
+        in.readFully(stored);
+
+        switch (compression) {
+            case NONE:
+                return stored;
+            case DEFLATE:
+                final Inflater inflater = new Inflater();
+                try {
+                    inflater.setInput(stored);
+                    final byte[] raw = new byte[rawLength];
+                    int size = 0;
+                    while (size < rawLength) {
+                        final int inflated = inflater.inflate(raw, size, rawLength - size);
+                        if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                            throw new IOException("Truncated block");
+                        }
+                        size += inflated;
+                    }
+                    return raw;
+                } catch (DataFormatException e) {
+                    throw new IOException(e);
+                } finally {
+                    inflater.end();
+                }
+            default:
+                throw new IllegalStateException("Unknown compression " + compression);
+        }
+    }
+
+    static <SP> List<SP> decodeStateProperties(byte[] raw, int numStates, BlockPropertyDecoder<? extends SP> decoder)
+            throws IOException {
+        final ByteArrayDataInput in = new ByteArrayDataInput(raw);
+        final List<SP> result = new ArrayList<>(numStates);
+
+        decoder.start(in);
+        for (int i = 0; i < numStates; i++) {
+            result.add(decoder.readProperty(in));
+        }
+        decoder.finish(in);
+
+        return result;
+    }
+
+    static <SP, TP> SAFStateRange<SP, TP> decodeTransitions(byte[] raw,
+                                                            int from,
+                                                            List<SP> stateProperties,
+                                                            int totalStates,
+                                                            int numInputs,
+                                                            boolean deterministic,
+                                                            SinglePropertyDecoder<? extends TP> decoder)
+            throws IOException, FormatException {
+        final ByteArrayDataInput in = new ByteArrayDataInput(raw);
+        final int numStates = stateProperties.size();
+        final int numSlots = numStates * numInputs;
+
+        if (deterministic) {
+            final int[] targets = new int[numSlots];
+            final @Nullable Object[] properties = new Object[numSlots];
+
+            for (int i = 0, slot = 0; i < numStates; i++) {
+                final long src = from + i;
+                for (int j = 0; j < numInputs; j++, slot++) {
+                    final long enc = readVarLong(in);
+                    if (enc == 0) {
+                        targets[slot] = NO_SUCCESSOR;
+                    } else {
+                        targets[slot] = checkTarget(src + unZigZag(enc - 1), totalStates);
+                        properties[slot] = decoder.readProperty(in);
+                    }
+                }
+            }
+
+            return new SAFStateRange<>(from, numInputs, stateProperties, null, targets, properties);
+        }
+
+        final int[] offsets = new int[numSlots + 1];
+        int[] targets = new int[numSlots];
+        @Nullable Object[] properties = new Object[numSlots];
+        int size = 0;
+
+        for (int i = 0, slot = 0; i < numStates; i++) {
+            final long src = from + i;
+            for (int j = 0; j < numInputs; j++, slot++) {
+                final int numSuccs = readVarInt(in);
+                if (size + numSuccs > targets.length) {
+                    final int newCap = Math.max(size + numSuccs, targets.length * 2);
+                    targets = Arrays.copyOf(targets, newCap);
+                    properties = Arrays.copyOf(properties, newCap);
+                }
+                long prev = src;
+                for (int k = 0; k < numSuccs; k++) {
+                    prev += unZigZag(readVarLong(in));
+                    targets[size] = checkTarget(prev, totalStates);
+                    properties[size] = decoder.readProperty(in);
+                    size++;
+                }
+                offsets[slot + 1] = size;
+            }
+        }
+
+        return new SAFStateRange<>(from,
+                                   numInputs,
+                                   stateProperties,
+                                   offsets,
+                                   Arrays.copyOf(targets, size),
+                                   Arrays.copyOf(properties, size));
+    }
+
+    private static int checkTarget(long target, int numStates) throws FormatException {
+        if (target < 0 || target >= numStates) {
+            throw new FormatException("Invalid successor: " + target);
+        }
+        return (int) target;
+    }
+
+    static void checkSuccessors(int[] successors, int length, int numStates) throws FormatException {
+        for (int i = 0; i < length; i++) {
+            final int succ = successors[i];
+            if (succ < NO_SUCCESSOR || succ >= numStates) {
+                throw new FormatException("Invalid successor: " + succ);
+            }
+        }
+    }
+
+    static SAFCompression toCompression(int ordinal) throws FormatException {
+        if (ordinal < 0 || ordinal >= COMPRESSIONS.length) {
+            throw new FormatException("Unknown compression: " + ordinal);
+        }
+        return COMPRESSIONS[ordinal];
+    }
+
+    /**
+     * The (non-block) meta-data of a model.
+     */
+    static final class Header {
+
+        final SAFCompression compression;
+        final int alphabetSize;
+        final int numStates;
+        final int blockSize;
+        final int[] initialStates;
+
+        private Header(SAFCompression compression,
+                       int alphabetSize,
+                       int numStates,
+                       int blockSize,
+                       int[] initialStates) {
+            this.compression = compression;
+            this.alphabetSize = alphabetSize;
+            this.numStates = numStates;
+            this.blockSize = blockSize;
+            this.initialStates = initialStates;
+        }
+
+        /**
+         * Reads the remaining header information after the initial four (format-identifying) bytes have been read.
+         */
+        static Header read(DataInput in) throws IOException, FormatException {
+            final SAFCompression compression = toCompression(in.readUnsignedByte());
+            final int alphabetSize = readVarInt(in);
+            final int numStates = readVarInt(in);
+            final int blockSize = readVarInt(in);
+            final int numInitials = readVarInt(in);
+
+            if (alphabetSize <= 0 || blockSize <= 0 || numInitials > numStates) {
+                throw new FormatException();
+            }
+
+            final int[] initialStates = new int[numInitials];
+            for (int i = 0; i < numInitials; i++) {
+                initialStates[i] = readVarInt(in);
+                if (initialStates[i] >= numStates) {
+                    throw new FormatException();
+                }
+            }
+
+            return new Header(compression, alphabetSize, numStates, blockSize, initialStates);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+/**
+ * The compression schemes that can be applied to the individual blocks of a (block-based) SAF model.
+ */
+public enum SAFCompression {
+    /**
+     * Blocks are stored as-is.
+     */
+    NONE,
+    /**
+     * Blocks are compressed using the DEFLATE algorithm.
+     */
+    DEFLATE
+}
@@ -15,6 +15,9 @@
  */
 package net.automatalib.serialization.saf;
 
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.automaton.fsa.DFA;
@@ -26,7 +29,9 @@ import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.automaton.transducer.MealyMachine;
 import net.automatalib.automaton.transducer.MutableMealyMachine;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.exception.FormatException;
 import net.automatalib.serialization.InputModelDeserializer;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Facade for SAF (simple automaton format) parsing. This class provides several static methods to access
@@ -291,4 +296,72 @@ public final class SAFParsers {
                               new AcceptanceDecoder(),
                               SinglePropertyDecoder.nullDecoder());
     }
+
+    /**
+     * Constructs a {@link SAFRandomAccessReader} that provides random access to the states of a {@link DFA} stored in
+     * the block-based SAF format.
+     *
+     * @param channel
+     *         the channel to read from. The channel is not closed by the reader
+     *
+     * @return a {@link SAFRandomAccessReader} for the stored {@link DFA}
+     *
+     * @throws IOException
+     *         if reading from the channel fails
+     * @throws FormatException
+     *         if the channel does not contain a {@link DFA} in the block-based SAF format
+     */
+    public static SAFRandomAccessReader<Boolean, @Nullable Void> dfaRandomAccess(SeekableByteChannel channel)
+            throws IOException, FormatException {
+        return new SAFRandomAccessReader<>(channel,
+                                           AutomatonType.DFA,
+                                           new AcceptanceDecoder(),
+                                           SinglePropertyDecoder.nullDecoder());
+    }
+
+    /**
+     * Constructs a {@link SAFRandomAccessReader} that provides random access to the states of a {@link MealyMachine}
+     * stored in the block-based SAF format.
+     *
+     * @param channel
+     *         the channel to read from. The channel is not closed by the reader
+     * @param decoder
+     *         the decoder for the transition properties
+     * @param <O>
+     *         output symbol type
+     *
+     * @return a {@link SAFRandomAccessReader} for the stored {@link MealyMachine}
+     *
+     * @throws IOException
+     *         if reading from the channel fails
+     * @throws FormatException
+     *         if the channel does not contain a {@link MealyMachine} in the block-based SAF format
+     */
+    public static <O> SAFRandomAccessReader<@Nullable Void, O> mealyRandomAccess(SeekableByteChannel channel,
+                                                                                 SinglePropertyDecoder<O> decoder)
+            throws IOException, FormatException {
+        return new SAFRandomAccessReader<>(channel, AutomatonType.MEALY, BlockPropertyDecoder.nullDecoder(), decoder);
+    }
+
+    /**
+     * Constructs a {@link SAFRandomAccessReader} that provides random access to the states of an {@link NFA} stored
+     * in the block-based SAF format.
+     *
+     * @param channel
+     *         the channel to read from. The channel is not closed by the reader
+     *
+     * @return a {@link SAFRandomAccessReader} for the stored {@link NFA}
+     *
+     * @throws IOException
+     *         if reading from the channel fails
+     * @throws FormatException
+     *         if the channel does not contain an {@link NFA} in the block-based SAF format
+     */
+    public static SAFRandomAccessReader<Boolean, @Nullable Void> nfaRandomAccess(SeekableByteChannel channel)
+            throws IOException, FormatException {
+        return new SAFRandomAccessReader<>(channel,
+                                           AutomatonType.NFA,
+                                           new AcceptanceDecoder(),
+                                           SinglePropertyDecoder.nullDecoder());
+    }
 }
@@ -0,0 +1,259 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.automatalib.exception.FormatException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A reader that provides random access to arbitrary state ranges of a model stored in the block-based SAF format.
+ * Only the blocks that cover a requested range are read (and decompressed) from the underlying channel, which allows
+ * one to inspect parts of models that would not fit in memory as a whole.
+ * <p>
+ * Note that this reader does not close the given channel. Instances of this class are not thread-safe.
+ *
+ * @param <SP>
+ *         state property type
+ * @param <TP>
+ *         transition property type
+ *
+ * @see SAFParsers
+ */
+public final class SAFRandomAccessReader<SP, TP> {
+
+    private final SeekableByteChannel channel;
+    private final AutomatonType type;
+    private final SAFBlocks.Header header;
+    private final long[] propOffsets;
+    private final long[] transOffsets;
+    private final BlockPropertyDecoder<? extends SP> spDecoder;
+    private final SinglePropertyDecoder<? extends TP> tpDecoder;
+
+    SAFRandomAccessReader(SeekableByteChannel channel,
+                          AutomatonType expectedType,
+                          BlockPropertyDecoder<? extends SP> spDecoder,
+                          SinglePropertyDecoder<? extends TP> tpDecoder) throws IOException, FormatException {
+        this.channel = channel;
+        this.spDecoder = spDecoder;
+        this.tpDecoder = tpDecoder;
+
+        final DataInputStream in = streamAt(0);
+
+        if (in.readByte() != 'S' || in.readByte() != 'A' || in.readByte() != 'F') {
+            throw new FormatException();
+        }
+
+        final int typeByte = in.readByte();
+
+        if ((typeByte & SAFBlocks.VERSION_2_FLAG) == 0) {
+            throw new FormatException("Random access is only supported for the block-based SAF format");
+        }
+
+        this.type = AbstractSAFInput.toType(typeByte & ~SAFBlocks.VERSION_2_FLAG);
+
+        if (type != expectedType) {
+            throw new FormatException();
+        }
+
+        this.header = SAFBlocks.Header.read(in);
+
+        final long footerOffset = streamAt(channel.size() - Long.BYTES).readLong();
+        final DataInputStream footer = streamAt(footerOffset);
+        final int numBlocks = SAFBlocks.readVarInt(footer);
+
+        if (numBlocks != SAFBlocks.numBlocks(header.numStates, header.blockSize)) {
+            throw new FormatException("Corrupt block index");
+        }
+
+        this.propOffsets = new long[numBlocks];
+        this.transOffsets = new long[numBlocks];
+
+        for (int i = 0; i < numBlocks; i++) {
+            propOffsets[i] = footer.readLong();
+            transOffsets[i] = footer.readLong();
+        }
+    }
+
+    /**
+     * Returns the number of states of the stored model.
+     *
+     * @return the number of states of the stored model
+     */
+    public int size() {
+        return header.numStates;
+    }
+
+    /**
+     * Returns the number of input symbols of the stored model.
+     *
+     * @return the number of input symbols of the stored model
+     */
+    public int getAlphabetSize() {
+        return header.alphabetSize;
+    }
+
+    /**
+     * Returns the number of states that are stored in a single block.
+     *
+     * @return the number of states that are stored in a single block
+     */
+    public int getBlockSize() {
+        return header.blockSize;
+    }
+
+    /**
+     * Returns the (indices of the) initial states of the stored model.
+     *
+     * @return the (indices of the) initial states of the stored model
+     */
+    public int[] getInitialStates() {
+        return header.initialStates.clone();
+    }
+
+    /**
+     * Reads the states (including their outgoing transitions) of the given range.
+     *
+     * @param from
+     *         the (inclusive) index of the first state to read
+     * @param to
+     *         the (exclusive) index of the last state to read
+     *
+     * @return the decoded range of states
+     *
+     * @throws IOException
+     *         if reading from the underlying channel fails
+     * @throws FormatException
+     *         if the read blocks contain invalid data
+     */
+    public SAFStateRange<SP, TP> readStates(int from, int to) throws IOException, FormatException {
+        if (from < 0 || to > header.numStates || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ')');
+        }
+
+        if (from == to) {
+            return new SAFStateRange<>(from,
+                                       header.alphabetSize,
+                                       new ArrayList<>(),
+                                       type.isDeterministic() ? null : new int[1],
+                                       new int[0],
+                                       new Object[0]);
+        }
+
+        final int firstBlock = from / header.blockSize;
+        final int lastBlock = (to - 1) / header.blockSize;
+
+        if (firstBlock == lastBlock && from % header.blockSize == 0 &&
+            (to % header.blockSize == 0 || to == header.numStates)) {
+            return readBlock(firstBlock);
+        }
+
+        final List<SAFStateRange<SP, TP>> blocks = new ArrayList<>(lastBlock - firstBlock + 1);
+        for (int b = firstBlock; b <= lastBlock; b++) {
+            blocks.add(readBlock(b));
+        }
+
+        return merge(blocks, from, to);
+    }
+
+    private SAFStateRange<SP, TP> readBlock(int block) throws IOException, FormatException {
+        final int lower = block * header.blockSize;
+        final int size = Math.min(header.blockSize, header.numStates - lower);
+
+        final byte[] rawProps = SAFBlocks.readChunk(streamAt(propOffsets[block]), header.compression);
+        final List<SP> props = SAFBlocks.decodeStateProperties(rawProps, size, spDecoder);
+        final byte[] rawTrans = SAFBlocks.readChunk(streamAt(transOffsets[block]), header.compression);
+
+        return SAFBlocks.decodeTransitions(rawTrans,
+                                           lower,
+                                           props,
+                                           header.numStates,
+                                           header.alphabetSize,
+                                           type.isDeterministic(),
+                                           tpDecoder);
+    }
+
+    private SAFStateRange<SP, TP> merge(List<SAFStateRange<SP, TP>> blocks, int from, int to) {
+        final int numInputs = header.alphabetSize;
+        final int numSlots = (to - from) * numInputs;
+        final List<SP> props = new ArrayList<>(to - from);
+
+        for (int s = from; s < to; s++) {
+            props.add(blocks.get(s / header.blockSize - from / header.blockSize).getStateProperty(s));
+        }
+
+        if (type.isDeterministic()) {
+            final int[] targets = new int[numSlots];
+            final @Nullable Object[] transProps = new Object[numSlots];
+
+            for (SAFStateRange<SP, TP> b : blocks) {
+                final int lower = Math.max(from, b.getLowerBound());
+                final int upper = Math.min(to, b.getUpperBound());
+                final int srcPos = (lower - b.getLowerBound()) * numInputs;
+                final int dstPos = (lower - from) * numInputs;
+                final int length = (upper - lower) * numInputs;
+                System.arraycopy(b.getDeterministicSuccessors(), srcPos, targets, dstPos, length);
+                System.arraycopy(b.getDeterministicTransitionProperties(), srcPos, transProps, dstPos, length);
+            }
+
+            return new SAFStateRange<>(from, numInputs, props, null, targets, transProps);
+        }
+
+        final int[] offsets = new int[numSlots + 1];
+        int[] targets = new int[numSlots];
+        @Nullable Object[] transProps = new Object[numSlots];
+        int size = 0;
+
+        for (int s = from, slot = 0; s < to; s++) {
+            final SAFStateRange<SP, TP> b = blocks.get(s / header.blockSize - from / header.blockSize);
+            for (int j = 0; j < numInputs; j++, slot++) {
+                final int numSuccs = b.getNumSuccessors(s, j);
+                if (size + numSuccs > targets.length) {
+                    final int newCap = Math.max(size + numSuccs, targets.length * 2);
+                    targets = Arrays.copyOf(targets, newCap);
+                    transProps = Arrays.copyOf(transProps, newCap);
+                }
+                for (int k = 0; k < numSuccs; k++) {
+                    targets[size] = b.getSuccessor(s, j, k);
+                    transProps[size] = b.getTransitionProperty(s, j, k);
+                    size++;
+                }
+                offsets[slot + 1] = size;
+            }
+        }
+
+        return new SAFStateRange<>(from,
+                                   numInputs,
+                                   props,
+                                   offsets,
+                                   Arrays.copyOf(targets, size),
+                                   Arrays.copyOf(transProps, size));
+    }
+
+    private DataInputStream streamAt(long position) throws IOException {
+        channel.position(position);
+        // do not close this stream, since it would close the channel
+        return new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+    }
+}
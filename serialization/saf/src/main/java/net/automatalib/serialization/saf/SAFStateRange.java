@@ -0,0 +1,217 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A decoded, contiguous range of states (including their outgoing transitions) of a model stored in the block-based
+ * SAF format. States and input symbols are addressed by their global (integer) indices. Transitions are stored in
+ * flat, primitive arrays.
+ *
+ * @param <SP>
+ *         state property type
+ * @param <TP>
+ *         transition property type
+ *
+ * @see SAFRandomAccessReader
+ */
+public final class SAFStateRange<SP, TP> {
+
+    private final int from;
+    private final int numInputs;
+    private final List<SP> stateProperties;
+    private final int @Nullable [] offsets;
+    private final int[] targets;
+    private final @Nullable Object[] transitionProperties;
+
+    SAFStateRange(int from,
+                  int numInputs,
+                  List<SP> stateProperties,
+                  int @Nullable [] offsets,
+                  int[] targets,
+                  @Nullable Object[] transitionProperties) {
+        this.from = from;
+        this.numInputs = numInputs;
+        this.stateProperties = stateProperties;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.transitionProperties = transitionProperties;
+    }
+
+    /**
+     * Returns the (inclusive) index of the first state of this range.
+     *
+     * @return the (inclusive) index of the first state of this range
+     */
+    public int getLowerBound() {
+        return from;
+    }
+
+    /**
+     * Returns the (exclusive) index of the last state of this range.
+     *
+     * @return the (exclusive) index of the last state of this range
+     */
+    public int getUpperBound() {
+        return from + stateProperties.size();
+    }
+
+    /**
+     * Returns whether the states of this range have at most one successor per input symbol.
+     *
+     * @return {@code true} if the states of this range have at most one successor per input symbol, {@code false}
+     * otherwise
+     */
+    public boolean isDeterministic() {
+        return offsets == null;
+    }
+
+    /**
+     * Returns the state properties of this range. The i-th entry corresponds to the state
+     * {@link #getLowerBound()}{@code + i}.
+     *
+     * @return the state properties of this range
+     */
+    public List<SP> getStateProperties() {
+        return Collections.unmodifiableList(stateProperties);
+    }
+
+    /**
+     * Returns the state property of the given state.
+     *
+     * @param state
+     *         the (global) index of the state
+     *
+     * @return the state property of the given state
+     */
+    public SP getStateProperty(int state) {
+        return stateProperties.get(state - from);
+    }
+
+    /**
+     * Returns the number of successors of the given state for the given input.
+     *
+     * @param state
+     *         the (global) index of the state
+     * @param input
+     *         the index of the input symbol
+     *
+     * @return the number of successors
+     */
+    public int getNumSuccessors(int state, int input) {
+        final int slot = toSlot(state, input);
+        if (offsets == null) {
+            return targets[slot] == SAFBlocks.NO_SUCCESSOR ? 0 : 1;
+        }
+        return offsets[slot + 1] - offsets[slot];
+    }
+
+    /**
+     * Returns the {@code idx}-th successor of the given state for the given input.
+     *
+     * @param state
+     *         the (global) index of the state
+     * @param input
+     *         the index of the input symbol
+     * @param idx
+     *         the index of the successor, must be smaller than {@link #getNumSuccessors(int, int)}
+     *
+     * @return the (global) index of the successor state
+     */
+    public int getSuccessor(int state, int input, int idx) {
+        return targets[toTransitionIdx(state, input, idx)];
+    }
+
+    /**
+     * Returns the property of the {@code idx}-th transition of the given state for the given input.
+     *
+     * @param state
+     *         the (global) index of the state
+     * @param input
+     *         the index of the input symbol
+     * @param idx
+     *         the index of the successor, must be smaller than {@link #getNumSuccessors(int, int)}
+     *
+     * @return the transition property
+     */
+    @SuppressWarnings("unchecked")
+    public TP getTransitionProperty(int state, int input, int idx) {
+        return (TP) transitionProperties[toTransitionIdx(state, input, idx)];
+    }
+
+    /**
+     * Convenience method for deterministic ranges which returns the unique successor of the given state for the given
+     * input.
+     *
+     * @param state
+     *         the (global) index of the state
+     * @param input
+     *         the index of the input symbol
+     *
+     * @return the (global) index of the successor state, or {@code -1} if no successor exists
+     *
+     * @throws IllegalStateException
+     *         if this range is not deterministic
+     */
+    public int getSuccessor(int state, int input) {
+        if (offsets != null) {
+            throw new IllegalStateException("Range is not deterministic");
+        }
+        return targets[toSlot(state, input)];
+    }
+
+    /**
+     * Returns the raw successor array of a deterministic range. The successor of state {@code s} for input {@code i}
+     * is stored at position {@code (s - }{@link #getLowerBound()}{@code ) * #inputs + i} and is {@code -1} if no such
+     * successor exists. The returned array must not be modified.
+     */
+    int[] getDeterministicSuccessors() {
+        assert offsets == null;
+        return targets;
+    }
+
+    /**
+     * Returns the raw transition property array of a deterministic range, aligned with
+     * {@link #getDeterministicSuccessors()}. The returned array must not be modified.
+     */
+    @Nullable Object[] getDeterministicTransitionProperties() {
+        assert offsets == null;
+        return transitionProperties;
+    }
+
+    private int toSlot(int state, int input) {
+        return (state - from) * numInputs + input;
+    }
+
+    private int toTransitionIdx(int state, int input, int idx) {
+        final int slot = toSlot(state, input);
+        if (offsets == null) {
+            if (idx != 0 || targets[slot] == SAFBlocks.NO_SUCCESSOR) {
+                throw new IndexOutOfBoundsException(Integer.toString(idx));
+            }
+            return slot;
+        }
+        final int pos = offsets[slot] + idx;
+        if (idx < 0 || pos >= offsets[slot + 1]) {
+            throw new IndexOutOfBoundsException(Integer.toString(idx));
+        }
+        return pos;
+    }
+}
@@ -15,6 +15,8 @@
  */
 package net.automatalib.serialization.saf;
 
+import java.nio.channels.SeekableByteChannel;
+
 import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.NFA;
 import net.automatalib.automaton.transducer.MealyMachine;
@@ -85,4 +87,83 @@ public final class SAFWriters {
         return new SAFOutput<>(AutomatonType.NFA, new AcceptanceEncoder(), SinglePropertyEncoder.nullEncoder());
     }
 
+    /**
+     * Returns an {@link InputModelSerializer} for writing {@link DFA}s in the block-based SAF format. Models written in
+     * this format can be read by the regular {@link SAFParsers} as well as randomly accessed via
+     * {@link SAFParsers#dfaRandomAccess(SeekableByteChannel)}.
+     *
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     * @param <A>
+     *         (concrete) automaton type
+     * @param compression
+     *         the compression that should be applied to the individual blocks
+     *
+     * @return an {@link InputModelSerializer} for writing {@link DFA}s
+     */
+    public static <S, I, A extends DFA<S, I>> InputModelSerializer<I, A> dfa(SAFCompression compression) {
+        return new SAFBlockOutput<>(AutomatonType.DFA,
+                                    compression,
+                                    SAFBlocks.DEFAULT_BLOCK_SIZE,
+                                    new AcceptanceEncoder(),
+                                    SinglePropertyEncoder.nullEncoder());
+    }
+
+    /**
+     * Returns an {@link InputModelSerializer} for writing {@link MealyMachine}s in the block-based SAF format. Models
+     * written in this format can be read by the regular {@link SAFParsers} as well as randomly accessed via
+     * {@link SAFParsers#mealyRandomAccess(SeekableByteChannel, SinglePropertyDecoder)}.
+     *
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     * @param <T>
+     *         transition type
+     * @param <O>
+     *         output symbol type
+     * @param <A>
+     *         (concrete) automaton type
+     * @param encoder
+     *         the encoder for the transition properties
+     * @param compression
+     *         the compression that should be applied to the individual blocks
+     *
+     * @return an {@link InputModelSerializer} for writing {@link MealyMachine}s
+     */
+    public static <S, I, T, O, A extends MealyMachine<S, I, T, O>> InputModelSerializer<I, A> mealy(
+            SinglePropertyEncoder<O> encoder,
+            SAFCompression compression) {
+        return new SAFBlockOutput<>(AutomatonType.MEALY,
+                                    compression,
+                                    SAFBlocks.DEFAULT_BLOCK_SIZE,
+                                    BlockPropertyEncoder.noopEncoder(),
+                                    encoder);
+    }
+
+    /**
+     * Returns an {@link InputModelSerializer} for writing {@link NFA}s in the block-based SAF format. Models written in
+     * this format can be read by the regular {@link SAFParsers} as well as randomly accessed via
+     * {@link SAFParsers#nfaRandomAccess(SeekableByteChannel)}.
+     *
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     * @param <A>
+     *         (concrete) automaton type
+     * @param compression
+     *         the compression that should be applied to the individual blocks
+     *
+     * @return an {@link InputModelSerializer} for writing {@link NFA}s
+     */
+    public static <S, I, A extends NFA<S, I>> InputModelSerializer<I, A> nfa(SAFCompression compression) {
+        return new SAFBlockOutput<>(AutomatonType.NFA,
+                                    compression,
+                                    SAFBlocks.DEFAULT_BLOCK_SIZE,
+                                    new AcceptanceEncoder(),
+                                    SinglePropertyEncoder.nullEncoder());
+    }
 }
@@ -0,0 +1,49 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ByteArrayDataInputTest {
+
+    @Test
+    public void testReadLine() throws IOException {
+        final byte[] data = "xfirst\nsecond\r\nthird\rfourth".getBytes(StandardCharsets.ISO_8859_1);
+        final ByteArrayDataInput in = new ByteArrayDataInput(data, 1, data.length - 2);
+
+        Assert.assertEquals(in.readLine(), "first");
+        Assert.assertEquals(in.readLine(), "second");
+        Assert.assertEquals(in.readLine(), "third");
+        Assert.assertEquals(in.readLine(), "fourt");
+        Assert.assertNull(in.readLine());
+    }
+
+    @Test
+    public void testReadLineMixed() throws IOException {
+        final byte[] data = {'a', '\n', '\n', 0, 0, 0, 42, (byte) 0xE4, '\r'};
+        final ByteArrayDataInput in = new ByteArrayDataInput(data);
+
+        Assert.assertEquals(in.readLine(), "a");
+        Assert.assertEquals(in.readLine(), "");
+        Assert.assertEquals(in.readInt(), 42);
+        Assert.assertEquals(in.readLine(), "\u00E4");
+        Assert.assertNull(in.readLine());
+    }
+}
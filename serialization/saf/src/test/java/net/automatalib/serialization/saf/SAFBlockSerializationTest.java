@@ -0,0 +1,309 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.serialization.saf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.exception.FormatException;
+import net.automatalib.serialization.InputModelSerializer;
+import net.automatalib.ts.simple.SimpleTS;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+public class SAFBlockSerializationTest {
+
+    private static final Alphabet<Integer> ALPHABET = Alphabets.integers(0, 4);
+    private static final int AUTOMATON_SIZE = 500;
+    private static final int BLOCK_SIZE = 64;
+
+    private CompactDFA<Integer> dfa;
+    private CompactMealy<Integer, String> mealy;
+    private CompactNFA<Integer> nfa;
+
+    @BeforeClass
+    public void setUp() {
+        final Random random = new Random(42);
+        this.dfa = RandomAutomata.randomDFA(random, AUTOMATON_SIZE, ALPHABET, false);
+        this.mealy = RandomAutomata.randomMealy(random,
+                                                AUTOMATON_SIZE,
+                                                ALPHABET,
+                                                Arrays.asList("Hello", "World", "!"),
+                                                false);
+
+        for (int i = 0; i < AUTOMATON_SIZE; i++) {
+            this.dfa.removeAllTransitions(random.nextInt(AUTOMATON_SIZE), random.nextInt(ALPHABET.size()));
+            this.mealy.removeAllTransitions(random.nextInt(AUTOMATON_SIZE), random.nextInt(ALPHABET.size()));
+        }
+
+        this.nfa = new CompactNFA<>(ALPHABET, AUTOMATON_SIZE);
+
+        for (int i = 0; i < AUTOMATON_SIZE; i++) {
+            this.nfa.addState(random.nextBoolean());
+            this.nfa.setInitial(i, random.nextInt(10) == 0);
+        }
+
+        for (int i = 0; i < AUTOMATON_SIZE * 10; i++) {
+            this.nfa.addTransition(random.nextInt(AUTOMATON_SIZE),
+                                   random.nextInt(ALPHABET.size()),
+                                   random.nextInt(AUTOMATON_SIZE));
+        }
+    }
+
+    @DataProvider(name = "compressions")
+    public static Object[][] compressions() {
+        return new Object[][] {{SAFCompression.NONE}, {SAFCompression.DEFLATE}};
+    }
+
+    @Test(dataProvider = "compressions")
+    public void testDFA(SAFCompression compression) throws Exception {
+        final byte[] data = write(SAFWriters.dfa(compression), dfa);
+        final CompactDFA<Integer> result = SAFParsers.dfa().readModel(data).model;
+        Assert.assertTrue(Automata.testEquivalence(dfa, result, ALPHABET));
+
+        final byte[] blocked = write(new SAFBlockOutput<>(AutomatonType.DFA,
+                                                          compression,
+                                                          BLOCK_SIZE,
+                                                          new AcceptanceEncoder(),
+                                                          SinglePropertyEncoder.nullEncoder()), dfa);
+        final CompactDFA<Integer> blockedResult = SAFParsers.dfa().readModel(blocked).model;
+        Assert.assertTrue(Automata.testEquivalence(dfa, blockedResult, ALPHABET));
+    }
+
+    @Test(dataProvider = "compressions")
+    public void testMealy(SAFCompression compression) throws Exception {
+        final byte[] data = write(SAFWriters.mealy(DataOutput::writeUTF, compression), mealy);
+        final CompactMealy<Integer, String> result = SAFParsers.mealy(DataInput::readUTF).readModel(data).model;
+        Assert.assertTrue(Automata.testEquivalence(mealy, result, ALPHABET));
+    }
+
+    @Test(dataProvider = "compressions")
+    public void testNFA(SAFCompression compression) throws Exception {
+        final byte[] data = write(new SAFBlockOutput<>(AutomatonType.NFA,
+                                                       compression,
+                                                       BLOCK_SIZE,
+                                                       new AcceptanceEncoder(),
+                                                       SinglePropertyEncoder.nullEncoder()), nfa);
+        final CompactNFA<Integer> result = SAFParsers.nfa().readModel(data).model;
+
+        // state IDs are preserved, so we can compare the structure directly (determinization is too expensive)
+        Assert.assertEquals(result.size(), nfa.size());
+        Assert.assertEquals(result.getInitialStates(), nfa.getInitialStates());
+
+        for (int s = 0; s < nfa.size(); s++) {
+            Assert.assertEquals(result.isAccepting(s), nfa.isAccepting(s));
+            for (int i = 0; i < ALPHABET.size(); i++) {
+                Assert.assertEquals(result.getTransitions(s, i), nfa.getTransitions(s, i));
+            }
+        }
+    }
+
+    @Test
+    public void testCompactEncoding() throws IOException {
+        final ByteArrayOutputStream v1 = new ByteArrayOutputStream();
+        SAFWriters.<Integer, Integer, CompactDFA<Integer>>dfa().writeModel(v1, dfa, ALPHABET);
+
+        Assert.assertTrue(write(SAFWriters.dfa(SAFCompression.NONE), dfa).length < v1.size());
+    }
+
+    @Test
+    public void testRandomAccessDFA() throws IOException, FormatException {
+        final Path file = writeFile(new SAFBlockOutput<>(AutomatonType.DFA,
+                                                         SAFCompression.DEFLATE,
+                                                         BLOCK_SIZE,
+                                                         new AcceptanceEncoder(),
+                                                         SinglePropertyEncoder.nullEncoder()), dfa);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final SAFRandomAccessReader<Boolean, Void> reader = SAFParsers.dfaRandomAccess(channel);
+
+            Assert.assertEquals(reader.size(), AUTOMATON_SIZE);
+            Assert.assertEquals(reader.getAlphabetSize(), ALPHABET.size());
+            Assert.assertEquals(reader.getInitialStates(), new int[] {dfa.getIntInitialState()});
+
+            final int from = BLOCK_SIZE / 2;
+            final int to = 3 * BLOCK_SIZE + 5;
+            final SAFStateRange<Boolean, Void> range = reader.readStates(from, to);
+
+            Assert.assertTrue(range.isDeterministic());
+            Assert.assertEquals(range.getLowerBound(), from);
+            Assert.assertEquals(range.getUpperBound(), to);
+
+            for (int s = from; s < to; s++) {
+                Assert.assertEquals(range.getStateProperty(s), dfa.getStateProperty(s));
+                for (int i = 0; i < ALPHABET.size(); i++) {
+                    Assert.assertEquals(range.getSuccessor(s, i), dfa.getSuccessor(s, i));
+                }
+            }
+
+            final SAFStateRange<Boolean, Void> empty = reader.readStates(from, from);
+            Assert.assertEquals(empty.getStateProperties().size(), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRandomAccessMealy() throws IOException, FormatException {
+        final Path file = writeFile(SAFWriters.mealy(DataOutput::writeUTF, SAFCompression.NONE), mealy);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final SAFRandomAccessReader<Void, String> reader =
+                    SAFParsers.mealyRandomAccess(channel, DataInput::readUTF);
+            final SAFStateRange<Void, String> range = reader.readStates(AUTOMATON_SIZE - 10, AUTOMATON_SIZE);
+
+            for (int s = range.getLowerBound(); s < range.getUpperBound(); s++) {
+                for (int i = 0; i < ALPHABET.size(); i++) {
+                    final int succ = mealy.getSuccessor(s, i);
+                    Assert.assertEquals(range.getSuccessor(s, i), succ);
+                    if (succ >= 0) {
+                        Assert.assertEquals(range.getTransitionProperty(s, i, 0), mealy.getTransitionProperty(s, i));
+                    }
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testRandomAccessNFA() throws IOException, FormatException {
+        final Path file = writeFile(new SAFBlockOutput<>(AutomatonType.NFA,
+                                                         SAFCompression.DEFLATE,
+                                                         BLOCK_SIZE,
+                                                         new AcceptanceEncoder(),
+                                                         SinglePropertyEncoder.nullEncoder()), nfa);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final SAFRandomAccessReader<Boolean, Void> reader = SAFParsers.nfaRandomAccess(channel);
+            final SAFStateRange<Boolean, Void> range = reader.readStates(BLOCK_SIZE - 1, 2 * BLOCK_SIZE + 1);
+
+            Assert.assertFalse(range.isDeterministic());
+
+            for (int s = range.getLowerBound(); s < range.getUpperBound(); s++) {
+                Assert.assertEquals(range.getStateProperty(s), nfa.getStateProperty(s));
+                for (int i = 0; i < ALPHABET.size(); i++) {
+                    final int numSuccs = range.getNumSuccessors(s, i);
+                    final int[] succs = new int[numSuccs];
+                    for (int k = 0; k < numSuccs; k++) {
+                        succs[k] = range.getSuccessor(s, i, k);
+                    }
+                    Assert.assertEquals(succs, nfa.getTransitions(s, i).stream().mapToInt(x -> x).toArray());
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expectedExceptions = FormatException.class)
+    public void testRandomAccessRequiresBlockFormat() throws IOException, FormatException {
+        final Path file = writeFile(SAFWriters.<Integer, Integer, CompactDFA<Integer>>dfa(), dfa);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            SAFParsers.dfaRandomAccess(channel);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testCorruptedBlock() throws IOException, FormatException {
+        final List<Void> stateProperties = Arrays.asList(null, null);
+
+        for (boolean deterministic : new boolean[] {true, false}) {
+            // self-loops are valid
+            final SAFStateRange<Void, Void> range = SAFBlocks.decodeTransitions(encodeTransitions(deterministic, 0, 0),
+                                                                                0,
+                                                                                stateProperties,
+                                                                                2,
+                                                                                1,
+                                                                                deterministic,
+                                                                                SinglePropertyDecoder.nullDecoder());
+            Assert.assertEquals(range.getUpperBound(), 2);
+
+            // successors beyond the last and before the first state are rejected
+            for (long[] deltas : new long[][] {{0, 1}, {-1, 0}}) {
+                final byte[] corrupted = encodeTransitions(deterministic, deltas[0], deltas[1]);
+                Assert.assertThrows(FormatException.class,
+                                    () -> SAFBlocks.decodeTransitions(corrupted,
+                                                                      0,
+                                                                      stateProperties,
+                                                                      2,
+                                                                      1,
+                                                                      deterministic,
+                                                                      SinglePropertyDecoder.nullDecoder()));
+            }
+        }
+    }
+
+    /**
+     * Encodes the transition chunk of a block with two states and a single input, where each state has a single
+     * successor at the given distance.
+     */
+    private static byte[] encodeTransitions(boolean deterministic, long delta0, long delta1) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(baos);
+
+        for (long delta : new long[] {delta0, delta1}) {
+            if (deterministic) {
+                SAFBlocks.writeVarLong(out, SAFBlocks.zigZag(delta) + 1);
+            } else {
+                SAFBlocks.writeVarLong(out, 1);
+                SAFBlocks.writeVarLong(out, SAFBlocks.zigZag(delta));
+            }
+        }
+
+        return baos.toByteArray();
+    }
+
+    private static <A extends SimpleTS<?, Integer>> byte[] write(InputModelSerializer<Integer, A> serializer,
+                                                                 A automaton) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        serializer.writeModel(baos, automaton, ALPHABET);
+        return baos.toByteArray();
+    }
+
+    private static <A extends SimpleTS<?, Integer>> Path writeFile(InputModelSerializer<Integer, A> serializer,
+                                                                   A automaton) throws IOException {
+        final Path file = Files.createTempFile("saf", ".saf");
+        try (OutputStream os = Files.newOutputStream(file)) {
+            serializer.writeModel(os, automaton, ALPHABET);
+        }
+        return file;
+    }
+}
@@ -31,8 +31,10 @@ import net.automatalib.automaton.fsa.DFA;
 import net.automatalib.automaton.fsa.NFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.fsa.impl.FastDFA;
 import net.automatalib.automaton.transducer.MealyMachine;
 import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.FastMealy;
 import net.automatalib.common.util.io.UnclosableInputStream;
 import net.automatalib.common.util.io.UnclosableOutputStream;
 import net.automatalib.exception.FormatException;
@@ -156,6 +158,45 @@ public class SAFSerializationTest {
                                                    ALPHABET2));
     }
 
+    @Test
+    public void testGenericAndCompactDFADeserialization() throws Exception {
+        final InputModelSerializer<Integer, CompactDFA<Integer>> serializer = SAFWriters.dfa();
+        final InputModelDeserializer<Integer, FastDFA<Integer>> deserializer = SAFParsers.dfa(FastDFA::new);
+
+        final FastDFA<Integer> generic = writeAndReadModel(this.dfa, ALPHABET, serializer, deserializer);
+        final CompactDFA<Integer> compact = writeAndReadModel(this.dfa, ALPHABET, serializer, SAFParsers.dfa());
+
+        Assert.assertEquals(compact.size(), generic.size());
+        Assert.assertTrue(Automata.testEquivalence(generic, compact, ALPHABET));
+    }
+
+    @Test
+    public void testGenericAndCompactMealyDeserialization() throws Exception {
+        final InputModelSerializer<Integer, CompactMealy<Integer, String>> serializer =
+                SAFWriters.mealy(DataOutput::writeUTF);
+        final InputModelDeserializer<Integer, FastMealy<Integer, String>> deserializer =
+                SAFParsers.mealy(FastMealy::new, DataInput::readUTF);
+
+        final FastMealy<Integer, String> generic = writeAndReadModel(this.mealy, ALPHABET, serializer, deserializer);
+        final CompactMealy<Integer, String> compact =
+                writeAndReadModel(this.mealy, ALPHABET, serializer, SAFParsers.mealy(DataInput::readUTF));
+
+        Assert.assertEquals(compact.size(), generic.size());
+        Assert.assertTrue(Automata.testEquivalence(generic, compact, ALPHABET));
+    }
+
+    @Test(expectedExceptions = FormatException.class)
+    public void testInvalidSuccessor() throws IOException, FormatException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        SAFWriters.<Integer, Integer, CompactDFA<Integer>>dfa().writeModel(baos, this.dfa, ALPHABET);
+
+        // the last four bytes encode the successor of the last transition
+        final byte[] data = baos.toByteArray();
+        Arrays.fill(data, data.length - 4, data.length, (byte) 0x7f);
+
+        SAFParsers.dfa().readModel(data);
+    }
+
     @Test
     public void doNotCloseInputOutputStreamDFATest() throws IOException, FormatException {
 
@@ -29,9 +29,11 @@ import net.automatalib.common.util.collection.CollectionUtil;
 import net.automatalib.graph.Graph;
 import net.automatalib.graph.UniversalGraph;
 import net.automatalib.util.automaton.cover.Covers;
+import net.automatalib.util.automaton.equivalence.CharacterizingSetAlgorithm;
 import net.automatalib.util.automaton.equivalence.CharacterizingSets;
 import net.automatalib.util.automaton.equivalence.DeterministicEquivalenceTest;
 import net.automatalib.util.automaton.equivalence.NearLinearEquivalenceTest;
+import net.automatalib.util.automaton.equivalence.SplittingTree;
 import net.automatalib.util.automaton.minimizer.HopcroftMinimizer;
 import net.automatalib.util.minimizer.Block;
 import net.automatalib.util.minimizer.BlockMap;
@@ -367,6 +369,36 @@ public final class Automata {
         CharacterizingSets.findCharacterizingSet(automaton, inputs, result);
     }
 
+    /**
+     * Computes a characterizing set using the given algorithm, and returns it as a {@link List}.
+     *
+     * @param <I>
+     *         input symbol type
+     * @param automaton
+     *         the automaton for which to determine the characterizing set
+     * @param inputs
+     *         the input symbols to consider
+     * @param algorithm
+     *         the algorithm to use
+     *
+     * @return a list containing the characterizing words
+     *
+     * @see CharacterizingSets
+     * @see SplittingTree
+     */
+    public static <I> List<Word<I>> characterizingSet(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
+                                                      Collection<? extends I> inputs,
+                                                      CharacterizingSetAlgorithm algorithm) {
+        switch (algorithm) {
+            case PAIRWISE:
+                return characterizingSet(automaton, inputs);
+            case SPLITTING_TREE:
+                return new SplittingTree<>(automaton, inputs).getCharacterizingSet();
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
     public static <I> boolean incrementalCharacterizingSet(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
                                                            Collection<? extends I> inputs,
                                                            Collection<? extends Word<I>> oldSuffixes,
@@ -429,6 +461,41 @@ public final class Automata {
         CharacterizingSets.findCharacterizingSet(automaton, inputs, state, result);
     }
 
+    /**
+     * Computes a characterizing set for a single state using the given algorithm, and returns it as a {@link List}.
+     *
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     * @param automaton
+     *         the automaton containing the state
+     * @param inputs
+     *         the input symbols to consider
+     * @param state
+     *         the state for which to determine a characterizing set
+     * @param algorithm
+     *         the algorithm to use
+     *
+     * @return a list containing the characterizing words
+     *
+     * @see CharacterizingSets
+     * @see SplittingTree
+     */
+    public static <S, I> List<Word<I>> stateCharacterizingSet(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton,
+                                                              Collection<? extends I> inputs,
+                                                              S state,
+                                                              CharacterizingSetAlgorithm algorithm) {
+        switch (algorithm) {
+            case PAIRWISE:
+                return stateCharacterizingSet(automaton, inputs, state);
+            case SPLITTING_TREE:
+                return new SplittingTree<>(automaton, inputs).getStateCharacterizingSet(state);
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
     /**
      * Convenient method for computing a state cover.
      *
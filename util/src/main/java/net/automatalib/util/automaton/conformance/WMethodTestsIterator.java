@@ -24,9 +24,8 @@ import net.automatalib.automaton.UniversalDeterministicAutomaton;
 import net.automatalib.common.util.collection.AbstractThreeLevelIterator;
 import net.automatalib.common.util.collection.IterableUtil;
 import net.automatalib.common.util.collection.IteratorUtil;
-import net.automatalib.common.util.collection.ReusableIterator;
 import net.automatalib.util.automaton.cover.Covers;
-import net.automatalib.util.automaton.equivalence.CharacterizingSets;
+import net.automatalib.util.automaton.equivalence.SplittingTree;
 import net.automatalib.word.Word;
 import net.automatalib.word.WordBuilder;
 
@@ -73,17 +72,17 @@ public class WMethodTestsIterator<I> extends AbstractThreeLevelIterator<Word<I>,
                                 Collection<? extends I> inputs,
                                 int maxDepth) {
         super(IteratorUtil.concat(IteratorUtil.singleton(Word.epsilon()),
-                                  Covers.transitionCoverIterator(automaton, inputs)));
+                                  Covers.coverTrie(automaton, inputs).getTransitionCover().iterator()));
 
         this.inputs = inputs;
         this.maxDepth = maxDepth;
 
-        final Iterator<Word<I>> characterizingSet = CharacterizingSets.characterizingSetIterator(automaton, inputs);
+        final List<Word<I>> characterizingSet = new SplittingTree<>(automaton, inputs).getCharacterizingSet();
 
         // Special case: List of characterizing suffixes may be empty,
         // but in this case we still need to iterate over the prefixes!
-        if (characterizingSet.hasNext()) {
-            this.suffixes = new ReusableIterator<>(characterizingSet);
+        if (!characterizingSet.isEmpty()) {
+            this.suffixes = characterizingSet;
         } else {
             this.suffixes = Collections.singletonList(Word.epsilon());
         }
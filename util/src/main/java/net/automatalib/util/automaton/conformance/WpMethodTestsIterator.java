@@ -17,20 +17,17 @@ package net.automatalib.util.automaton.conformance;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 
 import net.automatalib.automaton.UniversalDeterministicAutomaton;
-import net.automatalib.common.util.HashUtil;
 import net.automatalib.common.util.collection.AbstractThreeLevelIterator;
 import net.automatalib.common.util.collection.IterableUtil;
 import net.automatalib.common.util.collection.IteratorUtil;
 import net.automatalib.common.util.mapping.MutableMapping;
-import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.cover.CoverTrie;
 import net.automatalib.util.automaton.cover.Covers;
-import net.automatalib.util.automaton.equivalence.CharacterizingSets;
+import net.automatalib.util.automaton.equivalence.SplittingTree;
 import net.automatalib.word.Word;
 import net.automatalib.word.WordBuilder;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -75,35 +72,38 @@ public class WpMethodTestsIterator<I> implements Iterator<Word<I>> {
     public WpMethodTestsIterator(UniversalDeterministicAutomaton<?, I, ?, ?, ?> automaton,
                                  Collection<? extends I> inputs,
                                  int maxDepth) {
+        this.wpIterator = buildIterator(automaton, inputs, maxDepth);
+    }
 
-        final Set<Word<I>> stateCover = new HashSet<>(HashUtil.capacity(automaton.size()));
-        final Set<Word<I>> transitionCover = new HashSet<>(HashUtil.capacity(automaton.size() * inputs.size()));
+    private static <S, I> Iterator<Word<I>> buildIterator(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton,
+                                                         Collection<? extends I> inputs,
+                                                         int maxDepth) {
 
-        Covers.cover(automaton, inputs, stateCover, transitionCover);
+        final CoverTrie<I> cover = Covers.coverTrie(automaton, inputs);
 
-        Iterator<Word<I>> characterizingIter = CharacterizingSets.characterizingSetIterator(automaton, inputs);
+        final SplittingTree<S, I> splittingTree = new SplittingTree<>(automaton, inputs);
+        List<Word<I>> characterizingSet = splittingTree.getCharacterizingSet();
 
         // Special case: List of characterizing suffixes may be empty,
         // but in this case we still need to iterate over the prefixes!
-        if (!characterizingIter.hasNext()) {
-            characterizingIter = IteratorUtil.singleton(Word.epsilon());
+        if (characterizingSet.isEmpty()) {
+            characterizingSet = Collections.singletonList(Word.epsilon());
         }
 
         // Phase 1: state cover * middle part * global suffixes
-        final Iterator<Word<I>> firstIterator = new FirstPhaseIterator<>(stateCover,
+        final Iterator<Word<I>> firstIterator = new FirstPhaseIterator<>(cover.getStateCover(),
                                                                          IterableUtil.allTuples(inputs, 0, maxDepth),
-                                                                         characterizingIter);
+                                                                         characterizingSet.iterator());
 
         // Phase 2: transitions (not in state cover) * middle part * local suffixes
-        transitionCover.removeAll(stateCover);
         final Iterator<Word<I>> secondIterator = new SecondPhaseIterator<>(automaton,
-                                                                           inputs,
-                                                                           transitionCover,
+                                                                           splittingTree,
+                                                                           cover.getTransitionCoverWithoutStateCover(),
                                                                            IterableUtil.allTuples(inputs,
                                                                                                   0,
                                                                                                   maxDepth));
 
-        wpIterator = IteratorUtil.concat(firstIterator, secondIterator);
+        return IteratorUtil.concat(firstIterator, secondIterator);
     }
 
     @Override
@@ -149,19 +149,19 @@ public class WpMethodTestsIterator<I> implements Iterator<Word<I>> {
             extends AbstractThreeLevelIterator<Word<I>, List<I>, Word<I>, Word<I>> {
 
         private final UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton;
-        private final Collection<? extends I> inputs;
+        private final SplittingTree<S, I> splittingTree;
 
         private final MutableMapping<S, @Nullable List<Word<I>>> localSuffixSets;
         private final Iterable<List<I>> middleParts;
 
         SecondPhaseIterator(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton,
-                            Collection<? extends I> inputs,
+                            SplittingTree<S, I> splittingTree,
                             Iterable<Word<I>> prefixes,
                             Iterable<List<I>> middleParts) {
             super(prefixes.iterator());
 
             this.automaton = automaton;
-            this.inputs = inputs;
+            this.splittingTree = splittingTree;
             this.localSuffixSets = automaton.createStaticStateMapping();
             this.middleParts = middleParts;
         }
@@ -182,7 +182,7 @@ public class WpMethodTestsIterator<I> implements Iterator<Word<I>> {
             @Nullable List<Word<I>> localSuffixes = localSuffixSets.get(state);
 
             if (localSuffixes == null) {
-                localSuffixes = Automata.stateCharacterizingSet(automaton, inputs, state);
+                localSuffixes = splittingTree.getStateCharacterizingSet(state);
                 if (localSuffixes.isEmpty()) {
                     localSuffixes = Collections.singletonList(Word.epsilon());
                 }
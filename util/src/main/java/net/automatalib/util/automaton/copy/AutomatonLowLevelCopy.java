@@ -28,6 +28,10 @@ import net.automatalib.util.automaton.predicate.TransitionPredicates;
 
 public final class AutomatonLowLevelCopy {
 
+    private static final Predicate<Object> ALL_STATES = s -> true;
+    private static final TransitionPredicate<Object, Object, Object> ALL_TRANSITIONS =
+            TransitionPredicates.alwaysTrue();
+
     private AutomatonLowLevelCopy() {
         // prevent instantiation
     }
@@ -83,8 +87,8 @@ public final class AutomatonLowLevelCopy {
                        inputsMapping,
                        spMapping,
                        tpMapping,
-                       s -> true,
-                       TransitionPredicates.alwaysTrue());
+                       ALL_STATES,
+                       ALL_TRANSITIONS);
     }
 
     /**
@@ -137,6 +141,21 @@ public final class AutomatonLowLevelCopy {
                                                                              Function<? super T1, ? extends TP2> tpMapping,
                                                                              Predicate<? super S1> stateFilter,
                                                                              TransitionPredicate<? super S1, ? super I1, ? super T1> transFilter) {
+        if (method == AutomatonCopyMethod.STATE_BY_STATE && stateFilter == ALL_STATES &&
+            transFilter == ALL_TRANSITIONS) {
+            final Mapping<S1, S2> mapping =
+                    CompactAutomatonCopy.tryCopy(in,
+                                                 inputs,
+                                                 out,
+                                                 inputsMapping,
+                                                 spMapping,
+                                                 tpMapping,
+                                                 Runtime.getRuntime().availableProcessors());
+            if (mapping != null) {
+                return mapping;
+            }
+        }
+
         LowLevelAutomatonCopier<S1, S2> copier = method.createLowLevelCopier(in,
                                                                              inputs,
                                                                              out,
@@ -188,7 +207,7 @@ public final class AutomatonLowLevelCopy {
                                                                         MutableAutomaton<S2, I, T2, SP2, TP2> out,
                                                                         Function<? super S1, ? extends SP2> spMapping,
                                                                         Function<? super T1, ? extends TP2> tpMapping) {
-        return rawCopy(method, in, inputs, out, spMapping, tpMapping, s -> true, TransitionPredicates.alwaysTrue());
+        return rawCopy(method, in, inputs, out, spMapping, tpMapping, ALL_STATES, ALL_TRANSITIONS);
     }
 
     /**
@@ -294,8 +313,8 @@ public final class AutomatonLowLevelCopy {
                     inputsMapping,
                     spTransform,
                     tpTransform,
-                    s -> true,
-                    TransitionPredicates.alwaysTrue());
+                    ALL_STATES,
+                    ALL_TRANSITIONS);
     }
 
     /**
@@ -400,7 +419,7 @@ public final class AutomatonLowLevelCopy {
                                                                                MutableAutomaton<S2, I, T2, ? super SP2, ? super TP2> out,
                                                                                Function<? super SP1, ? extends SP2> spTransform,
                                                                                Function<? super TP1, ? extends TP2> tpTransform) {
-        return copy(method, in, inputs, out, spTransform, tpTransform, s -> true, TransitionPredicates.alwaysTrue());
+        return copy(method, in, inputs, out, spTransform, tpTransform, ALL_STATES, ALL_TRANSITIONS);
     }
 
     /**
@@ -493,7 +512,7 @@ public final class AutomatonLowLevelCopy {
                                                                         Collection<? extends I1> inputs,
                                                                         MutableAutomaton<S2, I2, T2, ? super SP, ? super TP> out,
                                                                         Function<? super I1, ? extends I2> inputsMapping) {
-        return copy(method, in, inputs, out, inputsMapping, s -> true, TransitionPredicates.alwaysTrue());
+        return copy(method, in, inputs, out, inputsMapping, ALL_STATES, ALL_TRANSITIONS);
     }
 
     /**
@@ -583,7 +602,7 @@ public final class AutomatonLowLevelCopy {
                                                                    UniversalAutomaton<S1, ? super I, T1, ? extends SP, ? extends TP> in,
                                                                    Collection<? extends I> inputs,
                                                                    MutableAutomaton<S2, I, T2, ? super SP, ? super TP> out) {
-        return copy(method, in, inputs, out, s -> true, TransitionPredicates.alwaysTrue());
+        return copy(method, in, inputs, out, ALL_STATES, ALL_TRANSITIONS);
     }
 
     /**
@@ -0,0 +1,178 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.copy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.Automaton;
+import net.automatalib.automaton.MutableAutomaton;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.base.AbstractCompactSimpleDeterministic;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton.FullIntAbstraction;
+import net.automatalib.common.util.concurrent.ConcurrentUtil;
+import net.automatalib.common.util.mapping.Mapping;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A fast path for (unfiltered) {@link AutomatonCopyMethod#STATE_BY_STATE state-by-state} copies between
+ * {@link AbstractCompactDeterministic compact deterministic} automata. Since both automata address their states by
+ * consecutive integers, the state mapping is a mere (shifted) identity and the transitions can be transferred in bulk
+ * via {@link AbstractCompactDeterministic#setTransitions(int, int, int[], Object[])} instead of one
+ * {@link MutableAutomaton#setTransition(Object, Object, Object) setTransition} call at a time.
+ * <p>
+ * If the target automaton does not store transition properties, no user-defined functions need to be evaluated for the
+ * transitions and the successor arrays of larger automata are computed in parallel by a dedicated fork/join pool of the
+ * given parallelism.
+ */
+final class CompactAutomatonCopy {
+
+    private static final int CHUNK_SIZE = 1 << 12;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private CompactAutomatonCopy() {
+        // prevent instantiation
+    }
+
+    /**
+     * Copies the given automaton if both automata are compact deterministic automata and all input symbols are
+     * contained in the respective alphabets.
+     *
+     * @param parallelism
+     *         the maximum number of threads used for computing the successor arrays
+     *
+     * @return the (identity-based) state mapping, or {@code null} if the fast path is not applicable
+     */
+    @SuppressWarnings("unchecked")
+    static <S1, I1, T1, S2, I2, T2, SP2, TP2> @Nullable Mapping<S1, S2> tryCopy(Automaton<S1, ? super I1, T1> in,
+                                                                                Collection<? extends I1> inputs,
+                                                                                MutableAutomaton<S2, I2, T2, ? super SP2, ? super TP2> out,
+                                                                                Function<? super I1, ? extends I2> inputsMapping,
+                                                                                Function<? super S1, ? extends SP2> spMapping,
+                                                                                Function<? super T1, ? extends TP2> tpMapping,
+                                                                                int parallelism) {
+        if (!(in instanceof AbstractCompactDeterministic) || !(out instanceof AbstractCompactDeterministic)) {
+            return null;
+        }
+
+        final AbstractCompactDeterministic<I1, T1, ?, ?> src = (AbstractCompactDeterministic<I1, T1, ?, ?>) in;
+        final AbstractCompactDeterministic<I2, T2, SP2, TP2> tgt = (AbstractCompactDeterministic<I2, T2, SP2, TP2>) out;
+
+        final Alphabet<I1> srcAlphabet = src.getInputAlphabet();
+        final Alphabet<I2> tgtAlphabet = tgt.getInputAlphabet();
+        final int numInputs = inputs.size();
+        final int[] srcIndices = new int[numInputs];
+        final int[] tgtIndices = new int[numInputs];
+
+        int idx = 0;
+        for (I1 i1 : inputs) {
+            final I2 i2 = inputsMapping.apply(i1);
+            if (!srcAlphabet.containsSymbol(i1) || !tgtAlphabet.containsSymbol(i2)) {
+                return null;
+            }
+            srcIndices[idx] = srcAlphabet.getSymbolIndex(i1);
+            tgtIndices[idx] = tgtAlphabet.getSymbolIndex(i2);
+            idx++;
+        }
+
+        final Function<? super Integer, ? extends SP2> spFunction = (Function<? super Integer, ? extends SP2>) spMapping;
+        final @Nullable Function<? super T1, ? extends TP2> tpFunction =
+                tgt instanceof AbstractCompactSimpleDeterministic ? null : tpMapping;
+
+        final int offset = tgt.size();
+        final int size = src.size();
+
+        for (int i = 0; i < size; i++) {
+            tgt.addIntState(spFunction.apply(i));
+        }
+
+        final int numChunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final CopyContext<I1, T1, I2, T2, SP2, TP2> ctx =
+                new CopyContext<>(src, tgt, srcIndices, tgtIndices, tpFunction, offset, size);
+
+        // chunks write to disjoint ranges of the (already allocated) transition storage
+        final boolean parallel = tpFunction == null && size >= PARALLEL_THRESHOLD;
+        ConcurrentUtil.forAll(parallel ? parallelism : 1, numChunks, ctx::copyChunk);
+
+        final int init = src.getIntInitialState();
+        if (init != FullIntAbstraction.INVALID_STATE) {
+            tgt.setInitialState(init + offset);
+        }
+
+        return s1 -> (S2) Integer.valueOf((Integer) s1 + offset);
+    }
+
+    private static final class CopyContext<I1, T1, I2, T2, SP2, TP2> {
+
+        private final AbstractCompactDeterministic<I1, T1, ?, ?> src;
+        private final AbstractCompactDeterministic<I2, T2, SP2, TP2> tgt;
+        private final int[] srcIndices;
+        private final int[] tgtIndices;
+        private final @Nullable Function<? super T1, ? extends TP2> tpMapping;
+        private final int offset;
+        private final int size;
+
+        CopyContext(AbstractCompactDeterministic<I1, T1, ?, ?> src,
+                    AbstractCompactDeterministic<I2, T2, SP2, TP2> tgt,
+                    int[] srcIndices,
+                    int[] tgtIndices,
+                    @Nullable Function<? super T1, ? extends TP2> tpMapping,
+                    int offset,
+                    int size) {
+            this.src = src;
+            this.tgt = tgt;
+            this.srcIndices = srcIndices;
+            this.tgtIndices = tgtIndices;
+            this.tpMapping = tpMapping;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        void copyChunk(int chunk) {
+            final int first = chunk * CHUNK_SIZE;
+            final int length = Math.min(CHUNK_SIZE, size - first);
+            final int tgtInputs = tgt.numInputs();
+            final int[] successors = new int[length * tgtInputs];
+            final TP2[] properties = tpMapping == null ? null : (TP2[]) new Object[successors.length];
+
+            Arrays.fill(successors, FullIntAbstraction.INVALID_STATE);
+
+            for (int s = 0; s < length; s++) {
+                final int state = first + s;
+                final int base = s * tgtInputs;
+
+                for (int i = 0; i < srcIndices.length; i++) {
+                    final int succ = src.getSuccessor(state, srcIndices[i]);
+
+                    if (succ != FullIntAbstraction.INVALID_STATE) {
+                        successors[base + tgtIndices[i]] = succ + offset;
+
+                        if (properties != null) {
+                            final T1 trans = src.getTransition(state, srcIndices[i]);
+                            assert trans != null;
+                            properties[base + tgtIndices[i]] = tpMapping.apply(trans);
+                        }
+                    }
+                }
+            }
+
+            tgt.setTransitions(first + offset, length, successors, properties);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.cover;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import net.automatalib.automaton.DeterministicAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.word.Word;
+
+/**
+ * A compact representation of a state cover and a transition cover of an automaton. Instead of storing a {@link Word}
+ * per access sequence, the access sequences of the state cover are stored as a trie whose nodes only reference their
+ * parent node and the index of the input symbol of their incoming edge. Each sequence of the transition cover is
+ * stored as a reference to a node of the state cover and the index of its last input symbol. Hence, the cover of an
+ * automaton with <i>n</i> states and <i>k</i> input symbols only requires <i>O(n * k)</i> memory (as opposed to
+ * <i>O(n * k * depth)</i> memory).
+ * <p>
+ * Words are only materialized when they are requested, e.g., by {@link #getStateCover()} or
+ * {@link #getTransitionCover()}. Both the state cover and the transition cover are ordered by the breadth-first search
+ * that computed them, i.e., they contain the same sequences in the same order as
+ * {@link Covers#cover(DeterministicAutomaton, Collection, Collection, Collection)}.
+ *
+ * @param <I>
+ *         input symbol type
+ *
+ * @see Covers#coverTrie(DeterministicAutomaton, Collection)
+ */
+public final class CoverTrie<I> {
+
+    private static final int NO_PARENT = -1;
+
+    private final List<? extends I> inputs;
+
+    // state cover (trie nodes)
+    private final int[] nodeStates;
+    private final int[] nodeParents;
+    private final int[] nodeInputs;
+    private final int[] nodeDepths;
+    private final int numNodes;
+
+    // transition cover
+    private final int[] transSources;
+    private final int[] transInputs;
+    private final int[] transTargets;
+    private final int numTransitions;
+
+    // the indices of the transitions that do not coincide with a sequence of the state cover
+    private final int[] nonTreeTransitions;
+
+    <S> CoverTrie(DeterministicAutomaton<S, I, ?> automaton, Collection<? extends I> inputs) {
+        this.inputs = CollectionUtil.randomAccessList(inputs);
+
+        final StateIDs<S> stateIds = automaton.stateIDs();
+        final S init = automaton.getInitialState();
+        final int n = automaton.size();
+        final int k = this.inputs.size();
+
+        final int[] nodeForState = new int[n];
+        Arrays.fill(nodeForState, NO_PARENT);
+
+        this.nodeStates = new int[n];
+        this.nodeParents = new int[n];
+        this.nodeInputs = new int[n];
+        this.nodeDepths = new int[n];
+
+        int[] sources = new int[n];
+        int[] symbols = new int[n];
+        int[] targets = new int[n];
+        int[] nonTree = new int[n];
+        int trans = 0;
+        int nonTreeTrans = 0;
+        int nodes = 0;
+
+        if (init != null) {
+            final int initId = stateIds.getStateId(init);
+            nodeForState[initId] = 0;
+            nodeStates[0] = initId;
+            nodeParents[0] = NO_PARENT;
+            nodeInputs[0] = NO_PARENT;
+            nodeDepths[0] = 0;
+            nodes = 1;
+
+            // the trie nodes are created in BFS order, so they double as the BFS queue
+            for (int curr = 0; curr < nodes; curr++) {
+                final S state = stateIds.getState(nodeStates[curr]);
+
+                for (int i = 0; i < k; i++) {
+                    final S succ = automaton.getSuccessor(state, this.inputs.get(i));
+                    if (succ == null) {
+                        continue;
+                    }
+
+                    final int succId = stateIds.getStateId(succ);
+                    int succNode = nodeForState[succId];
+                    final boolean isTreeEdge = succNode == NO_PARENT;
+
+                    if (isTreeEdge) {
+                        succNode = nodes++;
+                        nodeForState[succId] = succNode;
+                        nodeStates[succNode] = succId;
+                        nodeParents[succNode] = curr;
+                        nodeInputs[succNode] = i;
+                        nodeDepths[succNode] = nodeDepths[curr] + 1;
+                    }
+
+                    if (trans == sources.length) {
+                        final int newLength = grow(trans, (long) n * k);
+                        sources = Arrays.copyOf(sources, newLength);
+                        symbols = Arrays.copyOf(symbols, newLength);
+                        targets = Arrays.copyOf(targets, newLength);
+                    }
+
+                    if (!isTreeEdge) {
+                        if (nonTreeTrans == nonTree.length) {
+                            nonTree = Arrays.copyOf(nonTree, grow(nonTreeTrans, (long) n * k));
+                        }
+                        nonTree[nonTreeTrans++] = trans;
+                    }
+
+                    sources[trans] = curr;
+                    symbols[trans] = i;
+                    targets[trans] = succNode;
+                    trans++;
+                }
+            }
+        }
+
+        this.numNodes = nodes;
+        this.transSources = sources;
+        this.transInputs = symbols;
+        this.transTargets = targets;
+        this.numTransitions = trans;
+        this.nonTreeTransitions = Arrays.copyOf(nonTree, nonTreeTrans);
+    }
+
+    private static int grow(int length, long max) {
+        return (int) Math.min(Math.min(Math.max(2L * length, 1), Math.max(max, length + 1)), Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Returns the number of sequences in the state cover, i.e., the number of reachable states.
+     *
+     * @return the number of sequences in the state cover
+     */
+    public int getStateCoverSize() {
+        return numNodes;
+    }
+
+    /**
+     * Returns the number of sequences in the transition cover, i.e., the number of reachable transitions.
+     *
+     * @return the number of sequences in the transition cover
+     */
+    public int getTransitionCoverSize() {
+        return numTransitions;
+    }
+
+    /**
+     * Returns the id (see {@link DeterministicAutomaton#stateIDs()}) of the state that is reached by the
+     * {@code idx}-th sequence of the state cover.
+     *
+     * @param idx
+     *         the index of the sequence in the state cover
+     *
+     * @return the id of the reached state
+     */
+    public int getStateCoverTarget(int idx) {
+        checkIndex(idx, numNodes);
+        return nodeStates[idx];
+    }
+
+    /**
+     * Returns the id (see {@link DeterministicAutomaton#stateIDs()}) of the state that is reached by the
+     * {@code idx}-th sequence of the transition cover.
+     *
+     * @param idx
+     *         the index of the sequence in the transition cover
+     *
+     * @return the id of the reached state
+     */
+    public int getTransitionCoverTarget(int idx) {
+        checkIndex(idx, numTransitions);
+        return nodeStates[transTargets[idx]];
+    }
+
+    /**
+     * Materializes the {@code idx}-th sequence of the state cover.
+     *
+     * @param idx
+     *         the index of the sequence in the state cover
+     *
+     * @return the {@code idx}-th sequence of the state cover
+     */
+    public Word<I> getStateCoverWord(int idx) {
+        checkIndex(idx, numNodes);
+        return toWord(idx, NO_PARENT);
+    }
+
+    /**
+     * Materializes the {@code idx}-th sequence of the transition cover.
+     *
+     * @param idx
+     *         the index of the sequence in the transition cover
+     *
+     * @return the {@code idx}-th sequence of the transition cover
+     */
+    public Word<I> getTransitionCoverWord(int idx) {
+        checkIndex(idx, numTransitions);
+        return toWord(transSources[idx], transInputs[idx]);
+    }
+
+    /**
+     * Returns a (random access) view of the state cover that materializes its sequences upon access.
+     *
+     * @return a view of the state cover
+     */
+    public List<Word<I>> getStateCover() {
+        return new WordList<I>() {
+
+            @Override
+            public Word<I> get(int index) {
+                return getStateCoverWord(index);
+            }
+
+            @Override
+            public int size() {
+                return numNodes;
+            }
+        };
+    }
+
+    /**
+     * Returns a (random access) view of the transition cover that materializes its sequences upon access.
+     *
+     * @return a view of the transition cover
+     */
+    public List<Word<I>> getTransitionCover() {
+        return new WordList<I>() {
+
+            @Override
+            public Word<I> get(int index) {
+                return getTransitionCoverWord(index);
+            }
+
+            @Override
+            public int size() {
+                return numTransitions;
+            }
+        };
+    }
+
+    /**
+     * Returns a (random access) view of the sequences of the transition cover that are not contained in the state cover
+     * (i.e., the sequences of transitions that have not been used to discover a new state). The view materializes its
+     * sequences upon access.
+     *
+     * @return a view of the transition cover without the sequences of the state cover
+     */
+    public List<Word<I>> getTransitionCoverWithoutStateCover() {
+        return new WordList<I>() {
+
+            @Override
+            public Word<I> get(int index) {
+                return getTransitionCoverWord(nonTreeTransitions[index]);
+            }
+
+            @Override
+            public int size() {
+                return nonTreeTransitions.length;
+            }
+        };
+    }
+
+    private Word<I> toWord(int node, int lastInput) {
+        final int depth = nodeDepths[node];
+        final int length = lastInput == NO_PARENT ? depth : depth + 1;
+        @SuppressWarnings("unchecked")
+        final I[] symbols = (I[]) new Object[length];
+
+        if (lastInput != NO_PARENT) {
+            symbols[depth] = inputs.get(lastInput);
+        }
+
+        int curr = node;
+        for (int i = depth - 1; i >= 0; i--) {
+            symbols[i] = inputs.get(nodeInputs[curr]);
+            curr = nodeParents[curr];
+        }
+
+        return Word.fromArray(symbols, 0, length);
+    }
+
+    private static void checkIndex(int idx, int size) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException("Index: " + idx + ", Size: " + size);
+        }
+    }
+
+    private abstract static class WordList<I> extends AbstractList<Word<I>> implements RandomAccess {}
+}
@@ -170,6 +170,28 @@ public final class Covers {
         cover(automaton, inputs, states::add, transitions::add);
     }
 
+    /**
+     * Computes a state cover and a transition cover simultaneously and returns them in a compact, trie-based
+     * representation. Contrary to {@link #cover(DeterministicAutomaton, Collection, Collection, Collection)}, the
+     * sequences of the covers are only materialized upon request, which allows one to compute the covers of large
+     * automata in memory linear in the number of transitions.
+     *
+     * @param automaton
+     *         the automaton for which the covers should be computed
+     * @param inputs
+     *         the set of input symbols allowed in the cover sequences
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the trie-based representation of the covers
+     *
+     * @see #cover(DeterministicAutomaton, Collection, Collection, Collection)
+     */
+    public static <I> CoverTrie<I> coverTrie(DeterministicAutomaton<?, I, ?> automaton,
+                                             Collection<? extends I> inputs) {
+        return new CoverTrie<>(automaton, inputs);
+    }
+
     private static <S, I> void cover(DeterministicAutomaton<S, I, ?> automaton,
                                      Collection<? extends I> inputs,
                                      Consumer<? super Word<I>> states,
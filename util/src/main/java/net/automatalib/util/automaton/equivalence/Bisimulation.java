@@ -15,17 +15,26 @@
  */
 package net.automatalib.util.automaton.equivalence;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.Automaton;
+import net.automatalib.automaton.AutomatonCreator;
+import net.automatalib.automaton.MutableAutomaton;
+import net.automatalib.automaton.UniversalAutomaton;
 import net.automatalib.automaton.concept.StateIDs;
 import net.automatalib.common.util.Pair;
 import net.automatalib.common.util.collection.CollectionUtil;
 import net.automatalib.util.partitionrefinement.Valmari;
 import net.automatalib.util.partitionrefinement.Valmari.RefinablePartition;
+import net.automatalib.util.partitionrefinement.ValmariExtractors;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 public final class Bisimulation {
 
@@ -37,9 +46,197 @@ public final class Bisimulation {
                                                                                         Automaton<BS, I, BT> b,
                                                                                         Collection<? extends I> inputs) {
 
-        final List<? extends I> alphabet = CollectionUtil.randomAccessList(inputs);
         final StateIDs<AS> aIDs = a.stateIDs();
         final StateIDs<BS> bIDs = b.stateIDs();
+        final int n1 = a.size();
+
+        final RefinablePartition blocks = computeValmari(a, b, inputs, aIDs, bIDs).blocks;
+
+        // extract result
+        final Set<Pair<AS, BS>> result = new HashSet<>();
+
+        for (int block = 0; block <= blocks.sets; block++) {
+            final int size = blocks.end[block] - blocks.first[block];
+            final int[] elems = new int[size];
+            int low = 0;
+            int mid = 0;
+            int high = size;
+            for (int i = blocks.first[block]; i < blocks.end[block]; i++) {
+                final int e = blocks.elems[i];
+                if (e < n1) { // a states to the left
+                    elems[low++] = e;
+                    mid++;
+                } else { // b states to the right
+                    elems[--high] = e;
+                }
+            }
+
+            // cartesian product on mid
+            for (int i = 0; i < mid; i++) {
+                for (int j = size - 1; j >= mid; j--) {
+                    result.add(Pair.of(aIDs.getState(elems[i]), bIDs.getState(elems[j] - n1)));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the bisimulation equivalence between the states of two automata and returns it in the form of a
+     * {@link BisimulationPartition}, i.e., a block id for each state of both automata. In contrast to
+     * {@link #bisimulationEquivalenceRelation(Automaton, Automaton, Collection)}, the size of the result is linear in
+     * the number of states, regardless of the size of the equivalence classes.
+     *
+     * @param a
+     *         the first automaton
+     * @param b
+     *         the second automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param <AS>
+     *         state type of the first automaton
+     * @param <BS>
+     *         state type of the second automaton
+     * @param <I>
+     *         input symbol type
+     * @param <AT>
+     *         transition type of the first automaton
+     * @param <BT>
+     *         transition type of the second automaton
+     *
+     * @return the partition of states of both automata into bisimulation equivalence classes
+     */
+    public static <AS, BS, I, AT, BT> BisimulationPartition<AS, BS> bisimulationPartition(
+            Automaton<AS, I, AT> a,
+            Automaton<BS, I, BT> b,
+            Collection<? extends I> inputs) {
+        final StateIDs<AS> aIDs = a.stateIDs();
+        final StateIDs<BS> bIDs = b.stateIDs();
+        final RefinablePartition blocks = computeValmari(a, b, inputs, aIDs, bIDs).blocks;
+
+        return new BisimulationPartition<>(aIDs, bIDs, a.size(), blocks.sidx, blocks.sets + 1);
+    }
+
+    /**
+     * Computes the bisimulation quotient of the given automaton, i.e., an automaton in which all bisimilar states of
+     * the given automaton are merged. States are only considered bisimilar if they share the same state property and
+     * transitions are only matched if they share the same input symbol and transition property. The (reachable part
+     * of the) quotient is directly extracted from the partition via {@link ValmariExtractors}.
+     *
+     * @param automaton
+     *         the automaton
+     * @param alphabet
+     *         the input symbols to consider
+     * @param creator
+     *         the provider of the new automaton instance
+     * @param <S>
+     *         state type of the quotient
+     * @param <I>
+     *         input symbol type
+     * @param <SP>
+     *         state property type
+     * @param <TP>
+     *         transition property type
+     * @param <A>
+     *         automaton type of the quotient
+     *
+     * @return the bisimulation quotient
+     */
+    public static <S, I, SP, TP, A extends MutableAutomaton<S, I, ?, SP, TP>> A bisimulationQuotient(
+            UniversalAutomaton<?, I, ?, SP, TP> automaton,
+            Alphabet<I> alphabet,
+            AutomatonCreator<A, I> creator) {
+        final Valmari valmari = computeValmari(automaton, alphabet);
+        valmari.computeCoarsestStablePartition();
+        return ValmariExtractors.toUniversal(valmari, automaton, alphabet, creator);
+    }
+
+    private static <S, I, T, SP, TP> Valmari computeValmari(UniversalAutomaton<S, I, T, SP, TP> automaton,
+                                                            Alphabet<I> alphabet) {
+        final StateIDs<S> ids = automaton.stateIDs();
+        final int n = automaton.size();
+        final int k = alphabet.size();
+
+        // initial partition by state properties
+        final int[] initialBlocks = new int[n];
+        final Map<@Nullable SP, Integer> spIds = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            final SP sp = automaton.getStateProperty(ids.getState(i));
+            initialBlocks[i] = spIds.computeIfAbsent(sp, x -> spIds.size());
+        }
+
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            final S s = ids.getState(i);
+            for (I sym : alphabet) {
+                m += automaton.getTransitions(s, sym).size();
+            }
+        }
+
+        // transitions in the order of their source states
+        final int[] stateTail = new int[m];
+        final int[] stateLabel = new int[m];
+        final int[] stateHead = new int[m];
+
+        // labels distinguish input symbols and transition properties
+        final List<Map<@Nullable TP, Integer>> tpIds = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            tpIds.add(new HashMap<>());
+        }
+
+        int cnt = 0;
+        int numLabels = 0;
+        for (int j = 0; j < n; j++) {
+            final S s = ids.getState(j);
+            for (int i = 0; i < k; i++) {
+                final Map<@Nullable TP, Integer> labels = tpIds.get(i);
+                for (T t : automaton.getTransitions(s, alphabet.getSymbol(i))) {
+                    final TP tp = automaton.getTransitionProperty(t);
+                    Integer l = labels.get(tp);
+                    if (l == null) {
+                        l = numLabels++;
+                        labels.put(tp, l);
+                    }
+                    stateTail[cnt] = j;
+                    stateLabel[cnt] = l;
+                    stateHead[cnt] = ids.getStateId(automaton.getSuccessor(t));
+                    cnt++;
+                }
+            }
+        }
+
+        // Valmari requires the transitions to be grouped by label first and by source state second, so (stably) sort
+        // them by their labels
+        final int[] offsets = new int[numLabels + 1];
+        for (int l : stateLabel) {
+            offsets[l + 1]++;
+        }
+        for (int l = 0; l < numLabels; l++) {
+            offsets[l + 1] += offsets[l];
+        }
+
+        final int[] tail = new int[m];
+        final int[] label = new int[m];
+        final int[] head = new int[m];
+
+        for (int t = 0; t < m; t++) {
+            final int pos = offsets[stateLabel[t]]++;
+            tail[pos] = stateTail[t];
+            label[pos] = stateLabel[t];
+            head[pos] = stateHead[t];
+        }
+
+        return new Valmari(initialBlocks, tail, label, head);
+    }
+
+    private static <AS, BS, I, AT, BT> Valmari computeValmari(Automaton<AS, I, AT> a,
+                                                              Automaton<BS, I, BT> b,
+                                                              Collection<? extends I> inputs,
+                                                              StateIDs<AS> aIDs,
+                                                              StateIDs<BS> bIDs) {
+
+        final List<? extends I> alphabet = CollectionUtil.randomAccessList(inputs);
 
         // set up valmari data
         final int n1 = a.size();
@@ -86,35 +283,6 @@ public final class Bisimulation {
         // compute bisimulation relation
         final Valmari valmari = new Valmari(new int[n1 + n2], tail, label, head);
         valmari.computeCoarsestStablePartition();
-        final RefinablePartition blocks = valmari.blocks;
-
-        // extract result
-        final Set<Pair<AS, BS>> result = new HashSet<>();
-
-        for (int block = 0; block <= blocks.sets; block++) {
-            final int size = blocks.end[block] - blocks.first[block];
-            final int[] elems = new int[size];
-            int low = 0;
-            int mid = 0;
-            int high = size;
-            for (int i = blocks.first[block]; i < blocks.end[block]; i++) {
-                final int e = blocks.elems[i];
-                if (e < n1) { // a states to the left
-                    elems[low++] = e;
-                    mid++;
-                } else { // b states to the right
-                    elems[--high] = e;
-                }
-            }
-
-            // cartesian product on mid
-            for (int i = 0; i < mid; i++) {
-                for (int j = size - 1; j >= mid; j--) {
-                    result.add(Pair.of(aIDs.getState(elems[i]), bIDs.getState(elems[j] - n1)));
-                }
-            }
-        }
-
-        return result;
+        return valmari;
     }
 }
@@ -0,0 +1,93 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+import net.automatalib.automaton.concept.StateIDs;
+
+/**
+ * The result of a bisimulation computation between two automata (see {@link Bisimulation#bisimulationPartition}).
+ * Instead of materializing the (potentially quadratic) set of bisimilar state pairs, this
+ * class only stores the block id of each state, so that bisimilarity queries can be answered in constant time.
+ *
+ * @param <AS>
+ *         state type of the first automaton
+ * @param <BS>
+ *         state type of the second automaton
+ */
+public final class BisimulationPartition<AS, BS> {
+
+    private final StateIDs<AS> aIDs;
+    private final StateIDs<BS> bIDs;
+    private final int sizeA;
+    private final int[] blocks;
+    private final int numBlocks;
+
+    BisimulationPartition(StateIDs<AS> aIDs, StateIDs<BS> bIDs, int sizeA, int[] blocks, int numBlocks) {
+        this.aIDs = aIDs;
+        this.bIDs = bIDs;
+        this.sizeA = sizeA;
+        this.blocks = blocks;
+        this.numBlocks = numBlocks;
+    }
+
+    /**
+     * Returns the number of blocks, i.e., the number of bisimulation equivalence classes of the union of both
+     * automata. Block ids range from {@code 0} (inclusive) to this value (exclusive).
+     *
+     * @return the number of blocks
+     */
+    public int getNumBlocks() {
+        return numBlocks;
+    }
+
+    /**
+     * Returns the block id of the given state of the first automaton.
+     *
+     * @param state
+     *         the state of the first automaton
+     *
+     * @return the block id
+     */
+    public int getBlockA(AS state) {
+        return blocks[aIDs.getStateId(state)];
+    }
+
+    /**
+     * Returns the block id of the given state of the second automaton.
+     *
+     * @param state
+     *         the state of the second automaton
+     *
+     * @return the block id
+     */
+    public int getBlockB(BS state) {
+        return blocks[sizeA + bIDs.getStateId(state)];
+    }
+
+    /**
+     * Returns whether the given states of the first and second automaton, respectively, are bisimilar.
+     *
+     * @param a
+     *         the state of the first automaton
+     * @param b
+     *         the state of the second automaton
+     *
+     * @return {@code true} if the states are bisimilar, {@code false} otherwise
+     */
+    public boolean areBisimilar(AS a, BS b) {
+        return getBlockA(a) == getBlockB(b);
+    }
+}
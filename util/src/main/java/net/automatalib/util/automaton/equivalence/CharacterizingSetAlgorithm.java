@@ -0,0 +1,32 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+/**
+ * Allows for selecting the algorithm used for computing characterizing sets.
+ */
+public enum CharacterizingSetAlgorithm {
+    /**
+     * Refines blocks of states by searching separating words for pairs of states, see {@link CharacterizingSets}. The
+     * number of searches is quadratic in the number of states in the worst case.
+     */
+    PAIRWISE,
+    /**
+     * Reads the characterizing words off a {@link SplittingTree}. No separating words are searched for individual pairs
+     * of states, which is usually the better choice for larger automata.
+     */
+    SPLITTING_TREE
+}
@@ -148,9 +148,9 @@ public final class CharacterizingSets {
         return new IncrementalCharacterizingSetIterator<>(automaton, inputs, Collections.emptyList());
     }
 
-    private static <S, I, T, SP, TP> List<?> buildTrace(UniversalDeterministicAutomaton<S, I, T, SP, TP> automaton,
-                                                        S state,
-                                                        Word<I> suffix) {
+    static <S, I, T, SP, TP> List<?> buildTrace(UniversalDeterministicAutomaton<S, I, T, SP, TP> automaton,
+                                                S state,
+                                                Word<I> suffix) {
         if (suffix.isEmpty()) {
             SP prop = automaton.getStateProperty(state);
             return Collections.singletonList(prop);
@@ -24,6 +24,7 @@ import net.automatalib.alphabet.Alphabet;
 import net.automatalib.automaton.UniversalDeterministicAutomaton;
 import net.automatalib.automaton.concept.InputAlphabetHolder;
 import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.smartcollection.IntArrayDeque;
 import net.automatalib.common.util.IntDisjointSets;
 import net.automatalib.common.util.UnionFindRemSP;
 import net.automatalib.word.Word;
@@ -37,6 +38,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 @SuppressWarnings("PMD.TestClassWithoutTestCases") // not a traditional test class
 public final class NearLinearEquivalenceTest {
 
+    private static final int RECORD_SIZE = 4;
+    private static final int NO_RECORD = -1;
+
     private NearLinearEquivalenceTest() {
         // prevent instantiation
     }
@@ -343,19 +347,20 @@ public final class NearLinearEquivalenceTest {
 
         uf.link(id1, id2);
 
-        Queue<IntRecord> queue = new ArrayDeque<>();
-
-        queue.add(new IntRecord(init1, init2));
+        // records are stored as (state1, state2, reachedBy, reachedFrom) tuples in BFS order, so the record storage
+        // doubles as the queue and no objects are allocated per record
+        IntArrayDeque records = new IntArrayDeque();
+        addRecord(records, init1, init2, -1, NO_RECORD);
 
         int lastSym = -1;
         int numInputs = inputs.size();
 
-        IntRecord current;
+        int current;
 
         explore:
-        while ((current = queue.poll()) != null) {
-            int state1 = current.state1;
-            int state2 = current.state2;
+        for (current = 0; current < records.size() / RECORD_SIZE; current++) {
+            int state1 = records.get(RECORD_SIZE * current);
+            int state2 = records.get(RECORD_SIZE * current + 1);
 
             for (int sym = 0; sym < numInputs; sym++) {
                 T trans1 = absTarget.getTransition(state1, sym);
@@ -400,28 +405,37 @@ public final class NearLinearEquivalenceTest {
                     break explore;
                 }
 
-                queue.add(new IntRecord(succ1, succ2, sym, current));
+                addRecord(records, succ1, succ2, sym, current);
             }
         }
 
-        if (current == null) {
+        if (current == records.size() / RECORD_SIZE) {
             return null;
         }
 
-        int position = current.depth + 1;
+        int position = 1;
+        for (int r = current; records.get(RECORD_SIZE * r + 3) != NO_RECORD; r = records.get(RECORD_SIZE * r + 3)) {
+            position++;
+        }
 
         @SuppressWarnings("nullness") // we make sure to set each index to a value of type I
         WordBuilder<I> wb = new WordBuilder<>(null, position);
         wb.setSymbol(--position, inputs.getSymbol(lastSym));
 
-        while (current.reachedFrom != null) {
-            wb.setSymbol(--position, inputs.getSymbol(current.reachedBy));
-            current = current.reachedFrom;
+        for (int r = current; records.get(RECORD_SIZE * r + 3) != NO_RECORD; r = records.get(RECORD_SIZE * r + 3)) {
+            wb.setSymbol(--position, inputs.getSymbol(records.get(RECORD_SIZE * r + 2)));
         }
 
         return wb.toWord();
     }
 
+    private static void addRecord(IntArrayDeque records, int state1, int state2, int reachedBy, int reachedFrom) {
+        records.addLast(state1);
+        records.addLast(state2);
+        records.addLast(reachedBy);
+        records.addLast(reachedFrom);
+    }
+
     private static final class Record<S, S2, I> {
 
         private final S state1;
@@ -443,25 +457,4 @@ public final class NearLinearEquivalenceTest {
             this.depth = (reachedFrom != null) ? reachedFrom.depth + 1 : 0;
         }
     }
-
-    private static final class IntRecord {
-
-        private final int state1;
-        private final int state2;
-        private final int reachedBy;
-        private final @Nullable IntRecord reachedFrom;
-        private final int depth;
-
-        IntRecord(int state1, int state2) {
-            this(state1, state2, -1, null);
-        }
-
-        IntRecord(int state1, int state2, int reachedBy, @Nullable IntRecord reachedFrom) {
-            this.state1 = state1;
-            this.state2 = state2;
-            this.reachedBy = reachedBy;
-            this.reachedFrom = reachedFrom;
-            this.depth = (reachedFrom != null) ? reachedFrom.depth + 1 : 0;
-        }
-    }
 }
@@ -0,0 +1,352 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+import net.automatalib.automaton.Automaton;
+import net.automatalib.automaton.UniversalAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.smartcollection.IntArrayDeque;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.util.partitionrefinement.Valmari;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Computation of (forward) simulation preorders. A state {@code q} simulates a state {@code p} if {@code q} is
+ * compatible with {@code p} and, for every transition {@code p -a-> p'}, there exists a transition {@code q -a-> q'}
+ * such that {@code q'} simulates {@code p'}.
+ * <p>
+ * If both given automata are the same object, the preorder is only computed on a single copy of its states.
+ * <p>
+ * The computation first collapses bisimilar states via {@link Valmari}'s partition refinement (bisimilar states
+ * simulate each other) and then refines a bit-matrix relation on the resulting blocks until it is stable.
+ */
+public final class Simulation {
+
+    private Simulation() {
+        // prevent instantiation
+    }
+
+    /**
+     * Computes the simulation preorder between the states of two automata, where all states are considered
+     * compatible.
+     *
+     * @param a
+     *         the first automaton
+     * @param b
+     *         the second automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param <AS>
+     *         state type of the first automaton
+     * @param <BS>
+     *         state type of the second automaton
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the simulation preorder on the states of both automata
+     */
+    public static <AS, BS, I> SimulationRelation<AS, BS> simulationRelation(Automaton<AS, I, ?> a,
+                                                                            Automaton<BS, I, ?> b,
+                                                                            Collection<? extends I> inputs) {
+        final int n = a == b ? a.size() : a.size() + b.size();
+        return computeRelation(a, b, inputs, new int[n], new boolean[][] {{true}});
+    }
+
+    /**
+     * Computes the simulation preorder between the states of two automata, where a state {@code q} can only simulate
+     * a state {@code p} if {@code compatible.test(sp(p), sp(q))} holds.
+     *
+     * @param a
+     *         the first automaton
+     * @param b
+     *         the second automaton
+     * @param inputs
+     *         the input symbols to consider
+     * @param compatible
+     *         the (reflexive) compatibility predicate on state properties, receiving the property of the simulated
+     *         state first
+     * @param <AS>
+     *         state type of the first automaton
+     * @param <BS>
+     *         state type of the second automaton
+     * @param <I>
+     *         input symbol type
+     * @param <SP>
+     *         state property type
+     *
+     * @return the simulation preorder on the states of both automata
+     */
+    public static <AS, BS, I, SP> SimulationRelation<AS, BS> simulationRelation(
+            UniversalAutomaton<AS, I, ?, SP, ?> a,
+            UniversalAutomaton<BS, I, ?, SP, ?> b,
+            Collection<? extends I> inputs,
+            BiPredicate<? super SP, ? super SP> compatible) {
+        final StateIDs<AS> aIDs = a.stateIDs();
+        final StateIDs<BS> bIDs = b.stateIDs();
+        final int n1 = a.size();
+        final int n2 = a == b ? 0 : b.size();
+
+        // classify states by their property
+        final int[] classes = new int[n1 + n2];
+        final Map<@Nullable SP, Integer> spIds = new HashMap<>();
+        final List<@Nullable SP> sps = new ArrayList<>();
+
+        for (int i = 0; i < n1 + n2; i++) {
+            final SP sp = i < n1 ?
+                    a.getStateProperty(aIDs.getState(i)) :
+                    b.getStateProperty(bIDs.getState(i - n1));
+            Integer id = spIds.get(sp);
+            if (id == null) {
+                id = sps.size();
+                spIds.put(sp, id);
+                sps.add(sp);
+            }
+            classes[i] = id;
+        }
+
+        final int k = sps.size();
+        final boolean[][] compat = new boolean[k][k];
+        for (int i = 0; i < k; i++) {
+            for (int j = 0; j < k; j++) {
+                compat[i][j] = compatible.test(sps.get(i), sps.get(j));
+            }
+        }
+
+        return computeRelation(a, b, inputs, classes, compat);
+    }
+
+    private static <AS, BS, I, AT, BT> SimulationRelation<AS, BS> computeRelation(Automaton<AS, I, AT> a,
+                                                                                  Automaton<BS, I, BT> b,
+                                                                                  Collection<? extends I> inputs,
+                                                                                  int[] classes,
+                                                                                  boolean[][] compat) {
+        final List<? extends I> alphabet = CollectionUtil.randomAccessList(inputs);
+        final StateIDs<AS> aIDs = a.stateIDs();
+        final StateIDs<BS> bIDs = b.stateIDs();
+        final int n1 = a.size();
+        final int n2 = a == b ? 0 : b.size();
+        final int k = alphabet.size();
+
+        int m = 0;
+        for (I i : alphabet) {
+            for (int j = 0; j < n1; j++) {
+                m += a.getTransitions(aIDs.getState(j), i).size();
+            }
+            for (int j = 0; j < n2; j++) {
+                m += b.getTransitions(bIDs.getState(j), i).size();
+            }
+        }
+
+        final int[] tail = new int[m];
+        final int[] label = new int[m];
+        final int[] head = new int[m];
+
+        int cnt = 0;
+        for (int i = 0; i < k; i++) {
+            final I sym = alphabet.get(i);
+            for (int j = 0; j < n1; j++) {
+                for (AT t : a.getTransitions(aIDs.getState(j), sym)) {
+                    tail[cnt] = j;
+                    label[cnt] = i;
+                    head[cnt] = aIDs.getStateId(a.getSuccessor(t));
+                    cnt++;
+                }
+            }
+            for (int j = 0; j < n2; j++) {
+                for (BT t : b.getTransitions(bIDs.getState(j), sym)) {
+                    tail[cnt] = j + n1;
+                    label[cnt] = i;
+                    head[cnt] = bIDs.getStateId(b.getSuccessor(t)) + n1;
+                    cnt++;
+                }
+            }
+        }
+
+        // bisimilar states simulate each other, so we only need to consider the blocks of the bisimulation
+        final Valmari valmari = new Valmari(classes.clone(), tail.clone(), label.clone(), head.clone());
+        valmari.computeCoarsestStablePartition();
+
+        final int[] blockOf = valmari.blocks.sidx;
+        final int numBlocks = valmari.blocks.sets + 1;
+
+        final int[] blockClass = new int[numBlocks];
+        for (int i = 0; i < classes.length; i++) {
+            blockClass[blockOf[i]] = classes[i];
+        }
+
+        final BitSet[] relation = computeBlockRelation(numBlocks, k, blockClass, compat, blockOf, tail, label, head);
+
+        // if both automata are identical, only a single copy has been analyzed
+        return new SimulationRelation<>(aIDs, bIDs, a == b ? 0 : n1, blockOf, relation);
+    }
+
+    private static BitSet[] computeBlockRelation(int numBlocks,
+                                                 int numLabels,
+                                                 int[] blockClass,
+                                                 boolean[][] compat,
+                                                 int[] blockOf,
+                                                 int[] tail,
+                                                 int[] label,
+                                                 int[] head) {
+
+        final BlockTransitions post = new BlockTransitions(numBlocks, numLabels, blockOf, tail, label, head);
+        final BlockTransitions pre = new BlockTransitions(numBlocks, numLabels, blockOf, head, label, tail);
+
+        // initial relation: compatible blocks, whose enabled labels are covered
+        final BitSet[] sim = new BitSet[numBlocks];
+        for (int p = 0; p < numBlocks; p++) {
+            final BitSet row = new BitSet(numBlocks);
+            for (int q = 0; q < numBlocks; q++) {
+                if (compat[blockClass[p]][blockClass[q]] && post.covers(p, q)) {
+                    row.set(q);
+                }
+            }
+            sim[p] = row;
+        }
+
+        // pairs are stored as two consecutive values
+        final IntArrayDeque queue = new IntArrayDeque();
+
+        // remove all pairs that are not stable w.r.t. the initial relation
+        for (int p = 0; p < numBlocks; p++) {
+            final BitSet row = sim[p];
+            for (int q = row.nextSetBit(0); q >= 0; q = row.nextSetBit(q + 1)) {
+                if (!isStable(sim, post, p, q)) {
+                    row.clear(q);
+                    queue.addLast(p);
+                    queue.addLast(q);
+                }
+            }
+        }
+
+        // propagate removals to predecessors
+        while (!queue.isEmpty()) {
+            final int succP = queue.removeFirst();
+            final int succQ = queue.removeFirst();
+
+            for (int l = 0; l < numLabels; l++) {
+                final int preQLow = pre.start(succQ, l);
+                final int preQHigh = pre.end(succQ, l);
+
+                if (preQLow == preQHigh) {
+                    continue;
+                }
+
+                for (int i = pre.start(succP, l); i < pre.end(succP, l); i++) {
+                    final int p = pre.targets[i];
+                    final BitSet row = sim[p];
+
+                    for (int j = preQLow; j < preQHigh; j++) {
+                        final int q = pre.targets[j];
+                        if (row.get(q) && !hasMatchingSuccessor(sim[succP], post, q, l)) {
+                            row.clear(q);
+                            queue.addLast(p);
+                            queue.addLast(q);
+                        }
+                    }
+                }
+            }
+        }
+
+        return sim;
+    }
+
+    private static boolean isStable(BitSet[] sim, BlockTransitions post, int p, int q) {
+        for (int l = 0; l < post.numLabels; l++) {
+            for (int i = post.start(p, l); i < post.end(p, l); i++) {
+                if (!hasMatchingSuccessor(sim[post.targets[i]], post, q, l)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasMatchingSuccessor(BitSet simulators, BlockTransitions post, int q, int l) {
+        for (int j = post.start(q, l); j < post.end(q, l); j++) {
+            if (simulators.get(post.targets[j])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Deduplicated, CSR-encoded transitions between blocks, grouped by source block and label.
+     */
+    private static final class BlockTransitions {
+
+        final int numLabels;
+        final int[] offsets;
+        final int[] targets;
+
+        BlockTransitions(int numBlocks, int numLabels, int[] blockOf, int[] src, int[] label, int[] tgt) {
+            this.numLabels = numLabels;
+
+            final long[] keys = new long[src.length];
+            for (int i = 0; i < src.length; i++) {
+                final long group = (long) blockOf[src[i]] * numLabels + label[i];
+                keys[i] = group * numBlocks + blockOf[tgt[i]];
+            }
+            Arrays.sort(keys);
+
+            this.offsets = new int[numBlocks * numLabels + 1];
+            final int[] tmp = new int[keys.length];
+            int size = 0;
+
+            for (int i = 0; i < keys.length; i++) {
+                if (i > 0 && keys[i] == keys[i - 1]) {
+                    continue;
+                }
+                final int group = (int) (keys[i] / numBlocks);
+                tmp[size++] = (int) (keys[i] % numBlocks);
+                offsets[group + 1]++;
+            }
+
+            for (int i = 0; i < numBlocks * numLabels; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+
+            this.targets = Arrays.copyOf(tmp, size);
+        }
+
+        int start(int block, int l) {
+            return offsets[block * numLabels + l];
+        }
+
+        int end(int block, int l) {
+            return offsets[block * numLabels + l + 1];
+        }
+
+        boolean covers(int p, int q) {
+            for (int l = 0; l < numLabels; l++) {
+                if (start(p, l) != end(p, l) && start(q, l) == end(q, l)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
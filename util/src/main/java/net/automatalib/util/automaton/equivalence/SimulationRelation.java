@@ -0,0 +1,109 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+import java.util.BitSet;
+
+import net.automatalib.automaton.concept.StateIDs;
+
+/**
+ * The result of a simulation computation between two automata (see {@link Simulation#simulationRelation}). States of
+ * both automata are mapped to blocks of bisimilar states and the simulation preorder is stored as a bit-matrix over
+ * these blocks. Hence, the relation can be queried in constant time between any two states (of either automaton).
+ *
+ * @param <AS>
+ *         state type of the first automaton
+ * @param <BS>
+ *         state type of the second automaton
+ */
+public final class SimulationRelation<AS, BS> {
+
+    private final StateIDs<AS> aIDs;
+    private final StateIDs<BS> bIDs;
+    private final int offsetB;
+    private final int[] blocks;
+    private final BitSet[] relation;
+
+    SimulationRelation(StateIDs<AS> aIDs, StateIDs<BS> bIDs, int offsetB, int[] blocks, BitSet[] relation) {
+        this.aIDs = aIDs;
+        this.bIDs = bIDs;
+        this.offsetB = offsetB;
+        this.blocks = blocks;
+        this.relation = relation;
+    }
+
+    /**
+     * Returns the number of blocks. Block ids range from {@code 0} (inclusive) to this value (exclusive).
+     *
+     * @return the number of blocks
+     */
+    public int getNumBlocks() {
+        return relation.length;
+    }
+
+    /**
+     * Returns the block id of the given state of the first automaton.
+     *
+     * @param state
+     *         the state of the first automaton
+     *
+     * @return the block id
+     */
+    public int getBlockA(AS state) {
+        return blocks[aIDs.getStateId(state)];
+    }
+
+    /**
+     * Returns the block id of the given state of the second automaton.
+     *
+     * @param state
+     *         the state of the second automaton
+     *
+     * @return the block id
+     */
+    public int getBlockB(BS state) {
+        return blocks[offsetB + bIDs.getStateId(state)];
+    }
+
+    /**
+     * Returns whether the states of the first block are simulated by the states of the second block.
+     *
+     * @param block
+     *         the (id of the) simulated block
+     * @param simulatingBlock
+     *         the (id of the) simulating block
+     *
+     * @return {@code true} if the states of {@code block} are simulated by the states of {@code simulatingBlock},
+     * {@code false} otherwise
+     */
+    public boolean isBlockSimulatedBy(int block, int simulatingBlock) {
+        return relation[block].get(simulatingBlock);
+    }
+
+    /**
+     * Returns whether the given state of the first automaton is simulated by the given state of the second automaton.
+     *
+     * @param a
+     *         the state of the first automaton
+     * @param b
+     *         the state of the second automaton
+     *
+     * @return {@code true} if {@code a} is simulated by {@code b}, {@code false} otherwise
+     */
+    public boolean isSimulatedBy(AS a, BS b) {
+        return isBlockSimulatedBy(getBlockA(a), getBlockB(b));
+    }
+}
@@ -0,0 +1,383 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.word.Word;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A splitting tree of the states of an automaton. Each inner node of the tree is labeled with a word whose
+ * {@link CharacterizingSets traces} partition the states of the node into the states of its children, and each leaf
+ * contains a class of equivalent states. As a consequence, the word of the lowest common ancestor of two states
+ * separates them, the words of all inner nodes form a characterizing set for the automaton, and the words along the
+ * path from the root to a state form a characterizing set for this state.
+ * <p>
+ * The tree is constructed by partition refinement: a leaf is split either by a single input symbol or by an input
+ * symbol that leads its states into different subtrees of an inner node, in which case the word of the node is
+ * prepended by the symbol. Hence, no separating words need to be searched for individual pairs of states. Among all
+ * candidates, the shortest word is chosen for splitting a leaf.
+ * <p>
+ * Leaves are refined from a worklist: after a leaf has been split, only the leaves containing predecessors of its
+ * states are re-examined, because the successors of all other leaves still point into the same subtrees. Examining a
+ * leaf takes {@code O(|leaf| * k * d)} time for {@code k} input symbols and a tree depth of {@code d}. Note that this
+ * is a deliberate simplification of Hopcroft's algorithm: splitting by the smaller half would not allow choosing the
+ * shortest separating word, so the construction may take {@code O(n^2 * k * d)} time in the worst case for {@code n}
+ * states rather than {@code O(n * k * log n)}.
+ *
+ * @param <S>
+ *         state type
+ * @param <I>
+ *         input symbol type
+ */
+public final class SplittingTree<S, I> {
+
+    private static final int UNDEFINED = -1;
+
+    private final UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton;
+    private final StateIDs<S> stateIds;
+    private final Node<I> root;
+    private final List<Node<I>> leafForState;
+
+    /**
+     * Constructs the splitting tree for the given automaton.
+     *
+     * @param automaton
+     *         the automaton whose states should be separated
+     * @param inputs
+     *         the input symbols to consider
+     */
+    public SplittingTree(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton, Collection<? extends I> inputs) {
+        this.automaton = automaton;
+        this.stateIds = automaton.stateIDs();
+
+        final int n = automaton.size();
+        final int[] allStates = new int[n];
+        for (int i = 0; i < n; i++) {
+            allStates[i] = i;
+        }
+
+        this.root = new Node<>(null, allStates);
+        this.leafForState = new ArrayList<>(Collections.nCopies(n, root));
+
+        build(CollectionUtil.randomAccessList(inputs));
+    }
+
+    private void build(List<? extends I> inputs) {
+        final int n = automaton.size();
+        final int k = inputs.size();
+        final int[] successors = new int[n * k];
+        final int[] letterClasses = new int[n * k];
+
+        // the traces of single symbols do not change during refinement, so we only compare their (int) classes
+        final Map<List<?>, Integer> letterTraces = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            final S state = stateIds.getState(i);
+            for (int j = 0; j < k; j++) {
+                final I input = inputs.get(j);
+                final S succ = automaton.getSuccessor(state, input);
+                final List<?> trace = CharacterizingSets.buildTrace(automaton, state, Word.fromLetter(input));
+
+                successors[i * k + j] = succ == null ? UNDEFINED : stateIds.getStateId(succ);
+                letterClasses[i * k + j] = letterTraces.computeIfAbsent(trace, t -> letterTraces.size());
+            }
+        }
+
+        // CSR encoding of the predecessors of each state
+        final int[] predOffsets = new int[n + 1];
+        for (int succ : successors) {
+            if (succ != UNDEFINED) {
+                predOffsets[succ + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            predOffsets[i + 1] += predOffsets[i];
+        }
+
+        final int[] predecessors = new int[predOffsets[n]];
+        final int[] fill = Arrays.copyOf(predOffsets, n);
+        for (int idx = 0; idx < successors.length; idx++) {
+            final int succ = successors[idx];
+            if (succ != UNDEFINED) {
+                predecessors[fill[succ]++] = idx / k;
+            }
+        }
+
+        final Queue<Node<I>> worklist = new ArrayDeque<>();
+
+        // distinguish states by their properties
+        split(root, Word.epsilon(), partitionByProperty(root.states), worklist);
+        if (root.word == null) {
+            enqueue(root, worklist);
+        }
+
+        Node<I> leaf;
+        while ((leaf = worklist.poll()) != null) {
+            leaf.queued = false;
+
+            if (refine(leaf, inputs, successors, letterClasses, worklist)) {
+                // the predecessors of the split states may now lead into different subtrees
+                for (int s : leaf.states) {
+                    for (int p = predOffsets[s]; p < predOffsets[s + 1]; p++) {
+                        enqueue(leafForState.get(predecessors[p]), worklist);
+                    }
+                }
+            }
+        }
+    }
+
+    private static <I> void enqueue(Node<I> leaf, Queue<Node<I>> worklist) {
+        if (!leaf.queued && leaf.states.length > 1) {
+            leaf.queued = true;
+            worklist.add(leaf);
+        }
+    }
+
+    private boolean refine(Node<I> leaf,
+                           List<? extends I> inputs,
+                           int[] successors,
+                           int[] letterClasses,
+                           Queue<Node<I>> worklist) {
+        final int k = inputs.size();
+        final int[] states = leaf.states;
+
+        int bestInput = -1;
+        int bestLength = Integer.MAX_VALUE;
+        @Nullable Node<I> bestNode = null;
+
+        for (int j = 0; j < k; j++) {
+            if (!isUniform(states, letterClasses, k, j)) {
+                // a single symbol is the shortest possible separating word for a non-root node
+                final Collection<int[]> blocks = partitionByLetter(states, letterClasses, k, j);
+                split(leaf, Word.fromLetter(inputs.get(j)), blocks, worklist);
+                return true;
+            }
+
+            final int firstSucc = successors[states[0] * k + j];
+            if (firstSucc == UNDEFINED) {
+                continue; // (all) transitions are undefined
+            }
+
+            Node<I> lca = leafForState.get(firstSucc);
+            for (int s : states) {
+                lca = lca(lca, leafForState.get(successors[s * k + j]));
+            }
+
+            final Word<I> lcaWord = lca.word;
+            if (lcaWord != null && lcaWord.length() < bestLength) {
+                bestInput = j;
+                bestLength = lcaWord.length();
+                bestNode = lca;
+            }
+        }
+
+        if (bestNode != null) {
+            final Word<I> prefix = Word.fromLetter(inputs.get(bestInput));
+            final Word<I> word = prefix.concat(Objects.requireNonNull(bestNode.word));
+            final Collection<int[]> blocks = partitionByChild(states, successors, k, bestInput, bestNode);
+            split(leaf, word, blocks, worklist);
+            return true;
+        }
+
+        return false;
+    }
+
+    private static boolean isUniform(int[] states, int[] letterClasses, int k, int input) {
+        final int first = letterClasses[states[0] * k + input];
+        for (int s : states) {
+            if (letterClasses[s * k + input] != first) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Collection<int[]> partitionByProperty(int[] states) {
+        final Map<@Nullable Object, List<Integer>> buckets = new LinkedHashMap<>();
+
+        for (int s : states) {
+            final Object prop = automaton.getStateProperty(stateIds.getState(s));
+            buckets.computeIfAbsent(prop, p -> new ArrayList<>()).add(s);
+        }
+
+        return toArrays(buckets.values());
+    }
+
+    private static Collection<int[]> partitionByLetter(int[] states, int[] letterClasses, int k, int input) {
+        final Map<Integer, List<Integer>> buckets = new LinkedHashMap<>();
+
+        for (int s : states) {
+            buckets.computeIfAbsent(letterClasses[s * k + input], c -> new ArrayList<>()).add(s);
+        }
+
+        return toArrays(buckets.values());
+    }
+
+    private Collection<int[]> partitionByChild(int[] states, int[] successors, int k, int input, Node<I> lca) {
+        final Map<Node<I>, List<Integer>> buckets = new LinkedHashMap<>();
+
+        for (int s : states) {
+            Node<I> child = leafForState.get(successors[s * k + input]);
+            while (child.depth > lca.depth + 1) {
+                child = Objects.requireNonNull(child.parent);
+            }
+            buckets.computeIfAbsent(child, c -> new ArrayList<>()).add(s);
+        }
+
+        return toArrays(buckets.values());
+    }
+
+    private void split(Node<I> leaf, Word<I> word, Collection<int[]> blocks, Queue<Node<I>> worklist) {
+        if (blocks.size() < 2) {
+            return;
+        }
+
+        leaf.word = word;
+        leaf.children = new ArrayList<>(blocks.size());
+
+        for (int[] block : blocks) {
+            final Node<I> child = new Node<>(leaf, block);
+            leaf.children.add(child);
+            for (int s : block) {
+                leafForState.set(s, child);
+            }
+            enqueue(child, worklist);
+        }
+    }
+
+    private static <I> Node<I> lca(Node<I> n1, Node<I> n2) {
+        Node<I> a = n1, b = n2;
+        while (a.depth > b.depth) {
+            a = Objects.requireNonNull(a.parent);
+        }
+        while (b.depth > a.depth) {
+            b = Objects.requireNonNull(b.parent);
+        }
+        while (a != b) {
+            a = Objects.requireNonNull(a.parent);
+            b = Objects.requireNonNull(b.parent);
+        }
+        return a;
+    }
+
+    private static List<int[]> toArrays(Collection<List<Integer>> buckets) {
+        final List<int[]> result = new ArrayList<>(buckets.size());
+        for (List<Integer> bucket : buckets) {
+            final int[] block = new int[bucket.size()];
+            for (int i = 0; i < block.length; i++) {
+                block[i] = bucket.get(i);
+            }
+            result.add(block);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a characterizing set for the automaton, i.e., the (distinct) words of all inner nodes of the tree in
+     * breadth-first order.
+     *
+     * @return a characterizing set for the automaton
+     */
+    public List<Word<I>> getCharacterizingSet() {
+        final Set<Word<I>> result = new LinkedHashSet<>();
+        final Queue<Node<I>> queue = new ArrayDeque<>();
+        queue.add(root);
+
+        Node<I> node;
+        while ((node = queue.poll()) != null) {
+            if (node.word != null) {
+                result.add(node.word);
+                queue.addAll(node.children);
+            }
+        }
+
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Returns a characterizing set for the given state (sometimes called <i>state identifier</i>), i.e., the
+     * (distinct) words of all nodes on the path from the root to the leaf of the state.
+     *
+     * @param state
+     *         the state for which to determine the characterizing set
+     *
+     * @return a characterizing set for the given state
+     */
+    public List<Word<I>> getStateCharacterizingSet(S state) {
+        final List<Word<I>> path = new ArrayList<>();
+
+        @Nullable Node<I> node = leafForState.get(stateIds.getStateId(state)).parent;
+        while (node != null) {
+            // all ancestors of a leaf are inner nodes
+            path.add(Objects.requireNonNull(node.word));
+            node = node.parent;
+        }
+
+        Collections.reverse(path);
+        return new ArrayList<>(new LinkedHashSet<>(path));
+    }
+
+    /**
+     * Returns a word that separates the two given states, i.e., the word of the lowest common ancestor of their
+     * leaves.
+     *
+     * @param s1
+     *         the first state
+     * @param s2
+     *         the second state
+     *
+     * @return a word separating the two states, or {@code null} if the states are equivalent
+     */
+    public @Nullable Word<I> getSeparatingWord(S s1, S s2) {
+        final Node<I> n1 = leafForState.get(stateIds.getStateId(s1));
+        final Node<I> n2 = leafForState.get(stateIds.getStateId(s2));
+        return lca(n1, n2).word;
+    }
+
+    private static final class Node<I> {
+
+        private final @Nullable Node<I> parent;
+        private final int[] states;
+        private final int depth;
+        private @Nullable Word<I> word;
+        private List<Node<I>> children;
+        private boolean queued;
+
+        Node(@Nullable Node<I> parent, int[] states) {
+            this.parent = parent;
+            this.states = states;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+            this.children = Collections.emptyList();
+        }
+    }
+}
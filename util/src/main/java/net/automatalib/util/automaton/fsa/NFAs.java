@@ -16,32 +16,43 @@
 package net.automatalib.util.automaton.fsa;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.MapAlphabet;
+import net.automatalib.automaton.base.AbstractCompact;
 import net.automatalib.automaton.concept.InputAlphabetHolder;
+import net.automatalib.automaton.concept.StateIDs;
 import net.automatalib.automaton.fsa.MutableDFA;
 import net.automatalib.automaton.fsa.MutableNFA;
 import net.automatalib.automaton.fsa.NFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.simple.SimpleAutomaton;
 import net.automatalib.common.util.HashUtil;
+import net.automatalib.common.util.collection.CollectionUtil;
 import net.automatalib.common.util.mapping.Mapping;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.ts.AcceptorPowersetViewTS;
 import net.automatalib.ts.acceptor.AcceptorTS;
+import net.automatalib.util.automaton.equivalence.Simulation;
+import net.automatalib.util.automaton.equivalence.SimulationRelation;
 import net.automatalib.util.automaton.minimizer.HopcroftMinimizer;
 import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
 import net.automatalib.util.ts.acceptor.Acceptors;
 import net.automatalib.util.ts.copy.TSCopy;
 import net.automatalib.util.ts.traversal.TSTraversal;
 import net.automatalib.util.ts.traversal.TSTraversalMethod;
+import net.automatalib.util.traversal.ParallelTraversalVisitor;
 
 /**
  * Operations on {@link NFA}s.
@@ -51,6 +62,8 @@ import net.automatalib.util.ts.traversal.TSTraversalMethod;
  */
 public final class NFAs {
 
+    private static final int PARALLEL_THRESHOLD = 1 << 12;
+
     private NFAs() {
         // prevent instantiation
     }
@@ -293,7 +306,8 @@ public final class NFAs {
 
     /**
      * Returns for a given NFA the set of accessible states. A state is accessible if it can be reached by an initial
-     * state.
+     * state. For larger compact automata, the states are explored by a parallel breadth-first search (see
+     * {@link TSTraversal#breadthFirstParallel(SimpleAutomaton, Collection, ParallelTraversalVisitor, int)}).
      *
      * @param nfa
      *         the input NFA
@@ -308,6 +322,22 @@ public final class NFAs {
      */
     public static <S, I> Set<S> accessibleStates(NFA<S, I> nfa, Collection<? extends I> inputs) {
 
+        // compact automata support concurrent reads, so larger instances are explored in parallel
+        if (nfa instanceof AbstractCompact && nfa.size() >= PARALLEL_THRESHOLD) {
+            final StateIDs<S> stateIds = nfa.stateIDs();
+            final BitSet accessible = TSTraversal.breadthFirstParallel(nfa,
+                                                                       inputs,
+                                                                       (id, depth) -> true,
+                                                                       Runtime.getRuntime().availableProcessors());
+            final Set<S> result = new HashSet<>(HashUtil.capacity(accessible.cardinality()));
+
+            for (int i = accessible.nextSetBit(0); i >= 0; i = accessible.nextSetBit(i + 1)) {
+                result.add(stateIds.getState(i));
+            }
+
+            return result;
+        }
+
         final Set<S> inits = nfa.getInitialStates();
         final Deque<S> deque = new ArrayDeque<>(inits);
         final Set<S> found = new HashSet<>(inits);
@@ -478,6 +508,260 @@ public final class NFAs {
         determinize(nfa, inputs, out, false, true);
     }
 
+    /**
+     * Reduces the given NFA by means of its simulation preorder and returns the result as a new NFA. Simulation
+     * equivalent states are merged and transitions (as well as initial states) that lead to states which are strictly
+     * simulated by another successor (initial state) are removed. The result accepts the same language as the given
+     * NFA.
+     *
+     * @param nfa
+     *         the original NFA
+     * @param inputAlphabet
+     *         the input alphabet
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the reduced NFA
+     *
+     * @see Simulation
+     */
+    public static <I> CompactNFA<I> reduce(NFA<?, I> nfa, Alphabet<I> inputAlphabet) {
+        return reduce(nfa, inputAlphabet, new CompactNFA<>(inputAlphabet));
+    }
+
+    /**
+     * Reduces the given NFA by means of its simulation preorder and writes the result to the given output NFA. See
+     * {@link #reduce(NFA, Alphabet)} for details.
+     *
+     * @param nfa
+     *         the input NFA
+     * @param inputs
+     *         the input symbols to consider
+     * @param out
+     *         the output NFA
+     * @param <SI>
+     *         (input) state type
+     * @param <I>
+     *         input symbol type
+     * @param <SO>
+     *         (output) state type
+     * @param <A>
+     *         (output) automaton type
+     *
+     * @return {@code out} for convenience
+     */
+    public static <SI, I, SO, A extends MutableNFA<SO, I>> A reduce(NFA<SI, I> nfa,
+                                                                    Collection<? extends I> inputs,
+                                                                    A out) {
+        final SimulationRelation<SI, SI> sim =
+                Simulation.simulationRelation(nfa, nfa, inputs, NFAs::isAcceptanceCompatible);
+        final StateIDs<SI> ids = nfa.stateIDs();
+        final int n = nfa.size();
+        final int numBlocks = sim.getNumBlocks();
+
+        // merge simulation equivalent blocks
+        final int[] classOf = new int[numBlocks];
+        final int[] repBlock = new int[numBlocks];
+        Arrays.fill(classOf, -1);
+        int numClasses = 0;
+
+        for (int b = 0; b < numBlocks; b++) {
+            if (classOf[b] < 0) {
+                classOf[b] = numClasses;
+                repBlock[numClasses] = b;
+                for (int b2 = b + 1; b2 < numBlocks; b2++) {
+                    if (classOf[b2] < 0 && sim.isBlockSimulatedBy(b, b2) && sim.isBlockSimulatedBy(b2, b)) {
+                        classOf[b2] = numClasses;
+                    }
+                }
+                numClasses++;
+            }
+        }
+
+        // group states by class
+        final int[] stateClass = new int[n];
+        final int[] classOffsets = new int[numClasses + 1];
+        for (int i = 0; i < n; i++) {
+            stateClass[i] = classOf[sim.getBlockA(ids.getState(i))];
+            classOffsets[stateClass[i] + 1]++;
+        }
+        for (int c = 0; c < numClasses; c++) {
+            classOffsets[c + 1] += classOffsets[c];
+        }
+        final int[] classStates = new int[n];
+        final int[] fill = Arrays.copyOf(classOffsets, numClasses);
+        for (int i = 0; i < n; i++) {
+            classStates[fill[stateClass[i]]++] = i;
+        }
+
+        final List<SO> outStates = new ArrayList<>(numClasses);
+        for (int c = 0; c < numClasses; c++) {
+            outStates.add(out.addState(nfa.isAccepting(ids.getState(classStates[classOffsets[c]]))));
+        }
+
+        final BitSet targets = new BitSet(numClasses);
+
+        for (SI init : nfa.getInitialStates()) {
+            targets.set(stateClass[ids.getStateId(init)]);
+        }
+        for (int c : maximalClasses(targets, sim, repBlock)) {
+            out.setInitial(outStates.get(c), true);
+        }
+
+        for (int c = 0; c < numClasses; c++) {
+            for (I sym : inputs) {
+                targets.clear();
+                for (int i = classOffsets[c]; i < classOffsets[c + 1]; i++) {
+                    for (SI succ : nfa.getSuccessors(ids.getState(classStates[i]), sym)) {
+                        targets.set(stateClass[ids.getStateId(succ)]);
+                    }
+                }
+                for (int t : maximalClasses(targets, sim, repBlock)) {
+                    out.addTransition(outStates.get(c), sym, outStates.get(t));
+                }
+            }
+        }
+
+        return out;
+    }
+
+    private static int[] maximalClasses(BitSet classes, SimulationRelation<?, ?> sim, int[] repBlock) {
+        final int[] result = new int[classes.cardinality()];
+        int size = 0;
+
+        outer:
+        for (int c = classes.nextSetBit(0); c >= 0; c = classes.nextSetBit(c + 1)) {
+            for (int c2 = classes.nextSetBit(0); c2 >= 0; c2 = classes.nextSetBit(c2 + 1)) {
+                // distinct classes are not simulation equivalent, so this is a strict domination
+                if (c != c2 && sim.isBlockSimulatedBy(repBlock[c], repBlock[c2])) {
+                    continue outer;
+                }
+            }
+            result[size++] = c;
+        }
+
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Tests whether the language of the first NFA is included in the language of the second NFA. The check explores
+     * pairs of states of the first NFA and (subset-constructed) state sets of the second NFA but uses the
+     * {@link Simulation simulation preorder} of both NFAs to skip pairs that are trivially included, to only keep
+     * the maximal elements of the state sets, and to discard pairs that are subsumed by previously explored ones
+     * (antichains).
+     *
+     * @param nfa1
+     *         the first NFA
+     * @param nfa2
+     *         the second NFA
+     * @param inputs
+     *         the input symbols to consider
+     * @param <S1>
+     *         state type of the first NFA
+     * @param <S2>
+     *         state type of the second NFA
+     * @param <I>
+     *         input symbol type
+     *
+     * @return {@code true} if every word accepted by {@code nfa1} is also accepted by {@code nfa2}, {@code false}
+     * otherwise
+     */
+    public static <S1, S2, I> boolean testInclusion(NFA<S1, I> nfa1,
+                                                    NFA<S2, I> nfa2,
+                                                    Collection<? extends I> inputs) {
+        final SimulationRelation<S1, S2> sim =
+                Simulation.simulationRelation(nfa1, nfa2, inputs, NFAs::isAcceptanceCompatible);
+        final InclusionContext ctx = new InclusionContext(sim.getNumBlocks());
+
+        final StateIDs<S1> ids1 = nfa1.stateIDs();
+        final StateIDs<S2> ids2 = nfa2.stateIDs();
+        final int n1 = nfa1.size();
+        final int n2 = nfa2.size();
+        final List<? extends I> symbols = CollectionUtil.randomAccessList(inputs);
+        final int k = symbols.size();
+
+        final int[] blocks1 = new int[n1];
+        final boolean[] acc1 = new boolean[n1];
+        final int[][] succs1 = new int[n1 * k][];
+        for (int i = 0; i < n1; i++) {
+            final S1 s = ids1.getState(i);
+            blocks1[i] = sim.getBlockA(s);
+            acc1[i] = nfa1.isAccepting(s);
+            for (int j = 0; j < k; j++) {
+                succs1[i * k + j] = toIds(nfa1.getSuccessors(s, symbols.get(j)), ids1);
+            }
+        }
+
+        final int[] blocks2 = new int[n2];
+        final boolean[] acc2 = new boolean[n2];
+        final int[][] succs2 = new int[n2 * k][];
+        for (int i = 0; i < n2; i++) {
+            final S2 s = ids2.getState(i);
+            blocks2[i] = sim.getBlockB(s);
+            acc2[i] = nfa2.isAccepting(s);
+            for (int j = 0; j < k; j++) {
+                succs2[i * k + j] = toIds(nfa2.getSuccessors(s, symbols.get(j)), ids2);
+            }
+        }
+
+        final BitSet set = new BitSet(n2);
+        for (S2 init : nfa2.getInitialStates()) {
+            set.set(ids2.getStateId(init));
+        }
+        final int[] init2 = ctx.maximal(set, blocks2, sim);
+
+        final Deque<InclusionPair> queue = new ArrayDeque<>();
+        final List<InclusionPair> antichain = new ArrayList<>();
+
+        for (S1 init : nfa1.getInitialStates()) {
+            final InclusionPair pair = new InclusionPair(ids1.getStateId(init), init2);
+            if (!ctx.offer(pair, queue, antichain, blocks1, acc1, blocks2, acc2, sim)) {
+                return false;
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            final InclusionPair curr = queue.poll();
+
+            for (int j = 0; j < k; j++) {
+                final int[] pSuccs = succs1[curr.p * k + j];
+                if (pSuccs.length == 0) {
+                    continue;
+                }
+
+                set.clear();
+                for (int s : curr.set) {
+                    for (int t : succs2[s * k + j]) {
+                        set.set(t);
+                    }
+                }
+                final int[] succSet = ctx.maximal(set, blocks2, sim);
+
+                for (int p : pSuccs) {
+                    final InclusionPair pair = new InclusionPair(p, succSet);
+                    if (!ctx.offer(pair, queue, antichain, blocks1, acc1, blocks2, acc2, sim)) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isAcceptanceCompatible(Boolean simulated, Boolean simulating) {
+        return !simulated || simulating;
+    }
+
+    private static <S> int[] toIds(Collection<? extends S> states, StateIDs<S> ids) {
+        final int[] result = new int[states.size()];
+        int i = 0;
+        for (S s : states) {
+            result[i++] = ids.getStateId(s);
+        }
+        return result;
+    }
+
     private static <I, SI, SO> void doDeterminize(AcceptorPowersetViewTS<SI, I, ?> powerset,
                                                   Collection<? extends I> inputs,
                                                   MutableDFA<SO, I> out,
@@ -533,4 +817,129 @@ public final class NFAs {
             this.outputState = outputState;
         }
     }
+
+    private static final class InclusionPair {
+
+        private final int p;
+        private final int[] set;
+
+        InclusionPair(int p, int[] set) {
+            this.p = p;
+            this.set = set;
+        }
+    }
+
+    private static final class InclusionContext {
+
+        private final int[] buffer;
+
+        InclusionContext(int numBlocks) {
+            this.buffer = new int[numBlocks];
+        }
+
+        /**
+         * Returns the states of the given set that are not (strictly) simulated by another state of the set. Of
+         * several simulation equivalent states, only the first one is kept.
+         */
+        int[] maximal(BitSet set, int[] blocks, SimulationRelation<?, ?> sim) {
+            int size = 0;
+
+            outer:
+            for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+                final int b = blocks[s];
+                for (int i = 0; i < size; i++) {
+                    if (sim.isBlockSimulatedBy(b, buffer[i])) {
+                        continue outer;
+                    }
+                }
+                // remove previously kept states that are simulated by the new one
+                int j = 0;
+                for (int i = 0; i < size; i++) {
+                    if (!sim.isBlockSimulatedBy(buffer[i], b)) {
+                        buffer[j++] = buffer[i];
+                    }
+                }
+                buffer[j++] = b;
+                size = j;
+            }
+
+            // map blocks back to (representative) states
+            final int[] result = new int[size];
+            int idx = 0;
+            for (int s = set.nextSetBit(0); s >= 0 && idx < size; s = set.nextSetBit(s + 1)) {
+                final int b = blocks[s];
+                for (int i = 0; i < size; i++) {
+                    if (buffer[i] == b) {
+                        result[idx++] = s;
+                        buffer[i] = -1;
+                        break;
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        boolean offer(InclusionPair pair,
+                      Deque<InclusionPair> queue,
+                      List<InclusionPair> antichain,
+                      int[] blocks1,
+                      boolean[] acc1,
+                      int[] blocks2,
+                      boolean[] acc2,
+                      SimulationRelation<?, ?> sim) {
+
+            final int pBlock = blocks1[pair.p];
+            boolean accepted = false;
+
+            for (int s : pair.set) {
+                // the language of p is trivially included
+                if (sim.isBlockSimulatedBy(pBlock, blocks2[s])) {
+                    return true;
+                }
+                accepted |= acc2[s];
+            }
+
+            if (acc1[pair.p] && !accepted) {
+                return false;
+            }
+
+            for (InclusionPair other : antichain) {
+                if (subsumes(other, pair, blocks1, blocks2, sim)) {
+                    return true;
+                }
+            }
+
+            antichain.add(pair);
+            queue.add(pair);
+            return true;
+        }
+
+        /**
+         * Checks whether exploring {@code harder} covers all counterexamples of {@code easier}, i.e., whether the
+         * language of {@code easier.p} is included in the one of {@code harder.p} and the language of
+         * {@code harder.set} is included in the one of {@code easier.set}.
+         */
+        private static boolean subsumes(InclusionPair harder,
+                                        InclusionPair easier,
+                                        int[] blocks1,
+                                        int[] blocks2,
+                                        SimulationRelation<?, ?> sim) {
+            if (!sim.isBlockSimulatedBy(blocks1[easier.p], blocks1[harder.p])) {
+                return false;
+            }
+
+            outer:
+            for (int h : harder.set) {
+                for (int e : easier.set) {
+                    if (sim.isBlockSimulatedBy(blocks2[h], blocks2[e])) {
+                        continue outer;
+                    }
+                }
+                return false;
+            }
+
+            return true;
+        }
+    }
 }
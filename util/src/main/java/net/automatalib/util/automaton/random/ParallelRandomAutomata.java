@@ -0,0 +1,298 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.random;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.base.AbstractCompactDeterministic;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.common.util.collection.CollectionUtil;
+import net.automatalib.common.util.concurrent.ConcurrentUtil;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+/**
+ * Generators for (very) large random automata. Contrary to {@link RandomAutomata} and
+ * {@link TabakovVardiRandomAutomata}, the generators of this class split the state space into fixed-size chunks whose
+ * transitions are generated concurrently and written directly into the array-based storage of the respective compact
+ * automaton.
+ * <p>
+ * Each chunk (or, for NFAs, each input symbol) draws from its own {@link SplittableRandom} which is derived from the
+ * given seed in a fixed order. Hence, the generated automata only depend on the seed and not on the number of threads
+ * used for generating them. Note that the generated automata are neither minimized nor necessarily initially
+ * connected.
+ */
+public final class ParallelRandomAutomata {
+
+    private static final int CHUNK_SIZE = 1 << 14;
+
+    private ParallelRandomAutomata() {
+        // prevent instantiation
+    }
+
+    /**
+     * Generates a random (complete) DFA.
+     *
+     * @param seed
+     *         the seed of the randomness source
+     * @param numStates
+     *         the number of states of the generated automaton
+     * @param inputs
+     *         the input alphabet
+     * @param parallelism
+     *         the maximum number of threads to use. If {@code parallelism <= 1}, the automaton is generated in the
+     *         calling thread
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a randomly generated DFA
+     */
+    public static <I> CompactDFA<I> randomDFA(long seed,
+                                              @NonNegative int numStates,
+                                              Alphabet<I> inputs,
+                                              int parallelism) {
+        final CompactDFA<I> result = new CompactDFA<>(inputs, numStates);
+        final boolean[] accepting = new boolean[numStates];
+
+        for (int i = 0; i < numStates; i++) {
+            result.addIntState(Boolean.FALSE);
+        }
+
+        final SplittableRandom[] randoms = generateDeterministic(seed, result, parallelism, (r, first, length) -> {
+            for (int i = first; i < first + length; i++) {
+                accepting[i] = r.nextBoolean();
+            }
+            final int[] successors = randomSuccessors(r, length * inputs.size(), numStates);
+            result.setTransitions(first, length, successors, null);
+        });
+
+        // BitSets are not thread-safe, so acceptance is written sequentially
+        for (int i = 0; i < numStates; i++) {
+            if (accepting[i]) {
+                result.setAccepting(i, true);
+            }
+        }
+
+        if (numStates > 0) {
+            result.setInitialState(randoms[0].nextInt(numStates));
+        }
+
+        return result;
+    }
+
+    /**
+     * Generates a random (complete) Mealy machine.
+     *
+     * @param seed
+     *         the seed of the randomness source
+     * @param numStates
+     *         the number of states of the generated automaton
+     * @param inputs
+     *         the input alphabet
+     * @param outputs
+     *         the output symbols to choose from
+     * @param parallelism
+     *         the maximum number of threads to use. If {@code parallelism <= 1}, the automaton is generated in the
+     *         calling thread
+     * @param <I>
+     *         input symbol type
+     * @param <O>
+     *         output symbol type
+     *
+     * @return a randomly generated Mealy machine
+     */
+    public static <I, O> CompactMealy<I, O> randomMealy(long seed,
+                                                        @NonNegative int numStates,
+                                                        Alphabet<I> inputs,
+                                                        Collection<? extends O> outputs,
+                                                        int parallelism) {
+        if (outputs.isEmpty()) {
+            throw new IllegalArgumentException("At least one output symbol is required");
+        }
+
+        final CompactMealy<I, O> result = new CompactMealy<>(inputs, numStates);
+        final List<? extends O> outputList = CollectionUtil.randomAccessList(outputs);
+
+        for (int i = 0; i < numStates; i++) {
+            result.addIntState();
+        }
+
+        final SplittableRandom[] randoms = generateDeterministic(seed, result, parallelism, (r, first, length) -> {
+            final int numTransitions = length * inputs.size();
+            final int[] successors = randomSuccessors(r, numTransitions, numStates);
+            @SuppressWarnings("unchecked")
+            final O[] properties = (O[]) new Object[numTransitions];
+            for (int i = 0; i < numTransitions; i++) {
+                properties[i] = outputList.get(r.nextInt(outputList.size()));
+            }
+            result.setTransitions(first, length, successors, properties);
+        });
+
+        if (numStates > 0) {
+            result.setInitialState(randoms[0].nextInt(numStates));
+        }
+
+        return result;
+    }
+
+    /**
+     * Generates a random NFA with the given size, number of edges (per input symbol), and number of accepting states.
+     * The distribution of the generated automata matches the one of
+     * {@link TabakovVardiRandomAutomata#generateNFA(java.util.Random, int, int, int, Alphabet)}, i.e., state {@code 0}
+     * is initial and accepting and the edges of each input symbol are chosen uniformly among all pairs of states.
+     * Contrary to the sequential version, the number of possible edges (i.e., {@code size * size}) may exceed
+     * {@link Integer#MAX_VALUE}.
+     *
+     * @param seed
+     *         the seed of the randomness source
+     * @param size
+     *         number of states
+     * @param edgeNum
+     *         number of edges (per input)
+     * @param acceptNum
+     *         number of accepting states (at least one)
+     * @param alphabet
+     *         the input symbols to consider when determining successors
+     * @param parallelism
+     *         the maximum number of threads to use. If {@code parallelism <= 1}, the automaton is generated in the
+     *         calling thread
+     * @param <I>
+     *         input symbol type
+     *
+     * @return a random NFA, not necessarily connected
+     */
+    public static <I> CompactNFA<I> generateNFA(long seed,
+                                                int size,
+                                                int edgeNum,
+                                                int acceptNum,
+                                                Alphabet<I> alphabet,
+                                                int parallelism) {
+        if (acceptNum <= 0 || acceptNum > size) {
+            throw new IllegalArgumentException("Number of accepting states must be in [1, " + size + ']');
+        }
+        if (edgeNum < 0 || edgeNum > (long) size * size) {
+            throw new IllegalArgumentException("Number of edges must be in [0, " + (long) size * size + ']');
+        }
+
+        final CompactNFA<I> result = new CompactNFA<>(alphabet, size);
+        final SplittableRandom root = new SplittableRandom(seed);
+        final int numInputs = alphabet.size();
+        final SplittableRandom[] randoms = new SplittableRandom[numInputs];
+
+        for (int i = 0; i < numInputs; i++) {
+            randoms[i] = root.split();
+        }
+
+        // per the paper, the first state is always initial and accepting
+        result.addIntState(Boolean.TRUE);
+        result.setInitial(0, true);
+        for (int i = 1; i < size; i++) {
+            result.addIntState(Boolean.FALSE);
+        }
+
+        for (long f : distinctLongs(root, acceptNum - 1, size - 1)) {
+            result.setAccepting((int) f + 1, true);
+        }
+
+        // each input symbol has its own successor sets in the compact storage, so symbols can be written concurrently
+        ConcurrentUtil.forAll(parallelism, numInputs, i -> {
+            for (long edge : distinctLongs(randoms[i], edgeNum, (long) size * size)) {
+                result.addTransition((int) (edge / size), i, (int) (edge % size));
+            }
+        });
+
+        return result;
+    }
+
+    private static SplittableRandom[] generateDeterministic(long seed,
+                                                            AbstractCompactDeterministic<?, ?, ?, ?> target,
+                                                            int parallelism,
+                                                            ChunkGenerator generator) {
+        final int numStates = target.size();
+        final int numChunks = (numStates + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final SplittableRandom root = new SplittableRandom(seed);
+        final SplittableRandom[] randoms = new SplittableRandom[numChunks + 1];
+
+        // derive the generators of the chunks in a fixed order so that they do not depend on the scheduling
+        randoms[0] = root;
+        for (int i = 1; i <= numChunks; i++) {
+            randoms[i] = root.split();
+        }
+
+        ConcurrentUtil.forAll(parallelism, numChunks, c -> {
+            final int first = c * CHUNK_SIZE;
+            generator.generate(randoms[c + 1], first, Math.min(CHUNK_SIZE, numStates - first));
+        });
+
+        return randoms;
+    }
+
+    private static int[] randomSuccessors(SplittableRandom r, int length, int numStates) {
+        final int[] successors = new int[length];
+        for (int i = 0; i < length; i++) {
+            successors[i] = r.nextInt(numStates);
+        }
+        return successors;
+    }
+
+    /**
+     * Returns {@code num} distinct values from {@code [0, max)} in ascending order. Values are drawn (with
+     * replacement) until {@code num} distinct values have been seen, which yields a uniformly chosen subset.
+     */
+    static long[] distinctLongs(SplittableRandom r, int num, long max) {
+        if (2L * num > max) {
+            // dense case: selection sampling
+            final long[] result = new long[num];
+            int selected = 0;
+            for (long i = 0; i < max && selected < num; i++) {
+                if (r.nextLong(max - i) < num - selected) {
+                    result[selected++] = i;
+                }
+            }
+            return result;
+        }
+
+        long[] result = new long[num];
+        int distinct = 0;
+
+        while (distinct < num) {
+            for (int i = distinct; i < num; i++) {
+                result[i] = r.nextLong(max);
+            }
+            Arrays.sort(result, 0, num);
+
+            distinct = 1;
+            for (int i = 1; i < num; i++) {
+                if (result[i] != result[distinct - 1]) {
+                    result[distinct++] = result[i];
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface ChunkGenerator {
+
+        void generate(SplittableRandom random, int firstState, int numStates);
+    }
+}
@@ -0,0 +1,792 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.vpa;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+
+import net.automatalib.alphabet.VPAlphabet;
+import net.automatalib.automaton.vpa.OneSEVPA;
+import net.automatalib.automaton.vpa.impl.CompactOneSEVPA;
+import net.automatalib.common.smartcollection.IntArrayDeque;
+import net.automatalib.common.util.IntDisjointSets;
+import net.automatalib.common.util.Pair;
+import net.automatalib.common.util.UnionFindRemSP;
+import net.automatalib.common.util.array.ArrayStorage;
+import net.automatalib.common.util.array.ArrayUtil;
+import net.automatalib.word.Word;
+import net.automatalib.word.WordBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.checker.nullness.qual.PolyNull;
+
+/**
+ * Integer-based equivalence and separating-word computations on {@link CompactOneSEVPA}s. Access sequences are not
+ * constructed eagerly during the exploration but tracked as (int) back-references that are only materialized into
+ * {@link Word}s when required. Return transitions are explored via a {@link ReturnIndex}, so that only combinations of
+ * locations and stack symbols with a defined return successor are visited.
+ */
+final class CompactOneSEVPASeparator {
+
+    private CompactOneSEVPASeparator() {
+        // prevent instantiation
+    }
+
+    /**
+     * Returns a {@link CompactOneSEVPA} representation of the given SEVPA over the given alphabet. If the given SEVPA
+     * already is a {@link CompactOneSEVPA} over the given alphabet, it is returned directly.
+     */
+    @SuppressWarnings("unchecked")
+    static <I> CompactOneSEVPA<I> toCompact(OneSEVPA<?, I> sevpa, VPAlphabet<I> alphabet) {
+        if (sevpa instanceof CompactOneSEVPA && alphabet.equals(sevpa.getInputAlphabet())) {
+            return (CompactOneSEVPA<I>) sevpa;
+        }
+        return CompactOneSEVPA.copyOf(sevpa, alphabet);
+    }
+
+    /**
+     * Explores the synchronous product of the two SEVPAs (in the same order as
+     * {@link OneSEVPAs#computeAccessSequences(OneSEVPA, VPAlphabet)} does for the xor-product) and returns the access
+     * sequence of the first reached pair of locations with different acceptance.
+     */
+    static <I> @Nullable Word<I> findSeparatingWord(CompactOneSEVPA<I> sevpa1,
+                                                    CompactOneSEVPA<I> sevpa2,
+                                                    VPAlphabet<I> alphabet) {
+        final int n2 = sevpa2.size();
+        final int init1 = sevpa1.getIntInitialLocation();
+        final int init2 = sevpa2.getIntInitialLocation();
+
+        if (sevpa1.isAcceptingLocation(init1) != sevpa2.isAcceptingLocation(init2)) {
+            return Word.epsilon();
+        }
+
+        final int numInternals = alphabet.getNumInternals();
+        final int numCalls = alphabet.getNumCalls();
+        final int numReturns = alphabet.getNumReturns();
+
+        final BitSet visited = new BitSet(Math.multiplyExact(sevpa1.size(), n2));
+        final Reach<I> reach = new Reach<>(alphabet);
+        final ReturnIndex index1 = new ReturnIndex(sevpa1, numCalls, numReturns);
+        final EntryLists entries = new EntryLists(sevpa1.size());
+        final Candidates candidates = new Candidates();
+
+        visited.set(init1 * n2 + init2);
+        reach.add(init1, init2, -1, -1, -1, -1);
+
+        int queuePtr = 0;
+        while (queuePtr < reach.size) {
+            final int curr = queuePtr++;
+            final int curr1 = reach.loc1[curr];
+            final int curr2 = reach.loc2[curr];
+
+            entries.add(curr1, curr);
+
+            for (int i = 0; i < numInternals; i++) {
+                final int succ1 = sevpa1.getInternalSuccessor(curr1, i);
+                final int succ2 = sevpa2.getInternalSuccessor(curr2, i);
+                if (succ1 == CompactOneSEVPA.UNDEFINED || succ2 == CompactOneSEVPA.UNDEFINED ||
+                    !mark(visited, succ1 * n2 + succ2)) {
+                    continue;
+                }
+                final int idx = reach.add(succ1, succ2, curr, -1, reach.internalSym(i), -1);
+                if (sevpa1.isAcceptingLocation(succ1) != sevpa2.isAcceptingLocation(succ2)) {
+                    return reach.toWord(idx);
+                }
+            }
+
+            for (int c = 0; c < numCalls; c++) {
+                final int callSym = reach.callSym(c);
+                final int currSym1 = sevpa1.encodeStackSym(curr1, c);
+                final int currSym2 = sevpa2.encodeStackSym(curr2, c);
+
+                for (int r = 0; r < numReturns; r++) {
+                    final int retSym = reach.returnSym(r);
+
+                    candidates.clear();
+
+                    // src as stack source for curr
+                    for (int i = index1.sourcesFrom(curr1, r, c); i < index1.sourcesTo(curr1, r, c); i++) {
+                        for (int src = entries.first(index1.source(i)); src >= 0; src = entries.next(src)) {
+                            final int src2 = reach.loc2[src];
+                            if (sevpa2.getReturnSuccessor(curr2, r, sevpa2.encodeStackSym(src2, c)) !=
+                                CompactOneSEVPA.UNDEFINED) {
+                                candidates.addStackSource(src);
+                            }
+                        }
+                    }
+
+                    // curr as stack source for src
+                    for (int i = index1.locationsFrom(r, currSym1); i < index1.locationsTo(r, currSym1); i++) {
+                        for (int src = entries.first(index1.location(i)); src >= 0; src = entries.next(src)) {
+                            if (src != curr &&
+                                sevpa2.getReturnSuccessor(reach.loc2[src], r, currSym2) != CompactOneSEVPA.UNDEFINED) {
+                                candidates.addStackTarget(src);
+                            }
+                        }
+                    }
+
+                    candidates.sort();
+
+                    for (int k = 0; k < candidates.size(); k++) {
+                        final int src = candidates.entry(k);
+                        final int src1 = reach.loc1[src];
+                        final int src2 = reach.loc2[src];
+                        final int succ1, succ2, outerIdx, innerIdx;
+
+                        if (candidates.isStackSource(k)) {
+                            succ1 = sevpa1.getReturnSuccessor(curr1, r, sevpa1.encodeStackSym(src1, c));
+                            succ2 = sevpa2.getReturnSuccessor(curr2, r, sevpa2.encodeStackSym(src2, c));
+                            outerIdx = src;
+                            innerIdx = curr;
+                        } else {
+                            succ1 = sevpa1.getReturnSuccessor(src1, r, currSym1);
+                            succ2 = sevpa2.getReturnSuccessor(src2, r, currSym2);
+                            outerIdx = curr;
+                            innerIdx = src;
+                        }
+
+                        if (mark(visited, succ1 * n2 + succ2)) {
+                            final int idx = reach.add(succ1, succ2, outerIdx, innerIdx, callSym, retSym);
+                            if (sevpa1.isAcceptingLocation(succ1) != sevpa2.isAcceptingLocation(succ2)) {
+                                return reach.toWord(idx);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Computes the (lazily materialized) access sequences of all reachable locations of the given SEVPA.
+     */
+    static <I> AccessSequences<I> computeAccessSequences(CompactOneSEVPA<I> sevpa, VPAlphabet<I> alphabet) {
+        final int n = sevpa.size();
+        final int numInternals = alphabet.getNumInternals();
+        final int numCalls = alphabet.getNumCalls();
+        final int numReturns = alphabet.getNumReturns();
+
+        final int[] reachIdx = new int[n];
+        Arrays.fill(reachIdx, -1);
+
+        final Reach<I> reach = new Reach<>(alphabet);
+        final ReturnIndex index = new ReturnIndex(sevpa, numCalls, numReturns);
+        final Candidates candidates = new Candidates();
+        final int init = sevpa.getIntInitialLocation();
+        reachIdx[init] = reach.add(init, init, -1, -1, -1, -1);
+
+        int queuePtr = 0;
+        while (queuePtr < reach.size) {
+            final int curr = queuePtr++;
+            final int currLoc = reach.loc1[curr];
+
+            for (int i = 0; i < numInternals; i++) {
+                final int succ = sevpa.getInternalSuccessor(currLoc, i);
+                if (succ != CompactOneSEVPA.UNDEFINED && reachIdx[succ] < 0) {
+                    reachIdx[succ] = reach.add(succ, succ, curr, -1, reach.internalSym(i), -1);
+                }
+            }
+
+            for (int c = 0; c < numCalls; c++) {
+                final int callSym = reach.callSym(c);
+                final int currStackSym = sevpa.encodeStackSym(currLoc, c);
+
+                for (int r = 0; r < numReturns; r++) {
+                    final int retSym = reach.returnSym(r);
+
+                    candidates.clear();
+
+                    for (int i = index.sourcesFrom(currLoc, r, c); i < index.sourcesTo(currLoc, r, c); i++) {
+                        final int src = reachIdx[index.source(i)];
+                        if (src >= 0 && src < queuePtr) {
+                            candidates.addStackSource(src);
+                        }
+                    }
+
+                    for (int i = index.locationsFrom(r, currStackSym); i < index.locationsTo(r, currStackSym); i++) {
+                        final int src = reachIdx[index.location(i)];
+                        if (src >= 0 && src < queuePtr && src != curr) {
+                            candidates.addStackTarget(src);
+                        }
+                    }
+
+                    candidates.sort();
+
+                    for (int k = 0; k < candidates.size(); k++) {
+                        final int src = candidates.entry(k);
+                        final int srcLoc = reach.loc1[src];
+
+                        if (candidates.isStackSource(k)) {
+                            final int succ = sevpa.getReturnSuccessor(currLoc, r, sevpa.encodeStackSym(srcLoc, c));
+                            if (reachIdx[succ] < 0) {
+                                reachIdx[succ] = reach.add(succ, succ, src, curr, callSym, retSym);
+                            }
+                        } else {
+                            final int succ = sevpa.getReturnSuccessor(srcLoc, r, currStackSym);
+                            if (reachIdx[succ] < 0) {
+                                reachIdx[succ] = reach.add(succ, succ, curr, src, callSym, retSym);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return new AccessSequences<>(reach, reachIdx);
+    }
+
+    /**
+     * Computes a separating (prefix, suffix) pair for two locations of the given SEVPA via a Hopcroft-Karp-style
+     * union-find exploration on the location ids. All locations of the given SEVPA are assumed to have complete
+     * transitions.
+     */
+    static <I> @Nullable Pair<Word<I>, Word<I>> findSeparatingWord(CompactOneSEVPA<I> sevpa,
+                                                                   int init1,
+                                                                   int init2,
+                                                                   VPAlphabet<I> alphabet,
+                                                                   AccessSequences<I> as) {
+        if (sevpa.isAcceptingLocation(init1) != sevpa.isAcceptingLocation(init2)) {
+            return Pair.of(Word.epsilon(), Word.epsilon());
+        }
+
+        final int n = sevpa.size();
+        final int numInternals = alphabet.getNumInternals();
+        final int numCalls = alphabet.getNumCalls();
+        final int numReturns = alphabet.getNumReturns();
+
+        final IntDisjointSets uf = new UnionFindRemSP(n);
+        final ReturnIndex index = new ReturnIndex(sevpa, numCalls, numReturns);
+        uf.link(init1, init2);
+
+        final Queue<Record<I>> queue = new ArrayDeque<>();
+        queue.add(new Record<>(init1, init2));
+
+        Pair<Word<I>, Word<I>> lastPair = null;
+        Record<I> current;
+
+        explore:
+        while ((current = queue.poll()) != null) {
+            final int l1 = current.l1;
+            final int l2 = current.l2;
+
+            for (int i = 0; i < numInternals; i++) {
+                final int succ1 = sevpa.getInternalSuccessor(l1, i);
+                final int succ2 = sevpa.getInternalSuccessor(l2, i);
+
+                assert succ1 != CompactOneSEVPA.UNDEFINED && succ2 != CompactOneSEVPA.UNDEFINED;
+
+                if (sevpa.isAcceptingLocation(succ1) != sevpa.isAcceptingLocation(succ2)) {
+                    lastPair = Pair.of(Word.epsilon(), Word.fromLetter(alphabet.getInternalSymbol(i)));
+                    break explore;
+                }
+
+                final int r1 = uf.find(succ1), r2 = uf.find(succ2);
+
+                if (r1 != r2) {
+                    uf.link(r1, r2);
+                    final Pair<Word<I>, Word<I>> pair =
+                            Pair.of(Word.epsilon(), Word.fromLetter(alphabet.getInternalSymbol(i)));
+                    queue.add(new Record<>(succ1, succ2, pair, current));
+                }
+            }
+
+            for (int c = 0; c < numCalls; c++) {
+                final I cSym = alphabet.getCallSymbol(c);
+                final int sym1 = sevpa.encodeStackSym(l1, c);
+                final int sym2 = sevpa.encodeStackSym(l2, c);
+
+                for (int r = 0; r < numReturns; r++) {
+                    final I rSym = alphabet.getReturnSymbol(r);
+
+                    // check l as source location for l1/l2
+                    int i1 = index.sourcesFrom(l1, r, c);
+                    int i2 = index.sourcesFrom(l2, r, c);
+                    final int end1 = index.sourcesTo(l1, r, c);
+                    final int end2 = index.sourcesTo(l2, r, c);
+
+                    while (i1 < end1 && i2 < end2) {
+                        final int l = index.source(i1);
+                        final int cmp = Integer.compare(l, index.source(i2));
+
+                        if (cmp <= 0) {
+                            i1++;
+                        }
+                        if (cmp >= 0) {
+                            i2++;
+                        }
+                        if (cmp != 0 || !as.isReachable(l)) {
+                            continue;
+                        }
+
+                        final int sym = sevpa.encodeStackSym(l, c);
+                        final int rSucc1 = sevpa.getReturnSuccessor(l1, r, sym);
+                        final int rSucc2 = sevpa.getReturnSuccessor(l2, r, sym);
+
+                        assert rSucc1 != CompactOneSEVPA.UNDEFINED && rSucc2 != CompactOneSEVPA.UNDEFINED;
+
+                        final boolean separated =
+                                sevpa.isAcceptingLocation(rSucc1) != sevpa.isAcceptingLocation(rSucc2);
+                        final int root1 = uf.find(rSucc1), root2 = uf.find(rSucc2);
+
+                        if (separated || root1 != root2) {
+                            final Pair<Word<I>, Word<I>> pair =
+                                    Pair.of(as.get(l).append(cSym), Word.fromLetter(rSym));
+                            if (separated) {
+                                lastPair = pair;
+                                break explore;
+                            }
+                            uf.link(root1, root2);
+                            queue.add(new Record<>(rSucc1, rSucc2, pair, current));
+                        }
+                    }
+
+                    // check l1/l2 as source location for l
+                    int j1 = index.locationsFrom(r, sym1);
+                    int j2 = index.locationsFrom(r, sym2);
+                    final int locEnd1 = index.locationsTo(r, sym1);
+                    final int locEnd2 = index.locationsTo(r, sym2);
+
+                    while (j1 < locEnd1 && j2 < locEnd2) {
+                        final int l = index.location(j1);
+                        final int cmp = Integer.compare(l, index.location(j2));
+
+                        if (cmp <= 0) {
+                            j1++;
+                        }
+                        if (cmp >= 0) {
+                            j2++;
+                        }
+                        if (cmp != 0 || !as.isReachable(l)) {
+                            continue;
+                        }
+
+                        final int rSucc1 = sevpa.getReturnSuccessor(l, r, sym1);
+                        final int rSucc2 = sevpa.getReturnSuccessor(l, r, sym2);
+
+                        assert rSucc1 != CompactOneSEVPA.UNDEFINED && rSucc2 != CompactOneSEVPA.UNDEFINED;
+
+                        final boolean separated =
+                                sevpa.isAcceptingLocation(rSucc1) != sevpa.isAcceptingLocation(rSucc2);
+                        final int root1 = uf.find(rSucc1), root2 = uf.find(rSucc2);
+
+                        if (separated || root1 != root2) {
+                            final Pair<Word<I>, Word<I>> pair =
+                                    Pair.of(Word.epsilon(), Word.fromWords(Word.fromLetter(cSym),
+                                                                           as.get(l),
+                                                                           Word.fromLetter(rSym)));
+                            if (separated) {
+                                lastPair = pair;
+                                break explore;
+                            }
+                            uf.link(root1, root2);
+                            queue.add(new Record<>(rSucc1, rSucc2, pair, current));
+                        }
+                    }
+                }
+            }
+        }
+
+        if (current == null) {
+            return null;
+        }
+
+        assert lastPair != null;
+
+        final Deque<Word<I>> prefixBuilder = new ArrayDeque<>();
+        final Deque<Word<I>> suffixBuilder = new ArrayDeque<>();
+
+        prefixBuilder.add(lastPair.getFirst());
+        suffixBuilder.add(lastPair.getSecond());
+
+        while (current.reachedFrom != null) {
+            final Pair<Word<I>, Word<I>> reachedBy = current.reachedBy;
+            prefixBuilder.offerLast(reachedBy.getFirst());
+            suffixBuilder.offerFirst(reachedBy.getSecond());
+            current = current.reachedFrom;
+        }
+
+        return Pair.of(Word.fromWords(prefixBuilder), Word.fromWords(suffixBuilder));
+    }
+
+    private static boolean mark(BitSet visited, int idx) {
+        if (visited.get(idx)) {
+            return false;
+        }
+        visited.set(idx);
+        return true;
+    }
+
+    /**
+     * Lazily materialized access sequences of the locations of a {@link CompactOneSEVPA}.
+     */
+    static final class AccessSequences<I> {
+
+        private final Reach<I> reach;
+        private final int[] reachIdx;
+        private final ArrayStorage<Word<I>> cache;
+
+        AccessSequences(Reach<I> reach, int[] reachIdx) {
+            this.reach = reach;
+            this.reachIdx = reachIdx;
+            this.cache = new ArrayStorage<>(reach.size);
+        }
+
+        boolean isReachable(int loc) {
+            return reachIdx[loc] >= 0;
+        }
+
+        Word<I> get(int loc) {
+            final int idx = reachIdx[loc];
+            Word<I> result = cache.get(idx);
+            if (result == null) {
+                result = reach.toWord(idx);
+                cache.set(idx, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * An index of the defined return transitions of a {@link CompactOneSEVPA}. For each pair of return symbol and stack
+     * symbol, it stores the locations that have a return successor and, for each triple of location, return symbol,
+     * and call symbol, it stores the source locations whose stack symbols yield a return successor. Both directions are
+     * stored in CSR format and list locations in ascending order.
+     */
+    private static final class ReturnIndex {
+
+        private final int numCalls;
+        private final int numReturns;
+        private final int numStackSyms;
+
+        private final int[] locationOffsets;
+        private final int[] locations;
+        private final int[] sourceOffsets;
+        private final int[] sources;
+
+        ReturnIndex(CompactOneSEVPA<?> sevpa, int numCalls, int numReturns) {
+            final int n = sevpa.size();
+
+            this.numCalls = numCalls;
+            this.numReturns = numReturns;
+            this.numStackSyms = Math.multiplyExact(n, numCalls);
+
+            final int numKeys = Math.multiplyExact(numReturns, numStackSyms);
+            this.locationOffsets = new int[numKeys + 1];
+            this.sourceOffsets = new int[numKeys + 1];
+
+            for (int loc = 0; loc < n; loc++) {
+                for (int r = 0; r < numReturns; r++) {
+                    for (int s = 0; s < numStackSyms; s++) {
+                        if (sevpa.getReturnSuccessor(loc, r, s) != CompactOneSEVPA.UNDEFINED) {
+                            locationOffsets[locationKey(r, s) + 1]++;
+                            sourceOffsets[sourceKey(loc, r, s % numCalls) + 1]++;
+                        }
+                    }
+                }
+            }
+
+            for (int k = 0; k < numKeys; k++) {
+                locationOffsets[k + 1] += locationOffsets[k];
+                sourceOffsets[k + 1] += sourceOffsets[k];
+            }
+
+            this.locations = new int[locationOffsets[numKeys]];
+            this.sources = new int[sourceOffsets[numKeys]];
+
+            final int[] locationFill = Arrays.copyOf(locationOffsets, numKeys);
+            final int[] sourceFill = Arrays.copyOf(sourceOffsets, numKeys);
+
+            for (int loc = 0; loc < n; loc++) {
+                for (int r = 0; r < numReturns; r++) {
+                    for (int s = 0; s < numStackSyms; s++) {
+                        if (sevpa.getReturnSuccessor(loc, r, s) != CompactOneSEVPA.UNDEFINED) {
+                            locations[locationFill[locationKey(r, s)]++] = loc;
+                            sources[sourceFill[sourceKey(loc, r, s % numCalls)]++] = s / numCalls;
+                        }
+                    }
+                }
+            }
+        }
+
+        int locationsFrom(int retSymIdx, int stackSym) {
+            return locationOffsets[locationKey(retSymIdx, stackSym)];
+        }
+
+        int locationsTo(int retSymIdx, int stackSym) {
+            return locationOffsets[locationKey(retSymIdx, stackSym) + 1];
+        }
+
+        int location(int idx) {
+            return locations[idx];
+        }
+
+        int sourcesFrom(int loc, int retSymIdx, int callSymIdx) {
+            return sourceOffsets[sourceKey(loc, retSymIdx, callSymIdx)];
+        }
+
+        int sourcesTo(int loc, int retSymIdx, int callSymIdx) {
+            return sourceOffsets[sourceKey(loc, retSymIdx, callSymIdx) + 1];
+        }
+
+        int source(int idx) {
+            return sources[idx];
+        }
+
+        private int locationKey(int retSymIdx, int stackSym) {
+            return retSymIdx * numStackSyms + stackSym;
+        }
+
+        private int sourceKey(int loc, int retSymIdx, int callSymIdx) {
+            return (loc * numReturns + retSymIdx) * numCalls + callSymIdx;
+        }
+    }
+
+    /**
+     * Singly-linked lists of the (already explored) reach entries of each location, in ascending order.
+     */
+    private static final class EntryLists {
+
+        private final int[] head;
+        private final int[] tail;
+        private int[] next;
+
+        EntryLists(int numLocations) {
+            this.head = new int[numLocations];
+            this.tail = new int[numLocations];
+            this.next = new int[16];
+            Arrays.fill(head, -1);
+        }
+
+        void add(int loc, int entry) {
+            if (entry >= next.length) {
+                next = Arrays.copyOf(next, ArrayUtil.computeNewCapacity(next.length, entry + 1));
+            }
+
+            next[entry] = -1;
+            if (head[loc] < 0) {
+                head[loc] = entry;
+            } else {
+                next[tail[loc]] = entry;
+            }
+            tail[loc] = entry;
+        }
+
+        int first(int loc) {
+            return head[loc];
+        }
+
+        int next(int entry) {
+            return next[entry];
+        }
+    }
+
+    /**
+     * The reach entries that lead to a return successor of the currently explored entry, either as the stack source
+     * for the current entry or as the location that reads a return symbol with the stack symbol of the current entry.
+     * After {@link #sort() sorting}, the candidates are ordered by their entry and, for the same entry, stack sources
+     * precede stack targets. This coincides with the order of a naive exploration of all explored entries.
+     */
+    private static final class Candidates {
+
+        private int[] stackSources = new int[16];
+        private int[] stackTargets = new int[16];
+        private int[] entries = new int[32];
+        private boolean[] isStackSource = new boolean[32];
+
+        private int numStackSources;
+        private int numStackTargets;
+        private int size;
+
+        void clear() {
+            numStackSources = 0;
+            numStackTargets = 0;
+            size = 0;
+        }
+
+        void addStackSource(int entry) {
+            if (numStackSources == stackSources.length) {
+                final int newLength = ArrayUtil.computeNewCapacity(numStackSources, numStackSources + 1);
+                stackSources = Arrays.copyOf(stackSources, newLength);
+            }
+            stackSources[numStackSources++] = entry;
+        }
+
+        void addStackTarget(int entry) {
+            if (numStackTargets == stackTargets.length) {
+                final int newLength = ArrayUtil.computeNewCapacity(numStackTargets, numStackTargets + 1);
+                stackTargets = Arrays.copyOf(stackTargets, newLength);
+            }
+            stackTargets[numStackTargets++] = entry;
+        }
+
+        void sort() {
+            Arrays.sort(stackSources, 0, numStackSources);
+            Arrays.sort(stackTargets, 0, numStackTargets);
+
+            final int total = numStackSources + numStackTargets;
+            if (total > entries.length) {
+                final int newLength = ArrayUtil.computeNewCapacity(entries.length, total);
+                entries = new int[newLength];
+                isStackSource = new boolean[newLength];
+            }
+
+            int i = 0;
+            int j = 0;
+            while (i < numStackSources || j < numStackTargets) {
+                if (j == numStackTargets || (i < numStackSources && stackSources[i] <= stackTargets[j])) {
+                    entries[size] = stackSources[i++];
+                    isStackSource[size++] = true;
+                } else {
+                    entries[size] = stackTargets[j++];
+                    isStackSource[size++] = false;
+                }
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int entry(int idx) {
+            return entries[idx];
+        }
+
+        boolean isStackSource(int idx) {
+            return isStackSource[idx];
+        }
+    }
+
+    /**
+     * Growable arrays of reached (pairs of) locations. Each entry {@code k} is reached either via an internal symbol
+     * from entry {@code outer[k]} ({@code inner[k] < 0}), or via a well-matched call-return pair that was read in
+     * entry {@code outer[k]} and that encloses the access sequence of entry {@code inner[k]}. Symbols are stored as
+     * indices into a combined (internals, calls, returns) symbol list.
+     */
+    private static final class Reach<I> {
+
+        private final List<I> symbols;
+        private final int numInternals;
+        private final int numCalls;
+
+        int size;
+        int[] loc1 = new int[16];
+        int[] loc2 = new int[16];
+        int[] outer = new int[16];
+        int[] inner = new int[16];
+        int[] sym1 = new int[16];
+        int[] sym2 = new int[16];
+
+        Reach(VPAlphabet<I> alphabet) {
+            this.numInternals = alphabet.getNumInternals();
+            this.numCalls = alphabet.getNumCalls();
+            this.symbols = new ArrayList<>(numInternals + numCalls + alphabet.getNumReturns());
+            this.symbols.addAll(alphabet.getInternalAlphabet());
+            this.symbols.addAll(alphabet.getCallAlphabet());
+            this.symbols.addAll(alphabet.getReturnAlphabet());
+        }
+
+        int internalSym(int idx) {
+            return idx;
+        }
+
+        int callSym(int idx) {
+            return numInternals + idx;
+        }
+
+        int returnSym(int idx) {
+            return numInternals + numCalls + idx;
+        }
+
+        int add(int l1, int l2, int outerIdx, int innerIdx, int s1, int s2) {
+            if (size == loc1.length) {
+                final int newLength = size * 2;
+                loc1 = Arrays.copyOf(loc1, newLength);
+                loc2 = Arrays.copyOf(loc2, newLength);
+                outer = Arrays.copyOf(outer, newLength);
+                inner = Arrays.copyOf(inner, newLength);
+                sym1 = Arrays.copyOf(sym1, newLength);
+                sym2 = Arrays.copyOf(sym2, newLength);
+            }
+            loc1[size] = l1;
+            loc2[size] = l2;
+            outer[size] = outerIdx;
+            inner[size] = innerIdx;
+            sym1[size] = s1;
+            sym2[size] = s2;
+            return size++;
+        }
+
+        /**
+         * Materializes the access sequence of the given entry. The back-references are unfolded via an explicit stack
+         * (non-negative values denote entries, negative values denote symbols) to support arbitrarily deep nestings.
+         */
+        Word<I> toWord(int idx) {
+            final WordBuilder<I> wb = new WordBuilder<>();
+            final IntArrayDeque stack = new IntArrayDeque();
+            stack.addLast(idx);
+
+            while (!stack.isEmpty()) {
+                final int e = stack.removeLast();
+
+                if (e < 0) {
+                    wb.append(symbols.get(-e - 1));
+                    continue;
+                }
+
+                if (outer[e] < 0) { // initial location
+                    continue;
+                }
+
+                if (inner[e] < 0) {
+                    stack.addLast(-sym1[e] - 1);
+                    stack.addLast(outer[e]);
+                } else {
+                    stack.addLast(-sym2[e] - 1);
+                    stack.addLast(inner[e]);
+                    stack.addLast(-sym1[e] - 1);
+                    stack.addLast(outer[e]);
+                }
+            }
+
+            return wb.toWord();
+        }
+    }
+
+    private static final class Record<I> {
+
+        private final int l1;
+        private final int l2;
+        private final @PolyNull Pair<Word<I>, Word<I>> reachedBy;
+        private final @PolyNull Record<I> reachedFrom;
+
+        Record(int l1, int l2) {
+            this(l1, l2, null, null);
+        }
+
+        Record(int l1, int l2, @PolyNull Pair<Word<I>, Word<I>> reachedBy, @PolyNull Record<I> reachedFrom) {
+            this.l1 = l1;
+            this.l2 = l2;
+            this.reachedBy = reachedBy;
+            this.reachedFrom = reachedFrom;
+        }
+    }
+}
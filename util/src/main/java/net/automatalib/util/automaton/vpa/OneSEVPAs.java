@@ -18,7 +18,6 @@ package net.automatalib.util.automaton.vpa;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -28,19 +27,18 @@ import java.util.function.Predicate;
 
 import net.automatalib.alphabet.VPAlphabet;
 import net.automatalib.automaton.vpa.OneSEVPA;
+import net.automatalib.automaton.vpa.impl.CompactOneSEVPA;
 import net.automatalib.automaton.vpa.impl.DefaultOneSEVPA;
 import net.automatalib.common.util.HashUtil;
-import net.automatalib.common.util.IntDisjointSets;
 import net.automatalib.common.util.Pair;
-import net.automatalib.common.util.UnionFindRemSP;
 import net.automatalib.common.util.array.ArrayStorage;
 import net.automatalib.util.automaton.minimizer.OneSEVPAMinimizer;
+import net.automatalib.util.automaton.vpa.CompactOneSEVPASeparator.AccessSequences;
 import net.automatalib.util.automaton.vpa.SPAConverter.ConversionResult;
 import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
 import net.automatalib.word.Word;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.checkerframework.checker.nullness.qual.PolyNull;
 
 /**
  * Operations on {@link OneSEVPA}s.
@@ -450,8 +448,9 @@ public final class OneSEVPAs {
     public static <I> @Nullable Word<I> findSeparatingWord(OneSEVPA<?, I> sevpa1,
                                                            OneSEVPA<?, I> sevpa2,
                                                            VPAlphabet<I> alphabet) {
-        final OneSEVPA<?, I> prod = OneSEVPAs.xor(sevpa1, sevpa2, alphabet);
-        return findAcceptedWord(prod, alphabet);
+        return CompactOneSEVPASeparator.findSeparatingWord(CompactOneSEVPASeparator.toCompact(sevpa1, alphabet),
+                                                           CompactOneSEVPASeparator.toCompact(sevpa2, alphabet),
+                                                           alphabet);
     }
 
     /**
@@ -479,131 +478,13 @@ public final class OneSEVPAs {
                                                                              L init1,
                                                                              L init2,
                                                                              VPAlphabet<I> alphabet) {
-        if (sevpa.isAcceptingLocation(init1) != sevpa.isAcceptingLocation(init2)) {
-            return Pair.of(Word.epsilon(), Word.epsilon());
-        }
-
-        final ArrayStorage<Word<I>> as = computeAccessSequences(sevpa, alphabet);
-        final IntDisjointSets uf = new UnionFindRemSP(sevpa.size());
-        uf.link(sevpa.getLocationId(init1), sevpa.getLocationId(init2));
-
-        final Queue<Record<L, I>> queue = new ArrayDeque<>();
-        queue.add(new Record<>(init1, init2));
-
-        Pair<Word<I>, Word<I>> lastPair = null;
-        Record<L, I> current;
-
-        explore:
-        while ((current = queue.poll()) != null) {
-            final L l1 = current.l1;
-            final L l2 = current.l2;
-
-            for (I i : alphabet.getInternalAlphabet()) {
-                final Pair<Word<I>, Word<I>> pair = Pair.of(Word.epsilon(), Word.fromLetter(i));
-
-                final L succ1 = sevpa.getInternalSuccessor(l1, i);
-                final L succ2 = sevpa.getInternalSuccessor(l2, i);
-
-                assert succ1 != null && succ2 != null;
-
-                if (sevpa.isAcceptingLocation(succ1) != sevpa.isAcceptingLocation(succ2)) {
-                    lastPair = pair;
-                    break explore;
-                }
-
-                final int r1 = uf.find(sevpa.getLocationId(succ1)), r2 = uf.find(sevpa.getLocationId(succ2));
-
-                if (r1 == r2) {
-                    continue;
-                }
-
-                uf.link(r1, r2);
-
-                queue.add(new Record<>(succ1, succ2, pair, current));
-            }
-
-            for (I c : alphabet.getCallAlphabet()) {
-                final Word<I> cWord = Word.fromLetter(c);
-
-                for (I r : alphabet.getReturnAlphabet()) {
-                    final Word<I> rWord = Word.fromLetter(r);
-
-                    // check l as source location for l1/l2
-                    for (L l : sevpa.getLocations()) {
-                        final int sym = sevpa.encodeStackSym(l, c);
-                        final L rSucc1 = sevpa.getReturnSuccessor(l1, r, sym);
-                        final L rSucc2 = sevpa.getReturnSuccessor(l2, r, sym);
-
-                        assert rSucc1 != null && rSucc2 != null;
-
-                        final Pair<Word<I>, Word<I>> pair =
-                                Pair.of(Word.fromWords(as.get(sevpa.getLocationId(l)), cWord), rWord);
-
-                        if (sevpa.isAcceptingLocation(rSucc1) != sevpa.isAcceptingLocation(rSucc2)) {
-                            lastPair = pair;
-                            break explore;
-                        }
-
-                        final int r1 = uf.find(sevpa.getLocationId(rSucc1)), r2 = uf.find(sevpa.getLocationId(rSucc2));
-
-                        if (r1 == r2) {
-                            continue;
-                        }
-
-                        uf.link(r1, r2);
-
-                        queue.add(new Record<>(rSucc1, rSucc2, pair, current));
-                    }
-
-                    // check l1/l2 as source location for l
-                    for (L l : sevpa.getLocations()) {
-                        final int sym1 = sevpa.encodeStackSym(l1, c);
-                        final int sym2 = sevpa.encodeStackSym(l2, c);
-                        final L rSucc1 = sevpa.getReturnSuccessor(l, r, sym1);
-                        final L rSucc2 = sevpa.getReturnSuccessor(l, r, sym2);
-
-                        assert rSucc1 != null && rSucc2 != null;
-
-                        final Pair<Word<I>, Word<I>> pair =
-                                Pair.of(Word.epsilon(), Word.fromWords(cWord, as.get(sevpa.getLocationId(l)), rWord));
-
-                        if (sevpa.isAcceptingLocation(rSucc1) != sevpa.isAcceptingLocation(rSucc2)) {
-                            lastPair = pair;
-                            break explore;
-                        }
-
-                        final int r1 = uf.find(sevpa.getLocationId(rSucc1)), r2 = uf.find(sevpa.getLocationId(rSucc2));
-
-                        if (r1 == r2) {
-                            continue;
-                        }
-
-                        uf.link(r1, r2);
-
-                        queue.add(new Record<>(rSucc1, rSucc2, pair, current));
-                    }
-                }
-            }
-        }
-
-        if (current == null) {
-            return null;
-        }
-
-        final Deque<Word<I>> prefixBuilder = new ArrayDeque<>();
-        final Deque<Word<I>> suffixBuilder = new ArrayDeque<>();
-
-        prefixBuilder.add(lastPair.getFirst());
-        suffixBuilder.add(lastPair.getSecond());
-
-        while (current.reachedFrom != null) {
-            final Pair<Word<I>, Word<I>> reachedBy = current.reachedBy;
-            prefixBuilder.offerLast(reachedBy.getFirst());
-            suffixBuilder.offerFirst(reachedBy.getSecond());
-            current = current.reachedFrom;
-        }
-
-        return Pair.of(Word.fromWords(prefixBuilder), Word.fromWords(suffixBuilder));
+        final CompactOneSEVPA<I> compact = CompactOneSEVPASeparator.toCompact(sevpa, alphabet);
+        return CompactOneSEVPASeparator.findSeparatingWord(compact,
+                                                           sevpa.getLocationId(init1),
+                                                           sevpa.getLocationId(init2),
+                                                           alphabet,
+                                                           CompactOneSEVPASeparator.computeAccessSequences(compact,
+                                                                                                           alphabet));
     }
 
     /**
@@ -624,7 +505,8 @@ public final class OneSEVPAs {
     public static <L, I> Collection<Pair<Word<I>, Word<I>>> findCharacterizingSet(OneSEVPA<L, I> sevpa,
                                                                                   VPAlphabet<I> alphabet) {
 
-        final ArrayStorage<Word<I>> as = computeAccessSequences(sevpa, alphabet);
+        final CompactOneSEVPA<I> compact = CompactOneSEVPASeparator.toCompact(sevpa, alphabet);
+        final AccessSequences<I> as = CompactOneSEVPASeparator.computeAccessSequences(compact, alphabet);
         final List<L> acceptingLocations = new ArrayList<>(sevpa.size());
         final List<L> rejectionLocations = new ArrayList<>(sevpa.size());
 
@@ -655,7 +537,11 @@ public final class OneSEVPAs {
             final L l1 = blockIter.next();
             final L l2 = blockIter.next();
 
-            final Pair<Word<I>, Word<I>> sepWord = findSeparatingWord(sevpa, l1, l2, alphabet);
+            final Pair<Word<I>, Word<I>> sepWord = CompactOneSEVPASeparator.findSeparatingWord(compact,
+                                                                                              sevpa.getLocationId(l1),
+                                                                                              sevpa.getLocationId(l2),
+                                                                                              alphabet,
+                                                                                              as);
             assert sepWord != null;
 
             result.add(sepWord);
@@ -733,23 +619,4 @@ public final class OneSEVPAs {
         }
     }
 
-    private static final class Record<L, I> {
-
-        private final L l1;
-        private final L l2;
-        private final @PolyNull Pair<Word<I>, Word<I>> reachedBy;
-        private final @PolyNull Record<L, I> reachedFrom;
-
-        Record(L l1, L l2) {
-            this(l1, l2, null, null);
-        }
-
-        Record(L l1, L l2, @PolyNull Pair<Word<I>, Word<I>> reachedBy, @PolyNull Record<L, I> reachedFrom) {
-            this.l1 = l1;
-            this.l2 = l2;
-            this.reachedBy = reachedBy;
-            this.reachedFrom = reachedFrom;
-        }
-    }
-
 }
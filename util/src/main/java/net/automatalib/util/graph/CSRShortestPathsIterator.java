@@ -0,0 +1,107 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import net.automatalib.common.util.collection.AbstractSimplifiedIterator;
+import net.automatalib.graph.impl.CSRGraph;
+
+/**
+ * A {@link FindShortestPathsIterator} specialized for {@link CSRGraph}s. The BFS queue, the predecessor edges and the
+ * depths of nodes are stored in primitive arrays indexed by node ids.
+ */
+final class CSRShortestPathsIterator extends AbstractSimplifiedIterator<Path<Integer, Integer>> {
+
+    private static final int UNREACHED = -1;
+    private static final int NO_EDGE = -1;
+
+    private final CSRGraph<?, ?> graph;
+    private final Predicate<? super Integer> targetPred;
+    private final int limit;
+
+    private final int[] depth;
+    private final int[] reach;
+    private final int[] parent;
+    private final int[] queue;
+    private int head;
+    private int tail;
+
+    CSRShortestPathsIterator(CSRGraph<?, ?> graph,
+                             Collection<Integer> start,
+                             int limit,
+                             Predicate<? super Integer> targetPred) {
+        final int n = graph.size();
+
+        this.graph = graph;
+        this.targetPred = targetPred;
+        this.limit = limit;
+        this.depth = new int[n];
+        this.reach = new int[n];
+        this.parent = new int[n];
+        // each node is enqueued at most once, except for duplicate start nodes
+        this.queue = new int[n + start.size()];
+
+        Arrays.fill(depth, UNREACHED);
+
+        for (Integer s : start) {
+            depth[s] = 0;
+            reach[s] = NO_EDGE;
+            queue[tail++] = s;
+        }
+    }
+
+    @Override
+    protected boolean calculateNext() {
+        while (head < tail) {
+            final int curr = queue[head++];
+            if (targetPred.test(curr)) {
+                super.nextValue = makePath(curr);
+                return true;
+            }
+
+            final int currentDepth = depth[curr];
+
+            if (currentDepth < limit) {
+                for (int e = graph.getEdgeStart(curr); e < graph.getEdgeEnd(curr); e++) {
+                    final int tgt = graph.getEdgeTarget(e);
+                    if (depth[tgt] == UNREACHED) {
+                        depth[tgt] = currentDepth + 1;
+                        reach[tgt] = e;
+                        parent[tgt] = curr;
+                        queue[tail++] = tgt;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private Path<Integer, Integer> makePath(int target) {
+        final Integer[] edges = new Integer[depth[target]];
+        int node = target;
+
+        for (int i = edges.length - 1; i >= 0; i--) {
+            edges[i] = reach[node];
+            node = parent[node];
+        }
+
+        return new Path<>(graph, node, Arrays.asList(edges));
+    }
+}
@@ -24,7 +24,9 @@ import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.graph.BidirectionalGraph;
 import net.automatalib.graph.Graph;
 import net.automatalib.graph.concept.EdgeWeights;
+import net.automatalib.util.graph.apsp.APSPAlgorithm;
 import net.automatalib.util.graph.apsp.APSPResult;
+import net.automatalib.util.graph.apsp.BlockedFloydWarshallAPSP;
 import net.automatalib.util.graph.apsp.FloydWarshallAPSP;
 import net.automatalib.util.graph.scc.SCCListener;
 import net.automatalib.util.graph.scc.SCCs;
@@ -117,9 +119,45 @@ public final class Graphs {
         return FloydWarshallAPSP.findAPSP(graph, edgeWeights);
     }
 
+    /**
+     * Computes the shortest paths between all pairs of nodes in a graph, using the given algorithm. Note that the
+     * result is only correct if the graph contains no cycles with negative edge weight sums.
+     *
+     * @param graph
+     *         the graph
+     * @param edgeWeights
+     *         the edge weights
+     * @param algorithm
+     *         the algorithm to use
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     *
+     * @return the all pairs shortest paths result
+     *
+     * @see FloydWarshallAPSP
+     * @see BlockedFloydWarshallAPSP
+     */
+    public static <N, E> APSPResult<N, E> findAPSP(Graph<N, E> graph,
+                                                   EdgeWeights<E> edgeWeights,
+                                                   APSPAlgorithm algorithm) {
+        switch (algorithm) {
+            case FLOYD_WARSHALL:
+                return FloydWarshallAPSP.findAPSP(graph, edgeWeights);
+            case BLOCKED_FLOYD_WARSHALL:
+                return BlockedFloydWarshallAPSP.findAPSP(graph, edgeWeights);
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
     /**
      * Computes the shortest paths between a single source node and all other nodes in a graph, using Dijkstra's
      * algorithm. Note that the result is only correct if the graph contains no edges with negative weights.
+     * <p>
+     * For {@link net.automatalib.graph.concept.IntEdgeWeights integer edge weights}, a bucket-based (radix) priority
+     * queue is used and distances are computed with (overflow-checked) {@code int} arithmetic.
      *
      * @param graph
      *         the graph
@@ -134,6 +172,8 @@ public final class Graphs {
      *
      * @return the single-source shortest paths result
      *
+     * @throws ArithmeticException
+     *         if integer edge weights are used and the length of a shortest path exceeds {@link Integer#MAX_VALUE}
      * @see DijkstraSSSP
      */
     public static <N, E> SSSPResult<N, E> findSSSP(Graph<N, E> graph, N init, EdgeWeights<E> edgeWeights) {
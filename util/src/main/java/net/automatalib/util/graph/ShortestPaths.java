@@ -18,10 +18,16 @@ package net.automatalib.util.graph;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
+import net.automatalib.graph.Graph;
 import net.automatalib.graph.IndefiniteGraph;
+import net.automatalib.graph.concept.EdgeWeights;
+import net.automatalib.graph.impl.CSRGraph;
+import net.automatalib.util.graph.sssp.DijkstraSSSP;
+import net.automatalib.util.graph.sssp.SSSPResult;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -31,6 +37,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * either an {@link Iterator} or an {@link Iterable} wrapped around an iterator which allows for enumerating all
  * shortest paths to the given set of target nodes. The iterators implement this lazily, i.e., a call to the
  * {@link Iterator#next() next()} method of an iterator will continue the shortest path search on an as-needed basis.
+ * <p>
+ * Additionally, this class offers methods for computing shortest paths with respect to given {@link EdgeWeights},
+ * which delegate to {@link DijkstraSSSP}.
  */
 public final class ShortestPaths {
 
@@ -222,7 +231,7 @@ public final class ShortestPaths {
 
     /**
      * Returns an iterator of shortest paths from the start nodes to all nodes that satisfy the given predicate, if
-     * available.
+     * available. For {@link CSRGraph}s, a specialized implementation based on primitive arrays is used.
      *
      * @param graph
      *         the graph
@@ -244,7 +253,94 @@ public final class ShortestPaths {
                                                                     Collection<? extends N> start,
                                                                     int limit,
                                                                     Predicate<? super N> pred) {
+        if (graph instanceof CSRGraph) {
+            @SuppressWarnings("unchecked")
+            final Iterator<Path<N, E>> result = (Iterator<Path<N, E>>) (Iterator<?>) new CSRShortestPathsIterator(
+                    (CSRGraph<?, ?>) graph,
+                    (Collection<Integer>) start,
+                    limit,
+                    (Predicate<? super Integer>) pred);
+            return result;
+        }
         return new FindShortestPathsIterator<>(graph, start, limit, pred);
     }
 
+    /**
+     * Returns a shortest path from the start node to the target node with respect to the given edge weights, if
+     * available.
+     *
+     * @param graph
+     *         the graph
+     * @param start
+     *         the start node
+     * @param edgeWeights
+     *         the (non-negative) edge weights
+     * @param target
+     *         the target node
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     *
+     * @return a shortest path from the start node to the target node, {@code null} if such a path does not exist.
+     *
+     * @see DijkstraSSSP#findSSSP(Graph, Object, EdgeWeights)
+     */
+    public static <N, E> @Nullable Path<N, E> shortestPath(Graph<N, E> graph,
+                                                           N start,
+                                                           EdgeWeights<E> edgeWeights,
+                                                           N target) {
+        final List<E> path = DijkstraSSSP.findSSSP(graph, start, edgeWeights).getShortestPath(target);
+        return path == null ? null : new Path<>(graph, start, path);
+    }
+
+    /**
+     * Returns a shortest path from the start node to a closest node (with respect to the given edge weights) that
+     * satisfies the given predicate, if available.
+     *
+     * @param graph
+     *         the graph
+     * @param start
+     *         the start node
+     * @param edgeWeights
+     *         the (non-negative) edge weights
+     * @param pred
+     *         the predicate that should be satisfied by the target node
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     *
+     * @return a shortest path from the start node to a closest node that satisfies the given predicate, {@code null} if
+     * such a path does not exist.
+     *
+     * @see DijkstraSSSP#findSSSP(Graph, Object, EdgeWeights)
+     */
+    public static <N, E> @Nullable Path<N, E> shortestPath(Graph<N, E> graph,
+                                                           N start,
+                                                           EdgeWeights<E> edgeWeights,
+                                                           Predicate<? super N> pred) {
+        final SSSPResult<N, E> sssp = DijkstraSSSP.findSSSP(graph, start, edgeWeights);
+
+        @Nullable N closest = null;
+        float closestDist = Float.POSITIVE_INFINITY;
+
+        for (N node : graph) {
+            if (pred.test(node)) {
+                final float dist = sssp.getShortestPathDistance(node);
+                if (dist != Graphs.INVALID_DISTANCE && (closest == null || dist < closestDist)) {
+                    closest = node;
+                    closestDist = dist;
+                }
+            }
+        }
+
+        if (closest == null) {
+            return null;
+        }
+
+        final List<E> path = sssp.getShortestPath(closest);
+        assert path != null;
+        return new Path<>(graph, start, path);
+    }
 }
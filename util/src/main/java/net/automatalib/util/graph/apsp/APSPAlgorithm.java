@@ -0,0 +1,33 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.apsp;
+
+/**
+ * Allows for selecting the algorithm used for computing all pairs shortest paths.
+ */
+public enum APSPAlgorithm {
+    /**
+     * The classic Floyd-Warshall algorithm, see {@link FloydWarshallAPSP}. It maintains a record object for each
+     * connected pair of nodes and runs single-threaded.
+     */
+    FLOYD_WARSHALL,
+    /**
+     * The cache-blocked Floyd-Warshall algorithm, see {@link BlockedFloydWarshallAPSP}. It stores distances and next
+     * hops in primitive matrices and processes independent tiles using all available processors. This is usually the
+     * better choice for larger graphs.
+     */
+    BLOCKED_FLOYD_WARSHALL
+}
@@ -0,0 +1,258 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.apsp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import net.automatalib.common.util.concurrent.ConcurrentUtil;
+import net.automatalib.graph.Graph;
+import net.automatalib.graph.concept.EdgeWeights;
+import net.automatalib.graph.concept.NodeIDs;
+import net.automatalib.util.graph.Graphs;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A cache-blocked variant of the {@link FloydWarshallAPSP Floyd-Warshall} algorithm for the all pairs shortest paths
+ * problem. Distances and next hops are stored in flat (row-major) {@code float} and {@code int} matrices and the
+ * computation is performed in tiles of {@code blockSize x blockSize} entries, as described in <a
+ * href="https://doi.org/10.1109/TPDS.2005.73">Venkataraman et al.: A Blocked All-Pairs Shortest-Path Algorithm</a>.
+ * <p>
+ * Each round of the algorithm consists of three phases (the diagonal tile, the tiles sharing a row or column with the
+ * diagonal tile, and all remaining tiles) whose tiles are independent of each other and can therefore be processed in
+ * parallel, see {@link #findAPSP(int)}.
+ * <p>
+ * Shortest paths are reconstructed from the next-hop matrix. For each hop, the outgoing edge with minimal weight is
+ * chosen, hence the given graph and edge weights must not be modified as long as this result is used.
+ *
+ * @param <N>
+ *         node class
+ * @param <E>
+ *         edge class
+ */
+public class BlockedFloydWarshallAPSP<N, E> implements APSPResult<N, E> {
+
+    /**
+     * The default tile size. A tile of the distance matrix and a tile of the next-hop matrix occupy 16 KiB each.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private static final int NO_HOP = -1;
+
+    private final Graph<N, E> graph;
+    private final EdgeWeights<E> edgeWeights;
+    private final NodeIDs<N> ids;
+    private final int size;
+    private final int blockSize;
+    private final float[] dist;
+    private final int[] next;
+
+    public BlockedFloydWarshallAPSP(Graph<N, E> graph, EdgeWeights<E> edgeWeights) {
+        this(graph, edgeWeights, DEFAULT_BLOCK_SIZE);
+    }
+
+    public BlockedFloydWarshallAPSP(Graph<N, E> graph, EdgeWeights<E> edgeWeights, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+
+        final int n = graph.size();
+        if ((long) n * n > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Graph too large for a dense distance matrix: " + n + " nodes");
+        }
+
+        this.graph = graph;
+        this.edgeWeights = edgeWeights;
+        this.ids = graph.nodeIDs();
+        this.size = n;
+        this.blockSize = blockSize;
+        this.dist = new float[n * n];
+        this.next = new int[n * n];
+
+        Arrays.fill(dist, Float.POSITIVE_INFINITY);
+        Arrays.fill(next, NO_HOP);
+
+        for (int i = 0; i < n; i++) {
+            final int row = i * n;
+            final N src = ids.getNode(i);
+
+            dist[row + i] = 0;
+            next[row + i] = i;
+
+            for (E edge : graph.getOutgoingEdges(src)) {
+                final int j = ids.getNodeId(graph.getTarget(edge));
+                if (j == i) {
+                    continue;
+                }
+
+                final float w = edgeWeights.getEdgeWeight(edge);
+                if (w < dist[row + j]) {
+                    dist[row + j] = w;
+                    next[row + j] = j;
+                }
+            }
+        }
+    }
+
+    public static <N, E> APSPResult<N, E> findAPSP(Graph<N, E> graph, EdgeWeights<E> edgeWeights) {
+        return findAPSP(graph, edgeWeights, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static <N, E> APSPResult<N, E> findAPSP(Graph<N, E> graph, EdgeWeights<E> edgeWeights, int parallelism) {
+        final BlockedFloydWarshallAPSP<N, E> fw = new BlockedFloydWarshallAPSP<>(graph, edgeWeights);
+        fw.findAPSP(parallelism);
+        return fw;
+    }
+
+    public void findAPSP() {
+        findAPSP(1);
+    }
+
+    /**
+     * Computes the shortest paths, using up to {@code parallelism} threads for processing independent tiles.
+     *
+     * @param parallelism
+     *         the maximum number of threads to use. If {@code parallelism <= 1}, the computation is performed in the
+     *         calling thread
+     */
+    public void findAPSP(int parallelism) {
+        final int numBlocks = (size + blockSize - 1) / blockSize;
+        final @Nullable ForkJoinPool pool = parallelism > 1 && numBlocks > 1 ? new ForkJoinPool(parallelism) : null;
+
+        try {
+            for (int kb = 0; kb < numBlocks; kb++) {
+                final int k = kb;
+
+                // phase 1: the diagonal tile only depends on itself
+                relaxBlock(k, k, k);
+
+                // phase 2: the tiles in row k and column k only depend on themselves and the diagonal tile
+                ConcurrentUtil.forAll(pool, 2 * numBlocks, idx -> {
+                    final int b = idx >> 1;
+                    if (b != k) {
+                        if ((idx & 1) == 0) {
+                            relaxBlock(k, b, k);
+                        } else {
+                            relaxBlock(b, k, k);
+                        }
+                    }
+                });
+
+                // phase 3: all remaining tiles only depend on themselves and the tiles of phase 2
+                ConcurrentUtil.forAll(pool, numBlocks * numBlocks, idx -> {
+                    final int ib = idx / numBlocks;
+                    final int jb = idx % numBlocks;
+                    if (ib != k && jb != k) {
+                        relaxBlock(ib, jb, k);
+                    }
+                });
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private void relaxBlock(int ib, int jb, int kb) {
+        final int n = size;
+        final int iStart = ib * blockSize;
+        final int iEnd = Math.min(n, iStart + blockSize);
+        final int jStart = jb * blockSize;
+        final int jEnd = Math.min(n, jStart + blockSize);
+        final int kStart = kb * blockSize;
+        final int kEnd = Math.min(n, kStart + blockSize);
+
+        for (int k = kStart; k < kEnd; k++) {
+            final int kRow = k * n;
+            for (int i = iStart; i < iEnd; i++) {
+                final int iRow = i * n;
+                final float dik = dist[iRow + k];
+                if (dik == Float.POSITIVE_INFINITY) {
+                    continue;
+                }
+                final int nik = next[iRow + k];
+                for (int j = jStart; j < jEnd; j++) {
+                    final float total = dik + dist[kRow + j];
+                    if (total < dist[iRow + j]) {
+                        dist[iRow + j] = total;
+                        next[iRow + j] = nik;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public float getShortestPathDistance(N src, N tgt) {
+        final int srcId = ids.getNodeId(src);
+        final int tgtId = ids.getNodeId(tgt);
+
+        if (srcId == tgtId) {
+            return 0;
+        }
+
+        final float d = dist[srcId * size + tgtId];
+        return d == Float.POSITIVE_INFINITY ? Graphs.INVALID_DISTANCE : d;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull") // null differs from empty list semantically
+    public @Nullable List<E> getShortestPath(N src, N tgt) {
+        final int srcId = ids.getNodeId(src);
+        final int tgtId = ids.getNodeId(tgt);
+
+        if (srcId == tgtId) {
+            return Collections.emptyList();
+        }
+
+        if (next[srcId * size + tgtId] == NO_HOP) {
+            return null;
+        }
+
+        final List<E> result = new ArrayList<>();
+        int curr = srcId;
+
+        while (curr != tgtId) {
+            final int hop = next[curr * size + tgtId];
+            result.add(getLightestEdge(ids.getNode(curr), hop));
+            curr = hop;
+        }
+
+        return result;
+    }
+
+    private E getLightestEdge(N src, int tgtId) {
+        @Nullable E best = null;
+        float bestWeight = Float.POSITIVE_INFINITY;
+
+        for (E edge : graph.getOutgoingEdges(src)) {
+            if (ids.getNodeId(graph.getTarget(edge)) == tgtId) {
+                final float w = edgeWeights.getEdgeWeight(edge);
+                if (best == null || w < bestWeight) {
+                    best = edge;
+                    bestWeight = w;
+                }
+            }
+        }
+
+        assert best != null;
+        return best;
+    }
+}
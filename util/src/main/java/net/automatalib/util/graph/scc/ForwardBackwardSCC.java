@@ -0,0 +1,235 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.scc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import net.automatalib.util.graph.scc.IntTarjanSCC.IntArrayView;
+import net.automatalib.util.graph.scc.IntTarjanSCC.SCCSink;
+
+/**
+ * A parallel SCC decomposition based on the forward-backward algorithm, as described in <a
+ * href="https://doi.org/10.1007/3-540-45591-4_6">Fleischer et al.: On Identifying Strongly Connected Components in
+ * Parallel</a>.
+ * <p>
+ * After trimming all nodes that have no predecessors or successors (which form trivial SCCs), the nodes that are both
+ * forward- and backward-reachable from a pivot node form an SCC. The remaining nodes are split into the nodes that are
+ * only forward-reachable, only backward-reachable, or not reachable at all, each of which is closed under SCC
+ * membership and is decomposed independently (and concurrently). Each region is identified by a unique color, and
+ * sufficiently small regions are decomposed by an {@link IntTarjanSCC (restricted) Tarjan search}.
+ */
+final class ForwardBackwardSCC {
+
+    private static final int TRIMMED = -1;
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    private final IntAdjacency forward;
+    private final IntAdjacency backward;
+    private final IntTarjanSCC tarjan;
+    private final int[] colors;
+    private final AtomicInteger nextColor;
+    private final SCCSink sink;
+
+    private ForwardBackwardSCC(IntAdjacency adjacency, SCCSink sink) {
+        this.forward = adjacency;
+        this.backward = IntAdjacency.reverse(adjacency);
+        this.tarjan = new IntTarjanSCC(adjacency);
+        this.colors = new int[adjacency.size()];
+        this.nextColor = new AtomicInteger(1);
+        this.sink = sink;
+    }
+
+    static <N> void findSCCs(IntAdjacency adjacency,
+                             IntFunction<N> nodes,
+                             SCCListener<N> listener,
+                             int parallelism) {
+        final ForwardBackwardSCC fb = new ForwardBackwardSCC(adjacency, (scc, from, to) -> {
+            synchronized (listener) {
+                listener.foundSCC(new IntArrayView<>(scc, from, to, nodes));
+            }
+        });
+
+        final int[] remaining = fb.trim();
+
+        if (remaining.length > 0) {
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(fb.new RegionTask(remaining, 0));
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Iteratively removes all nodes without (remaining) predecessors or successors, reports them as trivial SCCs and
+     * returns the nodes that have not been removed.
+     */
+    private int[] trim() {
+        final int n = forward.size();
+        final int[] inDegree = new int[n];
+        final int[] outDegree = new int[n];
+        final int[] queue = new int[n];
+        final int[] single = new int[1];
+        int head = 0, tail = 0;
+
+        for (int i = 0; i < n; i++) {
+            inDegree[i] = backward.getEdgeEnd(i) - backward.getEdgeStart(i);
+            outDegree[i] = forward.getEdgeEnd(i) - forward.getEdgeStart(i);
+            if (inDegree[i] == 0 || outDegree[i] == 0) {
+                colors[i] = TRIMMED;
+                queue[tail++] = i;
+            }
+        }
+
+        while (head < tail) {
+            final int node = queue[head++];
+            single[0] = node;
+            sink.foundSCC(single, 0, 1);
+
+            for (int e = forward.getEdgeStart(node); e < forward.getEdgeEnd(node); e++) {
+                final int succ = forward.getEdgeTarget(e);
+                if (--inDegree[succ] == 0 && colors[succ] != TRIMMED) {
+                    colors[succ] = TRIMMED;
+                    queue[tail++] = succ;
+                }
+            }
+            for (int e = backward.getEdgeStart(node); e < backward.getEdgeEnd(node); e++) {
+                final int pred = backward.getEdgeTarget(e);
+                if (--outDegree[pred] == 0 && colors[pred] != TRIMMED) {
+                    colors[pred] = TRIMMED;
+                    queue[tail++] = pred;
+                }
+            }
+        }
+
+        final int[] remaining = new int[n - tail];
+        int idx = 0;
+        for (int i = 0; i < n; i++) {
+            if (colors[i] != TRIMMED) {
+                remaining[idx++] = i;
+            }
+        }
+
+        return remaining;
+    }
+
+    /**
+     * Colors all nodes of color {@code from} that are reachable from the given (already colored) pivot with the color
+     * {@code to}. If {@code other >= 0}, nodes of color {@code other} are reachable as well and are colored with
+     * {@code otherTo}.
+     */
+    private void propagate(IntAdjacency adjacency, int pivot, int[] queue, int from, int to, int other, int otherTo) {
+        int head = 0, tail = 0;
+        queue[tail++] = pivot;
+
+        while (head < tail) {
+            final int node = queue[head++];
+            for (int e = adjacency.getEdgeStart(node); e < adjacency.getEdgeEnd(node); e++) {
+                final int tgt = adjacency.getEdgeTarget(e);
+                final int color = colors[tgt];
+                if (color == from) {
+                    colors[tgt] = to;
+                    queue[tail++] = tgt;
+                } else if (other >= 0 && color == other) {
+                    colors[tgt] = otherTo;
+                    queue[tail++] = tgt;
+                }
+            }
+        }
+    }
+
+    private final class RegionTask extends RecursiveAction {
+
+        private final int[] members;
+        private final int color;
+
+        RegionTask(int[] members, int color) {
+            this.members = members;
+            this.color = color;
+        }
+
+        @Override
+        protected void compute() {
+            if (members.length <= SEQUENTIAL_THRESHOLD) {
+                tarjan.run(members, colors, color, sink);
+                return;
+            }
+
+            final int pivot = members[0];
+            final int fwdColor = nextColor.getAndIncrement();
+            final int sccColor = nextColor.getAndIncrement();
+            final int bwdColor = nextColor.getAndIncrement();
+            final int[] queue = new int[members.length];
+
+            colors[pivot] = fwdColor;
+            propagate(forward, pivot, queue, color, fwdColor, -1, -1);
+            colors[pivot] = sccColor;
+            propagate(backward, pivot, queue, fwdColor, sccColor, color, bwdColor);
+
+            int numScc = 0, numFwd = 0, numBwd = 0;
+            for (int m : members) {
+                final int c = colors[m];
+                if (c == sccColor) {
+                    numScc++;
+                } else if (c == fwdColor) {
+                    numFwd++;
+                } else if (c == bwdColor) {
+                    numBwd++;
+                }
+            }
+
+            final int[] scc = new int[numScc];
+            final int[] fwd = new int[numFwd];
+            final int[] bwd = new int[numBwd];
+            final int[] rest = new int[members.length - numScc - numFwd - numBwd];
+            int iScc = 0, iFwd = 0, iBwd = 0, iRest = 0;
+
+            for (int m : members) {
+                final int c = colors[m];
+                if (c == sccColor) {
+                    scc[iScc++] = m;
+                } else if (c == fwdColor) {
+                    fwd[iFwd++] = m;
+                } else if (c == bwdColor) {
+                    bwd[iBwd++] = m;
+                } else {
+                    rest[iRest++] = m;
+                }
+            }
+
+            sink.foundSCC(scc, 0, numScc);
+
+            final List<RegionTask> subTasks = new ArrayList<>(3);
+            if (fwd.length > 0) {
+                subTasks.add(new RegionTask(fwd, fwdColor));
+            }
+            if (bwd.length > 0) {
+                subTasks.add(new RegionTask(bwd, bwdColor));
+            }
+            if (rest.length > 0) {
+                subTasks.add(new RegionTask(rest, color));
+            }
+
+            invokeAll(subTasks);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.scc;
+
+import java.util.Arrays;
+
+import net.automatalib.common.util.array.ArrayUtil;
+import net.automatalib.graph.Graph;
+import net.automatalib.graph.concept.NodeIDs;
+import net.automatalib.graph.impl.CSRGraph;
+
+/**
+ * An integer view on the adjacency structure of a graph. Nodes are identified by the integers {@code [0, size())}, the
+ * outgoing edges of a node {@code n} by the integers {@code [getEdgeStart(n), getEdgeEnd(n))}.
+ */
+interface IntAdjacency {
+
+    int size();
+
+    int getEdgeStart(int node);
+
+    int getEdgeEnd(int node);
+
+    int getEdgeTarget(int edge);
+
+    static IntAdjacency of(CSRGraph<?, ?> graph) {
+        return new IntAdjacency() {
+
+            @Override
+            public int size() {
+                return graph.size();
+            }
+
+            @Override
+            public int getEdgeStart(int node) {
+                return graph.getEdgeStart(node);
+            }
+
+            @Override
+            public int getEdgeEnd(int node) {
+                return graph.getEdgeEnd(node);
+            }
+
+            @Override
+            public int getEdgeTarget(int edge) {
+                return graph.getEdgeTarget(edge);
+            }
+        };
+    }
+
+    static <N, E> IntAdjacency of(Graph<N, E> graph, NodeIDs<N> ids) {
+        final int n = graph.size();
+        final int[] offsets = new int[n + 1];
+        int[] targets = new int[n];
+        int numEdges = 0;
+
+        for (int i = 0; i < n; i++) {
+            for (E edge : graph.getOutgoingEdges(ids.getNode(i))) {
+                if (numEdges == targets.length) {
+                    targets = Arrays.copyOf(targets, ArrayUtil.computeNewCapacity(targets.length, numEdges + 1));
+                }
+                targets[numEdges++] = ids.getNodeId(graph.getTarget(edge));
+            }
+            offsets[i + 1] = numEdges;
+        }
+
+        return new ArrayAdjacency(offsets, targets);
+    }
+
+    /**
+     * Returns the adjacency structure of the given one with all edges reversed.
+     */
+    static IntAdjacency reverse(IntAdjacency adjacency) {
+        final int n = adjacency.size();
+        final int[] offsets = new int[n + 1];
+
+        for (int i = 0; i < n; i++) {
+            for (int e = adjacency.getEdgeStart(i); e < adjacency.getEdgeEnd(i); e++) {
+                offsets[adjacency.getEdgeTarget(e) + 1]++;
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        final int[] cursors = Arrays.copyOf(offsets, n);
+        final int[] targets = new int[offsets[n]];
+
+        for (int i = 0; i < n; i++) {
+            for (int e = adjacency.getEdgeStart(i); e < adjacency.getEdgeEnd(i); e++) {
+                targets[cursors[adjacency.getEdgeTarget(e)]++] = i;
+            }
+        }
+
+        return new ArrayAdjacency(offsets, targets);
+    }
+
+    final class ArrayAdjacency implements IntAdjacency {
+
+        private final int[] offsets;
+        private final int[] targets;
+
+        ArrayAdjacency(int[] offsets, int[] targets) {
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+
+        @Override
+        public int size() {
+            return offsets.length - 1;
+        }
+
+        @Override
+        public int getEdgeStart(int node) {
+            return offsets[node];
+        }
+
+        @Override
+        public int getEdgeEnd(int node) {
+            return offsets[node + 1];
+        }
+
+        @Override
+        public int getEdgeTarget(int edge) {
+            return targets[edge];
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.scc;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An iterative implementation of Tarjan's SCC algorithm on {@link IntAdjacency integer adjacency structures}. In
+ * contrast to the {@link TarjanSCCVisitor}, all bookkeeping is done in primitive arrays indexed by node ids, and the
+ * recursion of the depth-first search is replaced by an explicit stack of edge cursors.
+ * <p>
+ * The search may be restricted to a region of the graph (the nodes of a given color). Searches on disjoint regions
+ * only access disjoint entries of the bookkeeping arrays and may therefore run concurrently, see
+ * {@link ForwardBackwardSCC}.
+ */
+final class IntTarjanSCC {
+
+    private static final int UNVISITED = -1;
+
+    private final IntAdjacency adjacency;
+    private final int[] index;
+    private final int[] lowlink;
+    private final boolean[] finished;
+
+    IntTarjanSCC(IntAdjacency adjacency) {
+        final int n = adjacency.size();
+
+        this.adjacency = adjacency;
+        this.index = new int[n];
+        this.lowlink = new int[n];
+        this.finished = new boolean[n];
+
+        Arrays.fill(index, UNVISITED);
+    }
+
+    static <N> void findSCCs(IntAdjacency adjacency, int[] roots, IntFunction<N> nodes, SCCListener<N> listener) {
+        new IntTarjanSCC(adjacency).run(roots,
+                                        null,
+                                        0,
+                                        (scc, from, to) -> listener.foundSCC(new IntArrayView<>(scc, from, to, nodes)));
+    }
+
+    /**
+     * Runs the search from the given roots. If {@code colors} is non-null, only nodes {@code v} with
+     * {@code colors[v] == color} are explored. The roots must contain all nodes of the explored region.
+     */
+    void run(int[] roots, int @Nullable [] colors, int color, SCCSink sink) {
+        final int capacity = roots.length;
+        final int[] sccStack = new int[capacity];
+        final int[] callStack = new int[capacity];
+        final int[] cursors = new int[capacity];
+
+        int counter = 0;
+        int sccSize = 0;
+
+        for (int root : roots) {
+            if (index[root] != UNVISITED) {
+                continue;
+            }
+
+            int callSize = 0;
+            index[root] = counter;
+            lowlink[root] = counter++;
+            sccStack[sccSize++] = root;
+            callStack[callSize] = root;
+            cursors[callSize++] = adjacency.getEdgeStart(root);
+
+            while (callSize > 0) {
+                final int top = callSize - 1;
+                final int node = callStack[top];
+                final int cursor = cursors[top];
+
+                if (cursor < adjacency.getEdgeEnd(node)) {
+                    cursors[top]++;
+                    final int tgt = adjacency.getEdgeTarget(cursor);
+
+                    if (colors != null && colors[tgt] != color) {
+                        continue;
+                    }
+
+                    if (index[tgt] == UNVISITED) {
+                        index[tgt] = counter;
+                        lowlink[tgt] = counter++;
+                        sccStack[sccSize++] = tgt;
+                        callStack[callSize] = tgt;
+                        cursors[callSize++] = adjacency.getEdgeStart(tgt);
+                    } else if (!finished[tgt] && index[tgt] < lowlink[node]) {
+                        lowlink[node] = index[tgt];
+                    }
+                    continue;
+                }
+
+                // backtrack
+                callSize--;
+
+                if (lowlink[node] == index[node]) {
+                    int start = sccSize;
+                    do {
+                        start--;
+                        finished[sccStack[start]] = true;
+                    } while (sccStack[start] != node);
+
+                    sink.foundSCC(sccStack, start, sccSize);
+                    sccSize = start;
+                } else if (callSize > 0) {
+                    final int parent = callStack[callSize - 1];
+                    if (lowlink[node] < lowlink[parent]) {
+                        lowlink[parent] = lowlink[node];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Receives the SCCs found by the search. The SCC is given by the range {@code [from, to)} of the given array, which
+     * is only valid for the duration of the call.
+     */
+    interface SCCSink {
+
+        void foundSCC(int[] nodes, int from, int to);
+    }
+
+    static final class IntArrayView<N> extends AbstractList<N> {
+
+        private final int[] array;
+        private final int from;
+        private final int to;
+        private final IntFunction<N> nodes;
+
+        IntArrayView(int[] array, int from, int to, IntFunction<N> nodes) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public N get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(String.valueOf(index));
+            }
+            return nodes.apply(array[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
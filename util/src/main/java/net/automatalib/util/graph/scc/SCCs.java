@@ -15,10 +15,13 @@
  */
 package net.automatalib.util.graph.scc;
 
+import java.util.Arrays;
 import java.util.List;
 
 import net.automatalib.graph.Graph;
-import net.automatalib.util.graph.traversal.GraphTraversal;
+import net.automatalib.graph.concept.NodeIDs;
+import net.automatalib.graph.impl.CSRGraph;
+import net.automatalib.util.automaton.Automata;
 
 /**
  * Algorithms for finding strongly-connected components (SCCs) in a graph.
@@ -53,7 +56,10 @@ public final class SCCs {
      * Find all strongly-connected components in a graph. When a new SCC is found, the {@link
      * SCCListener#foundSCC(java.util.Collection)} method is invoked. The listener object may hence not be null.
      * <p>
-     * Tarjan's algorithm is used for realizing the SCC search.
+     * Tarjan's algorithm is used for realizing the SCC search. The search is performed iteratively on the
+     * {@link Graph#nodeIDs() node ids} of the graph and all bookkeeping is done in primitive arrays. For
+     * {@link CSRGraph}s, the adjacency structure of the graph is used directly. Note that automata can be analyzed
+     * via their {@link Automata#asGraph graph view}.
      *
      * @param graph
      *         the graph
@@ -66,12 +72,102 @@ public final class SCCs {
      *
      * @see TarjanSCCVisitor
      */
+    @SuppressWarnings("unchecked")
     public static <N, E> void findSCCs(Graph<N, E> graph, SCCListener<N> listener) {
-        TarjanSCCVisitor<N, E> vis = new TarjanSCCVisitor<>(graph, listener);
+        if (graph instanceof CSRGraph) {
+            final IntAdjacency adjacency = IntAdjacency.of((CSRGraph<?, ?>) graph);
+            final int[] roots = new int[adjacency.size()];
+            Arrays.setAll(roots, i -> i);
+            IntTarjanSCC.findSCCs(adjacency, roots, i -> i, (SCCListener<Integer>) listener);
+            return;
+        }
+
+        final NodeIDs<N> ids = graph.nodeIDs();
+        final int[] roots = new int[graph.size()];
+        int i = 0;
+
+        // use the iteration order of the graph for the roots, so that SCCs are reported as by the TarjanSCCVisitor
         for (N node : graph) {
-            if (!vis.hasVisited(node)) {
-                GraphTraversal.depthFirst(graph, node, vis);
-            }
+            roots[i++] = ids.getNodeId(node);
+        }
+
+        IntTarjanSCC.findSCCs(IntAdjacency.of(graph, ids), roots, ids::getNode, listener);
+    }
+
+    /**
+     * Collects all strongly-connected components in a graph, using up to {@link Runtime#availableProcessors()} many
+     * threads. The SCCs are returned as a list of lists.
+     *
+     * @param graph
+     *         the graph
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     *
+     * @return a list of all SCCs, each represented as a list of its nodes
+     *
+     * @see #findSCCsParallel(Graph, SCCListener, int)
+     */
+    public static <N, E> List<List<N>> collectSCCsParallel(Graph<N, E> graph) {
+        SCCCollector<N> coll = new SCCCollector<>();
+        findSCCsParallel(graph, coll, Runtime.getRuntime().availableProcessors());
+        return coll.getSCCList();
+    }
+
+    /**
+     * Find all strongly-connected components in a graph, using up to {@link Runtime#availableProcessors()} many
+     * threads.
+     *
+     * @param graph
+     *         the graph
+     * @param listener
+     *         the SCC listener
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     *
+     * @see #findSCCsParallel(Graph, SCCListener, int)
+     */
+    public static <N, E> void findSCCsParallel(Graph<N, E> graph, SCCListener<N> listener) {
+        findSCCsParallel(graph, listener, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Find all strongly-connected components in a graph, using up to {@code parallelism} many threads. When a new SCC
+     * is found, the {@link SCCListener#foundSCC(java.util.Collection)} method is invoked. The listener may be invoked
+     * from different threads, but never concurrently. In contrast to {@link #findSCCs(Graph, SCCListener)}, the SCCs
+     * are not reported in any particular order.
+     * <p>
+     * The SCC search uses the forward-backward algorithm, which repeatedly splits the graph into the SCC of a pivot
+     * node and three independent regions that are decomposed concurrently. Small regions are decomposed by Tarjan's
+     * algorithm. This method is only beneficial for very large graphs.
+     *
+     * @param graph
+     *         the graph
+     * @param listener
+     *         the SCC listener
+     * @param parallelism
+     *         the maximum number of threads to use. If {@code parallelism <= 1}, this method is equivalent to
+     *         {@link #findSCCs(Graph, SCCListener)}
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     */
+    @SuppressWarnings("unchecked")
+    public static <N, E> void findSCCsParallel(Graph<N, E> graph, SCCListener<N> listener, int parallelism) {
+        if (parallelism <= 1) {
+            findSCCs(graph, listener);
+        } else if (graph instanceof CSRGraph) {
+            ForwardBackwardSCC.findSCCs(IntAdjacency.of((CSRGraph<?, ?>) graph),
+                                        i -> i,
+                                        (SCCListener<Integer>) listener,
+                                        parallelism);
+        } else {
+            final NodeIDs<N> ids = graph.nodeIDs();
+            ForwardBackwardSCC.findSCCs(IntAdjacency.of(graph, ids), ids::getNode, listener, parallelism);
         }
     }
 
@@ -0,0 +1,170 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.sssp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.automatalib.common.smartcollection.IntIndexedPriorityQueue;
+import net.automatalib.graph.concept.EdgeWeights;
+import net.automatalib.graph.concept.IntEdgeWeights;
+import net.automatalib.graph.impl.CSRGraph;
+import net.automatalib.util.graph.Graphs;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link DijkstraSSSP} specialized for {@link CSRGraph}s. Distances and shortest-path trees are stored in primitive
+ * arrays indexed by node ids. The priority queue is an {@link IntIndexedPriorityQueue indexed binary heap} of node ids
+ * or, for {@link IntEdgeWeights integer edge weights}, a {@link RadixHeap radix heap}.
+ */
+final class CSRDijkstraSSSP implements SSSPResult<Integer, Integer> {
+
+    private static final int NO_EDGE = -1;
+
+    private final CSRGraph<?, ?> graph;
+    private final int init;
+    private final float[] dist;
+    private final int[] reach;
+    private final int[] parent;
+
+    private CSRDijkstraSSSP(CSRGraph<?, ?> graph, int init) {
+        final int n = graph.size();
+
+        this.graph = graph;
+        this.init = init;
+        this.dist = new float[n];
+        this.reach = new int[n];
+        this.parent = new int[n];
+
+        Arrays.fill(dist, Graphs.INVALID_DISTANCE);
+        Arrays.fill(reach, NO_EDGE);
+    }
+
+    static CSRDijkstraSSSP findSSSP(CSRGraph<?, ?> graph, int init, EdgeWeights<Integer> edgeWeights) {
+        if (edgeWeights instanceof IntEdgeWeights) {
+            return findSSSP(graph, init, (IntEdgeWeights<Integer>) edgeWeights);
+        }
+
+        final CSRDijkstraSSSP result = new CSRDijkstraSSSP(graph, init);
+        final float[] dist = result.dist;
+        final int[] reach = result.reach;
+        final int[] parent = result.parent;
+
+        final IntIndexedPriorityQueue pq =
+                new IntIndexedPriorityQueue(graph.size(), (n1, n2) -> Float.compare(dist[n1], dist[n2]));
+        dist[init] = 0.0f;
+        pq.insert(init);
+
+        while (!pq.isEmpty()) {
+            final int node = pq.extractMin();
+            final float d = dist[node];
+
+            for (int e = graph.getEdgeStart(node); e < graph.getEdgeEnd(node); e++) {
+                final float newDist = d + edgeWeights.getEdgeWeight(e);
+                final int tgt = graph.getEdgeTarget(e);
+
+                if (!pq.wasInserted(tgt)) {
+                    dist[tgt] = newDist;
+                    reach[tgt] = e;
+                    parent[tgt] = node;
+                    pq.insert(tgt);
+                } else if (newDist < dist[tgt]) {
+                    dist[tgt] = newDist;
+                    reach[tgt] = e;
+                    parent[tgt] = node;
+                    pq.decreaseKey(tgt);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    static CSRDijkstraSSSP findSSSP(CSRGraph<?, ?> graph, int init, IntEdgeWeights<Integer> edgeWeights) {
+        final CSRDijkstraSSSP result = new CSRDijkstraSSSP(graph, init);
+        final int[] dist = new int[graph.size()];
+        final int[] reach = result.reach;
+        final int[] parent = result.parent;
+
+        final RadixHeap pq = new RadixHeap(graph.size(), dist);
+        pq.insert(init);
+
+        while (!pq.isEmpty()) {
+            final int node = pq.extractMin();
+            final int d = dist[node];
+            result.dist[node] = d;
+
+            for (int e = graph.getEdgeStart(node); e < graph.getEdgeEnd(node); e++) {
+                final int newDist = RadixHeap.addWeight(d, edgeWeights.getIntEdgeWeight(e));
+                final int tgt = graph.getEdgeTarget(e);
+
+                if (!pq.wasInserted(tgt)) {
+                    dist[tgt] = newDist;
+                    reach[tgt] = e;
+                    parent[tgt] = node;
+                    pq.insert(tgt);
+                } else if (newDist < dist[tgt]) {
+                    dist[tgt] = newDist;
+                    reach[tgt] = e;
+                    parent[tgt] = node;
+                    pq.decreaseKey(tgt);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public Integer getInitialNode() {
+        return init;
+    }
+
+    @Override
+    public float getShortestPathDistance(Integer target) {
+        return dist[target];
+    }
+
+    @Override
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull") // null differs from empty list semantically
+    public @Nullable List<Integer> getShortestPath(Integer target) {
+        int node = target;
+
+        if (node == init) {
+            return Collections.emptyList();
+        } else if (reach[node] == NO_EDGE) {
+            return null;
+        }
+
+        final List<Integer> result = new ArrayList<>();
+
+        while (node != init) {
+            result.add(reach[node]);
+            node = parent[node];
+        }
+
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public @Nullable Integer getShortestPathEdge(Integer target) {
+        final int edge = reach[target];
+        return edge == NO_EDGE ? null : edge;
+    }
+}
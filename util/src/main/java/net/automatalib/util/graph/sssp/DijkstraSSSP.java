@@ -25,6 +25,8 @@ import net.automatalib.common.smartcollection.SmartDynamicPriorityQueue;
 import net.automatalib.common.util.mapping.MutableMapping;
 import net.automatalib.graph.Graph;
 import net.automatalib.graph.concept.EdgeWeights;
+import net.automatalib.graph.concept.IntEdgeWeights;
+import net.automatalib.graph.impl.CSRGraph;
 import net.automatalib.util.graph.Graphs;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.checker.nullness.qual.PolyNull;
@@ -64,6 +66,11 @@ public class DijkstraSSSP<N, E> implements SSSPResult<N, E> {
 
     /**
      * Search for the shortest paths from a single source node in a graph.
+     * <p>
+     * In contrast to an explicitly constructed {@link DijkstraSSSP}, this method does not create any objects per node
+     * but stores all information in arrays indexed by the {@link Graph#nodeIDs() node ids} of the graph (or, for
+     * {@link CSRGraph}s, the graph's own node ids). If the given edge weights are {@link IntEdgeWeights}, a radix heap
+     * is used as priority queue, which requires the edge weights to be non-negative.
      *
      * @param graph
      *         the graph in which to perform the search
@@ -77,11 +84,21 @@ public class DijkstraSSSP<N, E> implements SSSPResult<N, E> {
      *         edge type
      *
      * @return the single-source shortest path results
+     *
+     * @throws IllegalArgumentException
+     *         if integer edge weights are used and a negative edge weight is encountered
+     * @throws ArithmeticException
+     *         if integer edge weights are used and the length of a shortest path exceeds {@link Integer#MAX_VALUE}
      */
+    @SuppressWarnings("unchecked")
     public static <N, E> SSSPResult<N, E> findSSSP(Graph<N, E> graph, N init, EdgeWeights<E> edgeWeights) {
-        DijkstraSSSP<N, E> dijkstra = new DijkstraSSSP<>(graph, init, edgeWeights);
-        dijkstra.findSSSP();
-        return dijkstra;
+        if (graph instanceof CSRGraph) {
+            return (SSSPResult<N, E>) CSRDijkstraSSSP.findSSSP((CSRGraph<?, ?>) graph,
+                                                               (Integer) init,
+                                                               (EdgeWeights<Integer>) edgeWeights);
+        }
+
+        return IndexedDijkstraSSSP.findSSSP(graph, init, edgeWeights);
     }
 
     /**
@@ -0,0 +1,185 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.sssp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import net.automatalib.common.smartcollection.IntIndexedPriorityQueue;
+import net.automatalib.graph.Graph;
+import net.automatalib.graph.concept.EdgeWeights;
+import net.automatalib.graph.concept.IntEdgeWeights;
+import net.automatalib.graph.concept.NodeIDs;
+import net.automatalib.util.graph.Graphs;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link DijkstraSSSP} that operates on the {@link Graph#nodeIDs() node ids} of a graph. Distances and shortest-path
+ * trees are stored in arrays indexed by node ids, so no objects are created per node. The priority queue is an
+ * {@link IntIndexedPriorityQueue indexed binary heap} of node ids or, for {@link IntEdgeWeights integer edge weights}, a
+ * {@link RadixHeap radix heap}.
+ *
+ * @param <N>
+ *         node type
+ * @param <E>
+ *         edge type
+ */
+final class IndexedDijkstraSSSP<N, E> implements SSSPResult<N, E> {
+
+    private static final int NO_PARENT = -1;
+
+    private final NodeIDs<N> ids;
+    private final N init;
+    private final int initId;
+    private final float[] dist;
+    private final int[] parent;
+    private final @Nullable Object[] reach;
+
+    private IndexedDijkstraSSSP(Graph<N, E> graph, N init) {
+        final int n = graph.size();
+
+        this.ids = graph.nodeIDs();
+        this.init = init;
+        this.initId = ids.getNodeId(init);
+        this.dist = new float[n];
+        this.parent = new int[n];
+        this.reach = new Object[n];
+
+        Arrays.fill(dist, Graphs.INVALID_DISTANCE);
+        Arrays.fill(parent, NO_PARENT);
+    }
+
+    static <N, E> IndexedDijkstraSSSP<N, E> findSSSP(Graph<N, E> graph, N init, EdgeWeights<E> edgeWeights) {
+        if (edgeWeights instanceof IntEdgeWeights) {
+            return findSSSP(graph, init, (IntEdgeWeights<E>) edgeWeights);
+        }
+
+        final IndexedDijkstraSSSP<N, E> result = new IndexedDijkstraSSSP<>(graph, init);
+        final NodeIDs<N> ids = result.ids;
+        final float[] dist = result.dist;
+
+        final IntIndexedPriorityQueue pq =
+                new IntIndexedPriorityQueue(graph.size(), (n1, n2) -> Float.compare(dist[n1], dist[n2]));
+        dist[result.initId] = 0.0f;
+        pq.insert(result.initId);
+
+        while (!pq.isEmpty()) {
+            final int node = pq.extractMin();
+            final float d = dist[node];
+
+            for (E edge : graph.getOutgoingEdges(ids.getNode(node))) {
+                final float newDist = d + edgeWeights.getEdgeWeight(edge);
+                final int tgt = ids.getNodeId(graph.getTarget(edge));
+
+                if (!pq.wasInserted(tgt)) {
+                    dist[tgt] = newDist;
+                    result.setReach(tgt, node, edge);
+                    pq.insert(tgt);
+                } else if (newDist < dist[tgt]) {
+                    dist[tgt] = newDist;
+                    result.setReach(tgt, node, edge);
+                    pq.decreaseKey(tgt);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    static <N, E> IndexedDijkstraSSSP<N, E> findSSSP(Graph<N, E> graph, N init, IntEdgeWeights<E> edgeWeights) {
+        final IndexedDijkstraSSSP<N, E> result = new IndexedDijkstraSSSP<>(graph, init);
+        final NodeIDs<N> ids = result.ids;
+        final int[] dist = new int[graph.size()];
+
+        final RadixHeap pq = new RadixHeap(graph.size(), dist);
+        pq.insert(result.initId);
+
+        while (!pq.isEmpty()) {
+            final int node = pq.extractMin();
+            final int d = dist[node];
+            result.dist[node] = d;
+
+            for (E edge : graph.getOutgoingEdges(ids.getNode(node))) {
+                final int newDist = RadixHeap.addWeight(d, edgeWeights.getIntEdgeWeight(edge));
+                final int tgt = ids.getNodeId(graph.getTarget(edge));
+
+                if (!pq.wasInserted(tgt)) {
+                    dist[tgt] = newDist;
+                    result.setReach(tgt, node, edge);
+                    pq.insert(tgt);
+                } else if (newDist < dist[tgt]) {
+                    dist[tgt] = newDist;
+                    result.setReach(tgt, node, edge);
+                    pq.decreaseKey(tgt);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void setReach(int node, int parentNode, E edge) {
+        if (node != initId) {
+            parent[node] = parentNode;
+            reach[node] = edge;
+        }
+    }
+
+    @Override
+    public N getInitialNode() {
+        return init;
+    }
+
+    @Override
+    public float getShortestPathDistance(N target) {
+        return dist[ids.getNodeId(target)];
+    }
+
+    @Override
+    @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull") // null differs from empty list semantically
+    public @Nullable List<E> getShortestPath(N target) {
+        int node = ids.getNodeId(target);
+
+        if (node == initId) {
+            return Collections.emptyList();
+        } else if (parent[node] == NO_PARENT) {
+            return null;
+        }
+
+        final List<E> result = new ArrayList<>();
+
+        while (node != initId) {
+            result.add(getReach(node));
+            node = parent[node];
+        }
+
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public @Nullable E getShortestPathEdge(N target) {
+        final int node = ids.getNodeId(target);
+        return parent[node] == NO_PARENT ? null : getReach(node);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E getReach(int node) {
+        return (E) reach[node];
+    }
+}
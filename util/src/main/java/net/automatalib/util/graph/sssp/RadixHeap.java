@@ -0,0 +1,154 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.sssp;
+
+import java.util.Arrays;
+
+/**
+ * A monotone radix heap of node ids, ordered by their (externally stored) non-negative {@code int} distances, as
+ * described in <a href="https://doi.org/10.1145/77600.77615">Ahuja et al.: Faster algorithms for the shortest path
+ * problem</a>.
+ * <p>
+ * A node is stored in the bucket determined by the highest bit in which its key differs from the last extracted key.
+ * Keys must not be smaller than the last extracted key. Decreasing a key simply re-inserts the node, outdated entries
+ * are discarded upon extraction.
+ */
+final class RadixHeap {
+
+    private static final int NUM_BUCKETS = Integer.SIZE + 1;
+    private static final int DEFAULT_BUCKET_SIZE = 4;
+
+    private final int[] keys;
+    private final boolean[] inserted;
+    private final boolean[] extracted;
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+    private int last;
+    private int size;
+
+    RadixHeap(int capacity, int[] keys) {
+        this.keys = keys;
+        this.inserted = new boolean[capacity];
+        this.extracted = new boolean[capacity];
+        this.buckets = new int[NUM_BUCKETS][DEFAULT_BUCKET_SIZE];
+        this.bucketSizes = new int[NUM_BUCKETS];
+    }
+
+    /**
+     * Computes the distance of a successor node. Checks that the given edge weight does not violate the monotonicity of
+     * the heap and that the distance does not overflow, in which case an {@link ArithmeticException} is thrown.
+     */
+    static int addWeight(int distance, int weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Negative edge weights are not supported: " + weight);
+        }
+        return Math.addExact(distance, weight);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean wasInserted(int node) {
+        return inserted[node];
+    }
+
+    void insert(int node) {
+        inserted[node] = true;
+        size++;
+        push(node);
+    }
+
+    void decreaseKey(int node) {
+        if (!extracted[node]) {
+            push(node);
+        }
+    }
+
+    int extractMin() {
+        while (true) {
+            if (bucketSizes[0] == 0) {
+                refill();
+            }
+
+            final int node = buckets[0][--bucketSizes[0]];
+            if (!extracted[node]) {
+                extracted[node] = true;
+                size--;
+                return node;
+            }
+        }
+    }
+
+    /**
+     * Moves the entries with the minimal key to the first bucket. Requires that the heap is not empty.
+     */
+    private void refill() {
+        int b = 1;
+        while (true) {
+            while (bucketSizes[b] == 0) {
+                b++;
+            }
+
+            final int[] bucket = buckets[b];
+            final int bucketSize = bucketSizes[b];
+            int min = Integer.MAX_VALUE;
+            boolean found = false;
+
+            for (int i = 0; i < bucketSize; i++) {
+                final int node = bucket[i];
+                if (!extracted[node] && keys[node] <= min) {
+                    min = keys[node];
+                    found = true;
+                }
+            }
+
+            bucketSizes[b] = 0;
+
+            if (found) {
+                last = min;
+                // all (live) entries of the bucket are moved to lower buckets
+                for (int i = 0; i < bucketSize; i++) {
+                    final int node = bucket[i];
+                    if (!extracted[node]) {
+                        push(node);
+                    }
+                }
+                if (bucketSizes[0] > 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void push(int node) {
+        final int b = bucketOf(keys[node]);
+        int[] bucket = buckets[b];
+        final int bucketSize = bucketSizes[b];
+
+        if (bucketSize == bucket.length) {
+            bucket = Arrays.copyOf(bucket, bucket.length * 2);
+            buckets[b] = bucket;
+        }
+
+        bucket[bucketSize] = node;
+        bucketSizes[b] = bucketSize + 1;
+    }
+
+    private int bucketOf(int key) {
+        return key == last ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(key ^ last);
+    }
+}
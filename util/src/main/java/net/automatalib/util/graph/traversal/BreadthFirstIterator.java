@@ -21,23 +21,21 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 
-import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.common.util.mapping.BooleanMapping;
 import net.automatalib.graph.IndefiniteGraph;
-import net.automatalib.util.traversal.VisitedState;
-import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class BreadthFirstIterator<N, E> implements Iterator<N> {
 
     private final Queue<N> bfsQueue = new ArrayDeque<>();
-    private final MutableMapping<N, @Nullable VisitedState> visited;
+    private final BooleanMapping<N> visited;
     private final IndefiniteGraph<N, E> graph;
 
     BreadthFirstIterator(IndefiniteGraph<N, E> graph, Collection<? extends N> start) {
         this.graph = graph;
-        this.visited = graph.createStaticNodeMapping();
+        this.visited = graph.createStaticNodeBooleanMapping();
         bfsQueue.addAll(start);
         for (N node : start) {
-            visited.put(node, VisitedState.VISITED);
+            visited.putBoolean(node, true);
         }
     }
 
@@ -57,7 +55,7 @@ final class BreadthFirstIterator<N, E> implements Iterator<N> {
         while (edgeIter.hasNext()) {
             E edge = edgeIter.next();
             N tgt = graph.getTarget(edge);
-            if (visited.put(tgt, VisitedState.VISITED) != VisitedState.VISITED) {
+            if (!visited.putBoolean(tgt, true)) {
                 bfsQueue.add(tgt);
             }
         }
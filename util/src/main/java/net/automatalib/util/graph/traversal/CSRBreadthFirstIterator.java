@@ -0,0 +1,72 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.traversal;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.automatalib.graph.impl.CSRGraph;
+
+/**
+ * A {@link BreadthFirstIterator} specialized for {@link CSRGraph}s which uses a plain {@code int} queue and a
+ * {@link BitSet} for marking visited nodes.
+ */
+final class CSRBreadthFirstIterator implements Iterator<Integer> {
+
+    private final CSRGraph<?, ?> graph;
+    private final BitSet visited;
+    private final int[] queue;
+    private int head;
+    private int tail;
+
+    CSRBreadthFirstIterator(CSRGraph<?, ?> graph, Collection<Integer> start) {
+        this.graph = graph;
+        this.visited = new BitSet(graph.size());
+        // each node is enqueued at most once, except for duplicate start nodes
+        this.queue = new int[graph.size() + start.size()];
+
+        for (Integer node : start) {
+            queue[tail++] = node;
+            visited.set(node);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return head < tail;
+    }
+
+    @Override
+    public Integer next() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+
+        final int result = queue[head++];
+
+        for (int e = graph.getEdgeStart(result); e < graph.getEdgeEnd(result); e++) {
+            final int tgt = graph.getEdgeTarget(e);
+            if (!visited.get(tgt)) {
+                visited.set(tgt);
+                queue[tail++] = tgt;
+            }
+        }
+
+        return result;
+    }
+}
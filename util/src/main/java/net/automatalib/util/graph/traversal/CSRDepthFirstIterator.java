@@ -0,0 +1,86 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.graph.traversal;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+import net.automatalib.common.util.array.ArrayUtil;
+import net.automatalib.common.util.collection.AbstractSimplifiedIterator;
+import net.automatalib.graph.impl.CSRGraph;
+
+/**
+ * A {@link DepthFirstIterator} specialized for {@link CSRGraph}s. Instead of record objects, the DFS stack stores
+ * pairs of node ids and edge cursors in {@code int} arrays.
+ */
+final class CSRDepthFirstIterator extends AbstractSimplifiedIterator<Integer> {
+
+    private static final int NOT_STARTED = -1;
+
+    private final CSRGraph<?, ?> graph;
+    private final BitSet visited;
+    private int[] nodes;
+    private int[] cursors;
+    private int size;
+
+    CSRDepthFirstIterator(CSRGraph<?, ?> graph, Collection<Integer> start) {
+        this.graph = graph;
+        this.visited = new BitSet(graph.size());
+        this.nodes = new int[Math.max(start.size(), 16)];
+        this.cursors = new int[nodes.length];
+
+        for (Integer node : start) {
+            push(node);
+        }
+    }
+
+    @Override
+    protected boolean calculateNext() {
+        while (size > 0) {
+            final int top = size - 1;
+            final int node = nodes[top];
+            final int cursor = cursors[top];
+
+            if (cursor == NOT_STARTED) {
+                visited.set(node);
+                cursors[top] = graph.getEdgeStart(node);
+                super.nextValue = node;
+                return true;
+            } else if (cursor < graph.getEdgeEnd(node)) {
+                cursors[top]++;
+                final int tgt = graph.getEdgeTarget(cursor);
+                if (!visited.get(tgt)) {
+                    push(tgt);
+                }
+            } else {
+                size--;
+            }
+        }
+        return false;
+    }
+
+    private void push(int node) {
+        if (size == nodes.length) {
+            final int newCapacity = ArrayUtil.computeNewCapacity(size, size + 1);
+            nodes = Arrays.copyOf(nodes, newCapacity);
+            cursors = Arrays.copyOf(cursors, newCapacity);
+        }
+        nodes[size] = node;
+        cursors[size] = NOT_STARTED;
+        size++;
+    }
+}
@@ -20,20 +20,18 @@ import java.util.Collection;
 import java.util.Deque;
 
 import net.automatalib.common.util.collection.AbstractSimplifiedIterator;
-import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.common.util.mapping.BooleanMapping;
 import net.automatalib.graph.IndefiniteGraph;
-import net.automatalib.util.traversal.VisitedState;
-import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class DepthFirstIterator<N, E> extends AbstractSimplifiedIterator<N> {
 
-    private final MutableMapping<N, @Nullable VisitedState> visited;
+    private final BooleanMapping<N> visited;
     private final Deque<SimpleDFRecord<N, E>> dfsStack = new ArrayDeque<>();
     private final IndefiniteGraph<N, E> graph;
 
     DepthFirstIterator(IndefiniteGraph<N, E> graph, Collection<? extends N> start) {
         this.graph = graph;
-        this.visited = graph.createStaticNodeMapping();
+        this.visited = graph.createStaticNodeBooleanMapping();
         for (N startNode : start) {
             dfsStack.push(new SimpleDFRecord<>(startNode));
         }
@@ -44,14 +42,14 @@ final class DepthFirstIterator<N, E> extends AbstractSimplifiedIterator<N> {
         SimpleDFRecord<N, E> rec;
         while ((rec = dfsStack.peek()) != null) {
             if (!rec.wasStarted()) {
-                visited.put(rec.node, VisitedState.VISITED);
+                visited.putBoolean(rec.node, true);
                 rec.start(graph);
                 super.nextValue = rec.node;
                 return true;
             } else if (rec.hasNextEdge()) {
                 E edge = rec.nextEdge();
                 N tgt = graph.getTarget(edge);
-                if (visited.get(tgt) != VisitedState.VISITED) {
+                if (!visited.getBoolean(tgt)) {
                     dfsStack.push(new SimpleDFRecord<>(tgt));
                 }
             } else {
@@ -16,6 +16,7 @@
 package net.automatalib.util.graph.traversal;
 
 import java.util.ArrayDeque;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
@@ -23,8 +24,14 @@ import java.util.Iterator;
 import java.util.Queue;
 
 import net.automatalib.common.util.Holder;
+import net.automatalib.graph.Graph;
 import net.automatalib.graph.IndefiniteGraph;
+import net.automatalib.graph.concept.NodeIDs;
+import net.automatalib.graph.impl.CSRGraph;
 import net.automatalib.util.graph.traversal.DFRecord.LastEdge;
+import net.automatalib.util.traversal.LevelSynchronousBFS;
+import net.automatalib.util.traversal.LevelSynchronousBFS.IntSuccessors;
+import net.automatalib.util.traversal.ParallelTraversalVisitor;
 import net.automatalib.util.traversal.TraversalOrder;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -229,7 +236,8 @@ public final class GraphTraversal {
     }
 
     /**
-     * Returns an {@link Iterator} for the (reachable) nodes of the given graph in breadth-first order.
+     * Returns an {@link Iterator} for the (reachable) nodes of the given graph in breadth-first order. For
+     * {@link CSRGraph}s, a specialized implementation based on primitive arrays is used.
      *
      * @param graph
      *         the graph
@@ -242,10 +250,71 @@ public final class GraphTraversal {
      *
      * @return an {@link Iterator} for the (reachable) nodes of the given graph in breadth-first order
      */
+    @SuppressWarnings("unchecked")
     public static <N, E> Iterator<N> breadthFirstIterator(IndefiniteGraph<N, E> graph, Collection<? extends N> start) {
+        if (graph instanceof CSRGraph) {
+            return (Iterator<N>) new CSRBreadthFirstIterator((CSRGraph<?, ?>) graph, (Collection<Integer>) start);
+        }
         return new BreadthFirstIterator<>(graph, start);
     }
 
+    /**
+     * Traverses the given graph in a parallel, level-synchronous breadth-first fashion. Nodes are identified by their
+     * {@link Graph#nodeIDs() ids}. The visitor is called concurrently from multiple threads, see
+     * {@link ParallelTraversalVisitor}. Note that the graph needs to support concurrent read access. For
+     * {@link CSRGraph}s, the edges are directly read from the underlying arrays.
+     *
+     * @param graph
+     *         the graph
+     * @param initialNodes
+     *         the nodes from which the traversal should start
+     * @param visitor
+     *         the (thread-safe) visitor
+     * @param parallelism
+     *         the maximum number of threads to use. If {@code parallelism <= 1}, the traversal is performed in the
+     *         calling thread
+     * @param <N>
+     *         node type
+     * @param <E>
+     *         edge type
+     *
+     * @return the ids of the visited nodes
+     *
+     * @see LevelSynchronousBFS
+     */
+    public static <N, E> BitSet breadthFirstParallel(Graph<N, E> graph,
+                                                     Collection<? extends N> initialNodes,
+                                                     ParallelTraversalVisitor visitor,
+                                                     int parallelism) {
+        final NodeIDs<N> nodeIds = graph.nodeIDs();
+        final int[] inits = new int[initialNodes.size()];
+
+        int idx = 0;
+        for (N init : initialNodes) {
+            inits[idx++] = nodeIds.getNodeId(init);
+        }
+
+        final IntSuccessors successors;
+
+        if (graph instanceof CSRGraph) {
+            final CSRGraph<?, ?> csr = (CSRGraph<?, ?>) graph;
+            successors = (node, consumer) -> {
+                final int end = csr.getEdgeEnd(node);
+                for (int e = csr.getEdgeStart(node); e < end; e++) {
+                    consumer.accept(csr.getEdgeTarget(e));
+                }
+            };
+        } else {
+            successors = (node, consumer) -> {
+                for (E edge : graph.getOutgoingEdges(nodeIds.getNode(node))) {
+                    consumer.accept(nodeIds.getNodeId(graph.getTarget(edge)));
+                }
+            };
+        }
+
+        return LevelSynchronousBFS.explore(graph.size(), inits, successors, visitor, parallelism);
+    }
+
     /**
      * Traverses the given graph in a depth-first fashion. The traversal is steered by the specified visitor.
      *
@@ -444,7 +513,8 @@ public final class GraphTraversal {
     }
 
     /**
-     * Returns an {@link Iterator} for the (reachable) nodes of the given graph in depth-first order.
+     * Returns an {@link Iterator} for the (reachable) nodes of the given graph in depth-first order. For
+     * {@link CSRGraph}s, a specialized implementation based on primitive arrays is used.
      *
      * @param graph
      *         the graph
@@ -457,7 +527,11 @@ public final class GraphTraversal {
      *
      * @return an {@link Iterator} for the (reachable) nodes of the given graph in depth-first order
      */
+    @SuppressWarnings("unchecked")
     public static <N, E> Iterator<N> depthFirstIterator(IndefiniteGraph<N, E> graph, Collection<? extends N> start) {
+        if (graph instanceof CSRGraph) {
+            return (Iterator<N>) new CSRDepthFirstIterator((CSRGraph<?, ?>) graph, (Collection<Integer>) start);
+        }
         return new DepthFirstIterator<>(graph, start);
     }
 
@@ -106,12 +106,15 @@ public class Valmari {
     }
 
     public void computeCoarsestStablePartition() {
-        if (n > 0 && m > 0) {
+        if (n > 0) {
             initializeBlocks();
-            initializeClusters();
-            initializeInTransitions();
 
-            mainLoop();
+            if (m > 0) {
+                initializeClusters();
+                initializeInTransitions();
+
+                mainLoop();
+            }
         }
     }
 
@@ -0,0 +1,225 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.traversal;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+import net.automatalib.common.util.array.ArrayUtil;
+import net.automatalib.common.util.concurrent.ConcurrentUtil;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A parallel, level-synchronous breadth-first search over integer ids. The ids of each level (the <i>frontier</i>)
+ * are stored in an array that is split into chunks which are explored concurrently. Discovered ids are claimed via an
+ * atomic bitmap, so that each id is added to exactly one successor frontier. The next level is only processed once the
+ * current level has been completely explored.
+ * <p>
+ * The traversal only reads the explored structure (via the given {@link IntSuccessors}), which therefore needs to
+ * support concurrent read access. This is the case, e.g., for the compact automata and graph implementations.
+ *
+ * @see ParallelTraversalVisitor
+ */
+public final class LevelSynchronousBFS {
+
+    private static final int CHUNK_SIZE = 1 << 10;
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12;
+    private static final int ADDRESS_BITS = 6;
+
+    private LevelSynchronousBFS() {
+        // prevent instantiation
+    }
+
+    /**
+     * Explores all ids reachable from the given initial ids.
+     *
+     * @param size
+     *         the number of ids, i.e., all ids need to be in {@code [0, size)}
+     * @param initial
+     *         the initial ids
+     * @param successors
+     *         the successor function
+     * @param visitor
+     *         the visitor
+     * @param parallelism
+     *         the maximum number of threads to use. If {@code parallelism <= 1} (or the number of ids is small), the
+     *         traversal is performed in the calling thread
+     *
+     * @return the set of visited ids
+     */
+    public static BitSet explore(int size,
+                                 int[] initial,
+                                 IntSuccessors successors,
+                                 ParallelTraversalVisitor visitor,
+                                 int parallelism) {
+        final AtomicLongArray visited = new AtomicLongArray((size + (1 << ADDRESS_BITS) - 1) >>> ADDRESS_BITS);
+
+        int[] frontier = new int[initial.length];
+        int frontierSize = 0;
+
+        for (int init : initial) {
+            if (claim(visited, init)) {
+                frontier[frontierSize++] = init;
+            }
+        }
+
+        final @Nullable ForkJoinPool pool =
+                parallelism > 1 && size >= SEQUENTIAL_THRESHOLD ? new ForkJoinPool(parallelism) : null;
+
+        try {
+            int depth = 0;
+            while (frontierSize > 0) {
+                final Level level = new Level(visited, successors, visitor, frontier, frontierSize, depth);
+
+                ConcurrentUtil.forAll(pool, level.numChunks, level::exploreChunk);
+
+                frontier = level.collect();
+                frontierSize = frontier.length;
+                depth++;
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        final long[] words = new long[visited.length()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = visited.get(i);
+        }
+
+        return BitSet.valueOf(words);
+    }
+
+    private static boolean claim(AtomicLongArray visited, int id) {
+        final int word = id >>> ADDRESS_BITS;
+        final long mask = 1L << id;
+
+        long current = visited.get(word);
+        while ((current & mask) == 0) {
+            if (visited.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+            current = visited.get(word);
+        }
+
+        return false;
+    }
+
+    /**
+     * The successor function of a parallel breadth-first search.
+     */
+    @FunctionalInterface
+    public interface IntSuccessors {
+
+        /**
+         * Passes the ids of all successors of the given id to the given consumer. This method is called concurrently
+         * from multiple threads.
+         *
+         * @param id
+         *         the id whose successors should be computed
+         * @param consumer
+         *         the consumer for the successor ids
+         */
+        void forEachSuccessor(int id, IntConsumer consumer);
+    }
+
+    private static final class Level {
+
+        private final AtomicLongArray visited;
+        private final IntSuccessors successors;
+        private final ParallelTraversalVisitor visitor;
+        private final int[] frontier;
+        private final int frontierSize;
+        private final int depth;
+        private final int numChunks;
+        private final int[][] discovered;
+        private final int[] discoveredSizes;
+
+        Level(AtomicLongArray visited,
+              IntSuccessors successors,
+              ParallelTraversalVisitor visitor,
+              int[] frontier,
+              int frontierSize,
+              int depth) {
+            this.visited = visited;
+            this.successors = successors;
+            this.visitor = visitor;
+            this.frontier = frontier;
+            this.frontierSize = frontierSize;
+            this.depth = depth;
+            this.numChunks = (frontierSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            this.discovered = new int[numChunks][];
+            this.discoveredSizes = new int[numChunks];
+        }
+
+        void exploreChunk(int chunk) {
+            final int from = chunk * CHUNK_SIZE;
+            final int to = Math.min(from + CHUNK_SIZE, frontierSize);
+            final Buffer buffer = new Buffer(to - from);
+
+            for (int i = from; i < to; i++) {
+                final int id = frontier[i];
+                if (visitor.visit(id, depth)) {
+                    successors.forEachSuccessor(id, succ -> {
+                        if (claim(visited, succ)) {
+                            buffer.add(succ);
+                        }
+                    });
+                }
+            }
+
+            discovered[chunk] = buffer.array;
+            discoveredSizes[chunk] = buffer.size;
+        }
+
+        int[] collect() {
+            int total = 0;
+            for (int size : discoveredSizes) {
+                total += size;
+            }
+
+            final int[] result = new int[total];
+            int offset = 0;
+            for (int c = 0; c < numChunks; c++) {
+                System.arraycopy(discovered[c], 0, result, offset, discoveredSizes[c]);
+                offset += discoveredSizes[c];
+            }
+
+            return result;
+        }
+    }
+
+    private static final class Buffer {
+
+        int[] array;
+        int size;
+
+        Buffer(int initialCapacity) {
+            this.array = new int[Math.max(initialCapacity, 1)];
+        }
+
+        void add(int value) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, ArrayUtil.computeNewCapacity(array.length, size + 1));
+            }
+            array[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.traversal;
+
+/**
+ * Visitor interface for {@link LevelSynchronousBFS level-synchronous}, parallel breadth-first traversals. States (or
+ * nodes) are identified by their integer ids.
+ * <p>
+ * Contrary to the visitors of the sequential traversals, implementations of this interface are called concurrently
+ * from multiple threads and therefore need to be thread-safe. The traversal guarantees that each reachable id is
+ * visited exactly once and that all ids of a level (i.e., of a certain distance to the initial ids) are visited before
+ * any id of the next level.
+ */
+@FunctionalInterface
+public interface ParallelTraversalVisitor {
+
+    /**
+     * Called (exactly once) when a state is visited.
+     *
+     * @param id
+     *         the id of the visited state
+     * @param depth
+     *         the distance of the state to the initial states
+     *
+     * @return {@code true}, if the successors of the state should be explored, {@code false} otherwise
+     */
+    boolean visit(int id, int depth);
+}
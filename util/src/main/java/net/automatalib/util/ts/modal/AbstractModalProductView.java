@@ -0,0 +1,249 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.modal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.util.HashUtil;
+import net.automatalib.common.util.Pair;
+import net.automatalib.ts.modal.ModalTransitionSystem;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
+import net.automatalib.util.ts.modal.AbstractModalProductView.ProductTransition;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Base class for on-the-fly product views of two {@link ModalTransitionSystem}s. Transitions of a product state are
+ * only computed once they are requested and are memoized in a bounded (least-recently-used) cache, so that traversals
+ * only pay for the part of the product they actually explore. The state space (i.e., {@link #getStates()}) consists of
+ * the reachable product states and is only computed on demand. Hence, state-based algorithms (such as the
+ * {@link ModalRefinement#computeRefinement(ModalTransitionSystem, ModalTransitionSystem, Collection) refinement
+ * check}) explore the complete reachable product before they start.
+ * <p>
+ * Note that views are not thread-safe.
+ *
+ * @param <S0>
+ *         state type of the first system
+ * @param <S1>
+ *         state type of the second system
+ * @param <I>
+ *         input symbol type
+ */
+abstract class AbstractModalProductView<S0, S1, I>
+        implements ModalTransitionSystem<Pair<S0, S1>, I, ProductTransition<S0, S1>, ModalEdgeProperty> {
+
+    static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private final Alphabet<I> alphabet;
+    private final Map<Pair<S0, S1>, List<List<ProductTransition<S0, S1>>>> cache;
+    private final Set<Pair<S0, S1>> initialStates;
+
+    private @Nullable List<Pair<S0, S1>> states;
+    private @Nullable Map<Pair<S0, S1>, Integer> stateIds;
+
+    AbstractModalProductView(Alphabet<I> alphabet, Set<Pair<S0, S1>> initialStates, int cacheSize) {
+        this.alphabet = alphabet;
+        this.initialStates = initialStates;
+        this.cache = new LinkedHashMap<Pair<S0, S1>, List<List<ProductTransition<S0, S1>>>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Entry<Pair<S0, S1>, List<List<ProductTransition<S0, S1>>>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    static <S0, S1> Set<Pair<S0, S1>> initialPairs(ModalTransitionSystem<S0, ?, ?, ?> mts0,
+                                                   ModalTransitionSystem<S1, ?, ?, ?> mts1) {
+        final Set<Pair<S0, S1>> result =
+                new LinkedHashSet<>(HashUtil.capacity(mts0.getInitialStates().size() * mts1.getInitialStates().size()));
+
+        for (S0 s0 : mts0.getInitialStates()) {
+            for (S1 s1 : mts1.getInitialStates()) {
+                result.add(Pair.of(s0, s1));
+            }
+        }
+
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Computes the outgoing transitions of the given product state, indexed by the alphabet index of their label.
+     *
+     * @param state
+     *         the product state
+     *
+     * @return the outgoing transitions of the given state
+     */
+    protected abstract List<List<ProductTransition<S0, S1>>> computeTransitions(Pair<S0, S1> state);
+
+    @Override
+    public Alphabet<I> getInputAlphabet() {
+        return alphabet;
+    }
+
+    @Override
+    public Set<Pair<S0, S1>> getInitialStates() {
+        return initialStates;
+    }
+
+    @Override
+    public Collection<ProductTransition<S0, S1>> getTransitions(Pair<S0, S1> state, I input) {
+        if (!alphabet.containsSymbol(input)) {
+            return Collections.emptyList();
+        }
+
+        List<List<ProductTransition<S0, S1>>> transitions = cache.get(state);
+        if (transitions == null) {
+            transitions = computeTransitions(state);
+            cache.put(state, transitions);
+        }
+
+        return transitions.get(alphabet.getSymbolIndex(input));
+    }
+
+    @Override
+    public Pair<S0, S1> getSuccessor(ProductTransition<S0, S1> transition) {
+        return transition.target;
+    }
+
+    @Override
+    public ModalEdgeProperty getTransitionProperty(ProductTransition<S0, S1> transition) {
+        return transition;
+    }
+
+    @Override
+    public @Nullable Void getStateProperty(Pair<S0, S1> state) {
+        return null;
+    }
+
+    @Override
+    public Collection<Pair<S0, S1>> getStates() {
+        if (states == null) {
+            explore();
+        }
+        assert states != null;
+        return states;
+    }
+
+    @Override
+    public int size() {
+        return getStates().size();
+    }
+
+    @Override
+    public StateIDs<Pair<S0, S1>> stateIDs() {
+        if (states == null) {
+            explore();
+        }
+        assert states != null && stateIds != null;
+
+        final List<Pair<S0, S1>> list = states;
+        final Map<Pair<S0, S1>, Integer> ids = stateIds;
+
+        return new StateIDs<Pair<S0, S1>>() {
+
+            @Override
+            public int getStateId(Pair<S0, S1> state) {
+                final Integer id = ids.get(state);
+                if (id == null) {
+                    throw new IllegalArgumentException("State " + state + " is not a reachable product state");
+                }
+                return id;
+            }
+
+            @Override
+            public Pair<S0, S1> getState(int id) {
+                return list.get(id);
+            }
+        };
+    }
+
+    private void explore() {
+        final List<Pair<S0, S1>> list = new ArrayList<>();
+        final Map<Pair<S0, S1>, Integer> ids = new HashMap<>();
+        final Deque<Pair<S0, S1>> queue = new ArrayDeque<>();
+
+        for (Pair<S0, S1> init : initialStates) {
+            if (!ids.containsKey(init)) {
+                ids.put(init, list.size());
+                list.add(init);
+                queue.add(init);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            final Pair<S0, S1> curr = queue.poll();
+            for (I sym : alphabet) {
+                for (ProductTransition<S0, S1> t : getTransitions(curr, sym)) {
+                    final Pair<S0, S1> succ = t.target;
+                    if (!ids.containsKey(succ)) {
+                        ids.put(succ, list.size());
+                        list.add(succ);
+                        queue.add(succ);
+                    }
+                }
+            }
+        }
+
+        this.states = Collections.unmodifiableList(list);
+        this.stateIds = ids;
+    }
+
+    /**
+     * A transition of a product view, which also serves as its own (immutable) transition property.
+     *
+     * @param <S0>
+     *         state type of the first system
+     * @param <S1>
+     *         state type of the second system
+     */
+    static final class ProductTransition<S0, S1> implements ModalEdgeProperty {
+
+        private final Pair<S0, S1> target;
+        private final ModalType type;
+
+        ProductTransition(Pair<S0, S1> target, ModalType type) {
+            this.target = target;
+            this.type = type;
+        }
+
+        @Override
+        public ModalType getModalType() {
+            return type;
+        }
+
+        @Override
+        public String toString() {
+            return "-> " + target + " [" + type + ']';
+        }
+    }
+}
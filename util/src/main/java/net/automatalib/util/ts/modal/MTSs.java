@@ -16,9 +16,7 @@
 package net.automatalib.util.ts.modal;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import net.automatalib.automaton.AutomatonCreator;
 import net.automatalib.common.util.Pair;
@@ -26,6 +24,7 @@ import net.automatalib.common.util.fixpoint.Worksets;
 import net.automatalib.ts.modal.ModalTransitionSystem;
 import net.automatalib.ts.modal.MutableModalTransitionSystem;
 import net.automatalib.ts.modal.impl.CompactMTS;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty;
 
 /**
  * Operations on {@link ModalTransitionSystem}s.
@@ -73,21 +72,140 @@ public final class MTSs {
         return Worksets.map(new ModalParallelComposition<>(mts0, mts1, creator));
     }
 
+    /**
+     * Returns an on-the-fly view of the conjunction of the given systems. See
+     * {@link #conjunctionView(ModalTransitionSystem, ModalTransitionSystem, int)} for details.
+     *
+     * @param mts0
+     *         the first system
+     * @param mts1
+     *         the second system
+     * @param <S0>
+     *         state type of the first system
+     * @param <S1>
+     *         state type of the second system
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the conjunction view
+     */
+    public static <S0, S1, I> ModalTransitionSystem<Pair<S0, S1>, I, ?, ModalEdgeProperty> conjunctionView(
+            ModalTransitionSystem<S0, I, ?, ?> mts0,
+            ModalTransitionSystem<S1, I, ?, ?> mts1) {
+        return conjunctionView(mts0, mts1, AbstractModalProductView.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Returns an on-the-fly view of the conjunction of the given systems. In contrast to
+     * {@link #conjunction(ModalTransitionSystem, ModalTransitionSystem)}, the transitions of a product state are only
+     * computed when they are requested and are kept in a cache of bounded size. The states of the view are only
+     * enumerated (by exploring the reachable product states) if explicitly requested, e.g., via
+     * {@link ModalTransitionSystem#getStates()}. An {@link IllegalConjunctionException} is thrown once an incompatible
+     * product state is expanded. The view is not thread-safe.
+     * <p>
+     * Note that algorithms which operate on the complete state space of a system (e.g., via
+     * {@link ModalTransitionSystem#stateIDs()}) explore the full reachable product once. In particular, this includes
+     * the refinement checks of {@link #isRefinementOf(ModalTransitionSystem, ModalTransitionSystem, Collection)}, which
+     * do not benefit from the view compared to an explicitly constructed conjunction.
+     *
+     * @param mts0
+     *         the first system
+     * @param mts1
+     *         the second system
+     * @param cacheSize
+     *         the maximum number of product states whose transitions are memoized
+     * @param <S0>
+     *         state type of the first system
+     * @param <S1>
+     *         state type of the second system
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the conjunction view
+     */
+    public static <S0, S1, I> ModalTransitionSystem<Pair<S0, S1>, I, ?, ModalEdgeProperty> conjunctionView(
+            ModalTransitionSystem<S0, I, ?, ?> mts0,
+            ModalTransitionSystem<S1, I, ?, ?> mts1,
+            int cacheSize) {
+        return new ModalConjunctionView<>(mts0, mts1, cacheSize);
+    }
+
+    /**
+     * Returns an on-the-fly view of the parallel composition of the given systems. See
+     * {@link #composeView(ModalTransitionSystem, ModalTransitionSystem, int)} for details.
+     *
+     * @param mts0
+     *         the first system
+     * @param mts1
+     *         the second system
+     * @param <S0>
+     *         state type of the first system
+     * @param <S1>
+     *         state type of the second system
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the composition view
+     */
+    public static <S0, S1, I> ModalTransitionSystem<Pair<S0, S1>, I, ?, ModalEdgeProperty> composeView(
+            ModalTransitionSystem<S0, I, ?, ?> mts0,
+            ModalTransitionSystem<S1, I, ?, ?> mts1) {
+        return composeView(mts0, mts1, AbstractModalProductView.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Returns an on-the-fly view of the parallel composition of the given systems. In contrast to
+     * {@link #compose(ModalTransitionSystem, ModalTransitionSystem)}, the transitions of a product state are only
+     * computed when they are requested and are kept in a cache of bounded size. The states of the view are only
+     * enumerated (by exploring the reachable product states) if explicitly requested, e.g., via
+     * {@link ModalTransitionSystem#getStates()}. The view is not thread-safe.
+     * <p>
+     * Note that algorithms which operate on the complete state space of a system (e.g., via
+     * {@link ModalTransitionSystem#stateIDs()}) explore the full reachable product once. In particular, this includes
+     * the refinement checks of {@link #isRefinementOf(ModalTransitionSystem, ModalTransitionSystem, Collection)}, which
+     * do not benefit from the view compared to an explicitly constructed composition.
+     *
+     * @param mts0
+     *         the first system
+     * @param mts1
+     *         the second system
+     * @param cacheSize
+     *         the maximum number of product states whose transitions are memoized
+     * @param <S0>
+     *         state type of the first system
+     * @param <S1>
+     *         state type of the second system
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the composition view
+     */
+    public static <S0, S1, I> ModalTransitionSystem<Pair<S0, S1>, I, ?, ModalEdgeProperty> composeView(
+            ModalTransitionSystem<S0, I, ?, ?> mts0,
+            ModalTransitionSystem<S1, I, ?, ?> mts1,
+            int cacheSize) {
+        return new ModalParallelCompositionView<>(mts0, mts1, cacheSize);
+    }
+
     public static <AS, BS, I> boolean isRefinementOf(ModalTransitionSystem<AS, I, ?, ?> a,
                                                      ModalTransitionSystem<BS, I, ?, ?> b,
                                                      Collection<I> input) {
 
-        final Set<Pair<AS, BS>> refinement = ModalRefinement.refinementRelation(a, b, input);
+        final RefinementRelation<AS, BS> refinement = ModalRefinement.computeRefinement(a, b, input);
 
-        final Set<AS> statesA = new HashSet<>(a.getInitialStates());
-        final Set<BS> statesB = new HashSet<>(b.getInitialStates());
+        for (AS s : a.getInitialStates()) {
+            if (!refinement.containsImplementationState(s)) {
+                return false;
+            }
+        }
 
-        for (Pair<AS, BS> p : refinement) {
-            statesA.remove(p.getFirst());
-            statesB.remove(p.getSecond());
+        for (BS s : b.getInitialStates()) {
+            if (!refinement.containsSpecificationState(s)) {
+                return false;
+            }
         }
 
-        return statesA.isEmpty() && statesB.isEmpty();
+        return true;
     }
 
 }
@@ -0,0 +1,125 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.modal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.common.util.Pair;
+import net.automatalib.ts.modal.ModalTransitionSystem;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
+
+/**
+ * An on-the-fly view of the conjunction of two {@link ModalTransitionSystem}s. The view describes the same system as
+ * {@link MTSs#conjunction(ModalTransitionSystem, ModalTransitionSystem)} but only computes the transitions of product
+ * states that are actually visited. Consequently, an {@link IllegalConjunctionException} is only thrown once a product
+ * state with incompatible must transitions is expanded.
+ *
+ * @param <S0>
+ *         state type of the first system
+ * @param <S1>
+ *         state type of the second system
+ * @param <I>
+ *         input symbol type
+ * @param <T0>
+ *         transition type of the first system
+ * @param <T1>
+ *         transition type of the second system
+ */
+final class ModalConjunctionView<S0, S1, I, T0, T1> extends AbstractModalProductView<S0, S1, I> {
+
+    private final ModalTransitionSystem<S0, I, T0, ?> mts0;
+    private final ModalTransitionSystem<S1, I, T1, ?> mts1;
+
+    ModalConjunctionView(ModalTransitionSystem<S0, I, T0, ?> mts0,
+                         ModalTransitionSystem<S1, I, T1, ?> mts1,
+                         int cacheSize) {
+        super(checkAlphabets(mts0, mts1), initialPairs(mts0, mts1), cacheSize);
+        this.mts0 = mts0;
+        this.mts1 = mts1;
+    }
+
+    private static <I> Alphabet<I> checkAlphabets(ModalTransitionSystem<?, I, ?, ?> mts0,
+                                                  ModalTransitionSystem<?, I, ?, ?> mts1) {
+        if (!mts0.getInputAlphabet().equals(mts1.getInputAlphabet())) {
+            throw new IllegalArgumentException("Conjunction MTSs must have the same input alphabet");
+        }
+        return mts0.getInputAlphabet();
+    }
+
+    @Override
+    protected List<List<ProductTransition<S0, S1>>> computeTransitions(Pair<S0, S1> state) {
+        final Alphabet<I> alphabet = getInputAlphabet();
+        final List<List<ProductTransition<S0, S1>>> result = new ArrayList<>(alphabet.size());
+
+        for (I sym : alphabet) {
+            final Collection<T0> transitions0 = mts0.getTransitions(state.getFirst(), sym);
+            final Collection<T1> transitions1 = mts1.getTransitions(state.getSecond(), sym);
+
+            checkMust(mts0, transitions0, transitions1, state, sym, "t0");
+            checkMust(mts1, transitions1, transitions0, state, sym, "t1");
+
+            if (transitions0.isEmpty() || transitions1.isEmpty()) {
+                result.add(Collections.emptyList());
+                continue;
+            }
+
+            final List<ProductTransition<S0, S1>> symTransitions =
+                    new ArrayList<>(transitions0.size() * transitions1.size());
+
+            for (T0 t0 : transitions0) {
+                final boolean must0 = mts0.getTransitionProperty(t0).isMust();
+                for (T1 t1 : transitions1) {
+                    final boolean must = must0 || mts1.getTransitionProperty(t1).isMust();
+                    symTransitions.add(new ProductTransition<>(Pair.of(mts0.getSuccessor(t0), mts1.getSuccessor(t1)),
+                                                               must ? ModalType.MUST : ModalType.MAY));
+                }
+            }
+
+            result.add(symTransitions);
+        }
+
+        return result;
+    }
+
+    private static <S, I, T> void checkMust(ModalTransitionSystem<S, I, T, ?> mts,
+                                            Collection<T> transitions,
+                                            Collection<?> partnerTransitions,
+                                            Pair<?, ?> state,
+                                            I sym,
+                                            String name) {
+        if (!partnerTransitions.isEmpty()) {
+            return;
+        }
+
+        for (T t : transitions) {
+            if (mts.getTransitionProperty(t).isMust()) {
+                throw new IllegalConjunctionException(String.format(
+                        "Error in conjunction: States <%s,%s> for label=%s. Error for transition %s (%s), " +
+                        "leading trace: %s",
+                        state.getFirst(),
+                        state.getSecond(),
+                        sym,
+                        t,
+                        name,
+                        ModalConjunction.traceError(mts, t)));
+            }
+        }
+    }
+}
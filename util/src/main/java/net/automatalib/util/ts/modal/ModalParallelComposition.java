@@ -50,18 +50,18 @@ class ModalParallelComposition<A extends MutableModalTransitionSystem<S, I, ?, ?
         this.mts0 = mts0;
         this.mts1 = mts1;
 
-        final Alphabet<I> alphabet;
+        result = output.createAutomaton(composeAlphabets(mts0, mts1));
+    }
 
+    static <I> Alphabet<I> composeAlphabets(ModalTransitionSystem<?, I, ?, ?> mts0,
+                                            ModalTransitionSystem<?, I, ?, ?> mts1) {
         if (mts0.getInputAlphabet().equals(mts1.getInputAlphabet())) {
-            alphabet = mts0.getInputAlphabet();
+            return mts0.getInputAlphabet();
         } else {
             final GrowingAlphabet<I> growingAlphabet = new GrowingMapAlphabet<>(mts0.getInputAlphabet());
             growingAlphabet.addAll(mts1.getInputAlphabet());
-            alphabet = growingAlphabet;
+            return growingAlphabet;
         }
-
-        result = output.createAutomaton(alphabet);
-
     }
 
     @Override
@@ -0,0 +1,103 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.modal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.common.util.Pair;
+import net.automatalib.ts.modal.ModalTransitionSystem;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
+
+/**
+ * An on-the-fly view of the parallel composition of two {@link ModalTransitionSystem}s. The view describes the same
+ * system as {@link MTSs#compose(ModalTransitionSystem, ModalTransitionSystem)} but only computes the transitions of
+ * product states that are actually visited.
+ *
+ * @param <S0>
+ *         state type of the first system
+ * @param <S1>
+ *         state type of the second system
+ * @param <I>
+ *         input symbol type
+ * @param <T0>
+ *         transition type of the first system
+ * @param <T1>
+ *         transition type of the second system
+ */
+final class ModalParallelCompositionView<S0, S1, I, T0, T1> extends AbstractModalProductView<S0, S1, I> {
+
+    private final ModalTransitionSystem<S0, I, T0, ?> mts0;
+    private final ModalTransitionSystem<S1, I, T1, ?> mts1;
+
+    ModalParallelCompositionView(ModalTransitionSystem<S0, I, T0, ?> mts0,
+                                 ModalTransitionSystem<S1, I, T1, ?> mts1,
+                                 int cacheSize) {
+        super(ModalParallelComposition.composeAlphabets(mts0, mts1), initialPairs(mts0, mts1), cacheSize);
+        this.mts0 = mts0;
+        this.mts1 = mts1;
+    }
+
+    @Override
+    protected List<List<ProductTransition<S0, S1>>> computeTransitions(Pair<S0, S1> state) {
+        final Alphabet<I> alphabet = getInputAlphabet();
+        final Alphabet<I> alphabet0 = mts0.getInputAlphabet();
+        final Alphabet<I> alphabet1 = mts1.getInputAlphabet();
+        final List<List<ProductTransition<S0, S1>>> result = new ArrayList<>(alphabet.size());
+
+        for (I sym : alphabet) {
+            final boolean in0 = alphabet0.containsSymbol(sym);
+            final boolean in1 = alphabet1.containsSymbol(sym);
+
+            final Collection<T0> transitions0 =
+                    in0 ? mts0.getTransitions(state.getFirst(), sym) : Collections.emptyList();
+            final Collection<T1> transitions1 =
+                    in1 ? mts1.getTransitions(state.getSecond(), sym) : Collections.emptyList();
+
+            final List<ProductTransition<S0, S1>> symTransitions = new ArrayList<>();
+
+            if (in0 && in1) {
+                // synchronize on shared symbols
+                for (T0 t0 : transitions0) {
+                    final boolean must0 = mts0.getTransitionProperty(t0).isMust();
+                    for (T1 t1 : transitions1) {
+                        final boolean must = must0 && mts1.getTransitionProperty(t1).isMust();
+                        symTransitions.add(new ProductTransition<>(Pair.of(mts0.getSuccessor(t0),
+                                                                           mts1.getSuccessor(t1)),
+                                                                   must ? ModalType.MUST : ModalType.MAY));
+                    }
+                }
+            } else if (in0) {
+                for (T0 t0 : transitions0) {
+                    symTransitions.add(new ProductTransition<>(Pair.of(mts0.getSuccessor(t0), state.getSecond()),
+                                                               mts0.getTransitionProperty(t0).getModalType()));
+                }
+            } else {
+                for (T1 t1 : transitions1) {
+                    symTransitions.add(new ProductTransition<>(Pair.of(state.getFirst(), mts1.getSuccessor(t1)),
+                                                               mts1.getTransitionProperty(t1).getModalType()));
+                }
+            }
+
+            result.add(symTransitions.isEmpty() ? Collections.emptyList() : symTransitions);
+        }
+
+        return result;
+    }
+}
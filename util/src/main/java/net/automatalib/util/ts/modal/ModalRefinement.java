@@ -15,16 +15,19 @@
  */
 package net.automatalib.util.ts.modal;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
-import java.util.function.BiPredicate;
 
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.common.smartcollection.IntArrayDeque;
 import net.automatalib.common.util.HashUtil;
 import net.automatalib.common.util.Pair;
+import net.automatalib.common.util.array.ArrayUtil;
+import net.automatalib.common.util.collection.CollectionUtil;
 import net.automatalib.ts.modal.ModalTransitionSystem;
 import net.automatalib.ts.modal.transition.ModalEdgeProperty;
 import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
@@ -35,101 +38,320 @@ public final class ModalRefinement {
         // do not instantiate
     }
 
-    private static <BS, I, BT, BTP extends ModalEdgeProperty> Set<BT> partnerTransitions(ModalTransitionSystem<BS, I, BT, BTP> b,
-                                                                                         BS source,
-                                                                                         I input,
-                                                                                         Set<ModalType> acceptableValues) {
-
-        Set<BT> coTransitions = new HashSet<>(HashUtil.capacity(b.getInputAlphabet().size()));
+    /**
+     * Computes the (largest) modal refinement relation between the states of the given implementation and the states
+     * of the given specification. A pair {@code (p, q)} is contained in the relation if every may transition of
+     * {@code p} is matched by a may transition of {@code q} and every must transition of {@code q} is matched by a
+     * must transition of {@code p} such that the respective successors are again contained in the relation.
+     *
+     * @param implementation
+     *         the implementation system
+     * @param specification
+     *         the specification system
+     * @param inputs
+     *         the input symbols to consider
+     * @param <AS>
+     *         state type of the implementation
+     * @param <BS>
+     *         state type of the specification
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the refinement relation as a set of state pairs
+     *
+     * @see #computeRefinement(ModalTransitionSystem, ModalTransitionSystem, Collection)
+     */
+    public static <AS, BS, I> Set<Pair<AS, BS>> refinementRelation(ModalTransitionSystem<AS, I, ?, ?> implementation,
+                                                                   ModalTransitionSystem<BS, I, ?, ?> specification,
+                                                                   Collection<I> inputs) {
 
-        for (BT candidateTransition : b.getTransitions(source, input)) {
-            BTP property = b.getTransitionProperty(candidateTransition);
+        final RefinementRelation<AS, BS> relation = computeRefinement(implementation, specification, inputs);
+        final StateIDs<AS> implIDs = implementation.stateIDs();
+        final StateIDs<BS> specIDs = specification.stateIDs();
+        final Set<Pair<AS, BS>> refinement = new HashSet<>(HashUtil.capacity(relation.size()));
 
-            if (property != null && acceptableValues.contains(property.getModalType())) {
-                coTransitions.add(candidateTransition);
+        for (int p = 0; p < implementation.size(); p++) {
+            final BitSet row = relation.getRow(p);
+            final AS implState = implIDs.getState(p);
+            for (int q = row.nextSetBit(0); q >= 0; q = row.nextSetBit(q + 1)) {
+                refinement.add(Pair.of(implState, specIDs.getState(q)));
             }
         }
 
-        return coTransitions;
+        return refinement;
     }
 
-    private static <AS, I, AT, BS, BT> boolean eligiblePartner(ModalTransitionSystem<AS, I, AT, ?> a,
-                                                               ModalTransitionSystem<BS, I, BT, ?> b,
-                                                               Collection<I> inputs,
-                                                               BiPredicate<AS, BS> inRefinementRelation,
-                                                               AS source,
-                                                               BS coSource,
-                                                               Set<ModalType> acceptableValues) {
-
-        for (I label : inputs) {
-            for (AT transition : a.getTransitions(source, label)) {
-                if (!acceptableValues.contains(a.getTransitionProperty(transition).getModalType())) {
+    /**
+     * Computes the (largest) modal refinement relation between the states of the given implementation and the states
+     * of the given specification (see {@link #refinementRelation(ModalTransitionSystem, ModalTransitionSystem,
+     * Collection)}).
+     * <p>
+     * The candidate relation is stored as a bit-matrix over the state ids of both systems. For each (input, target)
+     * combination, the algorithm maintains counters of the remaining matching transitions of each potential partner
+     * state, so that removing a pair from the relation only re-examines the (predecessor) pairs that are actually
+     * affected by the removal.
+     *
+     * @param implementation
+     *         the implementation system
+     * @param specification
+     *         the specification system
+     * @param inputs
+     *         the input symbols to consider
+     * @param <AS>
+     *         state type of the implementation
+     * @param <BS>
+     *         state type of the specification
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the refinement relation
+     */
+    public static <AS, BS, I> RefinementRelation<AS, BS> computeRefinement(
+            ModalTransitionSystem<AS, I, ?, ?> implementation,
+            ModalTransitionSystem<BS, I, ?, ?> specification,
+            Collection<I> inputs) {
+
+        final List<I> symbols = CollectionUtil.randomAccessList(inputs);
+        final ModalGraph impl = ModalGraph.of(implementation, symbols);
+        final ModalGraph spec = ModalGraph.of(specification, symbols);
+
+        final int nA = impl.size;
+        final int nB = spec.size;
+        final int k = symbols.size();
+
+        final BitSet[] relation = new BitSet[nA];
+        for (int p = 0; p < nA; p++) {
+            relation[p] = new BitSet(nB);
+            relation[p].set(0, nB);
+        }
+
+        // mayCounters[mayTargets[a * nA + p'] * nB + q] = number of may transitions q -a-> q' with (p', q') in R
+        final int[] mayTargets = impl.indexTargets(impl.mayPre);
+        final int[] mayCounters = new int[countTargets(mayTargets) * nB];
+        // mustCounters[mustTargets[a * nB + q'] * nA + p] = number of must transitions p -a-> p' with (p', q') in R
+        final int[] mustTargets = spec.indexTargets(spec.mustPre);
+        final int[] mustCounters = new int[countTargets(mustTargets) * nA];
+
+        // pairs are stored as two consecutive values
+        final IntArrayDeque removed = new IntArrayDeque();
+
+        for (int a = 0; a < k; a++) {
+            for (int p2 = 0; p2 < nA; p2++) {
+                final int idx = mayTargets[a * nA + p2];
+                if (idx < 0) {
                     continue;
                 }
+                for (int q = 0; q < nB; q++) {
+                    final int count = spec.mayPost.size(q * k + a);
+                    mayCounters[idx * nB + q] = count;
+                    if (count == 0) {
+                        removeAll(impl.mayPre, a * nA + p2, q, relation, removed, true);
+                    }
+                }
+            }
 
-                Set<BT> partnerTransitions = partnerTransitions(b, coSource, label, acceptableValues);
+            for (int q2 = 0; q2 < nB; q2++) {
+                final int idx = mustTargets[a * nB + q2];
+                if (idx < 0) {
+                    continue;
+                }
+                for (int p = 0; p < nA; p++) {
+                    final int count = impl.mustPost.size(p * k + a);
+                    mustCounters[idx * nA + p] = count;
+                    if (count == 0) {
+                        removeAll(spec.mustPre, a * nB + q2, p, relation, removed, false);
+                    }
+                }
+            }
+        }
 
-                AS target = a.getSuccessor(transition);
-                final boolean eligiblePartner = partnerTransitions.stream()
-                                                                  .map(b::getSuccessor)
-                                                                  .anyMatch(s -> inRefinementRelation.test(target, s));
+        while (!removed.isEmpty()) {
+            final int q2 = removed.removeLast();
+            final int p2 = removed.removeLast();
 
-                if (!eligiblePartner) {
-                    return false;
+            for (int a = 0; a < k; a++) {
+                // the may transitions of the specification into q2 lost a partner for p2
+                final int mayIdx = mayTargets[a * nA + p2];
+                if (mayIdx >= 0) {
+                    final CSR pre = spec.mayPre;
+                    final int row = a * nB + q2;
+                    for (int i = pre.offsets[row]; i < pre.offsets[row + 1]; i++) {
+                        final int q = pre.values[i];
+                        if (--mayCounters[mayIdx * nB + q] == 0) {
+                            removeAll(impl.mayPre, a * nA + p2, q, relation, removed, true);
+                        }
+                    }
+                }
+
+                // the must transitions of the implementation into p2 lost a partner for q2
+                final int mustIdx = mustTargets[a * nB + q2];
+                if (mustIdx >= 0) {
+                    final CSR pre = impl.mustPre;
+                    final int row = a * nA + p2;
+                    for (int i = pre.offsets[row]; i < pre.offsets[row + 1]; i++) {
+                        final int p = pre.values[i];
+                        if (--mustCounters[mustIdx * nA + p] == 0) {
+                            removeAll(spec.mustPre, a * nB + q2, p, relation, removed, false);
+                        }
+                    }
                 }
             }
         }
 
-        return true;
+        return new RefinementRelation<>(implementation.stateIDs(), specification.stateIDs(), relation, nB);
     }
 
-    public static <AS, BS, I> Set<Pair<AS, BS>> refinementRelation(ModalTransitionSystem<AS, I, ?, ?> implementation,
-                                                                   ModalTransitionSystem<BS, I, ?, ?> specification,
-                                                                   Collection<I> inputs) {
-
-        Set<Pair<AS, BS>> refinement = new HashSet<>(HashUtil.capacity(implementation.size() * specification.size()));
+    private static int countTargets(int[] targets) {
+        int result = 0;
+        for (int t : targets) {
+            if (t >= 0) {
+                result++;
+            }
+        }
+        return result;
+    }
 
-        // lower approximation only correct if automaton is finite (image-finite)
-        for (AS p : implementation.getStates()) {
-            for (BS q : specification.getStates()) {
-                refinement.add(Pair.of(p, q));
+    /**
+     * Removes all pairs whose first (if {@code implPre}) or second component is a predecessor in the given row of
+     * {@code pre} and whose other component is {@code fixed}.
+     */
+    private static void removeAll(CSR pre,
+                                  int row,
+                                  int fixed,
+                                  BitSet[] relation,
+                                  IntArrayDeque removed,
+                                  boolean implPre) {
+        for (int i = pre.offsets[row]; i < pre.offsets[row + 1]; i++) {
+            final int p = implPre ? pre.values[i] : fixed;
+            final int q = implPre ? fixed : pre.values[i];
+            if (relation[p].get(q)) {
+                relation[p].clear(q);
+                removed.addLast(p);
+                removed.addLast(q);
             }
         }
+    }
+
+    /**
+     * An integer representation of the may and must transitions of a modal transition system. Successors are indexed
+     * by {@code state * numInputs + input}, predecessors by {@code input * size + state}.
+     */
+    private static final class ModalGraph {
+
+        private final int size;
+        private final CSR mayPost;
+        private final CSR mayPre;
+        private final CSR mustPost;
+        private final CSR mustPre;
+
+        private ModalGraph(int size, CSR mayPost, CSR mayPre, CSR mustPost, CSR mustPre) {
+            this.size = size;
+            this.mayPost = mayPost;
+            this.mayPre = mayPre;
+            this.mustPost = mustPost;
+            this.mustPre = mustPre;
+        }
 
-        Set<ModalType> may = EnumSet.of(ModalType.MAY, ModalType.MUST);
-        Set<ModalType> must = Collections.singleton(ModalType.MUST);
-
-        boolean update = true;
-        while (update) {
-            update = false;
-
-            Iterator<Pair<AS, BS>> iterator = refinement.iterator();
-            while (iterator.hasNext()) {
-                Pair<AS, BS> pair = iterator.next();
-
-                boolean eligiblePartner = eligiblePartner(implementation,
-                                                          specification,
-                                                          inputs,
-                                                          (s, t) -> refinement.contains(Pair.of(s, t)),
-                                                          pair.getFirst(),
-                                                          pair.getSecond(),
-                                                          may);
-
-                eligiblePartner &= eligiblePartner(specification,
-                                                   implementation,
-                                                   inputs,
-                                                   (s, t) -> refinement.contains(Pair.of(t, s)),
-                                                   pair.getSecond(),
-                                                   pair.getFirst(),
-                                                   must);
-
-                if (!eligiblePartner) {
-                    update = true;
-                    iterator.remove();
+        static <S, I, T> ModalGraph of(ModalTransitionSystem<S, I, T, ?> mts, List<I> symbols) {
+            final StateIDs<S> ids = mts.stateIDs();
+            final int n = mts.size();
+            final int k = symbols.size();
+
+            final CSR.Builder mayPost = new CSR.Builder(n * k);
+            final CSR.Builder mayPre = new CSR.Builder(n * k);
+            final CSR.Builder mustPost = new CSR.Builder(n * k);
+            final CSR.Builder mustPre = new CSR.Builder(n * k);
+
+            for (int s = 0; s < n; s++) {
+                final S state = ids.getState(s);
+                for (int a = 0; a < k; a++) {
+                    for (T t : mts.getTransitions(state, symbols.get(a))) {
+                        final ModalEdgeProperty property = mts.getTransitionProperty(t);
+                        if (property == null) {
+                            continue;
+                        }
+                        final int succ = ids.getStateId(mts.getSuccessor(t));
+                        mayPost.add(s * k + a, succ);
+                        mayPre.add(a * n + succ, s);
+                        if (property.getModalType() == ModalType.MUST) {
+                            mustPost.add(s * k + a, succ);
+                            mustPre.add(a * n + succ, s);
+                        }
+                    }
                 }
             }
+
+            return new ModalGraph(n, mayPost.build(), mayPre.build(), mustPost.build(), mustPre.build());
         }
 
-        return refinement;
+        /**
+         * Assigns consecutive indices to all non-empty rows of the given predecessor structure and {@code -1} to all
+         * empty ones.
+         */
+        int[] indexTargets(CSR pre) {
+            final int[] result = new int[pre.offsets.length - 1];
+            int idx = 0;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = pre.size(i) > 0 ? idx++ : -1;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A compressed sparse row representation of an adjacency structure.
+     */
+    private static final class CSR {
+
+        private final int[] offsets;
+        private final int[] values;
+
+        private CSR(int[] offsets, int[] values) {
+            this.offsets = offsets;
+            this.values = values;
+        }
+
+        int size(int row) {
+            return offsets[row + 1] - offsets[row];
+        }
+
+        private static final class Builder {
+
+            private final int[] counts;
+            private int[] rows;
+            private int[] values;
+            private int size;
+
+            Builder(int numRows) {
+                this.counts = new int[numRows + 1];
+                this.rows = new int[16];
+                this.values = new int[16];
+            }
+
+            void add(int row, int value) {
+                if (size == rows.length) {
+                    final int newCapacity = ArrayUtil.computeNewCapacity(size, size + 1);
+                    rows = Arrays.copyOf(rows, newCapacity);
+                    values = Arrays.copyOf(values, newCapacity);
+                }
+                rows[size] = row;
+                values[size] = value;
+                counts[row + 1]++;
+                size++;
+            }
+
+            CSR build() {
+                final int[] offsets = counts.clone();
+                for (int i = 1; i < offsets.length; i++) {
+                    offsets[i] += offsets[i - 1];
+                }
+                final int[] fill = Arrays.copyOf(offsets, offsets.length - 1);
+                final int[] sorted = new int[size];
+                for (int i = 0; i < size; i++) {
+                    sorted[fill[rows[i]]++] = values[i];
+                }
+                return new CSR(offsets, sorted);
+            }
+        }
     }
 }
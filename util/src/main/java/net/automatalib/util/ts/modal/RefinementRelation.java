@@ -0,0 +1,104 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.modal;
+
+import java.util.BitSet;
+
+import net.automatalib.automaton.concept.StateIDs;
+
+/**
+ * The result of a refinement computation between two modal transition systems (see
+ * {@link ModalRefinement#computeRefinement}). The relation is stored as a bit-matrix over the state ids of both
+ * systems and can therefore be queried in constant time.
+ *
+ * @param <AS>
+ *         state type of the implementation
+ * @param <BS>
+ *         state type of the specification
+ */
+public final class RefinementRelation<AS, BS> {
+
+    private final StateIDs<AS> implIDs;
+    private final StateIDs<BS> specIDs;
+    private final BitSet[] relation;
+    private final BitSet specStates;
+
+    RefinementRelation(StateIDs<AS> implIDs, StateIDs<BS> specIDs, BitSet[] relation, int specSize) {
+        this.implIDs = implIDs;
+        this.specIDs = specIDs;
+        this.relation = relation;
+        this.specStates = new BitSet(specSize);
+
+        for (BitSet row : relation) {
+            specStates.or(row);
+        }
+    }
+
+    /**
+     * Returns whether the given implementation state refines the given specification state.
+     *
+     * @param implState
+     *         the state of the implementation
+     * @param specState
+     *         the state of the specification
+     *
+     * @return {@code true} if {@code implState} refines {@code specState}, {@code false} otherwise
+     */
+    public boolean contains(AS implState, BS specState) {
+        return relation[implIDs.getStateId(implState)].get(specIDs.getStateId(specState));
+    }
+
+    /**
+     * Returns whether the given implementation state refines any specification state.
+     *
+     * @param implState
+     *         the state of the implementation
+     *
+     * @return {@code true} if {@code implState} occurs in the relation, {@code false} otherwise
+     */
+    public boolean containsImplementationState(AS implState) {
+        return !relation[implIDs.getStateId(implState)].isEmpty();
+    }
+
+    /**
+     * Returns whether the given specification state is refined by any implementation state.
+     *
+     * @param specState
+     *         the state of the specification
+     *
+     * @return {@code true} if {@code specState} occurs in the relation, {@code false} otherwise
+     */
+    public boolean containsSpecificationState(BS specState) {
+        return specStates.get(specIDs.getStateId(specState));
+    }
+
+    /**
+     * Returns the number of (implementation state, specification state) pairs in this relation.
+     *
+     * @return the size of this relation
+     */
+    public int size() {
+        int result = 0;
+        for (BitSet row : relation) {
+            result += row.cardinality();
+        }
+        return result;
+    }
+
+    BitSet getRow(int implId) {
+        return relation[implId];
+    }
+}
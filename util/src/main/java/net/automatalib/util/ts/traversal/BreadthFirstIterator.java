@@ -21,26 +21,24 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 
-import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.common.util.mapping.BooleanMapping;
 import net.automatalib.ts.simple.SimpleTS;
-import net.automatalib.util.traversal.VisitedState;
-import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class BreadthFirstIterator<S, I> implements Iterator<S> {
 
     private final Queue<S> bfsQueue = new ArrayDeque<>();
-    private final MutableMapping<S, @Nullable VisitedState> seen;
+    private final BooleanMapping<S> seen;
     private final SimpleTS<S, I> ts;
     private final Collection<? extends I> inputs;
 
     BreadthFirstIterator(SimpleTS<S, I> ts, Collection<? extends I> inputs) {
         this.ts = ts;
         this.inputs = inputs;
-        seen = ts.createStaticStateMapping();
+        seen = ts.createStaticStateBooleanMapping();
         Collection<S> initial = ts.getInitialStates();
         bfsQueue.addAll(initial);
         for (S state : initial) {
-            seen.put(state, VisitedState.VISITED);
+            seen.putBoolean(state, true);
         }
     }
 
@@ -60,7 +58,7 @@ final class BreadthFirstIterator<S, I> implements Iterator<S> {
         for (I input : inputs) {
             Collection<S> succs = ts.getSuccessors(state, input);
             for (S succ : succs) {
-                if (seen.put(succ, VisitedState.VISITED) != VisitedState.VISITED) {
+                if (!seen.putBoolean(succ, true)) {
                     bfsQueue.add(succ);
                 }
             }
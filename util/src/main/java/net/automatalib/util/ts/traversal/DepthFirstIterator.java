@@ -20,14 +20,12 @@ import java.util.Collection;
 import java.util.Deque;
 
 import net.automatalib.common.util.collection.AbstractSimplifiedIterator;
-import net.automatalib.common.util.mapping.MutableMapping;
+import net.automatalib.common.util.mapping.BooleanMapping;
 import net.automatalib.ts.TransitionSystem;
-import net.automatalib.util.traversal.VisitedState;
-import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class DepthFirstIterator<S, I, T> extends AbstractSimplifiedIterator<S> {
 
-    private final MutableMapping<S, @Nullable VisitedState> visited;
+    private final BooleanMapping<S> visited;
     private final Deque<SimpleDFRecord<S, I, T>> dfsStack = new ArrayDeque<>();
     private final TransitionSystem<S, I, T> ts;
     private final Collection<? extends I> inputs;
@@ -35,7 +33,7 @@ final class DepthFirstIterator<S, I, T> extends AbstractSimplifiedIterator<S> {
     DepthFirstIterator(TransitionSystem<S, I, T> ts, Collection<? extends I> inputs) {
         this.ts = ts;
         this.inputs = inputs;
-        this.visited = ts.createStaticStateMapping();
+        this.visited = ts.createStaticStateBooleanMapping();
         for (S init : ts.getInitialStates()) {
             dfsStack.push(new SimpleDFRecord<>(init, inputs));
         }
@@ -46,14 +44,14 @@ final class DepthFirstIterator<S, I, T> extends AbstractSimplifiedIterator<S> {
         SimpleDFRecord<S, I, T> rec;
         while ((rec = dfsStack.peek()) != null) {
             if (!rec.wasStarted()) {
-                visited.put(rec.state, VisitedState.VISITED);
+                visited.putBoolean(rec.state, true);
                 rec.start(ts);
                 super.nextValue = rec.state;
                 return true;
             } else if (rec.hasNextTransition(ts)) {
                 T t = rec.transition();
                 S succ = ts.getSuccessor(t);
-                if (visited.get(succ) != VisitedState.VISITED) {
+                if (!visited.getBoolean(succ)) {
                     dfsStack.push(new SimpleDFRecord<>(succ, inputs));
                 }
             } else {
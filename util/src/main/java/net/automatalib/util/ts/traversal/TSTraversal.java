@@ -16,12 +16,19 @@
 package net.automatalib.util.ts.traversal;
 
 import java.util.ArrayDeque;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.Set;
 
+import net.automatalib.automaton.concept.StateIDs;
+import net.automatalib.automaton.simple.SimpleAutomaton;
+import net.automatalib.automaton.simple.SimpleDeterministicAutomaton;
 import net.automatalib.common.util.Holder;
 import net.automatalib.ts.TransitionSystem;
+import net.automatalib.util.traversal.LevelSynchronousBFS;
+import net.automatalib.util.traversal.ParallelTraversalVisitor;
 import net.automatalib.util.traversal.TraversalOrder;
 import net.automatalib.util.ts.traversal.DFRecord.LastTransition;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -203,6 +210,87 @@ public final class TSTraversal {
         return new BreadthFirstIterator<>(ts, inputs);
     }
 
+    /**
+     * Traverses the given automaton in a parallel, level-synchronous breadth-first fashion, starting from its initial
+     * state. The visitor is called concurrently from multiple threads, see {@link ParallelTraversalVisitor}.
+     *
+     * @param automaton
+     *         the (integer abstraction of the) automaton
+     * @param visitor
+     *         the (thread-safe) visitor
+     * @param parallelism
+     *         the maximum number of threads to use. If {@code parallelism <= 1}, the traversal is performed in the
+     *         calling thread
+     *
+     * @return the ids of the visited states
+     *
+     * @see LevelSynchronousBFS
+     */
+    public static BitSet breadthFirstParallel(SimpleDeterministicAutomaton.FullIntAbstraction automaton,
+                                              ParallelTraversalVisitor visitor,
+                                              int parallelism) {
+        final int init = automaton.getIntInitialState();
+        final int[] inits =
+                init == SimpleDeterministicAutomaton.IntAbstraction.INVALID_STATE ? new int[0] : new int[] {init};
+        final int numInputs = automaton.numInputs();
+
+        return LevelSynchronousBFS.explore(automaton.size(), inits, (state, consumer) -> {
+            for (int i = 0; i < numInputs; i++) {
+                final int succ = automaton.getSuccessor(state, i);
+                if (succ != SimpleDeterministicAutomaton.IntAbstraction.INVALID_STATE) {
+                    consumer.accept(succ);
+                }
+            }
+        }, visitor, parallelism);
+    }
+
+    /**
+     * Traverses the given automaton in a parallel, level-synchronous breadth-first fashion, starting from its initial
+     * states. States are identified by their {@link SimpleAutomaton#stateIDs() ids}. The visitor is called concurrently
+     * from multiple threads, see {@link ParallelTraversalVisitor}. Note that the automaton needs to support concurrent
+     * read access.
+     *
+     * @param automaton
+     *         the automaton
+     * @param inputs
+     *         the inputs which should be considered for the traversal
+     * @param visitor
+     *         the (thread-safe) visitor
+     * @param parallelism
+     *         the maximum number of threads to use. If {@code parallelism <= 1}, the traversal is performed in the
+     *         calling thread
+     * @param <S>
+     *         state type
+     * @param <I>
+     *         input symbol type
+     *
+     * @return the ids of the visited states
+     *
+     * @see LevelSynchronousBFS
+     */
+    public static <S, I> BitSet breadthFirstParallel(SimpleAutomaton<S, I> automaton,
+                                                     Collection<? extends I> inputs,
+                                                     ParallelTraversalVisitor visitor,
+                                                     int parallelism) {
+        final StateIDs<S> stateIds = automaton.stateIDs();
+        final Set<S> initialStates = automaton.getInitialStates();
+        final int[] inits = new int[initialStates.size()];
+
+        int idx = 0;
+        for (S init : initialStates) {
+            inits[idx++] = stateIds.getStateId(init);
+        }
+
+        return LevelSynchronousBFS.explore(automaton.size(), inits, (state, consumer) -> {
+            final S s = stateIds.getState(state);
+            for (I i : inputs) {
+                for (S succ : automaton.getSuccessors(s, i)) {
+                    consumer.accept(stateIds.getStateId(succ));
+                }
+            }
+        }, visitor, parallelism);
+    }
+
     /**
      * Traverses the given transition system in a depth-first fashion. The traversal is steered by the specified
      * visitor.
@@ -27,6 +27,7 @@ import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.common.util.collection.IterableUtil;
 import net.automatalib.common.util.collection.IteratorUtil;
 import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.equivalence.CharacterizingSetAlgorithm;
 import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.word.Word;
 import org.testng.Assert;
@@ -67,7 +68,8 @@ public class WMethodTestsIteratorTest {
         final List<Word<Integer>> transCover = Automata.transitionCover(dfa, alphabet);
         Assert.assertFalse(transCover.contains(Word.epsilon()));
         transCover.add(Word.epsilon());
-        final List<Word<Integer>> characterizingSet = Automata.characterizingSet(dfa, alphabet);
+        final List<Word<Integer>> characterizingSet =
+                Automata.characterizingSet(dfa, alphabet, CharacterizingSetAlgorithm.SPLITTING_TREE);
 
         final List<Word<Integer>> expectedWords =
                 IterableUtil.stream(IterableUtil.cartesianProduct(transCover, characterizingSet))
@@ -86,7 +88,8 @@ public class WMethodTestsIteratorTest {
         transCover.add(Word.epsilon());
         final Iterable<Word<Integer>> middleTuples =
                 IterableUtil.map(IterableUtil.allTuples(alphabet, 0, lookahead), Word::fromList);
-        final List<Word<Integer>> characterizingSet = Automata.characterizingSet(dfa, alphabet);
+        final List<Word<Integer>> characterizingSet =
+                Automata.characterizingSet(dfa, alphabet, CharacterizingSetAlgorithm.SPLITTING_TREE);
 
         final List<Word<Integer>> expectedWords =
                 IterableUtil.stream(IterableUtil.cartesianProduct(transCover, middleTuples, characterizingSet))
@@ -29,8 +29,9 @@ import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.common.util.collection.IterableUtil;
 import net.automatalib.common.util.collection.IteratorUtil;
 import net.automatalib.common.util.comparison.CmpUtil;
+import net.automatalib.util.automaton.Automata;
 import net.automatalib.util.automaton.cover.Covers;
-import net.automatalib.util.automaton.equivalence.CharacterizingSets;
+import net.automatalib.util.automaton.equivalence.CharacterizingSetAlgorithm;
 import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.word.Word;
 import org.testng.Assert;
@@ -106,10 +107,9 @@ public class WpMethodTestsIteratorTest {
 
         final List<Word<I>> stateCover = new ArrayList<>(automaton.size());
         final List<Word<I>> transitionCover = new ArrayList<>(automaton.size() * inputs.size());
-        final List<Word<I>> characterizingSet = new ArrayList<>();
-
         Covers.cover(automaton, inputs, stateCover, transitionCover);
-        CharacterizingSets.findCharacterizingSet(automaton, inputs, characterizingSet);
+        final List<Word<I>> characterizingSet =
+                Automata.characterizingSet(automaton, inputs, CharacterizingSetAlgorithm.SPLITTING_TREE);
 
         Assert.assertFalse(stateCover.isEmpty());
         Assert.assertFalse(transitionCover.isEmpty());
@@ -134,8 +134,10 @@ public class WpMethodTestsIteratorTest {
                 final Word<I> prefixWithMiddle = prefix.concat(middle);
                 final S s = automaton.getState(prefixWithMiddle);
 
-                final List<Word<I>> suffixes = new ArrayList<>();
-                CharacterizingSets.findCharacterizingSet(automaton, inputs, s, suffixes);
+                final List<Word<I>> suffixes = Automata.stateCharacterizingSet(automaton,
+                                                                               inputs,
+                                                                               s,
+                                                                               CharacterizingSetAlgorithm.SPLITTING_TREE);
                 assert !suffixes.isEmpty();
 
                 for (Word<I> suffix : suffixes) {
@@ -0,0 +1,160 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.copy;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.impl.UniversalCompactDet;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.common.util.mapping.Mapping;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.random.ParallelRandomAutomata;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the array-based fast path of {@link AutomatonLowLevelCopy} between compact automata.
+ */
+public class CompactCopyTest {
+
+    private static final Alphabet<Character> INPUTS = Alphabets.characters('a', 'c');
+    private static final Alphabet<Integer> OUTPUTS = Alphabets.integers(1, 3);
+
+    @Test
+    public void testDFA() {
+        final CompactDFA<Character> source = RandomAutomata.randomDFA(new Random(42), 50, INPUTS, false);
+        final Integer state = 3;
+        final Character input = 'b';
+        source.removeAllTransitions(state, input);
+
+        final CompactDFA<Character> target = new CompactDFA<>(INPUTS);
+        final Mapping<Integer, Integer> mapping =
+                AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, source, INPUTS, target);
+
+        Assert.assertEquals(target.size(), source.size());
+        Assert.assertEquals(target.getInitialState(), source.getInitialState());
+        Assert.assertNull(target.getTransition(state, input));
+        Assert.assertTrue(Automata.testEquivalence(source, target, INPUTS));
+
+        for (Integer s : source) {
+            Assert.assertEquals(mapping.get(s), s);
+            Assert.assertEquals(target.isAccepting(s), source.isAccepting(s));
+            for (Character i : INPUTS) {
+                Assert.assertEquals(target.getSuccessor(s, i), source.getSuccessor(s, i));
+            }
+        }
+    }
+
+    @Test
+    public void testMealyWithTransformations() {
+        final CompactMealy<Character, Integer> source =
+                RandomAutomata.randomMealy(new Random(42), 50, INPUTS, OUTPUTS, false);
+
+        // translate to a different alphabet with a permuted symbol order
+        final Alphabet<Integer> targetInputs = Alphabets.integers(0, 2);
+        final Function<Character, Integer> inputsMapping = c -> 'c' - c;
+        final CompactMealy<Integer, String> target = new CompactMealy<>(targetInputs);
+        target.addState();
+
+        final Mapping<Integer, Integer> mapping = AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE,
+                                                                             source,
+                                                                             INPUTS,
+                                                                             target,
+                                                                             inputsMapping,
+                                                                             sp -> null,
+                                                                             String::valueOf);
+
+        Assert.assertEquals(target.size(), source.size() + 1);
+        Assert.assertEquals(target.getInitialState(), mapping.get(source.getInitialState()));
+
+        for (Integer s : source) {
+            final Integer t = mapping.get(s);
+            Assert.assertEquals(t.intValue(), s + 1);
+            for (Character i : INPUTS) {
+                final Integer ti = inputsMapping.apply(i);
+                Assert.assertEquals(target.getSuccessor(t, ti), mapping.get(source.getSuccessor(s, i)));
+                Assert.assertEquals(target.getOutput(t, ti), String.valueOf(source.getOutput(s, i)));
+            }
+        }
+    }
+
+    @Test
+    public void testUniversal() {
+        final CompactMealy<Character, Integer> source =
+                RandomAutomata.randomMealy(new Random(42), 50, INPUTS, OUTPUTS, false);
+        final UniversalCompactDet<Character, Void, Integer> target = new UniversalCompactDet<>(INPUTS);
+
+        AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, source, INPUTS, target);
+
+        for (Integer s : source) {
+            for (Character i : INPUTS) {
+                Assert.assertEquals(target.getSuccessor(s, i), source.getSuccessor(s, i));
+                Assert.assertEquals(target.getTransitionProperty(s, i), source.getTransitionProperty(s, i));
+            }
+        }
+    }
+
+    @Test
+    public void testLargeDFA() {
+        final CompactDFA<Character> source = ParallelRandomAutomata.randomDFA(42, 100_000, INPUTS, 1);
+        final CompactDFA<Character> target = new CompactDFA<>(INPUTS);
+
+        AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, source, INPUTS, target);
+
+        Assert.assertEquals(target.getInitialState(), source.getInitialState());
+        for (int s = 0; s < source.size(); s++) {
+            Assert.assertEquals(target.isAccepting(s), source.isAccepting(s));
+            for (int i = 0; i < INPUTS.size(); i++) {
+                Assert.assertEquals(target.getSuccessor(s, i), source.getSuccessor(s, i));
+            }
+        }
+    }
+
+    @Test
+    public void testLargeDFAParallelism() {
+        final CompactDFA<Character> source = ParallelRandomAutomata.randomDFA(42, 100_000, INPUTS, 1);
+        final CompactDFA<Character> sequential = new CompactDFA<>(INPUTS);
+        final CompactDFA<Character> parallel = new CompactDFA<>(INPUTS);
+
+        Assert.assertNotNull(CompactAutomatonCopy.tryCopy(source,
+                                                          INPUTS,
+                                                          sequential,
+                                                          Function.identity(),
+                                                          source::getStateProperty,
+                                                          t -> null,
+                                                          1));
+        Assert.assertNotNull(CompactAutomatonCopy.tryCopy(source,
+                                                          INPUTS,
+                                                          parallel,
+                                                          Function.identity(),
+                                                          source::getStateProperty,
+                                                          t -> null,
+                                                          4));
+
+        for (int s = 0; s < source.size(); s++) {
+            Assert.assertEquals(parallel.isAccepting(s), source.isAccepting(s));
+            for (int i = 0; i < INPUTS.size(); i++) {
+                Assert.assertEquals(sequential.getSuccessor(s, i), source.getSuccessor(s, i));
+                Assert.assertEquals(parallel.getSuccessor(s, i), source.getSuccessor(s, i));
+            }
+        }
+    }
+}
@@ -199,6 +199,53 @@ public class CoversTest {
         Assert.assertEquals(newTransCover, Collections.singleton(Word.fromLetter(0)));
     }
 
+    @Test
+    public void testCoverTrie() {
+        final Random random = new Random(42);
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 5);
+        final CompactDFA<Integer> dfa = new CompactDFA<>(alphabet);
+
+        RandomAutomata.randomDeterministic(random,
+                                           50,
+                                           Alphabets.integers(0, 4),
+                                           DFA.STATE_PROPERTIES,
+                                           DFA.TRANSITION_PROPERTIES,
+                                           dfa);
+
+        dfa.addState(true);
+
+        final List<Word<Integer>> sCov = new ArrayList<>();
+        final List<Word<Integer>> tCov = new ArrayList<>();
+        Covers.cover(dfa, alphabet, sCov, tCov);
+
+        final CoverTrie<Integer> trie = Covers.coverTrie(dfa, alphabet);
+
+        Assert.assertEquals(trie.getStateCoverSize(), sCov.size());
+        Assert.assertEquals(trie.getTransitionCoverSize(), tCov.size());
+        Assert.assertEquals(trie.getStateCover(), sCov);
+        Assert.assertEquals(trie.getTransitionCover(), tCov);
+
+        testStateCover(dfa, alphabet, trie.getStateCover());
+        testTransitionCover(dfa, alphabet, trie.getTransitionCover());
+
+        for (int i = 0; i < trie.getStateCoverSize(); i++) {
+            Assert.assertEquals(trie.getStateCoverTarget(i), dfa.getState(trie.getStateCoverWord(i)).intValue());
+        }
+        for (int i = 0; i < trie.getTransitionCoverSize(); i++) {
+            Assert.assertEquals(trie.getTransitionCoverTarget(i),
+                                dfa.getState(trie.getTransitionCoverWord(i)).intValue());
+        }
+
+        final List<Word<Integer>> nonTree = new ArrayList<>(tCov);
+        nonTree.removeAll(sCov);
+        Assert.assertEquals(trie.getTransitionCoverWithoutStateCover(), nonTree);
+
+        // empty automaton
+        final CoverTrie<Integer> empty = Covers.coverTrie(new CompactDFA<>(alphabet), alphabet);
+        Assert.assertTrue(empty.getStateCover().isEmpty());
+        Assert.assertTrue(empty.getTransitionCover().isEmpty());
+    }
+
     private static <S, I> void testStateCover(UniversalDeterministicAutomaton<S, I, ?, ?, ?> automaton,
                                               Alphabet<I> alphabet,
                                               Collection<Word<I>> cover) {
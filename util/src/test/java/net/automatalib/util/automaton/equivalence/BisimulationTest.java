@@ -17,6 +17,7 @@ package net.automatalib.util.automaton.equivalence;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
 
@@ -25,6 +26,7 @@ import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.Automaton;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.common.util.Pair;
+import net.automatalib.common.util.collection.IterableUtil;
 import net.automatalib.ts.modal.impl.CompactMTS;
 import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
 import org.testng.Assert;
@@ -95,6 +97,98 @@ public class BisimulationTest {
         Assert.assertTrue(testBisimulationEquivalence(a, b, alphabet));
     }
 
+    @Test
+    public void testPartition() {
+
+        final Alphabet<String> alphabet = Alphabets.closedCharStringRange('a', 'b');
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10; i++) {
+            final CompactNFA<String> a = TabakovVardiRandomAutomata.generateNFA(random, 20, 30, 10, alphabet);
+            final CompactNFA<String> b = TabakovVardiRandomAutomata.generateNFA(random, 15, 20, 10, alphabet);
+
+            final Set<Pair<Integer, Integer>> relation = Bisimulation.bisimulationEquivalenceRelation(a, b, alphabet);
+            final BisimulationPartition<Integer, Integer> partition =
+                    Bisimulation.bisimulationPartition(a, b, alphabet);
+
+            Assert.assertTrue(partition.getNumBlocks() <= a.size() + b.size());
+
+            for (Integer as : a) {
+                for (Integer bs : b) {
+                    Assert.assertEquals(partition.areBisimilar(as, bs), relation.contains(Pair.of(as, bs)));
+                    Assert.assertTrue(partition.getBlockA(as) < partition.getNumBlocks());
+                    Assert.assertTrue(partition.getBlockB(bs) < partition.getNumBlocks());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testQuotient() {
+
+        final Alphabet<String> alphabet = Alphabets.closedCharStringRange('a', 'c');
+        final CompactNFA<String> nfa = new CompactNFA<>(alphabet);
+
+        // two isomorphic branches that are merged in the quotient
+        final int s0 = nfa.addInitialState(false);
+        final int s1 = nfa.addState(false);
+        final int s2 = nfa.addState(false);
+        final int s3 = nfa.addState(true);
+        final int s4 = nfa.addState(true);
+        final int s5 = nfa.addState(false);
+
+        nfa.addTransition(s0, "a", s1);
+        nfa.addTransition(s0, "a", s2);
+        nfa.addTransition(s1, "b", s3);
+        nfa.addTransition(s2, "b", s4);
+        nfa.addTransition(s3, "c", s0);
+        nfa.addTransition(s4, "c", s0);
+        // s5 has the same (empty) transitions as s3/s4 but differs in acceptance
+        nfa.addTransition(s0, "c", s5);
+
+        final CompactNFA<String> quotient =
+                Bisimulation.bisimulationQuotient(nfa, alphabet, new CompactNFA.Creator<>());
+
+        Assert.assertEquals(quotient.size(), 4);
+
+        for (List<String> w : IterableUtil.allTuples(alphabet, 0, 6)) {
+            Assert.assertEquals(quotient.accepts(w), nfa.accepts(w), w.toString());
+        }
+
+        final CompactNFA<String> random = TabakovVardiRandomAutomata.generateNFA(new Random(42), 50, 100, 20, alphabet);
+        final CompactNFA<String> randomQuotient =
+                Bisimulation.bisimulationQuotient(random, alphabet, new CompactNFA.Creator<>());
+
+        Assert.assertTrue(randomQuotient.size() <= random.size());
+
+        for (List<String> w : IterableUtil.allTuples(alphabet, 0, 6)) {
+            Assert.assertEquals(randomQuotient.accepts(w), random.accepts(w), w.toString());
+        }
+    }
+
+    @Test
+    public void testQuotientInterleaved() {
+
+        final Alphabet<String> alphabet = Alphabets.closedCharStringRange('a', 'b');
+        final CompactNFA<String> nfa = new CompactNFA<>(alphabet);
+
+        // s0/s2 and s1/s3 are bisimilar, but their transitions interleave when enumerated state by state
+        final int s0 = nfa.addInitialState(false);
+        final int s1 = nfa.addState(false);
+        final int s2 = nfa.addState(false);
+        final int s3 = nfa.addState(false);
+
+        nfa.addTransition(s0, "a", s1);
+        nfa.addTransition(s1, "b", s2);
+        nfa.addTransition(s2, "a", s3);
+        nfa.addTransition(s3, "b", s0);
+
+        final CompactNFA<String> quotient =
+                Bisimulation.bisimulationQuotient(nfa, alphabet, new CompactNFA.Creator<>());
+
+        Assert.assertEquals(quotient.size(), 2);
+    }
+
     private static <AS, I, AT, A extends Automaton<AS, I, AT>, BS, BT, B extends Automaton<BS, I, BT>> boolean testBisimulationEquivalence(
             A a,
             B b,
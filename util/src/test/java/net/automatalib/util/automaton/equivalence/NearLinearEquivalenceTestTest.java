@@ -15,6 +15,7 @@
  */
 package net.automatalib.util.automaton.equivalence;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Random;
@@ -66,6 +67,26 @@ public class NearLinearEquivalenceTestTest {
         Assert.assertNull(sepWord);
     }
 
+    @Test
+    public void testDFASeparatingWordConsistency() {
+        final Random r = new Random(42);
+
+        for (int i = 0; i < 20; i++) {
+            final CompactDFA<Integer> dfa1 = RandomAutomata.randomDFA(r, AUTOMATON_SIZE, ALPHABET, false);
+            final CompactDFA<Integer> dfa2 = RandomAutomata.randomDFA(r, AUTOMATON_SIZE, ALPHABET, false);
+
+            // both versions explore the product in the same breadth-first order
+            final Word<Integer> intSepWord = NearLinearEquivalenceTest.findSeparatingWord(dfa1, dfa2, ALPHABET);
+            final Word<Integer> sepWord =
+                    NearLinearEquivalenceTest.findSeparatingWord(dfa1, dfa2, new ArrayList<>(ALPHABET));
+
+            Assert.assertEquals(intSepWord, sepWord);
+            if (intSepWord != null) {
+                Assert.assertNotEquals(dfa1.accepts(intSepWord), dfa2.accepts(intSepWord));
+            }
+        }
+    }
+
     @Test
     public void testDFAAlphabetPartial() {
         Assert.assertNull(NearLinearEquivalenceTest.findSeparatingWord(DFA_1, DFA_1_PARTIAL, ALPHABET, true));
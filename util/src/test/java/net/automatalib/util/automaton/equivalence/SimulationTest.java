@@ -0,0 +1,144 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+import java.util.Collection;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.NFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SimulationTest {
+
+    @Test
+    public void testSelfSimulation() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 10; i++) {
+            final CompactNFA<Character> nfa = TabakovVardiRandomAutomata.generateNFA(random, 20, 30, 6, alphabet);
+            checkRelation(nfa, nfa, alphabet);
+        }
+    }
+
+    @Test
+    public void testCrossSimulation() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+        final Random random = new Random(1337);
+
+        for (int i = 0; i < 10; i++) {
+            final CompactNFA<Character> nfa1 = TabakovVardiRandomAutomata.generateNFA(random, 15, 20, 5, alphabet);
+            final CompactNFA<Character> nfa2 = TabakovVardiRandomAutomata.generateNFA(random, 25, 40, 8, alphabet);
+            checkRelation(nfa1, nfa2, alphabet);
+        }
+    }
+
+    @Test
+    public void testUnconstrainedSimulation() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+        final CompactNFA<Character> nfa = new CompactNFA<>(alphabet);
+
+        final int q0 = nfa.addInitialState(false);
+        final int q1 = nfa.addState(true);
+        final int q2 = nfa.addState(false);
+
+        nfa.addTransition(q0, (Character) 'a', q1);
+        nfa.addTransition(q0, (Character) 'b', q2);
+        nfa.addTransition(q1, (Character) 'a', q1);
+
+        final SimulationRelation<Integer, Integer> sim = Simulation.simulationRelation(nfa, nfa, alphabet);
+
+        Assert.assertTrue(sim.isSimulatedBy(q1, q0));
+        Assert.assertFalse(sim.isSimulatedBy(q0, q1));
+        Assert.assertTrue(sim.isSimulatedBy(q2, q1));
+        Assert.assertTrue(sim.isSimulatedBy(q2, q0));
+        Assert.assertFalse(sim.isSimulatedBy(q1, q2));
+    }
+
+    private static <S1, S2> void checkRelation(NFA<S1, Character> nfa1,
+                                               NFA<S2, Character> nfa2,
+                                               Collection<Character> inputs) {
+        final SimulationRelation<S1, S2> sim =
+                Simulation.simulationRelation(nfa1, nfa2, inputs, (Boolean p, Boolean q) -> !p || q);
+        final boolean[][] expected = naiveSimulation(nfa1, nfa2, inputs);
+
+        for (int i = 0; i < nfa1.size(); i++) {
+            for (int j = 0; j < nfa2.size(); j++) {
+                Assert.assertEquals(sim.isSimulatedBy(nfa1.stateIDs().getState(i), nfa2.stateIDs().getState(j)),
+                                    expected[i][j]);
+            }
+        }
+    }
+
+    private static <S1, S2> boolean[][] naiveSimulation(NFA<S1, Character> nfa1,
+                                                        NFA<S2, Character> nfa2,
+                                                        Collection<Character> inputs) {
+        final int n1 = nfa1.size();
+        final int n2 = nfa2.size();
+        final boolean[][] rel = new boolean[n1][n2];
+
+        for (int i = 0; i < n1; i++) {
+            for (int j = 0; j < n2; j++) {
+                rel[i][j] = !nfa1.isAccepting(nfa1.stateIDs().getState(i)) ||
+                            nfa2.isAccepting(nfa2.stateIDs().getState(j));
+            }
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < n1; i++) {
+                for (int j = 0; j < n2; j++) {
+                    if (rel[i][j] && !isStable(nfa1, nfa2, inputs, rel, i, j)) {
+                        rel[i][j] = false;
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        return rel;
+    }
+
+    private static <S1, S2> boolean isStable(NFA<S1, Character> nfa1,
+                                             NFA<S2, Character> nfa2,
+                                             Collection<Character> inputs,
+                                             boolean[][] rel,
+                                             int i,
+                                             int j) {
+        final S1 p = nfa1.stateIDs().getState(i);
+        final S2 q = nfa2.stateIDs().getState(j);
+
+        for (Character sym : inputs) {
+            outer:
+            for (S1 pSucc : nfa1.getSuccessors(p, sym)) {
+                for (S2 qSucc : nfa2.getSuccessors(q, sym)) {
+                    if (rel[nfa1.stateIDs().getStateId(pSucc)][nfa2.stateIDs().getStateId(qSucc)]) {
+                        continue outer;
+                    }
+                }
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,193 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.equivalence;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.UniversalDeterministicAutomaton;
+import net.automatalib.automaton.concept.DetSuffixOutputAutomaton;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.automaton.transducer.impl.CompactMoore;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.word.Word;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SplittingTreeTest {
+
+    private static final Random RANDOM = new Random(0);
+    private static final int AUTOMATON_SIZE = 20;
+    private static final Alphabet<Integer> INPUT_ALPHABET = Alphabets.integers(0, 5);
+    private static final Alphabet<Character> OUTPUT_ALPHABET = Alphabets.characters('a', 'f');
+
+    @Test
+    public void testDFA() {
+        checkSplittingTree(RandomAutomata.randomDFA(RANDOM, AUTOMATON_SIZE, INPUT_ALPHABET), INPUT_ALPHABET);
+    }
+
+    @Test
+    public void testMealy() {
+        checkSplittingTree(RandomAutomata.randomMealy(RANDOM, AUTOMATON_SIZE, INPUT_ALPHABET, OUTPUT_ALPHABET),
+                           INPUT_ALPHABET);
+    }
+
+    @Test
+    public void testMoore() {
+        checkSplittingTree(RandomAutomata.randomMoore(RANDOM, AUTOMATON_SIZE, INPUT_ALPHABET, OUTPUT_ALPHABET),
+                           INPUT_ALPHABET);
+    }
+
+    @Test
+    public void testLargeMealy() {
+        final CompactMealy<Integer, Character> mealy =
+                RandomAutomata.randomMealy(RANDOM, 300, INPUT_ALPHABET, Alphabets.characters('a', 'b'));
+
+        checkSplittingTree(mealy, INPUT_ALPHABET);
+    }
+
+    @Test
+    public void testPartialDFA() {
+        final Alphabet<Character> inputs = Alphabets.characters('a', 'c');
+        final CompactDFA<Character> dfa = new CompactDFA<>(inputs);
+
+        final Integer q0 = dfa.addInitialState(false);
+        final Integer q1 = dfa.addState(false);
+        final Integer q2 = dfa.addState(false);
+        final Integer q3 = dfa.addState(true);
+
+        dfa.setTransition(q0, (Character) 'a', q1);
+        dfa.setTransition(q1, (Character) 'b', q2);
+        dfa.setTransition(q2, (Character) 'c', q3);
+        dfa.setTransition(q3, (Character) 'a', q0);
+
+        checkSplittingTree(dfa, inputs);
+    }
+
+    @Test
+    public void testEquivalentStates() {
+        final Alphabet<Character> inputs = Alphabets.characters('a', 'b');
+        final CompactDFA<Character> dfa = new CompactDFA<>(inputs);
+
+        final Integer q0 = dfa.addInitialState(false);
+        final Integer q1 = dfa.addState(false);
+        final Integer q2 = dfa.addState(false);
+        final Integer q3 = dfa.addState(true);
+
+        dfa.setTransition(q0, (Character) 'a', q1);
+        dfa.setTransition(q0, (Character) 'b', q2);
+        dfa.setTransition(q1, (Character) 'a', q3);
+        dfa.setTransition(q1, (Character) 'b', q0);
+        dfa.setTransition(q2, (Character) 'a', q3);
+        dfa.setTransition(q2, (Character) 'b', q0);
+        dfa.setTransition(q3, (Character) 'a', q3);
+        dfa.setTransition(q3, (Character) 'b', q3);
+
+        final SplittingTree<Integer, Character> tree = new SplittingTree<>(dfa, inputs);
+
+        Assert.assertNull(tree.getSeparatingWord(q1, q2));
+        Assert.assertEquals(tree.getSeparatingWord(q0, q3), Word.epsilon());
+        Assert.assertEquals(tree.getSeparatingWord(q0, q1), Word.fromLetter('a'));
+        Assert.assertEquals(tree.getCharacterizingSet(), Arrays.asList(Word.epsilon(), Word.fromLetter('a')));
+        Assert.assertEquals(tree.getStateCharacterizingSet(q1), Arrays.asList(Word.epsilon(), Word.fromLetter('a')));
+        Assert.assertEquals(tree.getStateCharacterizingSet(q3), Arrays.asList(Word.epsilon()));
+
+        checkSplittingTree(dfa, inputs);
+    }
+
+    @Test
+    public void testSeparatingWordLength() {
+        // a counter automaton whose states can only be separated by words of linear length
+        final Alphabet<Character> inputs = Alphabets.characters('a', 'a');
+        final CompactMoore<Character, Boolean> moore = new CompactMoore<>(inputs);
+        final int size = 50;
+
+        Integer prev = moore.addInitialState(false);
+        for (int i = 1; i < size; i++) {
+            final Integer next = moore.addState(i == size - 1);
+            moore.setTransition(prev, (Character) 'a', next);
+            prev = next;
+        }
+
+        final SplittingTree<Integer, Character> tree = new SplittingTree<>(moore, inputs);
+
+        for (int i = 0; i < size - 1; i++) {
+            final Word<Character> sep = tree.getSeparatingWord(i, size - 1);
+            Assert.assertNotNull(sep);
+            Assert.assertEquals(sep.length(), 0);
+
+            if (i > 0) {
+                final Word<Character> sep0 = tree.getSeparatingWord(0, i);
+                Assert.assertNotNull(sep0);
+                // the shortest separating word leads state i into the accepting state
+                Assert.assertEquals(sep0.length(), size - 1 - i);
+            }
+        }
+
+        checkSplittingTree(moore, inputs);
+    }
+
+    private static <S, I, T, A extends UniversalDeterministicAutomaton<S, I, T, ?, ?> & DetSuffixOutputAutomaton<S, I, T, ?>> void checkSplittingTree(
+            A automaton,
+            Collection<? extends I> inputs) {
+        final SplittingTree<S, I> tree = new SplittingTree<>(automaton, inputs);
+        final List<Word<I>> characterizingSet = tree.getCharacterizingSet();
+
+        Assert.assertEquals(Automata.characterizingSet(automaton, inputs, CharacterizingSetAlgorithm.SPLITTING_TREE),
+                            characterizingSet);
+
+        for (S s1 : automaton) {
+            final List<Word<I>> stateCharacterizingSet = tree.getStateCharacterizingSet(s1);
+            Assert.assertEquals(Automata.stateCharacterizingSet(automaton,
+                                                                inputs,
+                                                                s1,
+                                                                CharacterizingSetAlgorithm.SPLITTING_TREE),
+                                stateCharacterizingSet);
+
+            for (S s2 : automaton) {
+                final Word<I> sep = tree.getSeparatingWord(s1, s2);
+
+                if (sep == null) {
+                    Assert.assertNull(Automata.findSeparatingWord(automaton, s1, s2, inputs));
+                } else {
+                    Assert.assertTrue(separates(automaton, s1, s2, sep), s1 + " vs. " + s2 + ": " + sep);
+                    Assert.assertTrue(stateCharacterizingSet.contains(sep));
+                    Assert.assertTrue(characterizingSet.contains(sep));
+                }
+            }
+        }
+    }
+
+    private static <S, I, T, A extends UniversalDeterministicAutomaton<S, I, T, ?, ?> & DetSuffixOutputAutomaton<S, I, T, ?>> boolean separates(
+            A automaton,
+            S s1,
+            S s2,
+            Word<I> word) {
+        final UniversalDeterministicAutomaton<S, I, T, ?, ?> uda = automaton;
+
+        // for partial automata, transitions that are undefined in only one of the paths separate states as well
+        return !Objects.equals(automaton.computeStateOutput(s1, word), automaton.computeStateOutput(s2, word)) ||
+               !Objects.equals(CharacterizingSets.buildTrace(uda, s1, word),
+                               CharacterizingSets.buildTrace(uda, s2, word));
+    }
+}
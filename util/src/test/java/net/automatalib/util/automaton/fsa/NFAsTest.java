@@ -31,7 +31,11 @@ import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.automaton.fsa.impl.FastDFA;
 import net.automatalib.automaton.fsa.impl.FastNFA;
+import net.automatalib.automaton.fsa.impl.FastNFAState;
+import net.automatalib.common.util.mapping.Mapping;
 import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.copy.AutomatonCopyMethod;
+import net.automatalib.util.automaton.copy.AutomatonLowLevelCopy;
 import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
 import net.automatalib.util.ts.acceptor.AcceptanceCombiner;
@@ -138,6 +142,33 @@ public class NFAsTest {
         Assert.assertEquals(NFAs.trim(nfa, alphabet).size(), 2);
     }
 
+    @Test
+    public void testLargeTrimAccessibility() {
+        // exceeds the threshold for the parallel exploration of compact automata
+        final CompactNFA<Integer> nfa =
+                TabakovVardiRandomAutomata.generateNFA(new Random(42), 10_000, 8_000, 20, testAlphabet);
+        final FastNFA<Integer> fast = new FastNFA<>(testAlphabet);
+        final Mapping<Integer, FastNFAState> mapping =
+                AutomatonLowLevelCopy.copy(AutomatonCopyMethod.STATE_BY_STATE, nfa, testAlphabet, fast);
+
+        final Set<Integer> accessible = NFAs.accessibleStates(nfa, testAlphabet);
+        final Set<Integer> coaccessible = NFAs.coaccessibleStates(nfa, testAlphabet);
+        final Set<FastNFAState> fastAccessible = NFAs.accessibleStates(fast, testAlphabet);
+        final Set<FastNFAState> fastCoaccessible = NFAs.coaccessibleStates(fast, testAlphabet);
+
+        Assert.assertEquals(accessible.size(), fastAccessible.size());
+        Assert.assertEquals(coaccessible.size(), fastCoaccessible.size());
+
+        for (Integer s : nfa) {
+            Assert.assertEquals(accessible.contains(s), fastAccessible.contains(mapping.get(s)));
+            Assert.assertEquals(coaccessible.contains(s), fastCoaccessible.contains(mapping.get(s)));
+        }
+
+        final CompactNFA<Integer> trimmed = NFAs.trim(nfa, testAlphabet);
+        accessible.retainAll(coaccessible);
+        Assert.assertEquals(trimmed.size(), accessible.size());
+    }
+
     @Test
     public void testDeterminizeDFA() {
         determinizeDFA(new CompactDFA.Creator<>());
@@ -150,6 +181,36 @@ public class NFAsTest {
         determinizeNFA(FastNFA::new);
     }
 
+    @Test
+    public void testReduce() {
+        final Random r = new Random(42);
+
+        for (int i = 0; i < 20; i++) {
+            final CompactNFA<Integer> nfa = TabakovVardiRandomAutomata.generateNFA(r, 30, 45, 10, testAlphabet);
+            final CompactNFA<Integer> reduced = NFAs.reduce(nfa, testAlphabet);
+
+            Assert.assertTrue(reduced.size() <= nfa.size());
+            assertEquivalence(nfa, reduced, testAlphabet);
+        }
+    }
+
+    @Test
+    public void testInclusion() {
+        final Random r = new Random(1337);
+
+        for (int i = 0; i < 20; i++) {
+            final CompactNFA<Integer> nfa1 = TabakovVardiRandomAutomata.generateNFA(r, 10, 15, 4, testAlphabet);
+            final CompactNFA<Integer> nfa2 = TabakovVardiRandomAutomata.generateNFA(r, 15, 30, 8, testAlphabet);
+            final CompactNFA<Integer> union = NFAs.or(nfa1, nfa2, testAlphabet);
+
+            Assert.assertEquals(NFAs.testInclusion(nfa1, nfa2, testAlphabet), isIncluded(nfa1, nfa2, testAlphabet));
+            Assert.assertEquals(NFAs.testInclusion(nfa2, nfa1, testAlphabet), isIncluded(nfa2, nfa1, testAlphabet));
+            Assert.assertTrue(NFAs.testInclusion(nfa1, union, testAlphabet));
+            Assert.assertTrue(NFAs.testInclusion(nfa2, union, testAlphabet));
+            Assert.assertTrue(NFAs.testInclusion(nfa1, nfa1, testAlphabet));
+        }
+    }
+
     /*
      * Check that determinization is idempotent.
      */
@@ -197,6 +258,14 @@ public class NFAsTest {
         return DFAs.combine(NFAs.determinize(nfa1, inputs), NFAs.determinize(nfa2, inputs), inputs, acc);
     }
 
+    private <I> boolean isIncluded(NFA<?, I> nfa1, NFA<?, I> nfa2, Alphabet<I> inputs) {
+        final DFA<?, I> impl = DFAs.combine(NFAs.determinize(nfa1, inputs),
+                                            NFAs.determinize(nfa2, inputs),
+                                            inputs,
+                                            AcceptanceCombiner.IMPL);
+        return DFAs.acceptsEmptyLanguage(DFAs.complement(impl, inputs));
+    }
+
     private <I> void assertEquivalence(NFA<?, I> nfa1, NFA<?, I> nfa2, Alphabet<I> inputs) {
         Assert.assertTrue(Automata.testEquivalence(NFAs.determinize(nfa1, inputs),
                                                    NFAs.determinize(nfa2, inputs),
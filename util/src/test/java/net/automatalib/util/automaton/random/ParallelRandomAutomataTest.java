@@ -0,0 +1,160 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.automaton.random;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.automaton.fsa.impl.CompactNFA;
+import net.automatalib.automaton.transducer.impl.CompactMealy;
+import net.automatalib.util.automaton.Automata;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ParallelRandomAutomataTest {
+
+    private static final long SEED = 42;
+    // spans multiple chunks
+    private static final int SIZE = 40_000;
+    private static final Alphabet<Integer> INPUTS = Alphabets.integers(0, 3);
+
+    @Test
+    public void testDFA() {
+        final CompactDFA<Integer> sequential = ParallelRandomAutomata.randomDFA(SEED, SIZE, INPUTS, 1);
+        final CompactDFA<Integer> parallel = ParallelRandomAutomata.randomDFA(SEED, SIZE, INPUTS, 4);
+
+        Assert.assertEquals(sequential.size(), SIZE);
+        Assert.assertNotNull(sequential.getInitialState());
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < INPUTS.size(); i++) {
+                Assert.assertNotEquals(sequential.getSuccessor(s, i), CompactDFA.INVALID_STATE);
+            }
+        }
+
+        Assert.assertTrue(Automata.testEquivalence(sequential, parallel, INPUTS));
+        assertIdentical(sequential, parallel);
+
+        final CompactDFA<Integer> other = ParallelRandomAutomata.randomDFA(SEED + 1, SIZE, INPUTS, 4);
+        Assert.assertFalse(Arrays.equals(transitions(sequential), transitions(other)));
+    }
+
+    @Test
+    public void testMealy() {
+        final Alphabet<Character> outputs = Alphabets.characters('a', 'c');
+        final CompactMealy<Integer, Character> sequential =
+                ParallelRandomAutomata.randomMealy(SEED, SIZE, INPUTS, outputs, 1);
+        final CompactMealy<Integer, Character> parallel =
+                ParallelRandomAutomata.randomMealy(SEED, SIZE, INPUTS, outputs, 3);
+
+        Assert.assertEquals(sequential.size(), SIZE);
+        Assert.assertEquals(sequential.getInitialState(), parallel.getInitialState());
+
+        for (int s = 0; s < SIZE; s++) {
+            for (int i = 0; i < INPUTS.size(); i++) {
+                Assert.assertEquals(sequential.getSuccessor(s, i), parallel.getSuccessor(s, i));
+                Assert.assertEquals(sequential.getTransitionProperty(s, i), parallel.getTransitionProperty(s, i));
+                Assert.assertTrue(outputs.contains(sequential.getTransitionProperty(s, i)));
+            }
+        }
+    }
+
+    @Test
+    public void testNFA() {
+        final int size = 500;
+        final int edgeNum = 1_000;
+        final int acceptNum = 100;
+
+        final CompactNFA<Integer> sequential =
+                ParallelRandomAutomata.generateNFA(SEED, size, edgeNum, acceptNum, INPUTS, 1);
+        final CompactNFA<Integer> parallel =
+                ParallelRandomAutomata.generateNFA(SEED, size, edgeNum, acceptNum, INPUTS, 4);
+
+        Assert.assertEquals(sequential.size(), size);
+        Assert.assertEquals(sequential.getInitialStates(), parallel.getInitialStates());
+        Assert.assertTrue(sequential.isAccepting(0));
+
+        int accepting = 0;
+        for (int s = 0; s < size; s++) {
+            Assert.assertEquals(sequential.isAccepting(s), parallel.isAccepting(s));
+            if (sequential.isAccepting(s)) {
+                accepting++;
+            }
+        }
+        Assert.assertEquals(accepting, acceptNum);
+
+        for (int i = 0; i < INPUTS.size(); i++) {
+            int edges = 0;
+            for (int s = 0; s < size; s++) {
+                Assert.assertEquals(sequential.getTransitions(s, i), parallel.getTransitions(s, i));
+                edges += sequential.getTransitions(s, i).size();
+            }
+            Assert.assertEquals(edges, edgeNum);
+        }
+    }
+
+    @Test
+    public void testDistinctLongs() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+
+        for (long max : new long[] {10, 100, 1L << 40}) {
+            for (int num : new int[] {0, 1, 5, 10}) {
+                if (num > max) {
+                    continue;
+                }
+                final long[] values = ParallelRandomAutomata.distinctLongs(random, num, max);
+                Assert.assertEquals(values.length, num);
+                for (int i = 0; i < num; i++) {
+                    Assert.assertTrue(values[i] >= 0 && values[i] < max);
+                    if (i > 0) {
+                        Assert.assertTrue(values[i - 1] < values[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> ParallelRandomAutomata.generateNFA(SEED, 10, 10, 0, INPUTS, 1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> ParallelRandomAutomata.generateNFA(SEED, 10, 101, 1, INPUTS, 1));
+        Assert.assertThrows(IllegalArgumentException.class,
+                            () -> ParallelRandomAutomata.randomMealy(SEED, 10, INPUTS, Arrays.asList(), 1));
+    }
+
+    private static void assertIdentical(CompactDFA<Integer> dfa1, CompactDFA<Integer> dfa2) {
+        Assert.assertEquals(dfa1.getInitialState(), dfa2.getInitialState());
+        Assert.assertEquals(transitions(dfa1), transitions(dfa2));
+        for (int s = 0; s < dfa1.size(); s++) {
+            Assert.assertEquals(dfa1.isAccepting(s), dfa2.isAccepting(s));
+        }
+    }
+
+    private static int[] transitions(CompactDFA<Integer> dfa) {
+        final int[] result = new int[dfa.size() * dfa.numInputs()];
+        for (int s = 0; s < dfa.size(); s++) {
+            for (int i = 0; i < dfa.numInputs(); i++) {
+                result[s * dfa.numInputs() + i] = dfa.getSuccessor(s, i);
+            }
+        }
+        return result;
+    }
+}
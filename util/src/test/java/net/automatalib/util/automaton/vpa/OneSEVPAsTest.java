@@ -29,6 +29,7 @@ import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.alphabet.impl.DefaultVPAlphabet;
 import net.automatalib.automaton.vpa.OneSEVPA;
 import net.automatalib.automaton.vpa.State;
+import net.automatalib.automaton.vpa.impl.CompactOneSEVPA;
 import net.automatalib.automaton.vpa.impl.DefaultOneSEVPA;
 import net.automatalib.automaton.vpa.impl.Location;
 import net.automatalib.common.util.HashUtil;
@@ -204,6 +205,62 @@ public class OneSEVPAsTest {
         Assert.assertTrue(OneSEVPAs.testEquivalence(copy, minimized, alphabet));
     }
 
+    @Test
+    public void testCompactSeparatingWord() {
+
+        final VPAlphabet<Character> alphabet = new DefaultVPAlphabet<>(Alphabets.characters('1', '3'),
+                                                                       Alphabets.characters('a', 'c'),
+                                                                       Alphabets.characters('r', 't'));
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 20; i++) {
+            final DefaultOneSEVPA<Character> s1 = RandomAutomata.randomOneSEVPA(random, 8, alphabet, 0.5, 0.2, false);
+            final DefaultOneSEVPA<Character> s2 = RandomAutomata.randomOneSEVPA(random, 8, alphabet, 0.5, 0.2, false);
+
+            final Word<Character> sepWord = OneSEVPAs.findSeparatingWord(s1, s2, alphabet);
+            final Word<Character> reference = OneSEVPAs.findAcceptedWord(OneSEVPAs.xor(s1, s2, alphabet), alphabet);
+
+            Assert.assertEquals(sepWord, reference);
+
+            if (sepWord != null) {
+                Assert.assertTrue(alphabet.isWellMatched(sepWord));
+                Assert.assertNotEquals(s1.accepts(sepWord), s2.accepts(sepWord));
+            }
+
+            final CompactOneSEVPA<Character> c1 = CompactOneSEVPA.copyOf(s1, alphabet);
+            Assert.assertTrue(OneSEVPAs.testEquivalence(s1, c1, alphabet));
+            Assert.assertEquals(OneSEVPAs.findSeparatingWord(c1, s2, alphabet), reference);
+        }
+    }
+
+    @Test
+    public void testLargeEquivalence() {
+
+        final VPAlphabet<Integer> alphabet = new DefaultVPAlphabet<>(Alphabets.integers(0, 9),
+                                                                     Alphabets.integers(10, 14),
+                                                                     Alphabets.integers(15, 19));
+        final int size = 200;
+
+        final DefaultOneSEVPA<Integer> orig =
+                RandomAutomata.randomOneSEVPA(new Random(0), size, alphabet, 0.5, 0.1, false);
+        final DefaultOneSEVPA<Integer> copy =
+                RandomAutomata.randomOneSEVPA(new Random(0), size, alphabet, 0.5, 0.1, false);
+
+        addRedundantState(copy, alphabet);
+
+        final CompactOneSEVPA<Integer> compact = CompactOneSEVPA.copyOf(copy, alphabet);
+
+        Assert.assertTrue(OneSEVPAs.testEquivalence(orig, copy, alphabet));
+        Assert.assertTrue(OneSEVPAs.testEquivalence(orig, compact, alphabet));
+
+        // flip the acceptance of a single location
+        compact.setAccepting(size - 1, !compact.isAcceptingLocation(size - 1));
+
+        final Word<Integer> sepWord = OneSEVPAs.findSeparatingWord(orig, compact, alphabet);
+        Assert.assertNotNull(sepWord);
+        Assert.assertNotEquals(orig.accepts(sepWord), compact.accepts(sepWord));
+    }
+
     private static <I> void addRedundantState(DefaultOneSEVPA<I> automaton, VPAlphabet<? extends I> alphabet) {
 
         // cache reached states, so we copy the first state reached by two incoming transitions
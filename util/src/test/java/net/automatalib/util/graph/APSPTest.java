@@ -17,11 +17,15 @@ package net.automatalib.util.graph;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import net.automatalib.graph.base.CompactEdge;
 import net.automatalib.graph.concept.EdgeWeights;
 import net.automatalib.graph.impl.CompactSimpleGraph;
+import net.automatalib.util.graph.apsp.APSPAlgorithm;
 import net.automatalib.util.graph.apsp.APSPResult;
+import net.automatalib.util.graph.apsp.BlockedFloydWarshallAPSP;
+import net.automatalib.util.graph.apsp.FloydWarshallAPSP;
 import net.automatalib.util.graph.concept.PropertyEdgeWeights;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -59,8 +63,64 @@ public class APSPTest {
 
     @Test
     public void testAPSP() {
-        APSPResult<Integer, CompactEdge<Float>> apsp = Graphs.findAPSP(graph, weights);
+        checkAPSP(Graphs.findAPSP(graph, weights));
+    }
+
+    @Test
+    public void testBlockedAPSP() {
+        checkAPSP(Graphs.findAPSP(graph, weights, APSPAlgorithm.BLOCKED_FLOYD_WARSHALL));
+        checkAPSP(BlockedFloydWarshallAPSP.findAPSP(graph, weights, 1));
+
+        final BlockedFloydWarshallAPSP<Integer, CompactEdge<Float>> tiny =
+                new BlockedFloydWarshallAPSP<>(graph, weights, 2);
+        tiny.findAPSP(3);
+        checkAPSP(tiny);
+    }
+
+    @Test
+    public void testRandomBlockedAPSP() {
+        final Random random = new Random(42);
+        final int size = 150;
+        final CompactSimpleGraph<Float> g = new CompactSimpleGraph<>(size);
+
+        for (int i = 0; i < size; i++) {
+            g.addNode();
+        }
+
+        for (int i = 0; i < size * 4; i++) {
+            g.connect(random.nextInt(size), random.nextInt(size), Float.valueOf(random.nextInt(100)));
+        }
+
+        final EdgeWeights<CompactEdge<Float>> w = new PropertyEdgeWeights<>(g);
+        final APSPResult<Integer, CompactEdge<Float>> expected = FloydWarshallAPSP.findAPSP(g, w);
+        final BlockedFloydWarshallAPSP<Integer, CompactEdge<Float>> actual =
+                new BlockedFloydWarshallAPSP<>(g, w, 16);
+        actual.findAPSP(4);
+
+        for (int src = 0; src < size; src++) {
+            for (int tgt = 0; tgt < size; tgt++) {
+                final float dist = expected.getShortestPathDistance(src, tgt);
+                Assert.assertEquals(actual.getShortestPathDistance(src, tgt), dist);
+
+                final List<CompactEdge<Float>> path = actual.getShortestPath(src, tgt);
+                if (dist == Graphs.INVALID_DISTANCE) {
+                    Assert.assertNull(path);
+                } else {
+                    Assert.assertNotNull(path);
+                    final List<Integer> nodes = Graphs.toNodeList(path, g, src);
+                    Assert.assertEquals(nodes.get(nodes.size() - 1), Integer.valueOf(tgt));
+
+                    float sum = 0;
+                    for (CompactEdge<Float> e : path) {
+                        sum += w.getEdgeWeight(e);
+                    }
+                    Assert.assertEquals(sum, dist);
+                }
+            }
+        }
+    }
 
+    private void checkAPSP(APSPResult<Integer, CompactEdge<Float>> apsp) {
         assertSPDist(apsp, n0, n1, 2.3f); // n0 -> n1
         assertSPNodes(apsp, n0, n1, n0, n1);
         assertSPDist(apsp, n0, n2, 5.3f); // n0 -> n1 -> n2
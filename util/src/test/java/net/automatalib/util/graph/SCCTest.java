@@ -17,10 +17,23 @@ package net.automatalib.util.graph;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.automaton.fsa.impl.CompactDFA;
+import net.automatalib.graph.Graph;
+import net.automatalib.graph.impl.CSRGraph;
 import net.automatalib.graph.impl.CompactSimpleGraph;
+import net.automatalib.util.automaton.Automata;
+import net.automatalib.util.automaton.random.RandomAutomata;
+import net.automatalib.util.graph.scc.SCCCollector;
+import net.automatalib.util.graph.scc.SCCs;
+import net.automatalib.util.graph.scc.TarjanSCCVisitor;
+import net.automatalib.util.graph.traversal.GraphTraversal;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -259,7 +272,85 @@ public class SCCTest {
         Assert.assertEquals(computedSCCs, expectedSCCs);
     }
 
+    @Test
+    public void testCSRGraph() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 20; i++) {
+            final CompactSimpleGraph<Void> graph = randomGraph(random, 100, 150);
+            final CSRGraph<Void, Void> frozen = graph.freeze();
+
+            // Tarjan's algorithm is deterministic, so all implementations must report the same SCCs in the same order
+            final List<List<Integer>> expected = collectReferenceSCCs(graph);
+            Assert.assertEquals(Graphs.collectSCCs(graph), expected);
+            Assert.assertEquals(Graphs.collectSCCs(frozen), expected);
+        }
+    }
+
+    @Test
+    public void testAutomaton() {
+        final Random random = new Random(42);
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+
+        for (int i = 0; i < 10; i++) {
+            final CompactDFA<Character> dfa = RandomAutomata.randomDFA(random, 50, alphabet);
+            final Graph<Integer, ?> graph = Automata.asGraph(dfa, alphabet);
+
+            Assert.assertEquals(SCCs.collectSCCs(graph), collectReferenceSCCs(graph));
+        }
+    }
+
+    @Test
+    public void testParallel() {
+        final Random random = new Random(42);
+
+        // large enough to be split by the forward-backward decomposition before falling back to Tarjan's algorithm
+        final CompactSimpleGraph<Void> graph = randomGraph(random, 20000, 40000);
+        for (int i = 0; i < 1000; i++) {
+            final int node = random.nextInt(20000);
+            graph.connect(node, node);
+        }
+
+        final Set<Set<Integer>> expected = toSets(collectReferenceSCCs(graph));
+        Assert.assertEquals(toSets(SCCs.collectSCCsParallel(graph)), expected);
+        Assert.assertEquals(toSets(SCCs.collectSCCsParallel(graph.freeze())), expected);
+
+        final SCCCollector<Integer> collector = new SCCCollector<>();
+        SCCs.findSCCsParallel(graph, collector, 1);
+        Assert.assertEquals(collector.getSCCList(), collectReferenceSCCs(graph));
+    }
+
     private Set<Set<Integer>> computeSCCs(CompactSimpleGraph<Void> graph) {
-        return Graphs.collectSCCs(graph).stream().map(HashSet::new).collect(Collectors.toSet());
+        final Set<Set<Integer>> result = toSets(Graphs.collectSCCs(graph));
+        Assert.assertEquals(toSets(Graphs.collectSCCs(graph.freeze())), result);
+        Assert.assertEquals(toSets(SCCs.collectSCCsParallel(graph)), result);
+        Assert.assertEquals(toSets(collectReferenceSCCs(graph)), result);
+        return result;
+    }
+
+    private static CompactSimpleGraph<Void> randomGraph(Random random, int numNodes, int numEdges) {
+        final CompactSimpleGraph<Void> graph = new CompactSimpleGraph<>(numNodes);
+        for (int j = 0; j < numNodes; j++) {
+            graph.addNode();
+        }
+        for (int j = 0; j < numEdges; j++) {
+            graph.connect(random.nextInt(numNodes), random.nextInt(numNodes));
+        }
+        return graph;
+    }
+
+    private static <N, E> List<List<N>> collectReferenceSCCs(Graph<N, E> graph) {
+        final SCCCollector<N> collector = new SCCCollector<>();
+        final TarjanSCCVisitor<N, E> vis = new TarjanSCCVisitor<>(graph, collector);
+        for (N node : graph) {
+            if (!vis.hasVisited(node)) {
+                GraphTraversal.depthFirst(graph, node, vis);
+            }
+        }
+        return collector.getSCCList();
+    }
+
+    private static <N> Set<Set<N>> toSets(List<List<N>> sccs) {
+        return sccs.stream().map(HashSet::new).collect(Collectors.toSet());
     }
 }
@@ -17,11 +17,17 @@ package net.automatalib.util.graph;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
 
 import net.automatalib.graph.base.CompactEdge;
+import net.automatalib.graph.Graph;
 import net.automatalib.graph.concept.EdgeWeights;
+import net.automatalib.graph.concept.IntEdgeWeights;
+import net.automatalib.graph.impl.CSRGraph;
 import net.automatalib.graph.impl.CompactSimpleGraph;
 import net.automatalib.util.graph.concept.PropertyEdgeWeights;
+import net.automatalib.util.graph.sssp.DijkstraSSSP;
 import net.automatalib.util.graph.sssp.SSSPResult;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -74,6 +80,112 @@ public class SSSPTest {
         assertSPDist(sssp, n5, Graphs.INVALID_DISTANCE);
     }
 
+    @Test
+    public void testCSRSSSP() {
+        final CSRGraph<Void, Float> frozen = graph.freeze();
+        final SSSPResult<Integer, Integer> sssp = Graphs.findSSSP(frozen, n0, new PropertyEdgeWeights<>(frozen));
+        final SSSPResult<Integer, CompactEdge<Float>> expected = Graphs.findSSSP(graph, n0, weights);
+
+        for (Integer n : graph.getNodes()) {
+            Assert.assertEquals(sssp.getShortestPathDistance(n), expected.getShortestPathDistance(n));
+
+            final List<CompactEdge<Float>> expectedPath = expected.getShortestPath(n);
+            final List<Integer> path = sssp.getShortestPath(n);
+
+            if (expectedPath == null) {
+                Assert.assertNull(path);
+                Assert.assertNull(sssp.getShortestPathEdge(n));
+            } else {
+                Assert.assertNotNull(path);
+                Assert.assertEquals(Graphs.toNodeList(path, frozen, n0),
+                                    Graphs.toNodeList(expectedPath, graph, n0));
+            }
+        }
+    }
+
+    @Test
+    public void testIntSSSP() {
+        final Random random = new Random(42);
+        final int size = 200;
+        final CompactSimpleGraph<Integer> g = new CompactSimpleGraph<>(size);
+
+        for (int i = 0; i < size; i++) {
+            g.addNode();
+        }
+
+        for (int i = 0; i < size * 3; i++) {
+            g.connect(random.nextInt(size), random.nextInt(size), Integer.valueOf(random.nextInt(10)));
+        }
+
+        final IntEdgeWeights<CompactEdge<Integer>> intWeights = g::getEdgeProperty;
+        final DijkstraSSSP<Integer, CompactEdge<Integer>> expected =
+                new DijkstraSSSP<>(g, 0, new PropertyEdgeWeights<>(g));
+        expected.findSSSP();
+
+        final CSRGraph<Void, Integer> frozen = g.freeze();
+        final IntEdgeWeights<Integer> frozenWeights = frozen::getEdgeProperty;
+
+        checkSSSP(g, expected, Graphs.findSSSP(g, 0, intWeights), intWeights);
+        checkSSSP(g, expected, Graphs.findSSSP(g, 0, new PropertyEdgeWeights<>(g)), intWeights);
+        checkSSSP(frozen, expected, Graphs.findSSSP(frozen, 0, frozenWeights), frozenWeights);
+    }
+
+    @Test
+    public void testNegativeIntWeights() {
+        final IntEdgeWeights<CompactEdge<Float>> negative = e -> -1;
+        Assert.assertThrows(IllegalArgumentException.class, () -> Graphs.findSSSP(graph, n0, negative));
+    }
+
+    @Test
+    public void testIntWeightOverflow() {
+        final IntEdgeWeights<CompactEdge<Float>> large = e -> Integer.MAX_VALUE / 2 + 1;
+        Assert.assertThrows(ArithmeticException.class, () -> Graphs.findSSSP(graph, n0, large));
+
+        final IntEdgeWeights<Integer> frozenLarge = e -> Integer.MAX_VALUE / 2 + 1;
+        Assert.assertThrows(ArithmeticException.class, () -> Graphs.findSSSP(graph.freeze(), n0, frozenLarge));
+    }
+
+    @Test
+    public void testWeightedShortestPath() {
+        final Path<Integer, CompactEdge<Float>> path = ShortestPaths.shortestPath(graph, n0, weights, n4);
+        Assert.assertNotNull(path);
+        Assert.assertEquals(path.getNodes(), Arrays.asList(n0, n1, n3, n4));
+
+        final Path<Integer, CompactEdge<Float>> closest =
+                ShortestPaths.shortestPath(graph, n0, weights, (Predicate<Integer>) n -> n >= n3);
+        Assert.assertNotNull(closest);
+        Assert.assertEquals(closest.getNodes(), Arrays.asList(n0, n1, n3));
+
+        Assert.assertNull(ShortestPaths.shortestPath(graph, n0, weights, n5));
+        Assert.assertNull(ShortestPaths.shortestPath(graph, n0, weights, (Predicate<Integer>) n5::equals));
+    }
+
+    private static <E1, E2> void checkSSSP(Graph<Integer, E1> graph,
+                                           SSSPResult<Integer, E2> expected,
+                                           SSSPResult<Integer, E1> actual,
+                                           EdgeWeights<E1> weights) {
+        for (Integer n : graph) {
+            final float dist = expected.getShortestPathDistance(n);
+            Assert.assertEquals(actual.getShortestPathDistance(n), dist);
+
+            final List<E1> path = actual.getShortestPath(n);
+            if (dist == Graphs.INVALID_DISTANCE) {
+                Assert.assertNull(path);
+                Assert.assertNull(actual.getShortestPathEdge(n));
+            } else {
+                Assert.assertNotNull(path);
+                final List<Integer> nodes = Graphs.toNodeList(path, graph, actual.getInitialNode());
+                Assert.assertEquals(nodes.get(nodes.size() - 1), n);
+
+                float sum = 0;
+                for (E1 e : path) {
+                    sum += weights.getEdgeWeight(e);
+                }
+                Assert.assertEquals(sum, dist);
+            }
+        }
+    }
+
     private static <N> void assertSPDist(SSSPResult<N, ?> res, N tgt, float dist) {
         Assert.assertEquals(res.getShortestPathDistance(tgt), dist);
     }
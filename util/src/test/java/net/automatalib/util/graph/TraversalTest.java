@@ -15,7 +15,9 @@
  */
 package net.automatalib.util.graph;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -32,9 +34,11 @@ import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.graph.TransitionEdge;
 import net.automatalib.common.util.Holder;
 import net.automatalib.common.util.collection.IterableUtil;
+import net.automatalib.graph.Graph;
 import net.automatalib.graph.MutableGraph;
 import net.automatalib.graph.UniversalGraph;
 import net.automatalib.graph.base.CompactEdge;
+import net.automatalib.graph.impl.CSRGraph;
 import net.automatalib.graph.impl.CompactSimpleGraph;
 import net.automatalib.util.automaton.random.RandomAutomata;
 import net.automatalib.util.graph.traversal.GraphTraversal;
@@ -197,6 +201,80 @@ public class TraversalTest {
         Assert.assertEquals(iter, Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
     }
 
+    @Test
+    public void testCSRTraversals() {
+        final CSRGraph<Void, Character> frozenTree = tree.freeze();
+        final CSRGraph<Void, Character> frozenCircular = circular.freeze();
+
+        for (CSRGraph<Void, Character> frozen : Arrays.asList(frozenTree, frozenCircular)) {
+            final MutableGraph<Integer, ?, ?, ?> original = frozen == frozenTree ? tree : circular;
+
+            for (Integer n : frozen.getNodes()) {
+                final Set<Integer> start = Collections.singleton(n);
+                Assert.assertEquals(GraphTraversal.breadthFirstOrder(frozen, start),
+                                    GraphTraversal.breadthFirstOrder(original, start));
+                Assert.assertEquals(GraphTraversal.depthFirstOrder(frozen, start),
+                                    GraphTraversal.depthFirstOrder(original, start));
+            }
+
+            Assert.assertEquals(GraphTraversal.breadthFirstOrder(frozen, frozen.getNodes()),
+                                GraphTraversal.breadthFirstOrder(original, original.getNodes()));
+            Assert.assertEquals(GraphTraversal.depthFirstOrder(frozen, frozen.getNodes()),
+                                GraphTraversal.depthFirstOrder(original, original.getNodes()));
+        }
+    }
+
+    @Test
+    public void testBreadthFirstParallel() {
+        for (CompactSimpleGraph<Character> g : Arrays.asList(tree, circular)) {
+            for (Graph<Integer, ?> variant : Arrays.<Graph<Integer, ?>>asList(g, g.freeze())) {
+                for (Integer n : variant.getNodes()) {
+                    final Set<Integer> start = Collections.singleton(n);
+                    final BitSet visited = GraphTraversal.breadthFirstParallel(variant, start, (id, depth) -> true, 4);
+
+                    Assert.assertEquals(visited.stream().boxed().collect(Collectors.toSet()),
+                                        IterableUtil.stream(GraphTraversal.breadthFirstOrder(g, start))
+                                                    .collect(Collectors.toSet()));
+                }
+            }
+        }
+
+        final List<Integer> order = new ArrayList<>();
+        GraphTraversal.breadthFirstParallel(tree, Collections.singleton(0), (id, depth) -> {
+            synchronized (order) {
+                order.add(depth);
+            }
+            return true;
+        }, 4);
+
+        Assert.assertEquals(order, Arrays.asList(0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5));
+    }
+
+    @Test
+    public void testCSRShortestPaths() {
+        final CSRGraph<Void, Character> frozen = circular.freeze();
+
+        for (Integer src : frozen.getNodes()) {
+            for (Integer tgt : frozen.getNodes()) {
+                final Path<Integer, Integer> path = ShortestPaths.shortestPath(frozen, src, frozen.size(), tgt);
+                final Path<Integer, CompactEdge<Character>> expected =
+                        ShortestPaths.shortestPath(circular, src, circular.size(), tgt);
+
+                Assert.assertNotNull(path);
+                Assert.assertNotNull(expected);
+                Assert.assertEquals(path.getNodes(), expected.getNodes());
+            }
+        }
+
+        final List<List<Integer>> paths = new ArrayList<>();
+        ShortestPaths.shortestPaths(frozen, frozen.getNode(0), 1, frozen.getNodes())
+                     .forEach(p -> paths.add(p.getNodes()));
+        final List<List<Integer>> expectedPaths = new ArrayList<>();
+        ShortestPaths.shortestPaths(circular, circular.getNode(0), 1, circular.getNodes())
+                     .forEach(p -> expectedPaths.add(p.getNodes()));
+        Assert.assertEquals(paths, expectedPaths);
+    }
+
     @Test
     public void testDepthFirstDefault() {
         final DefaultVisitor<Integer, CompactEdge<Character>, Void> visitor = new DefaultVisitor<>(0);
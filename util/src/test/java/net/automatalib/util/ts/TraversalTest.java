@@ -15,18 +15,30 @@
  */
 package net.automatalib.util.ts;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
 
+import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.automaton.fsa.MutableDFA;
 import net.automatalib.automaton.fsa.impl.CompactDFA;
 import net.automatalib.automaton.fsa.impl.CompactNFA;
 import net.automatalib.common.util.Holder;
+import net.automatalib.ts.TransitionSystem;
+import net.automatalib.util.automaton.random.ParallelRandomAutomata;
+import net.automatalib.util.automaton.random.TabakovVardiRandomAutomata;
 import net.automatalib.util.ts.traversal.TSTraversal;
 import net.automatalib.util.ts.traversal.TSTraversalAction;
 import net.automatalib.util.ts.traversal.TSTraversalVisitor;
@@ -209,6 +221,73 @@ public class TraversalTest {
         Assert.assertEquals(cbaVisitor.getStates(), Arrays.asList(0, 4, 3, 2, 1));
     }
 
+    @Test
+    public void testBreadthFirstParallel() {
+        final int[] depths = new int[tree.size()];
+        final BitSet visited = TSTraversal.breadthFirstParallel(tree, (id, depth) -> {
+            depths[id] = depth;
+            return true;
+        }, 4);
+
+        Assert.assertEquals(visited.cardinality(), tree.size());
+        Assert.assertEquals(depths, new int[] {0, 1, 2, 3, 4, 5, 1, 2, 3, 4, 5});
+
+        // stop at the states reachable via '1'
+        final BitSet pruned = TSTraversal.breadthFirstParallel(tree, (id, depth) -> id != 1, 4);
+        Assert.assertEquals(pruned.stream().boxed().collect(Collectors.toList()), Arrays.asList(0, 1, 6, 7, 8, 9, 10));
+
+        final BitSet nondet =
+                TSTraversal.breadthFirstParallel(circular, Alphabets.characters('a', 'b'), (id, depth) -> true, 4);
+        Assert.assertEquals(nondet.cardinality(), circular.size());
+    }
+
+    @Test
+    public void testBreadthFirstParallelLarge() {
+        final Alphabet<Integer> alphabet = Alphabets.integers(0, 1);
+        final CompactDFA<Integer> dfa = ParallelRandomAutomata.randomDFA(42, 100_000, alphabet, 1);
+        final CompactNFA<Integer> nfa =
+                TabakovVardiRandomAutomata.generateNFA(new Random(42), 20_000, 15_000, 1, alphabet);
+
+        final AtomicIntegerArray dfaDepths = new AtomicIntegerArray(dfa.size());
+        final BitSet dfaVisited = TSTraversal.breadthFirstParallel(dfa, (id, depth) -> {
+            dfaDepths.set(id, depth);
+            return true;
+        }, 4);
+
+        final Map<Integer, Integer> expectedDepths = breadthFirstDepths(dfa, alphabet);
+        Assert.assertEquals(dfaVisited.cardinality(), expectedDepths.size());
+        expectedDepths.forEach((s, d) -> Assert.assertEquals(dfaDepths.get(s), d.intValue()));
+
+        final BitSet nfaVisited = TSTraversal.breadthFirstParallel(nfa, alphabet, (id, depth) -> true, 4);
+        final Map<Integer, Integer> expectedNFA = breadthFirstDepths(nfa, alphabet);
+        Assert.assertEquals(nfaVisited.cardinality(), expectedNFA.size());
+        expectedNFA.keySet().forEach(s -> Assert.assertTrue(nfaVisited.get(s)));
+    }
+
+    private static <S, I> Map<S, Integer> breadthFirstDepths(TransitionSystem<S, I, ?> ts, Collection<I> inputs) {
+        final Map<S, Integer> depths = new HashMap<>();
+        final Deque<S> queue = new ArrayDeque<>();
+
+        for (S init : ts.getInitialStates()) {
+            depths.put(init, 0);
+            queue.add(init);
+        }
+
+        while (!queue.isEmpty()) {
+            final S curr = queue.poll();
+            final int depth = depths.get(curr);
+            for (I i : inputs) {
+                for (S succ : ts.getSuccessors(curr, i)) {
+                    if (depths.putIfAbsent(succ, depth + 1) == null) {
+                        queue.add(succ);
+                    }
+                }
+            }
+        }
+
+        return depths;
+    }
+
     private abstract static class AbstractVisitor<S, I, T, D> implements TSTraversalVisitor<S, I, T, D> {
 
         private final Set<S> states;
@@ -0,0 +1,114 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.modal;
+
+import java.util.Collections;
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.alphabet.impl.Alphabets;
+import net.automatalib.common.util.Pair;
+import net.automatalib.ts.modal.ModalTransitionSystem;
+import net.automatalib.ts.modal.impl.CompactMTS;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ModalProductViewTest {
+
+    @Test
+    public void testConjunctionView() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'c');
+        final Random random = new Random(42);
+        int successes = 0;
+        int failures = 0;
+
+        for (int i = 0; i < 50; i++) {
+            final CompactMTS<Character> mts0 = ModalTestUtil.randomMTS(random, alphabet, 6, 4);
+            final CompactMTS<Character> mts1 = ModalTestUtil.randomMTS(random, alphabet, 5, 4);
+
+            CompactMTS<Character> eager;
+            try {
+                eager = MTSs.conjunction(mts0, mts1);
+            } catch (IllegalConjunctionException e) {
+                eager = null;
+            }
+
+            // small cache to force re-computations
+            final ModalTransitionSystem<Pair<Integer, Integer>, Character, ?, ?> view =
+                    MTSs.conjunctionView(mts0, mts1, 2);
+
+            if (eager == null) {
+                Assert.assertThrows(IllegalConjunctionException.class, view::getStates);
+                failures++;
+            } else {
+                Assert.assertEquals(view.size(), eager.size());
+                Assert.assertTrue(MTSs.isRefinementOf(view, eager, alphabet));
+                Assert.assertTrue(MTSs.isRefinementOf(eager, view, alphabet));
+                successes++;
+            }
+        }
+
+        Assert.assertTrue(successes > 0);
+        Assert.assertTrue(failures > 0);
+    }
+
+    @Test
+    public void testCompositionView() {
+        final Alphabet<Character> alphabet0 = Alphabets.characters('a', 'c');
+        final Alphabet<Character> alphabet1 = Alphabets.characters('b', 'd');
+        final Random random = new Random(1337);
+
+        for (int i = 0; i < 50; i++) {
+            final CompactMTS<Character> mts0 = ModalTestUtil.randomMTS(random, alphabet0, 6, 4);
+            final CompactMTS<Character> mts1 = ModalTestUtil.randomMTS(random, alphabet1, 5, 4);
+
+            final CompactMTS<Character> eager = MTSs.compose(mts0, mts1);
+            final ModalTransitionSystem<Pair<Integer, Integer>, Character, ?, ?> view =
+                    MTSs.composeView(mts0, mts1, 2);
+
+            Assert.assertEquals(view.getInputAlphabet(), eager.getInputAlphabet());
+            Assert.assertEquals(view.size(), eager.size());
+            Assert.assertTrue(MTSs.isRefinementOf(view, eager, eager.getInputAlphabet()));
+            Assert.assertTrue(MTSs.isRefinementOf(eager, view, eager.getInputAlphabet()));
+        }
+    }
+
+    @Test
+    public void testLaziness() {
+        final Alphabet<Character> alphabet = Alphabets.characters('a', 'b');
+        final CompactMTS<Character> mts0 = new CompactMTS<>(alphabet);
+        final CompactMTS<Character> mts1 = new CompactMTS<>(alphabet);
+
+        final Integer s0 = mts0.addInitialState();
+        final Integer s1 = mts0.addState();
+        mts0.addModalTransition(s0, 'a', s1, ModalType.MAY);
+        mts0.addModalTransition(s1, 'b', s1, ModalType.MUST);
+
+        final Integer t0 = mts1.addInitialState();
+        final Integer t1 = mts1.addState();
+        mts1.addModalTransition(t0, 'a', t1, ModalType.MUST);
+
+        // the conflict at <s1,t1> is only detected once the state is expanded
+        final ModalTransitionSystem<Pair<Integer, Integer>, Character, ?, ?> view = MTSs.conjunctionView(mts0, mts1);
+        final Pair<Integer, Integer> init = view.getInitialStates().iterator().next();
+
+        Assert.assertEquals(init, Pair.of(s0, t0));
+        Assert.assertEquals(view.getSuccessors(init, (Character) 'a'), Collections.singleton(Pair.of(s1, t1)));
+        Assert.assertThrows(IllegalConjunctionException.class,
+                            () -> view.getSuccessors(Pair.of(s1, t1), (Character) 'b'));
+    }
+}
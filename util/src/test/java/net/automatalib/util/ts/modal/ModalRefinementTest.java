@@ -15,12 +15,18 @@
  */
 package net.automatalib.util.ts.modal;
 
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
 import java.util.Set;
+import java.util.function.BiPredicate;
 
 import net.automatalib.alphabet.Alphabet;
 import net.automatalib.alphabet.impl.Alphabets;
 import net.automatalib.common.util.Pair;
+import net.automatalib.ts.modal.ModalTransitionSystem;
 import net.automatalib.ts.modal.impl.CompactMTS;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty;
 import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -269,4 +275,73 @@ public class ModalRefinementTest {
         Assert.assertTrue(MTSs.isRefinementOf(s, t, alphabet));
     }
 
+    @Test(description = "Ensure that the refinement relation coincides with a naive fixpoint computation")
+    public void randomRefinementTest() {
+        final Alphabet<String> alphabet = Alphabets.closedCharStringRange('a', 'c');
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 30; i++) {
+            final CompactMTS<String> impl = ModalTestUtil.randomMTS(random, alphabet, 8, 2);
+            final CompactMTS<String> spec = ModalTestUtil.randomMTS(random, alphabet, 6, 2);
+
+            Assert.assertEquals(ModalRefinement.refinementRelation(impl, spec, alphabet),
+                                naiveRefinementRelation(impl, spec, alphabet));
+            Assert.assertEquals(ModalRefinement.refinementRelation(impl, impl, alphabet),
+                                naiveRefinementRelation(impl, impl, alphabet));
+        }
+    }
+
+    private static <AS, BS, I> Set<Pair<AS, BS>> naiveRefinementRelation(ModalTransitionSystem<AS, I, ?, ?> impl,
+                                                                         ModalTransitionSystem<BS, I, ?, ?> spec,
+                                                                         Alphabet<I> inputs) {
+        final Set<Pair<AS, BS>> relation = new HashSet<>();
+        for (AS p : impl.getStates()) {
+            for (BS q : spec.getStates()) {
+                relation.add(Pair.of(p, q));
+            }
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            final Iterator<Pair<AS, BS>> iter = relation.iterator();
+            while (iter.hasNext()) {
+                final Pair<AS, BS> pair = iter.next();
+                final AS p = pair.getFirst();
+                final BS q = pair.getSecond();
+                if (!isMatched(impl, spec, inputs, p, q, false, (s, t) -> relation.contains(Pair.of(s, t))) ||
+                    !isMatched(spec, impl, inputs, q, p, true, (s, t) -> relation.contains(Pair.of(t, s)))) {
+                    iter.remove();
+                    changed = true;
+                }
+            }
+        }
+
+        return relation;
+    }
+
+    private static <S1, S2, I, T1, T2> boolean isMatched(ModalTransitionSystem<S1, I, T1, ?> ts1,
+                                                         ModalTransitionSystem<S2, I, T2, ?> ts2,
+                                                         Alphabet<I> inputs,
+                                                         S1 s1,
+                                                         S2 s2,
+                                                         boolean mustOnly,
+                                                         BiPredicate<S1, S2> rel) {
+        for (I sym : inputs) {
+            outer:
+            for (T1 t1 : ts1.getTransitions(s1, sym)) {
+                if (mustOnly && !ts1.getTransitionProperty(t1).isMust()) {
+                    continue;
+                }
+                for (T2 t2 : ts2.getTransitions(s2, sym)) {
+                    final ModalEdgeProperty property = ts2.getTransitionProperty(t2);
+                    if ((!mustOnly || property.isMust()) && rel.test(ts1.getSuccessor(t1), ts2.getSuccessor(t2))) {
+                        continue outer;
+                    }
+                }
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,55 @@
+/* Copyright (C) 2013-2025 TU Dortmund University
+ * This file is part of AutomataLib <https://automatalib.net>.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.automatalib.util.ts.modal;
+
+import java.util.Random;
+
+import net.automatalib.alphabet.Alphabet;
+import net.automatalib.ts.modal.impl.CompactMTS;
+import net.automatalib.ts.modal.transition.ModalEdgeProperty.ModalType;
+
+final class ModalTestUtil {
+
+    private ModalTestUtil() {
+        // prevent instantiation
+    }
+
+    /**
+     * Creates a random {@link CompactMTS} with the given number of states in which every state has up to two
+     * transitions per input symbol. Every {@code mustRatio}-th transition (in expectation) is a must-transition.
+     */
+    static <I> CompactMTS<I> randomMTS(Random random, Alphabet<I> alphabet, int size, int mustRatio) {
+        final CompactMTS<I> result = new CompactMTS<>(alphabet);
+        result.addInitialState();
+        for (int i = 1; i < size; i++) {
+            result.addState();
+        }
+
+        for (int s = 0; s < size; s++) {
+            for (I sym : alphabet) {
+                final int numTransitions = random.nextInt(3);
+                for (int t = 0; t < numTransitions; t++) {
+                    result.addModalTransition(s,
+                                              sym,
+                                              random.nextInt(size),
+                                              random.nextInt(mustRatio) == 0 ? ModalType.MUST : ModalType.MAY);
+                }
+            }
+        }
+
+        return result;
+    }
+}